@@ -11,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/artists")
@@ -60,6 +61,12 @@ public class ArtistController {
         return ResponseEntity.ok(artists);
     }
 
+    @PostMapping("/ids")
+    public ResponseEntity<Map<String, Long>> resolveArtistIds(@RequestBody List<String> names) {
+        Map<String, Long> artistIds = artistService.resolveArtistIds(names);
+        return ResponseEntity.ok(artistIds);
+    }
+
     @GetMapping("/filter/genre")
     public ResponseEntity<List<ArtistDTO>> filterArtistsByGenre(@RequestParam String genre) {
         List<ArtistDTO> artists = artistService.filterArtistsByGenre(genre);
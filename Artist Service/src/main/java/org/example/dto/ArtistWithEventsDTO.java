@@ -27,4 +27,6 @@ public class ArtistWithEventsDTO {
     private List<EventDTO> upcomingEvents;
     private Integer totalEvents;
     private String message;
+    private LocalDateTime eventsAsOf;
+    private Boolean eventsStale;
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,5 +23,7 @@ public interface ArtistRepository extends JpaRepository<Artist, Long> {
     @Query("SELECT a FROM Artist a WHERE a.age BETWEEN :minAge AND :maxAge")
     List<Artist> findByAgeBetween(@Param("minAge") Integer minAge, @Param("maxAge") Integer maxAge);
     List<Artist> findByGenreAndNationality(String genre, String nationality);
+    @Query("SELECT a FROM Artist a WHERE lower(trim(a.name)) IN :keys")
+    List<Artist> findByNameKeyIn(@Param("keys") Collection<String> keys);
 }
 
@@ -1,6 +1,5 @@
 package org.example.service;
 
-import org.example.client.EventServiceClient;
 import org.example.dto.ArtistCreateDTO;
 import org.example.dto.ArtistDTO;
 import org.example.dto.ArtistWithEventsDTO;
@@ -14,8 +13,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -30,20 +28,20 @@ public class ArtistServiceImpl implements IArtistService {
 
     private final ArtistRepository artistRepository;
     private final ArtistMapper artistMapper;
-    private final EventServiceClient eventServiceClient;
+    private final EventFetcher eventFetcher;
 
     /**
      * Constructs a new {@code ArtistServiceImpl} with the required dependencies.
      *
      * @param artistRepository the repository for artist data access
      * @param artistMapper the mapper for converting between entities and DTOs
-     * @param eventServiceClient the Feign client for communicating with the Event Service
+     * @param eventFetcher the fetcher for the events of an artist from the Event Service
      */
     @Autowired
-    public ArtistServiceImpl(ArtistRepository artistRepository, ArtistMapper artistMapper, EventServiceClient eventServiceClient) {
+    public ArtistServiceImpl(ArtistRepository artistRepository, ArtistMapper artistMapper, EventFetcher eventFetcher) {
         this.artistRepository = artistRepository;
         this.artistMapper = artistMapper;
-        this.eventServiceClient = eventServiceClient;
+        this.eventFetcher = eventFetcher;
     }
 
     /**
@@ -131,6 +129,36 @@ public class ArtistServiceImpl implements IArtistService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Resolves artist names to artist identifiers, ignoring case and surrounding whitespace.
+     * Names shared by several artists are left out, since they cannot be bound to one artist.
+     *
+     * @param names the artist names to resolve
+     * @return the identifier of every name matching exactly one artist, keyed by the trimmed, lower-case name
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> resolveArtistIds(Collection<String> names) {
+        Set<String> keys = names.stream()
+                .filter(Objects::nonNull)
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                .filter(key -> !key.isEmpty())
+                .collect(Collectors.toSet());
+        if (keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<Long>> idsByKey = artistRepository.findByNameKeyIn(keys).stream()
+                .collect(Collectors.groupingBy(artist -> artist.getName().trim().toLowerCase(Locale.ROOT),
+                        Collectors.mapping(Artist::getId, Collectors.toList())));
+        Map<String, Long> artistIds = new HashMap<>();
+        idsByKey.forEach((key, ids) -> {
+            if (ids.size() == 1) {
+                artistIds.put(key, ids.get(0));
+            }
+        });
+        return artistIds;
+    }
+
     /**
      * Filters artists by their musical genre.
      *
@@ -227,12 +255,12 @@ public class ArtistServiceImpl implements IArtistService {
         
         ArtistDTO artistDTO = artistMapper.toDTO(artist);
         
-        List<EventDTO> events = eventServiceClient.filterEventsByArtist(
-                artist.getName(),
-                "Gateway-Service",
+        EventFetcher.ArtistEvents artistEvents = eventFetcher.getEventsByArtistId(
+                artist.getId(),
                 region,
                 language
         );
+        List<EventDTO> events = artistEvents.events();
         
         List<EventDTO> upcomingEvents = events.stream()
                 .filter(event -> event.getDate() != null && event.getDate().isAfter(LocalDateTime.now()))
@@ -256,6 +284,8 @@ public class ArtistServiceImpl implements IArtistService {
                 .upcomingEvents(upcomingEvents)
                 .totalEvents(events.size())
                 .message(message)
+                .eventsAsOf(artistEvents.asOf())
+                .eventsStale(artistEvents.stale())
                 .build();
     }
 
@@ -276,16 +306,14 @@ public class ArtistServiceImpl implements IArtistService {
         Artist artist = artistRepository.findById(id)
                 .orElseThrow(() -> new ArtistNotFoundException(id));
         
-        List<EventDTO> events = eventServiceClient.searchEventsByArtist(
-                eventName,
-                "Gateway-Service",
+        List<EventDTO> events = eventFetcher.getEventsByArtistId(
+                artist.getId(),
                 region,
                 language
-        );
+        ).events();
         
         boolean eventExists = events.stream()
-                .anyMatch(event -> event.getName().equalsIgnoreCase(eventName) &&
-                        event.getAssociatedArtist().contains(artist.getName()));
+                .anyMatch(event -> event.getName().equalsIgnoreCase(eventName));
         
         if (!eventExists) {
             throw new RuntimeException("Evenimentul '" + eventName + "' nu exista sau nu este asociat cu artistul " + artist.getName());
@@ -0,0 +1,78 @@
+package org.example.service;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.example.client.EventServiceClient;
+import org.example.common.client.LastKnownGoodCall;
+import org.example.dto.EventDTO;
+import org.example.exception.EventServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Loads the events of an artist from the Event Service through the {@value #EVENT_SERVICE} bulkhead and
+ * circuit breaker, configured under {@code resilience4j.*.instances.eventService}.
+ * While the Event Service is unavailable, the last list received for the same artist is served instead;
+ * see {@link LastKnownGoodCall}.
+ *
+ * @author EscobarTeam
+ */
+@Component
+public class EventFetcher {
+
+    /**
+     * The name of the circuit breaker and bulkhead guarding the Event Service.
+     */
+    public static final String EVENT_SERVICE = "eventService";
+
+    private static final String GATEWAY_HEADER = "Gateway-Service";
+    private static final int MAX_CACHED_ARTISTS = 10_000;
+
+    private final EventServiceClient eventServiceClient;
+    private final LastKnownGoodCall<String, List<EventDTO>> eventsCall;
+
+    /**
+     * Constructs a new {@code EventFetcher}.
+     *
+     * @param eventServiceClient the Feign client for the Event Service
+     * @param circuitBreakerRegistry the registry providing the Event Service circuit breaker
+     * @param bulkheadRegistry the registry providing the Event Service bulkhead
+     */
+    @Autowired
+    public EventFetcher(EventServiceClient eventServiceClient,
+                        CircuitBreakerRegistry circuitBreakerRegistry,
+                        BulkheadRegistry bulkheadRegistry) {
+        this.eventServiceClient = eventServiceClient;
+        this.eventsCall = new LastKnownGoodCall<>("Event Service", circuitBreakerRegistry.circuitBreaker(EVENT_SERVICE),
+                bulkheadRegistry.bulkhead(EVENT_SERVICE), MAX_CACHED_ARTISTS, EventServiceUnavailableException::new);
+    }
+
+    /**
+     * Retrieves the events of an artist.
+     *
+     * @param artistId the unique identifier of the artist
+     * @param region the region code for localization (e.g., "EU-RO", "US")
+     * @param language the language code for message localization (e.g., "ro-RO", "en-US")
+     * @return the events, with the time they were received and whether they come from the cache
+     * @throws EventServiceUnavailableException if the Event Service is unavailable and no earlier list is cached
+     */
+    public ArtistEvents getEventsByArtistId(Long artistId, String region, String language) {
+        String key = artistId + "|" + region + "|" + language;
+        LastKnownGoodCall.Response<List<EventDTO>> response = eventsCall.call(key,
+                () -> eventServiceClient.getEventsByArtistId(artistId, GATEWAY_HEADER, region, language));
+        return new ArtistEvents(response.value(), response.asOf(), response.stale());
+    }
+
+    /**
+     * The events of an artist as received from the Event Service.
+     *
+     * @param events the events
+     * @param asOf the time the events were received from the Event Service
+     * @param stale {@code true} if the Event Service is unavailable and the events come from the cache
+     */
+    public record ArtistEvents(List<EventDTO> events, LocalDateTime asOf, boolean stale) {
+    }
+}
@@ -4,7 +4,9 @@ import org.example.dto.ArtistCreateDTO;
 import org.example.dto.ArtistDTO;
 import org.example.dto.ArtistWithEventsDTO;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for managing artists in the festival management system.
@@ -64,6 +66,15 @@ public interface IArtistService {
      */
     List<ArtistDTO> searchArtistsByName(String name);
     
+    /**
+     * Resolves artist names to artist identifiers, ignoring case and surrounding whitespace.
+     * Used by the Event Service to bind its event-artist links when it writes them.
+     *
+     * @param names the artist names to resolve
+     * @return the identifier of every name matching exactly one artist, keyed by the trimmed, lower-case name
+     */
+    Map<String, Long> resolveArtistIds(Collection<String> names);
+    
     /**
      * Filters artists by their musical genre.
      *
@@ -1,6 +1,5 @@
 package org.example.service;
 
-import org.example.client.EventServiceClient;
 import org.example.dto.ArtistCreateDTO;
 import org.example.dto.ArtistDTO;
 import org.example.dto.ArtistWithEventsDTO;
@@ -20,7 +19,9 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -36,7 +37,7 @@ class ArtistServiceImplTest {
     private ArtistMapper artistMapper;
 
     @Mock
-    private EventServiceClient eventServiceClient;
+    private EventFetcher eventFetcher;
 
     @InjectMocks
     private ArtistServiceImpl artistService;
@@ -228,6 +229,25 @@ class ArtistServiceImplTest {
         verify(artistRepository).findByNameContainingIgnoreCase("Test");
     }
 
+    @Test
+    void testResolveArtistIds_SkipsAmbiguousNames() {
+        // Given
+        Artist namesake = new Artist();
+        namesake.setId(2L);
+        namesake.setName("Oscar");
+        Artist otherNamesake = new Artist();
+        otherNamesake.setId(3L);
+        otherNamesake.setName("oscar ");
+        when(artistRepository.findByNameKeyIn(Set.of("test artist", "oscar")))
+                .thenReturn(List.of(artist, namesake, otherNamesake));
+
+        // When
+        Map<String, Long> result = artistService.resolveArtistIds(List.of(" Test Artist", "OSCAR", " "));
+
+        // Then
+        assertEquals(Map.of("test artist", 1L), result);
+    }
+
     @Test
     void testFilterArtistsByGenre_Success() {
         // Given
@@ -362,8 +382,8 @@ class ArtistServiceImplTest {
         event2.setAssociatedArtist("Test Artist");
 
         List<EventDTO> events = Arrays.asList(event1, event2);
-        when(eventServiceClient.filterEventsByArtist(eq("Test Artist"), eq("Gateway-Service"), 
-                anyString(), anyString())).thenReturn(events);
+        when(eventFetcher.getEventsByArtistId(eq(1L), anyString(), anyString()))
+                .thenReturn(fresh(events));
 
         // When
         ArtistWithEventsDTO result = artistService.getArtistWithEvents(1L, "EU-RO", "ro-RO");
@@ -375,8 +395,7 @@ class ArtistServiceImplTest {
         assertEquals(2, result.getTotalEvents());
         assertTrue(result.getMessage().contains("Test Artist"));
         verify(artistRepository).findById(1L);
-        verify(eventServiceClient).filterEventsByArtist(eq("Test Artist"), eq("Gateway-Service"), 
-                eq("EU-RO"), eq("ro-RO"));
+        verify(eventFetcher).getEventsByArtistId(eq(1L), eq("EU-RO"), eq("ro-RO"));
     }
 
     @Test
@@ -384,8 +403,8 @@ class ArtistServiceImplTest {
         // Given
         when(artistRepository.findById(1L)).thenReturn(Optional.of(artist));
         when(artistMapper.toDTO(artist)).thenReturn(artistDTO);
-        when(eventServiceClient.filterEventsByArtist(anyString(), anyString(), anyString(), anyString()))
-                .thenReturn(Collections.emptyList());
+        when(eventFetcher.getEventsByArtistId(anyLong(), anyString(), anyString()))
+                .thenReturn(fresh(Collections.emptyList()));
 
         // When
         ArtistWithEventsDTO result = artistService.getArtistWithEvents(1L, "US", "en-US");
@@ -415,26 +434,23 @@ class ArtistServiceImplTest {
         event.setName("Test Event");
         event.setAssociatedArtist("Test Artist");
         List<EventDTO> events = Arrays.asList(event);
-        when(eventServiceClient.searchEventsByArtist(eq("Test Event"), eq("Gateway-Service"), 
-                anyString(), anyString())).thenReturn(events);
-        when(eventServiceClient.filterEventsByArtist(anyString(), anyString(), anyString(), anyString()))
-                .thenReturn(Collections.emptyList());
+        when(eventFetcher.getEventsByArtistId(eq(1L), anyString(), anyString()))
+                .thenReturn(fresh(events));
 
         // When
         ArtistWithEventsDTO result = artistService.scheduleEventForArtist(1L, "Test Event", "EU-RO", "ro-RO");
 
         // Then
         assertNotNull(result);
-        verify(eventServiceClient).searchEventsByArtist(eq("Test Event"), eq("Gateway-Service"), 
-                eq("EU-RO"), eq("ro-RO"));
+        verify(eventFetcher, times(2)).getEventsByArtistId(eq(1L), eq("EU-RO"), eq("ro-RO"));
     }
 
     @Test
     void testScheduleEventForArtist_EventNotFound() {
         // Given
         when(artistRepository.findById(1L)).thenReturn(Optional.of(artist));
-        when(eventServiceClient.searchEventsByArtist(anyString(), anyString(), anyString(), anyString()))
-                .thenReturn(Collections.emptyList());
+        when(eventFetcher.getEventsByArtistId(anyLong(), anyString(), anyString()))
+                .thenReturn(fresh(Collections.emptyList()));
 
         // When & Then
         assertThrows(RuntimeException.class, () -> 
@@ -447,14 +463,18 @@ class ArtistServiceImplTest {
         when(artistRepository.findById(1L)).thenReturn(Optional.of(artist));
 
         EventDTO event = new EventDTO();
-        event.setName("Test Event");
-        event.setAssociatedArtist("Different Artist");
+        event.setName("Other Event");
+        event.setAssociatedArtist("Test Artist");
         List<EventDTO> events = Arrays.asList(event);
-        when(eventServiceClient.searchEventsByArtist(anyString(), anyString(), anyString(), anyString()))
-                .thenReturn(events);
+        when(eventFetcher.getEventsByArtistId(anyLong(), anyString(), anyString()))
+                .thenReturn(fresh(events));
 
         // When & Then
         assertThrows(RuntimeException.class, () -> 
                 artistService.scheduleEventForArtist(1L, "Test Event", "EU-RO", "ro-RO"));
     }
+
+    private EventFetcher.ArtistEvents fresh(List<EventDTO> events) {
+        return new EventFetcher.ArtistEvents(events, LocalDateTime.now(), false);
+    }
 }
@@ -0,0 +1,101 @@
+package org.example.service;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.example.client.EventServiceClient;
+import org.example.dto.EventDTO;
+import org.example.exception.EventServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventFetcherTest {
+
+    @Mock
+    private EventServiceClient eventServiceClient;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private EventFetcher fetcher;
+    private List<EventDTO> events;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        fetcher = new EventFetcher(eventServiceClient, circuitBreakerRegistry, BulkheadRegistry.ofDefaults());
+        EventDTO event = new EventDTO();
+        event.setId(1L);
+        event.setName("Summer Festival");
+        events = Collections.singletonList(event);
+    }
+
+    @Test
+    void testGetEventsByArtistId_FreshResult() {
+        // Given
+        when(eventServiceClient.getEventsByArtistId(1L, "Gateway-Service", "EU-RO", "ro-RO"))
+                .thenReturn(events);
+
+        // When
+        EventFetcher.ArtistEvents result = fetcher.getEventsByArtistId(1L, "EU-RO", "ro-RO");
+
+        // Then
+        assertEquals(events, result.events());
+        assertFalse(result.stale());
+        assertNotNull(result.asOf());
+    }
+
+    @Test
+    void testGetEventsByArtistId_BreakerOpenServesLastKnownGood() {
+        // Given
+        when(eventServiceClient.getEventsByArtistId(anyLong(), anyString(), anyString(), anyString()))
+                .thenReturn(events);
+        EventFetcher.ArtistEvents fresh = fetcher.getEventsByArtistId(1L, "EU-RO", "ro-RO");
+        circuitBreakerRegistry.circuitBreaker(EventFetcher.EVENT_SERVICE).transitionToOpenState();
+
+        // When
+        EventFetcher.ArtistEvents result = fetcher.getEventsByArtistId(1L, "EU-RO", "ro-RO");
+
+        // Then
+        assertEquals(events, result.events());
+        assertTrue(result.stale());
+        assertEquals(fresh.asOf(), result.asOf());
+        verify(eventServiceClient, times(1))
+                .getEventsByArtistId(anyLong(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void testGetEventsByArtistId_ServerErrorWithoutCache() {
+        // Given
+        when(eventServiceClient.getEventsByArtistId(anyLong(), anyString(), anyString(), anyString()))
+                .thenThrow(serverError());
+
+        // When & Then
+        assertThrows(EventServiceUnavailableException.class,
+                () -> fetcher.getEventsByArtistId(1L, "EU-RO", "ro-RO"));
+    }
+
+    private FeignException serverError() {
+        Request request = Request.create(Request.HttpMethod.GET, "/api/events/artist/1", new HashMap<>(),
+                null, StandardCharsets.UTF_8, null);
+        return FeignException.errorStatus("getEventsByArtistId", Response.builder()
+                .status(503)
+                .reason("Service Unavailable")
+                .request(request)
+                .headers(new HashMap<>())
+                .build());
+    }
+}
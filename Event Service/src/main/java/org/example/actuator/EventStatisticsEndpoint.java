@@ -0,0 +1,57 @@
+package org.example.actuator;
+
+import org.example.service.EventStatisticsCounters;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint ({@code /actuator/eventstatistics}) exposing the state of the live event statistics.
+ * A POST rebuilds the counters from the database.
+ *
+ * @author EscobarTeam
+ */
+@Component
+@Endpoint(id = "eventstatistics")
+public class EventStatisticsEndpoint {
+
+    private final EventStatisticsCounters eventStatisticsCounters;
+
+    /**
+     * Constructs a new {@code EventStatisticsEndpoint}.
+     *
+     * @param eventStatisticsCounters the live statistics counters
+     */
+    @Autowired
+    public EventStatisticsEndpoint(EventStatisticsCounters eventStatisticsCounters) {
+        this.eventStatisticsCounters = eventStatisticsCounters;
+    }
+
+    /**
+     * @return whether the counters are loaded, when they were last rebuilt and the current statistics
+     */
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("statistics", eventStatisticsCounters.snapshot());
+        status.put("loaded", eventStatisticsCounters.isLoaded());
+        status.put("lastRebuild", eventStatisticsCounters.getLastRebuild());
+        return status;
+    }
+
+    /**
+     * Reloads the counters from the database.
+     *
+     * @return the state of the counters after the rebuild
+     */
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        eventStatisticsCounters.rebuild();
+        return status();
+    }
+}
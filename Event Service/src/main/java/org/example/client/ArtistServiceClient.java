@@ -0,0 +1,19 @@
+package org.example.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.util.Collection;
+import java.util.Map;
+
+@FeignClient(name = "ARTIST-SERVICE", path = "/api/artists")
+public interface ArtistServiceClient {
+    
+    @PostMapping("/ids")
+    Map<String, Long> resolveArtistIds(
+            @RequestBody Collection<String> names,
+            @RequestHeader("X-Requested-With") String gatewayHeader
+    );
+}
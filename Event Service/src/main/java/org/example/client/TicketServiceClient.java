@@ -1,13 +1,16 @@
 package org.example.client;
 
+import org.example.dto.EventTicketSummaryDTO;
 import org.example.dto.TicketInfoDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
 import java.util.Map;
 
 @FeignClient(name = "TICKET-SERVICE", path = "/api/tickets")
@@ -24,6 +27,12 @@ public interface TicketServiceClient {
             @RequestHeader("X-Requested-With") String gatewayHeader
     );
     
+    @PostMapping("/summary")
+    List<EventTicketSummaryDTO> getTicketSummaries(
+            @RequestBody List<String> eventNames,
+            @RequestHeader("X-Requested-With") String gatewayHeader
+    );
+    
     @GetMapping("/festival/{eventName}")
     TicketInfoDTO getTicketInfo(
             @PathVariable("eventName") String eventName,
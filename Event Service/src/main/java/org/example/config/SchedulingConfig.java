@@ -0,0 +1,14 @@
+package org.example.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} methods, such as the periodic binding of event-artist links to their artists.
+ *
+ * @author EscobarTeam
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,26 @@
+package org.example.controller;
+
+import org.example.service.ChangeFeed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events/changes")
+@CrossOrigin(origins = "*")
+public class ChangeFeedController {
+
+    private final ChangeFeed changeFeed;
+
+    @Autowired
+    public ChangeFeedController(ChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                                    @RequestParam(required = false) Long since) {
+        return changeFeed.subscribe(lastEventId != null ? lastEventId : since);
+    }
+}
@@ -2,11 +2,15 @@ package org.example.controller;
 
 import jakarta.validation.Valid;
 import org.example.dto.*;
+import org.example.service.EventExporter;
 import org.example.service.IEventService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -17,11 +21,15 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class EventController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final IEventService eventService;
+    private final EventExporter eventExporter;
 
     @Autowired
-    public EventController(IEventService eventService) {
+    public EventController(IEventService eventService, EventExporter eventExporter) {
         this.eventService = eventService;
+        this.eventExporter = eventExporter;
     }
 
     @GetMapping
@@ -30,6 +38,22 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEvents() {
+        StreamingResponseBody body = eventExporter::export;
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"events.ndjson\"")
+                .body(body);
+    }
+
+    @GetMapping(params = "size")
+    public ResponseEntity<CursorPageDTO<EventResponseDTO>> getEventsPage(@RequestParam(required = false) String cursor,
+                                                                         @RequestParam Integer size) {
+        CursorPageDTO<EventResponseDTO> page = eventService.getEventsPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<EventResponseDTO> getEventById(@PathVariable Long id) {
         EventResponseDTO event = eventService.getEventById(id);
@@ -42,6 +66,13 @@ public class EventController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdEvent);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkEventResultDTO> createEvents(@RequestBody List<EventCreateDTO> events) {
+        BulkEventResultDTO result = eventService.createEvents(events);
+        HttpStatus status = result.getCreated() > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(result);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<EventResponseDTO> updateEvent(@PathVariable Long id, 
                                                        @Valid @RequestBody EventDTO eventDTO) {
@@ -61,6 +92,13 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
 
+    @GetMapping(value = "/search", params = "limit")
+    public ResponseEntity<List<EventResponseDTO>> searchByNameRanked(@RequestParam String name,
+                                                                     @RequestParam Integer limit) {
+        List<EventResponseDTO> events = eventService.searchByNameRanked(name, limit);
+        return ResponseEntity.ok(events);
+    }
+
     @GetMapping("/filter/stage")
     public ResponseEntity<List<EventResponseDTO>> filterByStage(@RequestParam Long stageId) {
         List<EventResponseDTO> events = eventService.filterByStage(stageId);
@@ -92,18 +130,48 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
 
+    @GetMapping(value = "/sort/date", params = "size")
+    public ResponseEntity<CursorPageDTO<EventResponseDTO>> sortByDatePage(@RequestParam(defaultValue = "asc") String order,
+                                                                          @RequestParam(required = false) String cursor,
+                                                                          @RequestParam Integer size) {
+        CursorPageDTO<EventResponseDTO> page = eventService.sortByDatePage(order, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/sort/capacity")
     public ResponseEntity<List<EventResponseDTO>> sortByCapacity(@RequestParam(defaultValue = "asc") String order) {
         List<EventResponseDTO> events = eventService.sortByCapacity(order);
         return ResponseEntity.ok(events);
     }
 
+    @GetMapping(value = "/sort/capacity", params = "size")
+    public ResponseEntity<CursorPageDTO<EventResponseDTO>> sortByCapacityPage(@RequestParam(defaultValue = "asc") String order,
+                                                                              @RequestParam(required = false) String cursor,
+                                                                              @RequestParam Integer size) {
+        CursorPageDTO<EventResponseDTO> page = eventService.sortByCapacityPage(order, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/availability/stage")
     public ResponseEntity<List<StageAvailabilityDTO>> checkStageAvailability(@RequestParam LocalDateTime date) {
         List<StageAvailabilityDTO> availability = eventService.checkStageAvailability(date);
         return ResponseEntity.ok(availability);
     }
 
+    @GetMapping("/availability/matrix")
+    public ResponseEntity<StageAvailabilityMatrixDTO> getAvailabilityMatrix(@RequestParam LocalDate startDate,
+                                                                            @RequestParam LocalDate endDate,
+                                                                            @RequestParam(defaultValue = "120") Integer slotMinutes) {
+        StageAvailabilityMatrixDTO matrix = eventService.getAvailabilityMatrix(startDate, endDate, slotMinutes);
+        return ResponseEntity.ok(matrix);
+    }
+
+    @GetMapping("/running")
+    public ResponseEntity<List<EventResponseDTO>> getEventsRunningAt(@RequestParam(required = false) LocalDateTime at) {
+        List<EventResponseDTO> events = eventService.getEventsRunningAt(at != null ? at : LocalDateTime.now());
+        return ResponseEntity.ok(events);
+    }
+
     @GetMapping("/schedule/stage/{stageId}")
     public ResponseEntity<List<EventResponseDTO>> getStageSchedule(@PathVariable Long stageId) {
         List<EventResponseDTO> schedule = eventService.getStageSchedule(stageId);
@@ -122,6 +190,27 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
 
+    @GetMapping(value = "/filter/artist", params = "limit")
+    public ResponseEntity<List<EventResponseDTO>> filterByArtistRanked(@RequestParam String artist,
+                                                                       @RequestParam Integer limit) {
+        List<EventResponseDTO> events = eventService.filterByArtistRanked(artist, limit);
+        return ResponseEntity.ok(events);
+    }
+
+    @GetMapping("/artist/{artistId}")
+    public ResponseEntity<List<EventResponseDTO>> getEventsByArtistId(@PathVariable Long artistId) {
+        List<EventResponseDTO> events = eventService.getEventsByArtistId(artistId);
+        return ResponseEntity.ok(events);
+    }
+
+    @GetMapping("/ticket-info")
+    public ResponseEntity<List<EventWithTicketInfoDTO>> getEventsWithTicketInfo(
+            @RequestParam List<Long> ids,
+            @RequestHeader(value = "X-Region", required = false, defaultValue = "EU-RO") String region) {
+        List<EventWithTicketInfoDTO> events = eventService.getEventsWithTicketInfo(ids, region);
+        return ResponseEntity.ok(events);
+    }
+
     @GetMapping("/{id}/ticket-info")
     public ResponseEntity<EventWithTicketInfoDTO> getEventWithTicketInfo(
             @PathVariable Long id,
@@ -0,0 +1,26 @@
+package org.example.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEventDTO {
+    public static final String EVENT = "EVENT";
+    public static final String STAGE = "STAGE";
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    private long sequence;
+    private String entity;
+    private String operation;
+    private Long id;
+    private JsonNode data;
+    private LocalDateTime timestamp;
+}
@@ -1,5 +1,7 @@
 package org.example.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -21,6 +23,11 @@ public class EventDTO {
     @NotNull(message = "Data este obligatorie")
     private LocalDateTime date;
 
+    private LocalDateTime endDate;
+
+    @Positive(message = "Durata trebuie sa fie pozitiva")
+    private Integer durationMinutes;
+
     @NotNull(message = "ID-ul scenei este obligatoriu")
     private Long stageId;
 
@@ -31,6 +38,13 @@ public class EventDTO {
     @Positive(message = "Capacitatea trebuie sa fie pozitiva")
     private Integer capacity;
 
+    @JsonIgnore
+    @AssertTrue(message = "Ora de sfarsit nu corespunde duratei; trimiteti doar una dintre ele sau valori egale")
+    public boolean isEndDateMatchingDuration() {
+        return date == null || endDate == null || durationMinutes == null
+                || endDate.equals(date.plusMinutes(durationMinutes));
+    }
+
     private LocalDateTime createdAt;
 }
 
@@ -13,6 +13,7 @@ public class EventResponseDTO {
     private Long id;
     private String name;
     private LocalDateTime date;
+    private LocalDateTime endDate;
     private Long stageId;
     private String stageName;
     private String associatedArtist;
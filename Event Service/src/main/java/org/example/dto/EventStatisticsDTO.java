@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 @Data
@@ -15,5 +16,8 @@ public class EventStatisticsDTO {
     private Long totalParticipants;
     private Map<LocalDate, Long> eventsPerDay;
     private Map<LocalDate, Long> participantsPerDay;
+    private Map<Integer, Long> eventsPerHour;
+    private Map<Integer, Long> participantsPerHour;
+    private List<StageStatisticsDTO> perStage;
 }
 
@@ -0,0 +1,22 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventTicketSummaryDTO {
+    private String eventName;
+    private Long availableSeats;
+    private Double totalRevenue;
+    private LocalDateTime asOf;
+    private Boolean stale;
+
+    public EventTicketSummaryDTO(String eventName, Long availableSeats, Double totalRevenue) {
+        this(eventName, availableSeats, totalRevenue, null, null);
+    }
+}
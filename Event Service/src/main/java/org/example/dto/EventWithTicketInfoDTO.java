@@ -22,4 +22,6 @@ public class EventWithTicketInfoDTO {
     private Double totalRevenue;
     private String ticketStatus;
     private String message;
+    private LocalDateTime ticketInfoAsOf;
+    private Boolean ticketInfoStale;
 }
@@ -0,0 +1,20 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StageAvailabilityMatrixDTO {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer slotMinutes;
+    private List<LocalTime> slotStartTimes;
+    private List<StageAvailabilityRowDTO> stages;
+}
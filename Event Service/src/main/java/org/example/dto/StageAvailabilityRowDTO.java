@@ -0,0 +1,19 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StageAvailabilityRowDTO {
+    private Long stageId;
+    private String stageName;
+    /**
+     * One entry per day of the matrix; character {@code i} is {@code '1'} if the i-th slot is free, {@code '0'} otherwise.
+     */
+    private List<String> days;
+}
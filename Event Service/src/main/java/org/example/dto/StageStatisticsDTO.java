@@ -0,0 +1,15 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StageStatisticsDTO {
+    private Long stageId;
+    private String stageName;
+    private Long events;
+    private Long participants;
+}
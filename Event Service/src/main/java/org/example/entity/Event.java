@@ -2,14 +2,18 @@ package org.example.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "event")
-@Data
+@Getter
+@Setter
+@ToString(exclude = "stage")
 @NoArgsConstructor
 @AllArgsConstructor
 public class Event {
@@ -23,6 +27,9 @@ public class Event {
     @Column(nullable = false)
     private LocalDateTime date;
 
+    @Column(name = "end_date", nullable = false)
+    private LocalDateTime endDate;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "stage_id", nullable = false)
     private Stage stage;
@@ -0,0 +1,38 @@
+package org.example.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+@Entity
+@Table(name = "event_artists",
+       uniqueConstraints = @UniqueConstraint(name = "uk_event_artist", columnNames = {"event_id", "artist_key"}))
+@Getter
+@Setter
+@ToString(exclude = "event")
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventArtist {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Event event;
+
+    @Column(name = "artist_name", nullable = false, length = 100)
+    private String artistName;
+
+    @Column(name = "artist_key", nullable = false, length = 100)
+    private String artistKey;
+
+    @Column(name = "artist_id")
+    private Long artistId;
+}
@@ -2,15 +2,19 @@ package org.example.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "stages")
-@Data
+@Getter
+@Setter
+@ToString(exclude = "events")
 @NoArgsConstructor
 @AllArgsConstructor
 public class Stage {
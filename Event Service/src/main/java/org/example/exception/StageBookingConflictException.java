@@ -0,0 +1,11 @@
+package org.example.exception;
+
+public class StageBookingConflictException extends RuntimeException {
+    public StageBookingConflictException(String message) {
+        super(message);
+    }
+    
+    public StageBookingConflictException() {
+        super("Scena nu este disponibila in data si ora specificata");
+    }
+}
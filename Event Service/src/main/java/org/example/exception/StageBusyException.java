@@ -0,0 +1,7 @@
+package org.example.exception;
+
+public class StageBusyException extends RuntimeException {
+    public StageBusyException() {
+        super("Scena este ocupata de o alta rezervare, incercati din nou");
+    }
+}
@@ -19,6 +19,7 @@ public class EventMapper {
         dto.setId(event.getId());
         dto.setName(event.getName());
         dto.setDate(event.getDate());
+        dto.setEndDate(event.getEndDate());
         dto.setStageId(event.getStage().getId());
         dto.setStageName(event.getStage().getName());
         dto.setAssociatedArtist(event.getAssociatedArtist());
@@ -35,6 +36,7 @@ public class EventMapper {
         dto.setId(event.getId());
         dto.setName(event.getName());
         dto.setDate(event.getDate());
+        dto.setEndDate(event.getEndDate());
         dto.setStageId(event.getStage().getId());
         dto.setAssociatedArtist(event.getAssociatedArtist());
         dto.setCapacity(event.getCapacity());
@@ -63,6 +65,7 @@ public class EventMapper {
         event.setId(eventDTO.getId());
         event.setName(eventDTO.getName());
         event.setDate(eventDTO.getDate());
+        event.setEndDate(eventDTO.getEndDate());
         event.setStage(stage);
         event.setAssociatedArtist(eventDTO.getAssociatedArtist());
         event.setCapacity(eventDTO.getCapacity());
@@ -0,0 +1,40 @@
+package org.example.repository;
+
+import org.example.entity.ChangeLogEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+    
+    // Only entries written by transactions older than every transaction still in progress are returned,
+    // so an entry with a lower sequence number can never become visible after a higher one was read.
+    // Only transactions that have written something hold back pg_snapshot_xmin; read-only ones (the reads
+    // behind the endpoints, the export) never get a transaction ID. Writing transactions are bounded by
+    // spring.transaction.default-timeout and idle ones by idle_in_transaction_session_timeout, which bounds
+    // how long the feed can lag behind a commit.
+    @Query(value = "SELECT * FROM change_log WHERE id > :after " +
+                   "AND txid < pg_snapshot_xmin(pg_current_snapshot()) ORDER BY id LIMIT :limit",
+           nativeQuery = true)
+    List<ChangeLogEntry> findSettledAfter(@Param("after") long after, @Param("limit") int limit);
+    
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM change_log " +
+                   "WHERE txid < pg_snapshot_xmin(pg_current_snapshot())",
+           nativeQuery = true)
+    long findSettledHead();
+    
+    @Query("SELECT MIN(c.id) FROM ChangeLogEntry c")
+    Long findOldestId();
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ChangeLogEntry c WHERE c.createdAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
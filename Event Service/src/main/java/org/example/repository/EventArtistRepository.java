@@ -0,0 +1,37 @@
+package org.example.repository;
+
+import org.example.dto.EventResponseDTO;
+import org.example.entity.EventArtist;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EventArtistRepository extends JpaRepository<EventArtist, Long> {
+    
+    List<EventArtist> findByEventId(Long eventId);
+    
+    List<EventArtist> findByArtistKeyInAndArtistIdIsNotNull(Collection<String> artistKeys);
+    
+    /**
+     * Unbound links are looked up through the partial index {@code idx_event_artist_unresolved}, a page of keys at a time.
+     */
+    @Query("SELECT DISTINCT ea.artistKey FROM EventArtist ea WHERE ea.artistId IS NULL AND ea.artistKey > :after " +
+           "ORDER BY ea.artistKey")
+    List<String> findUnresolvedArtistKeys(@Param("after") String after, Pageable pageable);
+    
+    @Modifying
+    @Query("UPDATE EventArtist ea SET ea.artistId = :artistId WHERE ea.artistKey = :artistKey AND ea.artistId IS NULL")
+    int bindArtist(@Param("artistId") Long artistId, @Param("artistKey") String artistKey);
+    
+    @Query("SELECT new org.example.dto.EventResponseDTO(e.id, e.name, e.date, e.endDate, s.id, s.name, " +
+           "e.associatedArtist, e.capacity, e.createdAt) " +
+           "FROM EventArtist ea JOIN ea.event e JOIN e.stage s WHERE ea.artistId = :artistId ORDER BY e.date ASC")
+    List<EventResponseDTO> findEventsByArtistId(@Param("artistId") Long artistId);
+}
@@ -0,0 +1,27 @@
+package org.example.repository;
+
+import org.example.entity.Event;
+import org.example.entity.EventArtist;
+
+import java.util.List;
+
+/**
+ * Batched JDBC inserts for the event tables, used when many events are created at once.
+ * The statements join the current transaction.
+ */
+public interface EventBatchRepository {
+    
+    /**
+     * Inserts the events with a single JDBC batch and sets their generated identifiers.
+     *
+     * @param events the new events, with their stage and creation time already set
+     */
+    void insertEvents(List<Event> events);
+    
+    /**
+     * Inserts the event-artist links with a single JDBC batch.
+     *
+     * @param links the new links, referencing events that already have an identifier
+     */
+    void insertArtistLinks(List<EventArtist> links);
+}
@@ -0,0 +1,77 @@
+package org.example.repository;
+
+import org.example.entity.Event;
+import org.example.entity.EventArtist;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link EventBatchRepository} implementation on top of {@link NamedParameterJdbcTemplate}.
+ * Events use identity columns, which keep Hibernate from batching their inserts,
+ * so the rows are written here directly and the generated keys are read back from the batch.
+ */
+public class EventBatchRepositoryImpl implements EventBatchRepository {
+    
+    private static final String INSERT_EVENT =
+            "INSERT INTO event (name, date, end_date, stage_id, associated_artist, capacity, created_at) " +
+            "VALUES (:name, :date, :endDate, :stageId, :associatedArtist, :capacity, :createdAt)";
+    
+    private static final String INSERT_ARTIST_LINK =
+            "INSERT INTO event_artists (event_id, artist_name, artist_key, artist_id) " +
+            "VALUES (:eventId, :artistName, :artistKey, :artistId)";
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    public EventBatchRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public void insertEvents(List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = events.stream()
+                .map(event -> new MapSqlParameterSource()
+                        .addValue("name", event.getName())
+                        .addValue("date", event.getDate())
+                        .addValue("endDate", event.getEndDate())
+                        .addValue("stageId", event.getStage().getId())
+                        .addValue("associatedArtist", event.getAssociatedArtist())
+                        .addValue("capacity", event.getCapacity())
+                        .addValue("createdAt", event.getCreatedAt()))
+                .toArray(SqlParameterSource[]::new);
+        
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_EVENT, batch, keyHolder, new String[] {"id"});
+        
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < events.size(); i++) {
+            // Only the id column is requested, so every key map holds a single value.
+            Number id = (Number) keys.get(i).values().iterator().next();
+            events.get(i).setId(id.longValue());
+        }
+    }
+    
+    @Override
+    public void insertArtistLinks(List<EventArtist> links) {
+        if (links.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = links.stream()
+                .map(link -> new MapSqlParameterSource()
+                        .addValue("eventId", link.getEvent().getId())
+                        .addValue("artistName", link.getArtistName())
+                        .addValue("artistKey", link.getArtistKey())
+                        .addValue("artistId", link.getArtistId(), Types.BIGINT))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_ARTIST_LINK, batch);
+    }
+}
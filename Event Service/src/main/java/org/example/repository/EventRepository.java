@@ -1,45 +1,163 @@
 package org.example.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.dto.EventResponseDTO;
+import org.example.dto.StageStatisticsDTO;
 import org.example.entity.Event;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventBatchRepository {
     
-    List<Event> findByNameContainingIgnoreCase(String name);
+    /**
+     * Number of rows read per query when exporting the whole catalog.
+     */
+    int EXPORT_PAGE_SIZE = 500;
     
-    List<Event> findByAssociatedArtistContainingIgnoreCase(String artist);
+    /**
+     * Selects {@code EventResponseDTO} rows directly, joining the stage in the same query.
+     */
+    String SELECT_RESPONSE = "SELECT new org.example.dto.EventResponseDTO(e.id, e.name, e.date, e.endDate, s.id, s.name, " +
+           "e.associatedArtist, e.capacity, e.createdAt) FROM Event e JOIN e.stage s ";
     
     List<Event> findByAssociatedArtistIgnoreCase(String artist);
     
-    List<Event> findByStageId(Long stageId);
-    
     List<Event> findByDateBetween(LocalDateTime startDate, LocalDateTime endDate);
     
-    List<Event> findByCapacityGreaterThanEqual(Integer capacity);
+    @Query(SELECT_RESPONSE + "WHERE e.id = :id")
+    Optional<EventResponseDTO> findResponseById(@Param("id") Long id);
+    
+    @Query(SELECT_RESPONSE)
+    List<EventResponseDTO> findAllResponses(Sort sort);
+    
+    /**
+     * Reads the page of events following the given ID, in ID order; the export walks the catalog with it,
+     * one short read-only transaction per page of {@value #EXPORT_PAGE_SIZE} rows.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_RESPONSE + "WHERE e.id > :after ORDER BY e.id")
+    List<EventResponseDTO> findResponsesAfterId(@Param("after") long after, Pageable pageable);
+    
+    /**
+     * Substring searches filter on {@code lower(column) LIKE '%term%'}, which is served by the pg_trgm GIN indexes
+     * declared in schema.sql. The term must already have its LIKE wildcards escaped with a backslash.
+     */
+    @Query(SELECT_RESPONSE + "WHERE lower(e.name) LIKE lower(concat('%', :term, '%')) ESCAPE '\\' ORDER BY e.date ASC")
+    List<EventResponseDTO> findResponsesByNameContaining(@Param("term") String term);
+    
+    @Query(SELECT_RESPONSE + "WHERE lower(e.associatedArtist) LIKE lower(concat('%', :term, '%')) ESCAPE '\\' " +
+           "ORDER BY e.date ASC")
+    List<EventResponseDTO> findResponsesByArtistContaining(@Param("term") String term);
+    
+    @Query(SELECT_RESPONSE + "WHERE lower(e.name) LIKE lower(concat('%', :term, '%')) ESCAPE '\\' " +
+           "ORDER BY CASE WHEN lower(e.name) = lower(:text) THEN 0 " +
+           "WHEN lower(e.name) LIKE lower(concat(:term, '%')) ESCAPE '\\' THEN 1 " +
+           "WHEN lower(e.name) LIKE lower(concat('% ', :term, '%')) ESCAPE '\\' THEN 2 ELSE 3 END, " +
+           "length(e.name) ASC, e.date ASC")
+    List<EventResponseDTO> searchResponsesByNameRanked(@Param("text") String text, @Param("term") String term,
+                                                       Pageable pageable);
     
+    @Query(SELECT_RESPONSE + "WHERE lower(e.associatedArtist) LIKE lower(concat('%', :term, '%')) ESCAPE '\\' " +
+           "ORDER BY CASE WHEN lower(e.associatedArtist) = lower(:text) THEN 0 " +
+           "WHEN lower(e.associatedArtist) LIKE lower(concat(:term, '%')) ESCAPE '\\' THEN 1 " +
+           "WHEN lower(e.associatedArtist) LIKE lower(concat('% ', :term, '%')) ESCAPE '\\' THEN 2 ELSE 3 END, " +
+           "length(e.associatedArtist) ASC, e.date ASC")
+    List<EventResponseDTO> searchResponsesByArtistRanked(@Param("text") String text, @Param("term") String term,
+                                                         Pageable pageable);
+    
+    @Query(SELECT_RESPONSE + "WHERE s.id = :stageId ORDER BY e.date ASC")
+    List<EventResponseDTO> findResponsesByStageId(@Param("stageId") Long stageId);
+    
+    @Query(SELECT_RESPONSE + "WHERE e.date BETWEEN :startDate AND :endDate ORDER BY e.date ASC")
+    List<EventResponseDTO> findResponsesByDateBetween(@Param("startDate") LocalDateTime startDate,
+                                                      @Param("endDate") LocalDateTime endDate);
+    
+    @Query(SELECT_RESPONSE + "WHERE e.capacity >= :capacity ORDER BY e.capacity DESC")
+    List<EventResponseDTO> findResponsesByMinCapacity(@Param("capacity") Integer capacity);
+    
+    @Query("SELECT e.id FROM Event e WHERE e.stage.id = :stageId ORDER BY e.date ASC, e.id ASC")
+    List<Long> findIdsByStageId(@Param("stageId") Long stageId);
+
     @Query("SELECT e FROM Event e WHERE e.stage.id = :stageId AND e.date = :date")
     List<Event> findByStageAndDate(@Param("stageId") Long stageId, @Param("date") LocalDateTime date);
     
-    @Query(value = "SELECT * FROM event WHERE stage_id = :stageId AND " +
-           "((date >= :startDate AND date < :endDate) OR " +
-           "(date < :startDate AND date + INTERVAL '2 hours' > :startDate))", 
+    /**
+     * Range queries compare {@code tsrange(date, end_date)} with the range operators, which are served by the GiST indexes
+     * declared in schema.sql (the stage exclusion constraint and {@code idx_event_period}).
+     */
+    @Query(value = "SELECT * FROM event WHERE stage_id = :stageId " +
+           "AND tsrange(date, end_date) && tsrange(CAST(:startDate AS timestamp), CAST(:endDate AS timestamp))",
            nativeQuery = true)
     List<Event> findConflictingEvents(@Param("stageId") Long stageId, 
                                       @Param("startDate") LocalDateTime startDate, 
                                       @Param("endDate") LocalDateTime endDate);
     
-    @Query("SELECT e FROM Event e WHERE e.stage.id = :stageId ORDER BY e.date ASC")
-    List<Event> findAllByStageIdOrderByDate(@Param("stageId") Long stageId);
+    @Query(value = "SELECT * FROM event " +
+           "WHERE tsrange(date, end_date) && tsrange(CAST(:startDate AS timestamp), CAST(:endDate AS timestamp))",
+           nativeQuery = true)
+    List<Event> findOverlapping(@Param("startDate") LocalDateTime startDate,
+                                @Param("endDate") LocalDateTime endDate);
+    
+    @Query(value = "SELECT id FROM event WHERE tsrange(date, end_date) @> CAST(:at AS timestamp)", nativeQuery = true)
+    List<Long> findIdsRunningAt(@Param("at") LocalDateTime at);
+    
+    @Query(SELECT_RESPONSE + "WHERE e.id IN :ids ORDER BY e.date ASC, s.name ASC")
+    List<EventResponseDTO> findResponsesByIds(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT e FROM Event e WHERE e.stage.id IN :stageIds AND e.date < :to AND e.endDate > :from " +
+           "ORDER BY e.stage.id, e.date")
+    List<Event> findScheduledOnStages(@Param("stageIds") Collection<Long> stageIds,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
     
     @Query(value = "SELECT * FROM event WHERE DATE(date) = DATE(:date)", nativeQuery = true)
     List<Event> findByDate(@Param("date") LocalDateTime date);
+    
+    @Query("SELECT e FROM Event e JOIN FETCH e.stage")
+    List<Event> findFirstPage(Pageable pageable);
+    
+    /**
+     * Keyset pages compare the {@code (column, id)} pair with a row-value comparison, which the database runs as a single
+     * range seek on the matching composite index ({@code idx_event_date_id}, {@code idx_event_capacity_id}).
+     */
+    @Query("SELECT e FROM Event e JOIN FETCH e.stage WHERE (e.date, e.id) > (cast(:date AS LocalDateTime), cast(:id AS Long)) " +
+           "ORDER BY e.date ASC, e.id ASC")
+    List<Event> findPageAfterDate(@Param("date") LocalDateTime date, @Param("id") Long id, Pageable pageable);
+    
+    @Query("SELECT e FROM Event e JOIN FETCH e.stage WHERE (e.date, e.id) < (cast(:date AS LocalDateTime), cast(:id AS Long)) " +
+           "ORDER BY e.date DESC, e.id DESC")
+    List<Event> findPageBeforeDate(@Param("date") LocalDateTime date, @Param("id") Long id, Pageable pageable);
+    
+    @Query("SELECT e FROM Event e JOIN FETCH e.stage WHERE (e.capacity, e.id) > (cast(:capacity AS Integer), cast(:id AS Long)) " +
+           "ORDER BY e.capacity ASC, e.id ASC")
+    List<Event> findPageAfterCapacity(@Param("capacity") Integer capacity, @Param("id") Long id, Pageable pageable);
+    
+    @Query("SELECT e FROM Event e JOIN FETCH e.stage WHERE (e.capacity, e.id) < (cast(:capacity AS Integer), cast(:id AS Long)) " +
+           "ORDER BY e.capacity DESC, e.id DESC")
+    List<Event> findPageBeforeCapacity(@Param("capacity") Integer capacity, @Param("id") Long id, Pageable pageable);
+    
+    @Query("SELECT cast(e.date AS LocalDate) AS bucket, count(e) AS events, sum(e.capacity) AS participants " +
+           "FROM Event e GROUP BY cast(e.date AS LocalDate) ORDER BY cast(e.date AS LocalDate)")
+    List<EventStatisticsBucket<LocalDate>> aggregateByDay();
+    
+    @Query("SELECT extract(HOUR FROM e.date) AS bucket, count(e) AS events, sum(e.capacity) AS participants " +
+           "FROM Event e GROUP BY extract(HOUR FROM e.date) ORDER BY extract(HOUR FROM e.date)")
+    List<EventStatisticsBucket<Integer>> aggregateByHour();
+    
+    @Query("SELECT new org.example.dto.StageStatisticsDTO(s.id, s.name, count(e), coalesce(sum(e.capacity), 0L)) " +
+           "FROM Stage s LEFT JOIN Event e ON e.stage = s GROUP BY s.id, s.name ORDER BY s.id")
+    List<StageStatisticsDTO> aggregateByStage();
 }
-
@@ -0,0 +1,25 @@
+package org.example.repository;
+
+/**
+ * Projection of one group of an aggregated event statistics query.
+ *
+ * @param <K> the type of the grouping key (e.g. a day or an hour of the day)
+ * @author EscobarTeam
+ */
+public interface EventStatisticsBucket<K> {
+
+    /**
+     * @return the grouping key of the bucket
+     */
+    K getBucket();
+
+    /**
+     * @return the number of events in the bucket
+     */
+    Long getEvents();
+
+    /**
+     * @return the summed capacity of the events in the bucket
+     */
+    Long getParticipants();
+}
@@ -1,7 +1,9 @@
 package org.example.repository;
 
+import jakarta.persistence.LockModeType;
 import org.example.entity.Stage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,5 +19,11 @@ public interface StageRepository extends JpaRepository<Stage, Long> {
     List<Stage> findByLocation(String location);
     
     List<Stage> findByMaxCapacityGreaterThanEqual(Integer maxCapacity);
+
+    /**
+     * Loads a stage and locks its row until the transaction ends, so no event can be added to it meanwhile.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Stage> findWithLockById(Long id);
 }
 
@@ -0,0 +1,122 @@
+package org.example.service;
+
+import org.example.client.ArtistServiceClient;
+import org.example.entity.EventArtist;
+import org.example.repository.EventArtistRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * Binds event-artist links to the artist identifiers owned by the Artist Service.
+ * <p>
+ * A link is bound when it is written: before the transaction that writes the links starts, the event service
+ * asks for the identifiers of the artist names it has not bound yet. Names the Artist Service does not know
+ * (or cannot answer for right now) are stored unbound and picked up by {@link #bindUnresolved()}, which runs
+ * at startup, for the links backfilled by data.sql, and then periodically, for artists added later.
+ * The read path only looks links up; it never binds them.
+ *
+ * @author EscobarTeam
+ */
+@Component
+public class ArtistLinkResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtistLinkResolver.class);
+    private static final String GATEWAY_HEADER = "Gateway-Service";
+    private static final int BIND_BATCH_SIZE = 500;
+
+    private final ArtistServiceClient artistServiceClient;
+    private final EventArtistRepository eventArtistRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructs a new {@code ArtistLinkResolver}.
+     *
+     * @param artistServiceClient the Feign client for the Artist Service
+     * @param eventArtistRepository the repository for the links between events and artists
+     * @param transactionManager the transaction manager used by the periodic binding
+     */
+    @Autowired
+    public ArtistLinkResolver(ArtistServiceClient artistServiceClient,
+                              EventArtistRepository eventArtistRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.artistServiceClient = artistServiceClient;
+        this.eventArtistRepository = eventArtistRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Finds the artist identifiers of the given artist keys: first among the links already bound,
+     * then from the Artist Service for the remaining keys.
+     * Callers resolve the keys before their write transaction, so the remote call never holds a transaction or a lock.
+     *
+     * @param keys the normalized artist names
+     * @return the artist identifier of every key that could be resolved; unresolved keys are missing
+     */
+    public Map<String, Long> artistIds(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Long> artistIds = new HashMap<>();
+        for (EventArtist link : eventArtistRepository.findByArtistKeyInAndArtistIdIsNotNull(keys)) {
+            artistIds.putIfAbsent(link.getArtistKey(), link.getArtistId());
+        }
+        List<String> missing = keys.stream().filter(key -> !artistIds.containsKey(key)).toList();
+        if (!missing.isEmpty()) {
+            artistIds.putAll(fetchArtistIds(missing));
+        }
+        return artistIds;
+    }
+
+    /**
+     * Binds the links that are still unbound, a batch of artist keys at a time.
+     * The Artist Service is asked once per batch, outside any transaction.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${festival.artist-links.bind-interval-ms:300000}",
+            initialDelayString = "${festival.artist-links.bind-interval-ms:300000}")
+    public void bindUnresolved() {
+        String after = "";
+        int bound = 0;
+        while (true) {
+            List<String> keys = eventArtistRepository.findUnresolvedArtistKeys(after, PageRequest.of(0, BIND_BATCH_SIZE));
+            if (keys.isEmpty()) {
+                break;
+            }
+            Map<String, Long> artistIds = fetchArtistIds(keys);
+            Integer updated = transactionTemplate.execute(status -> artistIds.entrySet().stream()
+                    .mapToInt(entry -> eventArtistRepository.bindArtist(entry.getValue(), entry.getKey()))
+                    .sum());
+            bound += updated != null ? updated : 0;
+            if (keys.size() < BIND_BATCH_SIZE) {
+                break;
+            }
+            after = keys.get(keys.size() - 1);
+        }
+        if (bound > 0) {
+            logger.info("Bound {} event-artist links to their artists", bound);
+        }
+    }
+
+    /**
+     * Asks the Artist Service for the identifiers of artist names; a failure leaves the names unresolved.
+     */
+    private Map<String, Long> fetchArtistIds(Collection<String> keys) {
+        try {
+            Map<String, Long> artistIds = artistServiceClient.resolveArtistIds(keys, GATEWAY_HEADER);
+            return artistIds != null ? artistIds : Collections.emptyMap();
+        } catch (RuntimeException e) {
+            logger.warn("Artist Service unavailable ({}), leaving {} artist links unbound", e.toString(), keys.size());
+            return Collections.emptyMap();
+        }
+    }
+}
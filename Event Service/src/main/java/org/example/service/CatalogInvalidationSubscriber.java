@@ -0,0 +1,92 @@
+package org.example.service;
+
+import org.example.common.cache.CacheInvalidationBus;
+import org.example.dto.EventResponseDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Applies the event and stage changes made by other Event Service instances to the in-memory views of this one:
+ * the {@link EventCatalog}, the {@link StageScheduleIndex} and the {@link EventStatisticsCounters}.
+ * Changed events are reloaded by key with a single query; a burst of changes or a lost connection
+ * falls back to a full reload.
+ *
+ * @author EscobarTeam
+ */
+@Component
+public class CatalogInvalidationSubscriber {
+
+    /**
+     * The cache name under which event changes are announced, keyed by event ID.
+     */
+    public static final String EVENTS = "events";
+
+    /**
+     * The cache name under which stage changes are announced, keyed by stage ID.
+     */
+    public static final String STAGES = "stages";
+
+    private static final int MAX_KEY_RELOADS = 32;
+
+    private final EventCatalog eventCatalog;
+    private final StageScheduleIndex stageScheduleIndex;
+    private final EventStatisticsCounters eventStatisticsCounters;
+
+    /**
+     * Constructs a new {@code CatalogInvalidationSubscriber} and subscribes it to the event and stage invalidations.
+     *
+     * @param cacheInvalidationBus the bus the invalidations are received from
+     * @param eventCatalog the in-memory snapshot of all stages and events
+     * @param stageScheduleIndex the in-memory index of the bookings on every stage
+     * @param eventStatisticsCounters the live statistics counters of all events
+     */
+    @Autowired
+    public CatalogInvalidationSubscriber(CacheInvalidationBus cacheInvalidationBus,
+                                         EventCatalog eventCatalog,
+                                         StageScheduleIndex stageScheduleIndex,
+                                         EventStatisticsCounters eventStatisticsCounters) {
+        this.eventCatalog = eventCatalog;
+        this.stageScheduleIndex = stageScheduleIndex;
+        this.eventStatisticsCounters = eventStatisticsCounters;
+        cacheInvalidationBus.subscribe(EVENTS, this::eventsChanged);
+        cacheInvalidationBus.subscribe(STAGES, this::stagesChanged);
+    }
+
+    /**
+     * Reloads the given events, or every event if too many changed at once.
+     *
+     * @param keys the IDs of the changed events, or {@link CacheInvalidationBus#ALL_KEYS}
+     */
+    void eventsChanged(Set<String> keys) {
+        eventStatisticsCounters.markStale();
+        if (keys.contains(CacheInvalidationBus.ALL_KEYS) || keys.size() > MAX_KEY_RELOADS) {
+            eventCatalog.rebuild();
+            stageScheduleIndex.rebuild();
+            return;
+        }
+        List<Long> ids = keys.stream().map(Long::valueOf).collect(Collectors.toList());
+        List<EventResponseDTO> current = eventCatalog.refreshEvents(ids);
+        // Replacing a booking in place never shows its stage as free in between; only deleted events are removed
+        Set<Long> deleted = new HashSet<>(ids);
+        for (EventResponseDTO event : current) {
+            stageScheduleIndex.put(event.getId(), event.getStageId(), event.getDate(), event.getEndDate());
+            deleted.remove(event.getId());
+        }
+        deleted.forEach(stageScheduleIndex::remove);
+    }
+
+    /**
+     * Reloads the catalog after stages changed, since every event carries the name of its stage.
+     *
+     * @param keys the IDs of the changed stages, or {@link CacheInvalidationBus#ALL_KEYS}
+     */
+    void stagesChanged(Set<String> keys) {
+        eventStatisticsCounters.markStale();
+        eventCatalog.rebuild();
+    }
+}
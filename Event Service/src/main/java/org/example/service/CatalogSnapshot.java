@@ -0,0 +1,265 @@
+package org.example.service;
+
+import org.example.dto.EventResponseDTO;
+import org.example.dto.StageDTO;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable view of all stages and events, with the sorted orders the read endpoints need prebuilt.
+ * A snapshot is never modified after it is built, so any number of threads can read it without locking;
+ * writers build a new snapshot and publish it through {@link EventCatalog}.
+ * The stages and events are kept as immutable records and every accessor returns fresh DTO copies,
+ * so a caller changing a returned DTO never changes what other requests see.
+ *
+ * @author EscobarTeam
+ */
+public final class CatalogSnapshot {
+
+    private static final Comparator<EventRow> BY_DATE =
+            Comparator.comparing(EventRow::date).thenComparing(EventRow::id);
+    private static final Comparator<EventRow> BY_CAPACITY =
+            Comparator.comparing(EventRow::capacity).thenComparing(EventRow::id);
+
+    /**
+     * The state of an event in the snapshot.
+     */
+    private record EventRow(Long id, String name, LocalDateTime date, LocalDateTime endDate, Long stageId,
+                            String stageName, String associatedArtist, Integer capacity, LocalDateTime createdAt) {
+
+        private static EventRow of(EventResponseDTO event) {
+            return new EventRow(event.getId(), event.getName(), event.getDate(), event.getEndDate(),
+                    event.getStageId(), event.getStageName(), event.getAssociatedArtist(), event.getCapacity(),
+                    event.getCreatedAt());
+        }
+
+        private EventResponseDTO toDTO() {
+            return new EventResponseDTO(id, name, date, endDate, stageId, stageName, associatedArtist, capacity,
+                    createdAt);
+        }
+    }
+
+    /**
+     * The state of a stage in the snapshot.
+     */
+    private record StageRow(Long id, String name, String location, Integer maxCapacity) {
+
+        private static StageRow of(StageDTO stage) {
+            return new StageRow(stage.getId(), stage.getName(), stage.getLocation(), stage.getMaxCapacity());
+        }
+
+        private StageDTO toDTO() {
+            return new StageDTO(id, name, location, maxCapacity);
+        }
+    }
+
+    private final List<StageRow> stages;
+    private final Map<Long, StageRow> stagesById;
+    private final List<EventRow> byDate;
+    private final List<EventRow> byDateDesc;
+    private final List<EventRow> byCapacity;
+    private final List<EventRow> byCapacityDesc;
+    private final Map<Long, EventRow> eventsById;
+    private final Map<Long, List<EventRow>> eventsByStage;
+
+    private CatalogSnapshot(List<StageRow> stages, List<EventRow> events) {
+        List<StageRow> sortedStages = new ArrayList<>(stages);
+        sortedStages.sort(Comparator.comparing(StageRow::id));
+        this.stages = List.copyOf(sortedStages);
+        this.stagesById = Map.copyOf(sortedStages.stream()
+                .collect(Collectors.toMap(StageRow::id, Function.identity())));
+
+        List<EventRow> sorted = new ArrayList<>(events);
+        sorted.sort(BY_DATE);
+        this.byDate = List.copyOf(sorted);
+        Collections.reverse(sorted);
+        this.byDateDesc = List.copyOf(sorted);
+        sorted.sort(BY_CAPACITY);
+        this.byCapacity = List.copyOf(sorted);
+        Collections.reverse(sorted);
+        this.byCapacityDesc = List.copyOf(sorted);
+
+        this.eventsById = Map.copyOf(byDate.stream()
+                .collect(Collectors.toMap(EventRow::id, Function.identity())));
+        Map<Long, List<EventRow>> grouped = new HashMap<>();
+        for (EventRow event : byDate) {
+            grouped.computeIfAbsent(event.stageId(), id -> new ArrayList<>()).add(event);
+        }
+        Map<Long, List<EventRow>> frozen = new HashMap<>();
+        grouped.forEach((stageId, stageEvents) -> frozen.put(stageId, List.copyOf(stageEvents)));
+        this.eventsByStage = Map.copyOf(frozen);
+    }
+
+    /**
+     * Builds a snapshot of the given stages and events. The DTOs are copied, so they can be changed afterwards.
+     *
+     * @param stages all stages, in any order
+     * @param events all events, in any order
+     * @return the new snapshot
+     */
+    public static CatalogSnapshot of(List<StageDTO> stages, List<EventResponseDTO> events) {
+        return new CatalogSnapshot(stages.stream().map(StageRow::of).toList(),
+                events.stream().map(EventRow::of).toList());
+    }
+
+    /**
+     * Builds a new snapshot in which some events are replaced by their current state; this snapshot is left unchanged.
+     *
+     * @param changedIds the unique identifiers of the changed events
+     * @param current the current state of the changed events that still exist; the others are left out
+     * @return the new snapshot
+     */
+    public CatalogSnapshot withEvents(Collection<Long> changedIds, Collection<EventResponseDTO> current) {
+        Set<Long> changed = new HashSet<>(changedIds);
+        List<EventRow> events = new ArrayList<>(byDate.size() + current.size());
+        for (EventRow existing : byDate) {
+            if (!changed.contains(existing.id())) {
+                events.add(existing);
+            }
+        }
+        current.forEach(event -> events.add(EventRow.of(event)));
+        return new CatalogSnapshot(stages, events);
+    }
+
+    /**
+     * Returns all stages, ordered by ID.
+     *
+     * @return copies of the stages of the snapshot
+     */
+    public List<StageDTO> stages() {
+        return stages.stream().map(StageRow::toDTO).collect(Collectors.toList());
+    }
+
+    /**
+     * Looks up a stage by its unique identifier.
+     *
+     * @param id the unique identifier of the stage
+     * @return a copy of the stage, or an empty {@code Optional} if it is not in the snapshot
+     */
+    public Optional<StageDTO> stage(Long id) {
+        return Optional.ofNullable(stagesById.get(id)).map(StageRow::toDTO);
+    }
+
+    /**
+     * Looks up an event by its unique identifier.
+     *
+     * @param id the unique identifier of the event
+     * @return a copy of the event, or an empty {@code Optional} if it is not in the snapshot
+     */
+    public Optional<EventResponseDTO> event(Long id) {
+        return Optional.ofNullable(eventsById.get(id)).map(EventRow::toDTO);
+    }
+
+    /**
+     * Returns all events ordered by date, with ties broken by ID.
+     *
+     * @param ascending {@code true} for the earliest event first
+     * @return copies of the events of the snapshot
+     */
+    public List<EventResponseDTO> eventsByDate(boolean ascending) {
+        return copies(ascending ? byDate : byDateDesc);
+    }
+
+    /**
+     * Returns all events ordered by capacity, with ties broken by ID.
+     *
+     * @param ascending {@code true} for the smallest event first
+     * @return copies of the events of the snapshot
+     */
+    public List<EventResponseDTO> eventsByCapacity(boolean ascending) {
+        return copies(ascending ? byCapacity : byCapacityDesc);
+    }
+
+    /**
+     * Returns the events held on a stage, ordered by date.
+     *
+     * @param stageId the unique identifier of the stage
+     * @return copies of the events of the stage, empty if there are none
+     */
+    public List<EventResponseDTO> eventsOnStage(Long stageId) {
+        return copies(eventsByStage.getOrDefault(stageId, List.of()));
+    }
+
+    /**
+     * Returns the events starting within a date range, ordered by date.
+     * The range is located with a binary search on the date order.
+     *
+     * @param from the start of the range (inclusive)
+     * @param to the end of the range (inclusive)
+     * @return copies of the events starting in the range
+     */
+    public List<EventResponseDTO> eventsBetween(LocalDateTime from, LocalDateTime to) {
+        if (to.isBefore(from)) {
+            return new ArrayList<>();
+        }
+        return copies(byDate.subList(firstStartingAtOrAfter(from), firstStartingAfter(to)));
+    }
+
+    /**
+     * Returns the events with at least the given capacity, largest first.
+     *
+     * @param minCapacity the minimum capacity
+     * @return copies of the matching events, ordered by capacity descending
+     */
+    public List<EventResponseDTO> eventsWithMinCapacity(int minCapacity) {
+        int low = 0;
+        int high = byCapacityDesc.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (byCapacityDesc.get(mid).capacity() >= minCapacity) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return copies(byCapacityDesc.subList(0, low));
+    }
+
+    /**
+     * Returns the number of events in the snapshot.
+     *
+     * @return the event count
+     */
+    public int eventCount() {
+        return byDate.size();
+    }
+
+    private static List<EventResponseDTO> copies(List<EventRow> events) {
+        List<EventResponseDTO> copies = new ArrayList<>(events.size());
+        for (EventRow event : events) {
+            copies.add(event.toDTO());
+        }
+        return copies;
+    }
+
+    private int firstStartingAtOrAfter(LocalDateTime date) {
+        int low = 0;
+        int high = byDate.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (byDate.get(mid).date().isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstStartingAfter(LocalDateTime date) {
+        int low = 0;
+        int high = byDate.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (byDate.get(mid).date().isAfter(date)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,442 @@
+package org.example.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.example.common.cache.CacheInvalidationBus;
+import org.example.dto.ChangeEventDTO;
+import org.example.entity.ChangeLogEntry;
+import org.example.repository.ChangeLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Change feed of the event and stage mutations, streamed to consumers as server-sent events.
+ * <p>
+ * Every write appends its changes to the {@code change_log} table in the same transaction, so the feed holds
+ * exactly the committed changes and every change gets a global sequence number shared by all instances.
+ * Consumers resume after a reconnect by sending the last sequence number they processed
+ * (the standard {@code Last-Event-ID} header), and receive every later change in order.
+ * <p>
+ * A change is only published once every transaction that started writing before it has finished, so a slow
+ * writing transaction delays the feed; the transaction timeouts in {@code application.properties} bound that delay.
+ * <p>
+ * All reads of the log run on a single feed thread, which is woken after local commits,
+ * by the commits of other instances through the {@link CacheInvalidationBus}, and periodically as a fallback.
+ * The feed thread only queues the changes; every consumer has its own queue, written to the client by a sender
+ * thread of its own, so a slow client never delays the others. A consumer whose queue is full stops receiving
+ * new changes and catches up from the log once it has drained its queue; a consumer whose client has not accepted
+ * a send for a minute is disconnected, and resumes with {@code Last-Event-ID} when it reconnects.
+ *
+ * @author EscobarTeam
+ */
+@Component
+public class ChangeFeed {
+
+    /**
+     * The cache name used on the invalidation bus to announce new entries in the change log.
+     */
+    public static final String CHANGES = "changes";
+
+    /**
+     * The name of the server-sent events carrying a change.
+     */
+    public static final String CHANGE_EVENT = "change";
+
+    /**
+     * The name of the event sent to new consumers, carrying the sequence number they start after.
+     */
+    public static final String READY_EVENT = "ready";
+
+    /**
+     * The name of the event sent when the requested sequence number is no longer in the log;
+     * the consumer must reload its replica and continue from the sequence number carried by the event.
+     */
+    public static final String RESET_EVENT = "reset";
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeed.class);
+    private static final String INSERT_SQL = "INSERT INTO change_log (entity_type, entity_id, operation, payload, " +
+            "created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final int[] INSERT_TYPES = {Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.VARCHAR,
+            Types.TIMESTAMP};
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_PENDING = 2 * BATCH_SIZE;
+    private static final long STALL_TIMEOUT_SECONDS = 60;
+    private static final long EMITTER_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+    private static final long POLL_INTERVAL_SECONDS = 5;
+    private static final long HEARTBEAT_INTERVAL_SECONDS = 15;
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    private final ChangeLogRepository changeLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean pollPending = new AtomicBoolean();
+    private final ScheduledExecutorService executor;
+    private final ExecutorService senders;
+    private final long stallTimeoutNanos;
+
+    // Sequence number of the last change read from the log; only written on the feed thread.
+    private volatile long head = -1;
+
+    /**
+     * Constructs a new {@code ChangeFeed} backed by the change log.
+     *
+     * @param changeLogRepository the repository used to read the change log
+     * @param jdbcTemplate the template used to append to the change log in the current transaction
+     * @param objectMapper the mapper used to store the state of the changed entities
+     * @param cacheInvalidationBus the bus announcing new changes to the other service instances
+     */
+    @Autowired
+    public ChangeFeed(ChangeLogRepository changeLogRepository, JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                      CacheInvalidationBus cacheInvalidationBus) {
+        this(changeLogRepository, jdbcTemplate, objectMapper, cacheInvalidationBus,
+                Executors.newSingleThreadScheduledExecutor(daemon("change-feed")),
+                Executors.newCachedThreadPool(daemon("change-feed-sender")),
+                Duration.ofSeconds(STALL_TIMEOUT_SECONDS));
+    }
+
+    /**
+     * Constructs a new {@code ChangeFeed} running on the given threads.
+     *
+     * @param executor the feed thread, reading the log and queueing the changes
+     * @param senders the threads writing the queued events to the clients
+     * @param stallTimeout how long a send may block before the consumer is disconnected
+     */
+    ChangeFeed(ChangeLogRepository changeLogRepository, JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+               CacheInvalidationBus cacheInvalidationBus, ScheduledExecutorService executor, ExecutorService senders,
+               Duration stallTimeout) {
+        this.changeLogRepository = changeLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.executor = executor;
+        this.senders = senders;
+        this.stallTimeoutNanos = stallTimeout.toNanos();
+        cacheInvalidationBus.subscribe(CHANGES, keys -> wakeUp());
+    }
+
+    /**
+     * Appends a change to the log as part of the current transaction.
+     *
+     * @param entity the type of the changed entity, {@link ChangeEventDTO#EVENT} or {@link ChangeEventDTO#STAGE}
+     * @param operation the kind of change, e.g. {@link ChangeEventDTO#CREATED}
+     * @param id the unique identifier of the changed entity
+     * @param data the new state of the entity, or {@code null} if it was deleted
+     */
+    public void record(String entity, String operation, Long id, Object data) {
+        recordAll(entity, operation, Collections.singletonMap(id, data));
+    }
+
+    /**
+     * Appends several changes of the same kind to the log as part of the current transaction, with one batch.
+     *
+     * @param entity the type of the changed entities
+     * @param operation the kind of change
+     * @param changes the new state of every changed entity, keyed by its unique identifier
+     */
+    public void recordAll(String entity, String operation, Map<Long, ?> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(changes.size());
+        changes.forEach((id, data) -> rows.add(new Object[]{entity, id, operation, toJson(data), now}));
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, INSERT_TYPES);
+        cacheInvalidationBus.publish(CHANGES, CacheInvalidationBus.ALL_KEYS);
+        TransactionCallbacks.afterCommit(this::wakeUp);
+    }
+
+    /**
+     * Opens a stream of changes for a consumer.
+     * Without a sequence number the stream starts with a {@value #READY_EVENT} event carrying the current
+     * sequence number and then sends only new changes; with one, every later change is replayed first.
+     *
+     * @param lastSequence the sequence number of the last change the consumer processed, or {@code null}
+     * @return the emitter streaming the changes
+     */
+    public SseEmitter subscribe(Long lastSequence) {
+        SseEmitter emitter = newEmitter();
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscriber.close());
+        executor.execute(() -> open(subscriber, lastSequence));
+        return emitter;
+    }
+
+    /**
+     * Starts the periodic tasks of the feed once the application is ready:
+     * the fallback poll, the keep-alive comments and the pruning of old log entries.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(() -> safely(this::poll), POLL_INTERVAL_SECONDS, POLL_INTERVAL_SECONDS,
+                TimeUnit.SECONDS);
+        executor.scheduleWithFixedDelay(() -> safely(this::heartbeat), HEARTBEAT_INTERVAL_SECONDS,
+                HEARTBEAT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        executor.scheduleWithFixedDelay(() -> safely(this::prune), 1, 60, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Closes all streams and stops the feed thread.
+     */
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    /**
+     * Returns the number of consumers currently connected to this instance.
+     *
+     * @return the number of open streams
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+    }
+
+    private void wakeUp() {
+        if (pollPending.compareAndSet(false, true)) {
+            executor.execute(() -> safely(this::poll));
+        }
+    }
+
+    private void open(Subscriber subscriber, Long lastSequence) {
+        try {
+            poll();
+            Long oldest = changeLogRepository.findOldestId();
+            if (lastSequence == null) {
+                subscriber.sendMarker(READY_EVENT, head);
+            } else if (lastSequence > head || (oldest != null && lastSequence < oldest - 1)) {
+                subscriber.sendMarker(RESET_EVENT, head);
+            } else {
+                subscriber.cursor = lastSequence;
+                catchUp(subscriber);
+            }
+            if (!subscriber.closed) {
+                subscribers.add(subscriber);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not open change stream", e);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private void poll() {
+        pollPending.set(false);
+        dropStalled();
+        if (head < 0 || subscribers.isEmpty()) {
+            head = changeLogRepository.findSettledHead();
+            return;
+        }
+        List<ChangeLogEntry> entries;
+        do {
+            entries = changeLogRepository.findSettledAfter(head, BATCH_SIZE);
+            if (entries.isEmpty()) {
+                break;
+            }
+            List<ChangeEventDTO> changes = entries.stream().map(this::toDTO).toList();
+            for (Subscriber subscriber : subscribers) {
+                // Consumers that are behind or whose queue is full catch up from the log instead
+                if (subscriber.cursor >= head && subscriber.hasRoom()) {
+                    subscriber.send(changes);
+                }
+            }
+            head = entries.get(entries.size() - 1).getId();
+        } while (entries.size() == BATCH_SIZE);
+        subscribers.forEach(this::catchUp);
+    }
+
+    /**
+     * Queues the changes a consumer missed, from the log, as long as its queue has room.
+     */
+    private void catchUp(Subscriber subscriber) {
+        while (!subscriber.closed && subscriber.cursor < head && subscriber.hasRoom()) {
+            long upTo = head;
+            List<ChangeEventDTO> page = changeLogRepository.findSettledAfter(subscriber.cursor, BATCH_SIZE).stream()
+                    .filter(entry -> entry.getId() <= upTo)
+                    .map(this::toDTO)
+                    .toList();
+            if (page.isEmpty()) {
+                return;
+            }
+            subscriber.send(page);
+        }
+    }
+
+    private void dropStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long since = subscriber.sendingSince;
+            if (since != 0 && now - since > stallTimeoutNanos) {
+                logger.warn("Closing a change stream whose client stopped reading");
+                subscriber.close();
+                // Completing waits for the blocked send to give up, so it must not run on the feed thread
+                senders.execute(subscriber.emitter::complete);
+            }
+        }
+    }
+
+    private void heartbeat() {
+        dropStalled();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.pending.isEmpty()) {
+                subscriber.sendComment("keep-alive");
+            }
+        }
+    }
+
+    private void prune() {
+        changeLogRepository.deleteOlderThan(LocalDateTime.now().minus(RETENTION));
+    }
+
+    private void safely(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            logger.warn("Change feed task failed", e);
+        }
+    }
+
+    private ChangeEventDTO toDTO(ChangeLogEntry entry) {
+        try {
+            return new ChangeEventDTO(entry.getId(), entry.getEntityType(), entry.getOperation(), entry.getEntityId(),
+                    entry.getPayload() != null ? objectMapper.readTree(entry.getPayload()) : null,
+                    entry.getCreatedAt());
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Intrarea " + entry.getId() + " din jurnalul de modificari nu este valida", e);
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private String toJson(Object data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Modificarea nu a putut fi salvata in jurnal", e);
+        }
+    }
+
+    /**
+     * A connected consumer, the sequence number of the last change queued for it and the events
+     * waiting to be written to its client.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> pending = new LinkedBlockingQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long cursor;
+        private volatile long sendingSince;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private boolean hasRoom() {
+            return pending.size() <= MAX_PENDING - BATCH_SIZE;
+        }
+
+        private void send(List<ChangeEventDTO> changes) {
+            for (ChangeEventDTO change : changes) {
+                if (closed) {
+                    return;
+                }
+                if (change.getSequence() > cursor) {
+                    enqueue(SseEmitter.event()
+                            .id(String.valueOf(change.getSequence()))
+                            .name(CHANGE_EVENT)
+                            .data(change, MediaType.APPLICATION_JSON));
+                    cursor = change.getSequence();
+                }
+            }
+        }
+
+        private void sendMarker(String name, long sequence) {
+            enqueue(SseEmitter.event()
+                    .id(String.valueOf(sequence))
+                    .name(name)
+                    .data(Map.of("sequence", sequence), MediaType.APPLICATION_JSON));
+            cursor = sequence;
+        }
+
+        private void sendComment(String comment) {
+            enqueue(SseEmitter.event().comment(comment));
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            pending.add(event);
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        /**
+         * Writes the queued events to the client, on a sender thread; only one drain runs at a time per consumer.
+         */
+        private void drain() {
+            do {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = pending.poll()) != null) {
+                    deliver(event);
+                }
+                draining.set(false);
+            } while (!closed && !pending.isEmpty() && draining.compareAndSet(false, true));
+            if (!closed && cursor < head) {
+                executor.execute(() -> safely(() -> catchUp(this)));
+            }
+        }
+
+        private void deliver(SseEmitter.SseEventBuilder event) {
+            sendingSince = System.nanoTime();
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                close();
+                emitter.completeWithError(e);
+            } finally {
+                sendingSince = 0;
+            }
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+            pending.clear();
+        }
+    }
+}
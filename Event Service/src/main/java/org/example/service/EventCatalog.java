@@ -0,0 +1,131 @@
+package org.example.service;
+
+import org.example.dto.EventResponseDTO;
+import org.example.dto.StageDTO;
+import org.example.mapper.StageMapper;
+import org.example.repository.EventRepository;
+import org.example.repository.StageRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the current {@link CatalogSnapshot} of all stages and events, used to serve the read endpoints from memory.
+ * Readers get the published snapshot with a single volatile read and never block.
+ * Writers call {@link #refreshAfterCommit()}; once their transaction commits, a new snapshot is loaded
+ * and swapped in atomically, so readers see either the old catalog or the new one, never a mix.
+ *
+ * @author EscobarTeam
+ */
+@Component
+public class EventCatalog {
+
+    private final EventRepository eventRepository;
+    private final StageRepository stageRepository;
+    private final StageMapper stageMapper;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile CatalogSnapshot snapshot;
+    private volatile LocalDateTime lastRebuild;
+
+    /**
+     * Constructs a new {@code EventCatalog} backed by the given repositories.
+     *
+     * @param eventRepository the repository used to load the events
+     * @param stageRepository the repository used to load the stages
+     * @param stageMapper the mapper for converting stages to DTOs
+     */
+    @Autowired
+    public EventCatalog(EventRepository eventRepository, StageRepository stageRepository, StageMapper stageMapper) {
+        this.eventRepository = eventRepository;
+        this.stageRepository = stageRepository;
+        this.stageMapper = stageMapper;
+    }
+
+    /**
+     * Returns the current snapshot, loading it first if the catalog has not been loaded yet.
+     *
+     * @return the current catalog snapshot
+     */
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot;
+        if (current == null) {
+            rebuildLock.lock();
+            try {
+                if (snapshot == null) {
+                    rebuild();
+                }
+                current = snapshot;
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Loads all stages and events and atomically replaces the current snapshot.
+     * Rebuilds are serialized, so the snapshot published last always reflects the latest committed data.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            List<StageDTO> stages = stageRepository.findAll().stream()
+                    .map(stageMapper::toDTO)
+                    .collect(Collectors.toList());
+            List<EventResponseDTO> events = eventRepository.findAllResponses(Sort.by("date", "id"));
+            snapshot = CatalogSnapshot.of(stages, events);
+            lastRebuild = LocalDateTime.now();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Reloads some events and publishes a new snapshot in which they are replaced by their current state,
+     * without reloading the rest of the catalog. The events are read under the same lock as a full rebuild,
+     * so a rebuild running at the same time can never be overwritten with rows read before it.
+     *
+     * @param changedIds the unique identifiers of the changed events
+     * @return the current state of the changed events that still exist
+     */
+    public List<EventResponseDTO> refreshEvents(Collection<Long> changedIds) {
+        rebuildLock.lock();
+        try {
+            List<EventResponseDTO> current = eventRepository.findResponsesByIds(changedIds);
+            if (snapshot != null) {
+                snapshot = snapshot.withEvents(changedIds, current);
+            }
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the snapshot once the current transaction commits, or immediately when no transaction is active.
+     */
+    public void refreshAfterCommit() {
+        TransactionCallbacks.afterCommit(this::rebuild);
+    }
+
+    /**
+     * Returns the moment the current snapshot was built.
+     *
+     * @return the time of the last rebuild, or {@code null} if the catalog has not been loaded yet
+     */
+    public LocalDateTime getLastRebuild() {
+        return lastRebuild;
+    }
+}
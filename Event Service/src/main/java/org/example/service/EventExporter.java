@@ -0,0 +1,80 @@
+package org.example.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.dto.EventResponseDTO;
+import org.example.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Exports the whole event catalog as newline-delimited JSON (one {@code EventResponseDTO} per line).
+ * Events are read in keyset pages of {@value EventRepository#EXPORT_PAGE_SIZE}, each in its own short read-only
+ * transaction, so memory use stays constant regardless of the number of events and no connection or transaction
+ * is held while the client reads at its own pace. The first line is sent as soon as it is read.
+ * Pages read at different moments may reflect different commits; every event that exists for the whole
+ * export is written exactly once.
+ *
+ * @author EscobarTeam
+ */
+@Component
+public class EventExporter {
+
+    private static final int PAGE_SIZE = EventRepository.EXPORT_PAGE_SIZE;
+    private static final byte NEWLINE = '\n';
+
+    private final EventRepository eventRepository;
+    private final ObjectWriter writer;
+
+    /**
+     * Constructs a new {@code EventExporter} backed by the given repository.
+     *
+     * @param eventRepository the repository the events are read from
+     * @param objectMapper the mapper used to write every event as JSON
+     */
+    @Autowired
+    public EventExporter(EventRepository eventRepository, ObjectMapper objectMapper) {
+        this.eventRepository = eventRepository;
+        this.writer = objectMapper.writerFor(EventResponseDTO.class);
+    }
+
+    /**
+     * Writes every event, in ID order, to the given stream as one JSON document per line.
+     * The stream is flushed after the first event and then after every page read from the database.
+     *
+     * @param out the stream to write to; it is left open
+     * @return the number of events written
+     * @throws UncheckedIOException if writing to the stream fails, e.g. because the client disconnected
+     */
+    public long export(OutputStream out) {
+        long count = 0;
+        long after = 0;
+        try {
+            List<EventResponseDTO> page;
+            do {
+                page = eventRepository.findResponsesAfterId(after, PageRequest.of(0, PAGE_SIZE));
+                for (EventResponseDTO event : page) {
+                    out.write(writer.writeValueAsBytes(event));
+                    out.write(NEWLINE);
+                    count++;
+                    if (count == 1) {
+                        out.flush();
+                    }
+                }
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1).getId();
+                }
+                out.flush();
+            } while (page.size() == PAGE_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+}
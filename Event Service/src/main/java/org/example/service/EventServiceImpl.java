@@ -1,20 +1,38 @@
 package org.example.service;
 
-import org.example.client.TicketServiceClient;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.example.common.cache.CacheInvalidationBus;
 import org.example.dto.*;
 import org.example.entity.Event;
+import org.example.entity.EventArtist;
 import org.example.entity.Stage;
+import org.example.exception.StageBookingConflictException;
 import org.example.mapper.EventMapper;
+import org.example.repository.EventArtistRepository;
 import org.example.repository.EventRepository;
 import org.example.repository.StageRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -27,10 +45,30 @@ import java.util.stream.Collectors;
 @Transactional
 public class EventServiceImpl implements IEventService {
 
+    private static final LocalTime DAY_START = LocalTime.of(9, 0);
+    private static final LocalTime DAY_END = LocalTime.of(23, 0);
+    private static final int MAX_MATRIX_DAYS = 31;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_SEPARATOR = ":";
+    private static final int MAX_BULK_SIZE = 500;
+    private static final Duration MAX_EVENT_DURATION = Duration.ofHours(24);
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final EventRepository eventRepository;
     private final StageRepository stageRepository;
     private final EventMapper eventMapper;
-    private final TicketServiceClient ticketServiceClient;
+    private final TicketInfoFetcher ticketInfoFetcher;
+    private final StageScheduleIndex stageScheduleIndex;
+    private final EventStatisticsCounters eventStatisticsCounters;
+    private final EventArtistRepository eventArtistRepository;
+    private final ArtistLinkResolver artistLinkResolver;
+    private final StageBookingLocks stageBookingLocks;
+    private final EventCatalog eventCatalog;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ChangeFeed changeFeed;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Constructs a new {@code EventServiceImpl} with the required dependencies.
@@ -38,30 +76,70 @@ public class EventServiceImpl implements IEventService {
      * @param eventRepository the repository for event data access
      * @param stageRepository the repository for stage data access
      * @param eventMapper the mapper for converting between entities and DTOs
-     * @param ticketServiceClient the Feign client for communicating with the Ticket Service
+     * @param ticketInfoFetcher the fetcher for ticket information from the Ticket Service
+     * @param stageScheduleIndex the in-memory index of the bookings on every stage
+     * @param eventStatisticsCounters the live statistics counters of all events
+     * @param eventArtistRepository the repository for the links between events and artists
+     * @param artistLinkResolver the resolver binding new event-artist links to their artists
+     * @param stageBookingLocks the per-stage locks that serialize bookings of the same stage
+     * @param eventCatalog the in-memory snapshot of all stages and events that serves the read endpoints
+     * @param cacheInvalidationBus the bus announcing event changes to the other service instances
+     * @param changeFeed the feed recording every event change for the streaming consumers
+     * @param validator the bean validator applied to every item of a bulk create request
+     * @param transactionManager the transaction manager used by the writes that ask the Artist Service first
      */
     @Autowired
     public EventServiceImpl(EventRepository eventRepository, 
                            StageRepository stageRepository, 
                            EventMapper eventMapper,
-                           TicketServiceClient ticketServiceClient) {
+                           TicketInfoFetcher ticketInfoFetcher,
+                           StageScheduleIndex stageScheduleIndex,
+                           EventStatisticsCounters eventStatisticsCounters,
+                           EventArtistRepository eventArtistRepository,
+                           ArtistLinkResolver artistLinkResolver,
+                           StageBookingLocks stageBookingLocks,
+                           EventCatalog eventCatalog,
+                           CacheInvalidationBus cacheInvalidationBus,
+                           ChangeFeed changeFeed,
+                           Validator validator,
+                           PlatformTransactionManager transactionManager) {
         this.eventRepository = eventRepository;
         this.stageRepository = stageRepository;
         this.eventMapper = eventMapper;
-        this.ticketServiceClient = ticketServiceClient;
+        this.ticketInfoFetcher = ticketInfoFetcher;
+        this.stageScheduleIndex = stageScheduleIndex;
+        this.eventStatisticsCounters = eventStatisticsCounters;
+        this.eventArtistRepository = eventArtistRepository;
+        this.artistLinkResolver = artistLinkResolver;
+        this.stageBookingLocks = stageBookingLocks;
+        this.eventCatalog = eventCatalog;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.changeFeed = changeFeed;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
-     * Retrieves all events from the database, sorted by date.
+     * Retrieves all events from the catalog snapshot, sorted by date.
      *
      * @return a list of all {@code EventResponseDTO} objects representing all events
      */
     @Override
     public List<EventResponseDTO> getAllEvents() {
-        return eventRepository.findAll().stream()
-                .map(eventMapper::toResponseDTO)
-                .sorted(Comparator.comparing(EventResponseDTO::getDate))
-                .collect(Collectors.toList());
+        return eventCatalog.current().eventsByDate(true);
+    }
+
+    /**
+     * Retrieves one page of events sorted by date, using keyset (cursor) pagination.
+     *
+     * @param cursor the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param size the maximum number of events in the page
+     * @return a {@code CursorPageDTO} with the events of the page and the cursor of the next page
+     * @throws RuntimeException if the cursor or the page size is invalid
+     */
+    @Override
+    public CursorPageDTO<EventResponseDTO> getEventsPage(String cursor, Integer size) {
+        return sortByDatePage("asc", cursor, size);
     }
 
     /**
@@ -73,74 +151,252 @@ public class EventServiceImpl implements IEventService {
      */
     @Override
     public EventResponseDTO getEventById(Long id) {
-        Event event = eventRepository.findById(id)
+        return eventCatalog.current().event(id)
+                .or(() -> eventRepository.findResponseById(id))
                 .orElseThrow(() -> new RuntimeException("Evenimentul cu ID " + id + " nu a fost gasit"));
-        return eventMapper.toResponseDTO(event);
     }
 
     /**
      * Creates a new event in the system.
      * Validates stage availability and prevents scheduling conflicts.
+     * The event lasts until its end time, or for its duration, or for the default two hours.
+     * The Artist Service is asked for the artists of the event before the transaction starts,
+     * so it is never waited for while the stage is locked.
      *
      * @param eventCreateDTO the DTO containing the data for the new event
      * @return the {@code EventResponseDTO} object representing the newly created event
-     * @throws RuntimeException if the stage does not exist or is not available at the specified time
+     * @throws RuntimeException if the stage does not exist or the end time is invalid
+     * @throws StageBookingConflictException if the stage is not available at the specified time
      */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public EventResponseDTO createEvent(EventCreateDTO eventCreateDTO) {
+        Map<String, Long> artistIds = artistLinkResolver.artistIds(artistNames(eventCreateDTO.getAssociatedArtist()).keySet());
+        return transactionTemplate.execute(status -> create(eventCreateDTO, artistIds));
+    }
+
+    /**
+     * Creates a new event, in the current transaction.
+     *
+     * @param eventCreateDTO the DTO containing the data for the new event
+     * @param artistIds the artist identifiers of the artists of the event that could be resolved
+     * @return the {@code EventResponseDTO} object representing the newly created event
+     */
+    private EventResponseDTO create(EventCreateDTO eventCreateDTO, Map<String, Long> artistIds) {
         Stage stage = stageRepository.findById(eventCreateDTO.getStageId())
                 .orElseThrow(() -> new RuntimeException("Scena cu ID-ul " + eventCreateDTO.getStageId() + " nu a fost gasita"));
         
-        List<Event> conflictingEvents = eventRepository.findConflictingEvents(
-                eventCreateDTO.getStageId(), 
-                eventCreateDTO.getDate(), 
-                eventCreateDTO.getDate().plusHours(2)
-        );
+        LocalDateTime endDate = resolveEndDate(eventCreateDTO.getDate(), eventCreateDTO.getEndDate(),
+                eventCreateDTO.getDurationMinutes(), StageScheduleIndex.DEFAULT_EVENT_DURATION);
         
-        if (!conflictingEvents.isEmpty()) {
-            throw new RuntimeException("Scena nu este disponibila in data si ora specificata");
+        stageBookingLocks.lockUntilCompletion(List.of(stage.getId()));
+        if (!stageScheduleIndex.isAvailable(eventCreateDTO.getStageId(), eventCreateDTO.getDate(), endDate, null)) {
+            throw new StageBookingConflictException();
         }
         
         Event event = eventMapper.toEntity(eventCreateDTO, stage);
-        Event savedEvent = eventRepository.save(event);
-        return eventMapper.toResponseDTO(savedEvent);
+        event.setEndDate(endDate);
+        Event savedEvent = saveBooking(event);
+        syncArtistLinks(savedEvent, true, artistIds);
+        indexAfterCommit(savedEvent.getId(), stage.getId(), savedEvent.getDate(), savedEvent.getEndDate());
+        LocalDateTime date = savedEvent.getDate();
+        Integer capacity = savedEvent.getCapacity();
+        TransactionCallbacks.afterCommit(() -> eventStatisticsCounters.eventAdded(date, stage.getId(), capacity));
+        eventCatalog.refreshAfterCommit();
+        cacheInvalidationBus.publish(CatalogInvalidationSubscriber.EVENTS, savedEvent.getId());
+        EventResponseDTO response = eventMapper.toResponseDTO(savedEvent);
+        changeFeed.record(ChangeEventDTO.EVENT, ChangeEventDTO.CREATED, savedEvent.getId(), response);
+        return response;
+    }
+
+    /**
+     * Creates many events at once, e.g. a whole festival lineup.
+     * Stages and the existing events of the affected stages are loaded with one query each,
+     * conflicts are found with a per-stage sweep over the sorted intervals,
+     * and the accepted events and their artist links are written with JDBC batches.
+     * The artists of the whole batch are resolved with the Artist Service before the transaction starts.
+     *
+     * @param events the DTOs of the events to create
+     * @return a {@code BulkEventResultDTO} with one result per item, in request order
+     * @throws RuntimeException if the batch is empty or larger than the allowed maximum
+     * @throws StageBookingConflictException if another instance booked an overlapping slot concurrently
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BulkEventResultDTO createEvents(List<EventCreateDTO> events) {
+        if (events == null || events.isEmpty()) {
+            throw new RuntimeException("Lista de evenimente nu poate fi goala");
+        }
+        if (events.size() > MAX_BULK_SIZE) {
+            throw new RuntimeException("Se pot crea cel mult " + MAX_BULK_SIZE + " evenimente o data");
+        }
+        Set<String> keys = new HashSet<>();
+        for (EventCreateDTO item : events) {
+            if (item != null) {
+                keys.addAll(artistNames(item.getAssociatedArtist()).keySet());
+            }
+        }
+        Map<String, Long> artistIds = artistLinkResolver.artistIds(keys);
+        return transactionTemplate.execute(status -> createAll(events, artistIds));
+    }
+
+    /**
+     * Creates many events at once, in the current transaction.
+     *
+     * @param events the DTOs of the events to create
+     * @param artistIds the artist identifiers of the artists of the batch that could be resolved
+     * @return a {@code BulkEventResultDTO} with one result per item, in request order
+     */
+    private BulkEventResultDTO createAll(List<EventCreateDTO> events, Map<String, Long> artistIds) {
+        Set<Long> stageIds = events.stream()
+                .filter(Objects::nonNull)
+                .map(EventCreateDTO::getStageId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Stage> stages = stageRepository.findAllById(stageIds).stream()
+                .collect(Collectors.toMap(Stage::getId, Function.identity()));
+        
+        String[] errors = new String[events.size()];
+        Map<Long, List<ScheduleSweep.Slot>> candidatesByStage = new HashMap<>();
+        LocalDateTime[] endDates = new LocalDateTime[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            EventCreateDTO item = events.get(i);
+            errors[i] = validateBulkItem(item, stages);
+            if (errors[i] == null) {
+                try {
+                    endDates[i] = resolveEndDate(item.getDate(), item.getEndDate(), item.getDurationMinutes(),
+                            StageScheduleIndex.DEFAULT_EVENT_DURATION);
+                } catch (RuntimeException e) {
+                    errors[i] = e.getMessage();
+                    continue;
+                }
+                candidatesByStage.computeIfAbsent(item.getStageId(), id -> new ArrayList<>())
+                        .add(new ScheduleSweep.Slot(i, item.getDate(), endDates[i]));
+            }
+        }
+        
+        if (!candidatesByStage.isEmpty()) {
+            stageBookingLocks.lockUntilCompletion(candidatesByStage.keySet());
+            rejectScheduleConflicts(candidatesByStage, errors);
+        }
+        
+        List<Event> accepted = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            if (errors[i] == null) {
+                EventCreateDTO item = events.get(i);
+                Event event = eventMapper.toEntity(item, stages.get(item.getStageId()));
+                event.setEndDate(endDates[i]);
+                event.setCreatedAt(LocalDateTime.now());
+                accepted.add(event);
+            }
+        }
+        
+        try {
+            eventRepository.insertEvents(accepted);
+        } catch (DataIntegrityViolationException e) {
+            throw isStageOverlap(e) ? new StageBookingConflictException(
+                    "Unul dintre evenimente a fost programat intre timp pe aceeasi scena; lista nu a fost salvata") : e;
+        }
+        eventRepository.insertArtistLinks(buildArtistLinks(accepted, artistIds));
+        for (Event event : accepted) {
+            Long stageId = event.getStage().getId();
+            indexAfterCommit(event.getId(), stageId, event.getDate(), event.getEndDate());
+            LocalDateTime date = event.getDate();
+            Integer capacity = event.getCapacity();
+            TransactionCallbacks.afterCommit(() -> eventStatisticsCounters.eventAdded(date, stageId, capacity));
+        }
+        eventCatalog.refreshAfterCommit();
+        cacheInvalidationBus.publish(CatalogInvalidationSubscriber.EVENTS,
+                accepted.stream().map(Event::getId).collect(Collectors.toList()));
+        
+        List<BulkEventItemResultDTO> results = new ArrayList<>(events.size());
+        Map<Long, EventResponseDTO> created = new LinkedHashMap<>();
+        Iterator<Event> savedEvents = accepted.iterator();
+        for (int i = 0; i < events.size(); i++) {
+            if (errors[i] == null) {
+                EventResponseDTO response = eventMapper.toResponseDTO(savedEvents.next());
+                created.put(response.getId(), response);
+                results.add(new BulkEventItemResultDTO(i, BulkEventItemResultDTO.CREATED, response, null));
+            } else {
+                results.add(new BulkEventItemResultDTO(i, BulkEventItemResultDTO.REJECTED, null, errors[i]));
+            }
+        }
+        changeFeed.recordAll(ChangeEventDTO.EVENT, ChangeEventDTO.CREATED, created);
+        return new BulkEventResultDTO(accepted.size(), events.size() - accepted.size(), results);
     }
 
     /**
      * Updates an existing event with new information.
      * Validates stage availability if the date or stage is changed.
+     * As on creation, the Artist Service is asked for the artists of the event before the transaction starts.
      *
      * @param id the unique identifier of the event to update
      * @param eventDTO the DTO containing the updated event information
      * @return the {@code EventResponseDTO} object representing the updated event
-     * @throws RuntimeException if the event or stage does not exist, or if the stage is not available
+     * @throws RuntimeException if the event or stage does not exist, or the end time is invalid
+     * @throws StageBookingConflictException if the stage is not available at the specified time
      */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public EventResponseDTO updateEvent(Long id, EventDTO eventDTO) {
+        Map<String, Long> artistIds = artistLinkResolver.artistIds(artistNames(eventDTO.getAssociatedArtist()).keySet());
+        return transactionTemplate.execute(status -> update(id, eventDTO, artistIds));
+    }
+
+    /**
+     * Updates an existing event, in the current transaction.
+     *
+     * @param id the unique identifier of the event to update
+     * @param eventDTO the DTO containing the updated event information
+     * @param artistIds the artist identifiers of the artists of the event that could be resolved
+     * @return the {@code EventResponseDTO} object representing the updated event
+     */
+    private EventResponseDTO update(Long id, EventDTO eventDTO, Map<String, Long> artistIds) {
         Event existingEvent = eventRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Evenimentul cu ID " + id + " nu a fost gasit"));
         
         Stage stage = stageRepository.findById(eventDTO.getStageId())
                 .orElseThrow(() -> new RuntimeException("Scena cu ID-ul " + eventDTO.getStageId() + " nu a fost gasita"));
         
+        // Without a new end time or duration the event keeps its current length.
+        Duration currentDuration = existingEvent.getEndDate() != null
+                ? Duration.between(existingEvent.getDate(), existingEvent.getEndDate())
+                : StageScheduleIndex.DEFAULT_EVENT_DURATION;
+        LocalDateTime endDate = resolveEndDate(eventDTO.getDate(), eventDTO.getEndDate(),
+                eventDTO.getDurationMinutes(), currentDuration);
+        
         if (!existingEvent.getDate().equals(eventDTO.getDate()) || 
+            !endDate.equals(existingEvent.getEndDate()) ||
             !existingEvent.getStage().getId().equals(eventDTO.getStageId())) {
-            List<Event> conflictingEvents = eventRepository.findConflictingEvents(
-                    eventDTO.getStageId(), 
-                    eventDTO.getDate(), 
-                    eventDTO.getDate().plusHours(2)
-            ).stream()
-                    .filter(e -> !e.getId().equals(id))
-                    .collect(Collectors.toList());
-            
-            if (!conflictingEvents.isEmpty()) {
-                throw new RuntimeException("Scena nu este disponibila in data si ora specificata");
+            stageBookingLocks.lockUntilCompletion(List.of(existingEvent.getStage().getId(), eventDTO.getStageId()));
+            if (!stageScheduleIndex.isAvailable(eventDTO.getStageId(), eventDTO.getDate(), endDate, id)) {
+                throw new StageBookingConflictException();
             }
         }
         
+        LocalDateTime previousDate = existingEvent.getDate();
+        Long previousStageId = existingEvent.getStage().getId();
+        Integer previousCapacity = existingEvent.getCapacity();
+        String previousArtists = existingEvent.getAssociatedArtist();
+        
         eventMapper.updateEntityFromDTO(eventDTO, existingEvent, stage);
-        Event updatedEvent = eventRepository.save(existingEvent);
-        return eventMapper.toResponseDTO(updatedEvent);
+        existingEvent.setEndDate(endDate);
+        Event updatedEvent = saveBooking(existingEvent);
+        if (!Objects.equals(previousArtists, updatedEvent.getAssociatedArtist())) {
+            syncArtistLinks(updatedEvent, false, artistIds);
+        }
+        indexAfterCommit(updatedEvent.getId(), stage.getId(), updatedEvent.getDate(), updatedEvent.getEndDate());
+        LocalDateTime date = updatedEvent.getDate();
+        Integer capacity = updatedEvent.getCapacity();
+        TransactionCallbacks.afterCommit(() -> {
+            eventStatisticsCounters.eventRemoved(previousDate, previousStageId, previousCapacity);
+            eventStatisticsCounters.eventAdded(date, stage.getId(), capacity);
+        });
+        eventCatalog.refreshAfterCommit();
+        cacheInvalidationBus.publish(CatalogInvalidationSubscriber.EVENTS, updatedEvent.getId());
+        EventResponseDTO response = eventMapper.toResponseDTO(updatedEvent);
+        changeFeed.record(ChangeEventDTO.EVENT, ChangeEventDTO.UPDATED, updatedEvent.getId(), response);
+        return response;
     }
 
     /**
@@ -151,10 +407,19 @@ public class EventServiceImpl implements IEventService {
      */
     @Override
     public void deleteEvent(Long id) {
-        if (!eventRepository.existsById(id)) {
-            throw new RuntimeException("Evenimentul cu ID " + id + " nu a fost gasit");
-        }
-        eventRepository.deleteById(id);
+        Event event = eventRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Evenimentul cu ID " + id + " nu a fost gasit"));
+        LocalDateTime date = event.getDate();
+        Long stageId = event.getStage().getId();
+        Integer capacity = event.getCapacity();
+        eventRepository.delete(event);
+        TransactionCallbacks.afterCommit(() -> {
+            stageScheduleIndex.remove(id);
+            eventStatisticsCounters.eventRemoved(date, stageId, capacity);
+        });
+        eventCatalog.refreshAfterCommit();
+        cacheInvalidationBus.publish(CatalogInvalidationSubscriber.EVENTS, id);
+        changeFeed.record(ChangeEventDTO.EVENT, ChangeEventDTO.DELETED, id, null);
     }
 
     /**
@@ -166,10 +431,23 @@ public class EventServiceImpl implements IEventService {
      */
     @Override
     public List<EventResponseDTO> searchByName(String name) {
-        return eventRepository.findByNameContainingIgnoreCase(name).stream()
-                .map(eventMapper::toResponseDTO)
-                .sorted(Comparator.comparing(EventResponseDTO::getDate))
-                .collect(Collectors.toList());
+        return eventRepository.findResponsesByNameContaining(escapeLike(name));
+    }
+
+    /**
+     * Searches for events whose names contain the specified search string, ordered by relevance.
+     * Exact matches come first, then names starting with the string, then names with a word starting with it,
+     * then any other substring match; ties are broken by the shorter name and then by date.
+     *
+     * @param name the search string to match against event names
+     * @param limit the maximum number of results
+     * @return at most {@code limit} {@code EventResponseDTO} objects, most relevant first
+     * @throws RuntimeException if the limit is invalid
+     */
+    @Override
+    public List<EventResponseDTO> searchByNameRanked(String name, Integer limit) {
+        return eventRepository.searchResponsesByNameRanked(name, escapeLike(name),
+                PageRequest.of(0, validateSearchLimit(limit)));
     }
 
     /**
@@ -180,10 +458,7 @@ public class EventServiceImpl implements IEventService {
      */
     @Override
     public List<EventResponseDTO> filterByStage(Long stageId) {
-        return eventRepository.findByStageId(stageId).stream()
-                .map(eventMapper::toResponseDTO)
-                .sorted(Comparator.comparing(EventResponseDTO::getDate))
-                .collect(Collectors.toList());
+        return eventCatalog.current().eventsOnStage(stageId);
     }
 
     /**
@@ -195,10 +470,7 @@ public class EventServiceImpl implements IEventService {
      */
     @Override
     public List<EventResponseDTO> filterByDate(LocalDateTime startDate, LocalDateTime endDate) {
-        return eventRepository.findByDateBetween(startDate, endDate).stream()
-                .map(eventMapper::toResponseDTO)
-                .sorted(Comparator.comparing(EventResponseDTO::getDate))
-                .collect(Collectors.toList());
+        return eventCatalog.current().eventsBetween(startDate, endDate);
     }
 
     /**
@@ -212,10 +484,7 @@ public class EventServiceImpl implements IEventService {
         LocalDateTime startOfDay = date.atTime(LocalTime.MIN);
         LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
         
-        return eventRepository.findByDateBetween(startOfDay, endOfDay).stream()
-                .map(eventMapper::toResponseDTO)
-                .sorted(Comparator.comparing(EventResponseDTO::getDate))
-                .collect(Collectors.toList());
+        return eventCatalog.current().eventsBetween(startOfDay, endOfDay);
     }
 
     /**
@@ -226,10 +495,7 @@ public class EventServiceImpl implements IEventService {
      */
     @Override
     public List<EventResponseDTO> filterByCapacity(Integer minCapacity) {
-        return eventRepository.findByCapacityGreaterThanEqual(minCapacity).stream()
-                .map(eventMapper::toResponseDTO)
-                .sorted((e1, e2) -> e2.getCapacity().compareTo(e1.getCapacity()))
-                .collect(Collectors.toList());
+        return eventCatalog.current().eventsWithMinCapacity(minCapacity);
     }
 
     /**
@@ -240,13 +506,36 @@ public class EventServiceImpl implements IEventService {
      */
     @Override
     public List<EventResponseDTO> sortByDate(String order) {
-        List<EventResponseDTO> events = getAllEvents();
-        if ("desc".equalsIgnoreCase(order)) {
-            return events.stream()
-                    .sorted((e1, e2) -> e2.getDate().compareTo(e1.getDate()))
-                    .collect(Collectors.toList());
+        return eventCatalog.current().eventsByDate(direction(order).isAscending());
+    }
+
+    /**
+     * Retrieves one page of events sorted by date, using keyset (cursor) pagination.
+     * The cursor holds the date and ID of the last event returned, so every page is a single indexed range scan.
+     *
+     * @param order the sort order, either "asc" for ascending or "desc" for descending (defaults to ascending)
+     * @param cursor the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param size the maximum number of events in the page
+     * @return a {@code CursorPageDTO} with the events of the page and the cursor of the next page
+     * @throws RuntimeException if the cursor or the page size is invalid
+     */
+    @Override
+    public CursorPageDTO<EventResponseDTO> sortByDatePage(String order, String cursor, Integer size) {
+        int pageSize = validatePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        Sort.Direction direction = direction(order);
+        List<Event> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = eventRepository.findFirstPage(PageRequest.of(0, pageSize + 1, Sort.by(direction, "date", "id")));
+        } else {
+            String[] position = decodeCursor(cursor);
+            LocalDateTime date = parseCursorValue(position[0], LocalDateTime::parse);
+            Long id = parseCursorValue(position[1], Long::valueOf);
+            rows = direction.isAscending()
+                    ? eventRepository.findPageAfterDate(date, id, limit)
+                    : eventRepository.findPageBeforeDate(date, id, limit);
         }
-        return events;
+        return toCursorPage(rows, pageSize, event -> event.getDate().toString());
     }
 
     /**
@@ -257,19 +546,42 @@ public class EventServiceImpl implements IEventService {
      */
     @Override
     public List<EventResponseDTO> sortByCapacity(String order) {
-        List<EventResponseDTO> events = getAllEvents();
-        Comparator<EventResponseDTO> comparator = Comparator.comparing(EventResponseDTO::getCapacity);
-        if ("desc".equalsIgnoreCase(order)) {
-            comparator = comparator.reversed();
+        return eventCatalog.current().eventsByCapacity(direction(order).isAscending());
+    }
+
+    /**
+     * Retrieves one page of events sorted by capacity, using keyset (cursor) pagination.
+     * The cursor holds the capacity and ID of the last event returned, so every page is a single indexed range scan.
+     *
+     * @param order the sort order, either "asc" for ascending or "desc" for descending (defaults to ascending)
+     * @param cursor the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param size the maximum number of events in the page
+     * @return a {@code CursorPageDTO} with the events of the page and the cursor of the next page
+     * @throws RuntimeException if the cursor or the page size is invalid
+     */
+    @Override
+    public CursorPageDTO<EventResponseDTO> sortByCapacityPage(String order, String cursor, Integer size) {
+        int pageSize = validatePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        Sort.Direction direction = direction(order);
+        List<Event> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = eventRepository.findFirstPage(PageRequest.of(0, pageSize + 1, Sort.by(direction, "capacity", "id")));
+        } else {
+            String[] position = decodeCursor(cursor);
+            Integer capacity = parseCursorValue(position[0], Integer::valueOf);
+            Long id = parseCursorValue(position[1], Long::valueOf);
+            rows = direction.isAscending()
+                    ? eventRepository.findPageAfterCapacity(capacity, id, limit)
+                    : eventRepository.findPageBeforeCapacity(capacity, id, limit);
         }
-        return events.stream()
-                .sorted(comparator)
-                .collect(Collectors.toList());
+        return toCursorPage(rows, pageSize, event -> event.getCapacity().toString());
     }
 
     /**
      * Checks the availability of all stages at a specific date and time.
      * Returns available time slots for each stage.
+     * Conflicts are resolved against the in-memory {@link StageScheduleIndex}.
      *
      * @param date the date and time to check availability for
      * @return a list of {@code StageAvailabilityDTO} objects containing availability information for each stage
@@ -277,15 +589,11 @@ public class EventServiceImpl implements IEventService {
     @Override
     public List<StageAvailabilityDTO> checkStageAvailability(LocalDateTime date) {
         List<Stage> allStages = stageRepository.findAll();
-        LocalDateTime endDate = date.plusHours(2);
+        LocalDateTime endDate = date.plus(StageScheduleIndex.DEFAULT_EVENT_DURATION);
         
         return allStages.stream()
                 .map(stage -> {
-                    List<Event> conflictingEvents = eventRepository.findConflictingEvents(
-                            stage.getId(), date, endDate
-                    );
-                    
-                    boolean available = conflictingEvents.isEmpty();
+                    boolean available = stageScheduleIndex.isAvailable(stage.getId(), date, endDate, null);
                     List<LocalDateTime> availableTimeSlots = new ArrayList<>();
                     
                     if (available) {
@@ -311,22 +619,101 @@ public class EventServiceImpl implements IEventService {
      * @return a list of {@code LocalDateTime} objects representing available time slots
      */
     private List<LocalDateTime> generateAvailableTimeSlots(Long stageId, LocalDate date) {
-        List<LocalDateTime> slots = new ArrayList<>();
-        LocalDateTime startOfDay = date.atTime(LocalTime.of(9, 0));
-        LocalDateTime endOfDay = date.atTime(LocalTime.of(23, 0));
-        
-        LocalDateTime current = startOfDay;
-        while (current.plusHours(2).isBefore(endOfDay) || current.plusHours(2).equals(endOfDay)) {
-            List<Event> conflicts = eventRepository.findConflictingEvents(
-                    stageId, current, current.plusHours(2)
-            );
-            if (conflicts.isEmpty()) {
-                slots.add(current);
+        LocalDateTime startOfDay = date.atTime(DAY_START);
+        LocalDateTime endOfDay = date.atTime(DAY_END);
+        return stageScheduleIndex.findFreeSlots(stageId, startOfDay, endOfDay, StageScheduleIndex.DEFAULT_EVENT_DURATION);
+    }
+
+    /**
+     * Builds the availability grid of every stage for every day of a date range.
+     * All events in the range are loaded with a single query and the grid is computed in memory.
+     *
+     * @param startDate the first day of the range (inclusive)
+     * @param endDate the last day of the range (inclusive)
+     * @param slotMinutes the length of a time slot in minutes; slots are laid out between 9:00 AM and 11:00 PM
+     * @return a {@code StageAvailabilityMatrixDTO} with one row per stage and one availability string per day
+     * @throws RuntimeException if the date range or the slot length is invalid
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public StageAvailabilityMatrixDTO getAvailabilityMatrix(LocalDate startDate, LocalDate endDate, Integer slotMinutes) {
+        int dayMinutes = (int) Duration.between(DAY_START, DAY_END).toMinutes();
+        if (slotMinutes == null || slotMinutes <= 0 || slotMinutes > dayMinutes) {
+            throw new RuntimeException("Durata unui interval trebuie sa fie intre 1 si " + dayMinutes + " minute");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new RuntimeException("Data de sfarsit nu poate fi inaintea datei de inceput");
+        }
+        int dayCount = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (dayCount > MAX_MATRIX_DAYS) {
+            throw new RuntimeException("Intervalul poate cuprinde cel mult " + MAX_MATRIX_DAYS + " zile");
+        }
+        int slotsPerDay = dayMinutes / slotMinutes;
+
+        // One bit per (day, slot) and stage; a set bit marks a busy slot.
+        Map<Long, BitSet> busyByStage = new HashMap<>();
+        LocalDateTime windowStart = startDate.atTime(DAY_START);
+        LocalDateTime windowEnd = endDate.atTime(DAY_END);
+        for (Event event : eventRepository.findOverlapping(windowStart, windowEnd)) {
+            LocalDateTime eventStart = event.getDate();
+            LocalDateTime eventEnd = event.getEndDate();
+            BitSet busy = busyByStage.computeIfAbsent(event.getStage().getId(), id -> new BitSet());
+            for (LocalDate day = eventStart.toLocalDate(); !day.isAfter(eventEnd.toLocalDate()); day = day.plusDays(1)) {
+                if (day.isBefore(startDate) || day.isAfter(endDate)) {
+                    continue;
+                }
+                LocalDateTime dayStart = day.atTime(DAY_START);
+                long from = Duration.between(dayStart, eventStart).toMinutes();
+                long to = Duration.between(dayStart, eventEnd).toMinutes();
+                int firstSlot = (int) Math.max(0, Math.floorDiv(from, slotMinutes));
+                int lastSlot = (int) Math.min(slotsPerDay - 1, Math.floorDiv(to + slotMinutes - 1, slotMinutes) - 1);
+                if (firstSlot <= lastSlot) {
+                    int offset = (int) ChronoUnit.DAYS.between(startDate, day) * slotsPerDay;
+                    busy.set(offset + firstSlot, offset + lastSlot + 1);
+                }
             }
-            current = current.plusHours(2);
         }
-        
-        return slots;
+
+        List<LocalTime> slotStartTimes = new ArrayList<>(slotsPerDay);
+        for (int slot = 0; slot < slotsPerDay; slot++) {
+            slotStartTimes.add(DAY_START.plusMinutes((long) slot * slotMinutes));
+        }
+
+        List<StageAvailabilityRowDTO> rows = stageRepository.findAll().stream()
+                .sorted(Comparator.comparing(Stage::getId))
+                .map(stage -> {
+                    BitSet busy = busyByStage.getOrDefault(stage.getId(), new BitSet());
+                    List<String> days = new ArrayList<>(dayCount);
+                    for (int day = 0; day < dayCount; day++) {
+                        char[] cells = new char[slotsPerDay];
+                        for (int slot = 0; slot < slotsPerDay; slot++) {
+                            cells[slot] = busy.get(day * slotsPerDay + slot) ? '0' : '1';
+                        }
+                        days.add(new String(cells));
+                    }
+                    return new StageAvailabilityRowDTO(stage.getId(), stage.getName(), days);
+                })
+                .collect(Collectors.toList());
+
+        return new StageAvailabilityMatrixDTO(startDate, endDate, slotMinutes, slotStartTimes, rows);
+    }
+
+    /**
+     * Retrieves the events that are running at a given moment, on any stage.
+     * The running events are found with a range containment query on the GiST index of the event periods,
+     * then loaded together with their stages in a single query.
+     *
+     * @param at the moment to check; events starting at that moment are included, events ending at it are not
+     * @return a list of {@code EventResponseDTO} objects for the running events, sorted by start time
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventResponseDTO> getEventsRunningAt(LocalDateTime at) {
+        List<Long> ids = eventRepository.findIdsRunningAt(at);
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return eventRepository.findResponsesByIds(ids);
     }
 
     /**
@@ -337,40 +724,19 @@ public class EventServiceImpl implements IEventService {
      */
     @Override
     public List<EventResponseDTO> getStageSchedule(Long stageId) {
-        return eventRepository.findAllByStageIdOrderByDate(stageId).stream()
-                .map(eventMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return eventCatalog.current().eventsOnStage(stageId);
     }
 
     /**
      * Generates statistics about all events in the system.
-     * Includes total events, total participants, and daily breakdowns.
+     * Includes total events, total participants, and daily, hourly and per-stage breakdowns.
+     * Served from the live {@link EventStatisticsCounters}, which are kept up to date on every change.
      *
      * @return an {@code EventStatisticsDTO} object containing event statistics
      */
     @Override
     public EventStatisticsDTO generateStatistics() {
-        List<Event> allEvents = eventRepository.findAll();
-        
-        long totalEvents = allEvents.size();
-        
-        long totalParticipants = allEvents.stream()
-                .mapToLong(Event::getCapacity)
-                .sum();
-        
-        Map<LocalDate, Long> eventsPerDay = allEvents.stream()
-                .collect(Collectors.groupingBy(
-                        event -> event.getDate().toLocalDate(),
-                        Collectors.counting()
-                ));
-        
-        Map<LocalDate, Long> participantsPerDay = allEvents.stream()
-                .collect(Collectors.groupingBy(
-                        event -> event.getDate().toLocalDate(),
-                        Collectors.summingLong(Event::getCapacity)
-                ));
-        
-        return new EventStatisticsDTO(totalEvents, totalParticipants, eventsPerDay, participantsPerDay);
+        return eventStatisticsCounters.snapshot();
     }
 
     /**
@@ -382,10 +748,33 @@ public class EventServiceImpl implements IEventService {
      */
     @Override
     public List<EventResponseDTO> filterByArtist(String artist) {
-        return eventRepository.findByAssociatedArtistContainingIgnoreCase(artist).stream()
-                .map(eventMapper::toResponseDTO)
-                .sorted(Comparator.comparing(EventResponseDTO::getDate))
-                .collect(Collectors.toList());
+        return eventRepository.findResponsesByArtistContaining(escapeLike(artist));
+    }
+
+    /**
+     * Filters events by the associated artist name, ordered by relevance like {@link #searchByNameRanked}.
+     *
+     * @param artist the artist name to filter by
+     * @param limit the maximum number of results
+     * @return at most {@code limit} {@code EventResponseDTO} objects, most relevant first
+     * @throws RuntimeException if the limit is invalid
+     */
+    @Override
+    public List<EventResponseDTO> filterByArtistRanked(String artist, Integer limit) {
+        return eventRepository.searchResponsesByArtistRanked(artist, escapeLike(artist),
+                PageRequest.of(0, validateSearchLimit(limit)));
+    }
+
+    /**
+     * Retrieves the events an artist performs at, using the event-artist link table.
+     * Links are bound to their artist when they are written, so this is a single indexed lookup.
+     *
+     * @param artistId the unique identifier of the artist (owned by the Artist Service)
+     * @return a list of {@code EventResponseDTO} objects for the artist, sorted by date
+     */
+    @Override
+    public List<EventResponseDTO> getEventsByArtistId(Long artistId) {
+        return eventArtistRepository.findEventsByArtistId(artistId);
     }
 
     /**
@@ -398,25 +787,438 @@ public class EventServiceImpl implements IEventService {
      */
     @Override
     public EventWithTicketInfoDTO getEventWithTicketInfo(Long id, String region) {
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Evenimentul cu ID " + id + " nu a fost gasit"));
+        EventResponseDTO eventDTO = getEventById(id);
+        
+        Map<String, EventTicketSummaryDTO> summaries = ticketInfoFetcher.getSummaries(List.of(eventDTO.getName()));
+        return withTicketInfo(eventDTO, summaries.get(eventDTO.getName()), region);
+    }
+
+    /**
+     * Retrieves several events along with their ticket information, with a single call to the Ticket Service.
+     * The call for the events already in the catalog is started before the others are loaded from the database,
+     * so the two overlap. Events are returned in request order; duplicate and unknown IDs are skipped.
+     *
+     * @param ids the unique identifiers of the events
+     * @param region the region code for localization and pricing (e.g., "EU-RO", "US")
+     * @return a list of {@code EventWithTicketInfoDTO} objects containing event and ticket information
+     * @throws RuntimeException if more than the maximum number of events is requested
+     */
+    @Override
+    public List<EventWithTicketInfoDTO> getEventsWithTicketInfo(List<Long> ids, String region) {
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        if (distinct.size() > MAX_PAGE_SIZE) {
+            throw new RuntimeException("Se pot cere cel mult " + MAX_PAGE_SIZE + " evenimente o data");
+        }
         
-        EventResponseDTO eventDTO = eventMapper.toResponseDTO(event);
+        CatalogSnapshot snapshot = eventCatalog.current();
+        Map<Long, EventResponseDTO> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : distinct) {
+            snapshot.event(id).ifPresentOrElse(event -> found.put(id, event), () -> missing.add(id));
+        }
+        Set<String> cachedNames = found.values().stream()
+                .map(EventResponseDTO::getName)
+                .collect(Collectors.toSet());
+        CompletableFuture<Map<String, EventTicketSummaryDTO>> cachedInfo = ticketInfoFetcher.fetchSummaries(cachedNames);
         
-        Integer availableSeats = ticketServiceClient.getAvailableSeats(event.getName(), "Gateway-Service");
-        Map<String, Double> revenueMap = ticketServiceClient.getRevenueByFestival("Gateway-Service");
-        Double totalRevenue = revenueMap.getOrDefault(event.getName(), 0.0);
+        CompletableFuture<Map<String, EventTicketSummaryDTO>> loadedInfo = CompletableFuture.completedFuture(Map.of());
+        if (!missing.isEmpty()) {
+            List<EventResponseDTO> loaded = eventRepository.findResponsesByIds(missing);
+            loaded.forEach(event -> found.put(event.getId(), event));
+            loadedInfo = ticketInfoFetcher.fetchSummaries(loaded.stream()
+                    .map(EventResponseDTO::getName)
+                    .filter(name -> !cachedNames.contains(name))
+                    .collect(Collectors.toList()));
+        }
+        
+        Map<String, EventTicketSummaryDTO> summaries = new HashMap<>(ticketInfoFetcher.await(cachedInfo));
+        summaries.putAll(ticketInfoFetcher.await(loadedInfo));
+        return distinct.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(event -> withTicketInfo(event, summaries.get(event.getName()), region))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reserves tickets for a specific event.
+     * Validates ticket availability before reservation; the ticket information fetched for the check
+     * is also the one returned, so the Ticket Service is called only once.
+     *
+     * @param id the unique identifier of the event
+     * @param quantity the number of tickets to reserve
+     * @param ticketType the type of tickets to reserve (e.g., "VIP", "GENERAL", "EARLY_BIRD")
+     * @param region the region code for localization and pricing (e.g., "EU-RO", "US")
+     * @return an {@code EventWithTicketInfoDTO} object containing updated event and ticket information
+     * @throws RuntimeException if the event does not exist or if there are insufficient tickets available
+     */
+    @Override
+    public EventWithTicketInfoDTO reserveTicketsForEvent(Long id, Integer quantity, String ticketType, String region) {
+        EventResponseDTO eventDTO = getEventById(id);
+        
+        EventTicketSummaryDTO summary = ticketInfoFetcher.getSummaries(List.of(eventDTO.getName())).get(eventDTO.getName());
+        EventWithTicketInfoDTO result = withTicketInfo(eventDTO, summary, region);
+        
+        if (summary == null || result.getAvailableSeats() < quantity) {
+            throw new RuntimeException("Nu sunt suficiente bilete disponibile. Disponibile: " + 
+                    result.getAvailableSeats() + ", Solicitate: " + quantity);
+        }
+        
+        return result;
+    }
+
+    /**
+     * Brings the event-artist links of an event in line with its comma-separated {@code associatedArtist} list.
+     * New links are bound to the artist identifiers resolved before the transaction; the others stay unbound
+     * until {@link ArtistLinkResolver#bindUnresolved()} binds them.
+     *
+     * @param event the saved event
+     * @param isNew {@code true} if the event was just created and has no links yet
+     * @param artistIds the artist identifiers resolved for the artists of the event
+     */
+    private void syncArtistLinks(Event event, boolean isNew, Map<String, Long> artistIds) {
+        Map<String, String> wanted = artistNames(event.getAssociatedArtist());
+        
+        if (!isNew) {
+            List<EventArtist> removed = new ArrayList<>();
+            for (EventArtist link : eventArtistRepository.findByEventId(event.getId())) {
+                String name = wanted.remove(link.getArtistKey());
+                if (name == null) {
+                    removed.add(link);
+                } else {
+                    link.setArtistName(name);
+                }
+            }
+            eventArtistRepository.deleteAll(removed);
+        }
+        
+        List<EventArtist> added = new ArrayList<>();
+        wanted.forEach((key, name) -> added.add(new EventArtist(null, event, name, key, artistIds.get(key))));
+        eventArtistRepository.saveAll(added);
+    }
+
+    /**
+     * Validates a single item of a bulk create request against the bean validation constraints of
+     * {@link EventCreateDTO}, the same ones the single create endpoint enforces, and checks that its stage exists.
+     *
+     * @param item the DTO of the event to create
+     * @param stages the stages referenced by the batch, by identifier
+     * @return the error messages of the item, or {@code null} if it is valid
+     */
+    private String validateBulkItem(EventCreateDTO item, Map<Long, Stage> stages) {
+        if (item == null) {
+            return "Evenimentul lipseste";
+        }
+        Set<ConstraintViolation<EventCreateDTO>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining("; "));
+        }
+        if (!stages.containsKey(item.getStageId())) {
+            return "Scena cu ID-ul " + item.getStageId() + " nu a fost gasita";
+        }
+        return null;
+    }
+
+    /**
+     * Rejects the bulk items that overlap an existing event or an earlier item of the batch on the same stage.
+     * The existing events of all affected stages are loaded with a single query.
+     *
+     * @param candidatesByStage the intervals of the valid items, keyed by their index in the batch, per stage
+     * @param errors the error messages of the batch items, updated in place
+     */
+    private void rejectScheduleConflicts(Map<Long, List<ScheduleSweep.Slot>> candidatesByStage, String[] errors) {
+        LocalDateTime from = LocalDateTime.MAX;
+        LocalDateTime to = LocalDateTime.MIN;
+        for (List<ScheduleSweep.Slot> slots : candidatesByStage.values()) {
+            for (ScheduleSweep.Slot slot : slots) {
+                from = slot.start().isBefore(from) ? slot.start() : from;
+                to = slot.end().isAfter(to) ? slot.end() : to;
+            }
+        }
+        
+        Map<Long, List<ScheduleSweep.Slot>> existingByStage = new HashMap<>();
+        for (Event event : eventRepository.findScheduledOnStages(candidatesByStage.keySet(), from, to)) {
+            existingByStage.computeIfAbsent(event.getStage().getId(), id -> new ArrayList<>())
+                    .add(new ScheduleSweep.Slot(event.getId(), event.getDate(), event.getEndDate()));
+        }
+        
+        candidatesByStage.forEach((stageId, candidates) -> {
+            ScheduleSweep.conflictsWithExisting(candidates, existingByStage.getOrDefault(stageId, List.of()))
+                    .forEach((index, eventId) -> errors[index.intValue()] =
+                            "Scena nu este disponibila in data si ora specificata (conflict cu evenimentul " + eventId + ")");
+            List<ScheduleSweep.Slot> remaining = candidates.stream()
+                    .filter(slot -> errors[(int) slot.key()] == null)
+                    .collect(Collectors.toList());
+            ScheduleSweep.conflictsWithinBatch(remaining)
+                    .forEach((index, otherIndex) -> errors[index.intValue()] =
+                            "Scena nu este disponibila in data si ora specificata (conflict cu elementul " + otherIndex + " din lista)");
+        });
+    }
+
+    /**
+     * Builds the event-artist links of newly created events.
+     *
+     * @param events the created events, with their identifiers set
+     * @param artistIds the artist identifiers resolved for the artists of the whole batch
+     * @return the links to insert
+     */
+    private List<EventArtist> buildArtistLinks(List<Event> events, Map<String, Long> artistIds) {
+        List<EventArtist> links = new ArrayList<>();
+        for (Event event : events) {
+            artistNames(event.getAssociatedArtist()).forEach((key, name) ->
+                    links.add(new EventArtist(null, event, name, key, artistIds.get(key))));
+        }
+        return links;
+    }
+
+    /**
+     * Splits a comma-separated artist list into the artist names, keyed by their normalized name.
+     *
+     * @param associatedArtist the comma-separated artist list, may be {@code null}
+     * @return the distinct artist names by key, in list order
+     */
+    private Map<String, String> artistNames(String associatedArtist) {
+        Map<String, String> names = new LinkedHashMap<>();
+        if (associatedArtist != null) {
+            for (String part : associatedArtist.split(",")) {
+                String name = part.trim();
+                if (!name.isEmpty()) {
+                    names.putIfAbsent(artistKey(name), name);
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Normalizes an artist name into the key used to match event-artist links.
+     *
+     * @param name the artist name
+     * @return the trimmed, lower-case name
+     */
+    private String artistKey(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Resolves the requested sort order, defaulting to ascending.
+     *
+     * @param order the sort order, either "asc" or "desc"
+     * @return the matching {@code Sort.Direction}
+     */
+    private Sort.Direction direction(String order) {
+        return "desc".equalsIgnoreCase(order) ? Sort.Direction.DESC : Sort.Direction.ASC;
+    }
+
+    /**
+     * Escapes the LIKE wildcards of a search string so it is matched literally.
+     *
+     * @param text the raw search string
+     * @return the search string with backslashes, {@code %} and {@code _} escaped by a backslash
+     */
+    private String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Validates the requested number of search results.
+     *
+     * @param limit the requested number of results
+     * @return the number of results to return
+     * @throws RuntimeException if the limit is missing or outside the allowed range
+     */
+    private int validateSearchLimit(Integer limit) {
+        if (limit == null || limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new RuntimeException("Numarul de rezultate trebuie sa fie intre 1 si " + MAX_PAGE_SIZE);
+        }
+        return limit;
+    }
+
+    /**
+     * Validates the requested page size, falling back to the default size when none is given.
+     *
+     * @param size the requested page size, may be {@code null}
+     * @return the page size to use
+     * @throws RuntimeException if the size is outside the allowed range
+     */
+    private int validatePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new RuntimeException("Dimensiunea paginii trebuie sa fie intre 1 si " + MAX_PAGE_SIZE);
+        }
+        return size;
+    }
+
+    /**
+     * Builds a page from up to {@code pageSize + 1} fetched rows; the extra row only signals that more pages exist.
+     *
+     * @param rows the rows fetched for the page, in page order
+     * @param pageSize the requested page size
+     * @param sortKey extracts the sort value of an event, stored in the cursor together with its ID
+     * @return the {@code CursorPageDTO} for the page
+     */
+    private CursorPageDTO<EventResponseDTO> toCursorPage(List<Event> rows, int pageSize, Function<Event, String> sortKey) {
+        boolean hasMore = rows.size() > pageSize;
+        List<Event> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Event last = page.get(page.size() - 1);
+            String position = sortKey.apply(last) + CURSOR_SEPARATOR + last.getId();
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+        }
+        List<EventResponseDTO> items = page.stream()
+                .map(eventMapper::toResponseDTO)
+                .collect(Collectors.toList());
+        return new CursorPageDTO<>(items, nextCursor, hasMore);
+    }
+
+    /**
+     * Decodes a cursor into the sort value and the ID of the last event of the previous page.
+     *
+     * @param cursor the opaque cursor
+     * @return a two-element array holding the sort value and the event ID
+     * @throws RuntimeException if the cursor is malformed
+     */
+    private String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf(CURSOR_SEPARATOR);
+            if (separator < 0) {
+                throw new RuntimeException("Cursorul de paginare este invalid");
+            }
+            return new String[]{position.substring(0, separator), position.substring(separator + 1)};
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Cursorul de paginare este invalid");
+        }
+    }
+
+    /**
+     * Parses one component of a decoded cursor.
+     *
+     * @param value the raw cursor component
+     * @param parser the parser for the component type
+     * @return the parsed value
+     * @throws RuntimeException if the component cannot be parsed
+     */
+    private <T> T parseCursorValue(String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Cursorul de paginare este invalid");
+        }
+    }
+
+    /**
+     * Saves a new or moved booking and flushes it, so a clash with the stage exclusion constraint
+     * (a booking committed concurrently by another instance) surfaces here as a conflict.
+     *
+     * @param event the event to save
+     * @return the saved event
+     * @throws StageBookingConflictException if the event overlaps another event on the same stage
+     */
+    private Event saveBooking(Event event) {
+        try {
+            return eventRepository.saveAndFlush(event);
+        } catch (DataIntegrityViolationException e) {
+            if (isStageOverlap(e)) {
+                throw new StageBookingConflictException();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether a data integrity violation was raised by the stage exclusion constraint.
+     *
+     * @param exception the exception thrown by the database
+     * @return {@code true} if the SQL state is PostgreSQL's {@code exclusion_violation}
+     */
+    private boolean isStageOverlap(DataIntegrityViolationException exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            // JDBC batches report the failing statement as the next exception of the batch exception.
+            for (SQLException sqlException = cause instanceof SQLException ? (SQLException) cause : null;
+                 sqlException != null; sqlException = sqlException.getNextException()) {
+                if (EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records the booking of a saved event in the stage schedule index once the transaction commits.
+     *
+     * @param eventId the unique identifier of the saved event
+     * @param stageId the unique identifier of the stage the event is held on
+     * @param date the start date and time of the event
+     * @param endDate the end date and time of the event
+     */
+    private void indexAfterCommit(Long eventId, Long stageId, LocalDateTime date, LocalDateTime endDate) {
+        TransactionCallbacks.afterCommit(() -> stageScheduleIndex.put(eventId, stageId, date, endDate));
+    }
+
+    /**
+     * Resolves the end time of an event from an explicit end time or a duration.
+     *
+     * @param date the start date and time of the event
+     * @param endDate the requested end date and time, may be {@code null}
+     * @param durationMinutes the requested duration in minutes, may be {@code null}; must agree with {@code endDate} if both are given
+     * @param defaultDuration the duration used when neither an end time nor a duration is given
+     * @return the end date and time of the event
+     * @throws RuntimeException if the end time and the duration disagree, the end time is not after the start
+     *                          or the event is longer than allowed
+     */
+    private LocalDateTime resolveEndDate(LocalDateTime date, LocalDateTime endDate, Integer durationMinutes,
+                                         Duration defaultDuration) {
+        if (endDate != null && durationMinutes != null && !endDate.equals(date.plusMinutes(durationMinutes))) {
+            throw new RuntimeException("Ora de sfarsit nu corespunde duratei; trimiteti doar una dintre ele sau valori egale");
+        }
+        LocalDateTime end;
+        if (endDate != null) {
+            end = endDate;
+        } else if (durationMinutes != null) {
+            end = date.plusMinutes(durationMinutes);
+        } else {
+            end = date.plus(defaultDuration);
+        }
+        if (!end.isAfter(date)) {
+            throw new RuntimeException("Ora de sfarsit trebuie sa fie dupa ora de inceput");
+        }
+        if (Duration.between(date, end).compareTo(MAX_EVENT_DURATION) > 0) {
+            throw new RuntimeException("Un eveniment poate dura cel mult " + MAX_EVENT_DURATION.toHours() + " ore");
+        }
+        return end;
+    }
+
+    /**
+     * Combines an event with its ticket summary and derives the ticket status and the localized revenue message.
+     *
+     * @param eventDTO the event
+     * @param summary the ticket summary of the event, or {@code null} if the event has no tickets
+     * @param region the region code for localization and pricing
+     * @return the event with its ticket information
+     */
+    private EventWithTicketInfoDTO withTicketInfo(EventResponseDTO eventDTO, EventTicketSummaryDTO summary, String region) {
+        Integer availableSeats = summary != null && summary.getAvailableSeats() != null
+                ? summary.getAvailableSeats().intValue() : null;
+        Double totalRevenue = summary != null && summary.getTotalRevenue() != null ? summary.getTotalRevenue() : 0.0;
         
         String ticketStatus;
         if (availableSeats == null || availableSeats <= 0) {
             ticketStatus = "SOLD_OUT";
-        } else if (availableSeats < event.getCapacity() * 0.1) {
+        } else if (availableSeats < eventDTO.getCapacity() * 0.1) {
             ticketStatus = "LIMITED";
         } else {
             ticketStatus = "AVAILABLE";
         }
         
-        String message = getPriceMessage(region, event.getName(), totalRevenue);
+        String message = getPriceMessage(region, eventDTO.getName(), totalRevenue);
         
         EventWithTicketInfoDTO dto = new EventWithTicketInfoDTO();
         dto.setId(eventDTO.getId());
@@ -431,34 +1233,12 @@ public class EventServiceImpl implements IEventService {
         dto.setTotalRevenue(totalRevenue);
         dto.setTicketStatus(ticketStatus);
         dto.setMessage(message);
-        
-        return dto;
-    }
-
-    /**
-     * Reserves tickets for a specific event.
-     * Validates ticket availability before reservation.
-     *
-     * @param id the unique identifier of the event
-     * @param quantity the number of tickets to reserve
-     * @param ticketType the type of tickets to reserve (e.g., "VIP", "GENERAL", "EARLY_BIRD")
-     * @param region the region code for localization and pricing (e.g., "EU-RO", "US")
-     * @return an {@code EventWithTicketInfoDTO} object containing updated event and ticket information
-     * @throws RuntimeException if the event does not exist or if there are insufficient tickets available
-     */
-    @Override
-    public EventWithTicketInfoDTO reserveTicketsForEvent(Long id, Integer quantity, String ticketType, String region) {
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Evenimentul cu ID " + id + " nu a fost gasit"));
-        
-        Integer availableSeats = ticketServiceClient.getAvailableSeats(event.getName(), "Gateway-Service");
-        
-        if (availableSeats == null || availableSeats < quantity) {
-            throw new RuntimeException("Nu sunt suficiente bilete disponibile. Disponibile: " + 
-                    (availableSeats != null ? availableSeats : 0) + ", Solicitate: " + quantity);
+        if (summary != null) {
+            dto.setTicketInfoAsOf(summary.getAsOf());
+            dto.setTicketInfoStale(summary.getStale());
         }
         
-        return getEventWithTicketInfo(id, region);
+        return dto;
     }
 
     /**
@@ -0,0 +1,251 @@
+package org.example.service;
+
+import org.example.dto.EventStatisticsDTO;
+import org.example.dto.StageStatisticsDTO;
+import org.example.repository.EventRepository;
+import org.example.repository.EventStatisticsBucket;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Live, incrementally maintained statistics of all events.
+ * The counters are loaded from the database with aggregate queries and then adjusted by the event service
+ * after every committed create, update or delete, so reading the statistics never touches the database.
+ * The last built {@code EventStatisticsDTO} is cached and handed out until the next change.
+ *
+ * @author EscobarTeam
+ */
+@Component
+public class EventStatisticsCounters {
+
+    private final EventRepository eventRepository;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Model model;
+    private volatile EventStatisticsDTO snapshot;
+    private volatile Instant lastRebuild;
+
+    /**
+     * Constructs a new {@code EventStatisticsCounters} backed by the given repository.
+     *
+     * @param eventRepository the repository used to load the counters
+     */
+    @Autowired
+    public EventStatisticsCounters(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Reloads every counter from the database and discards the cached statistics.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.lock();
+        try {
+            model = load();
+            snapshot = null;
+            lastRebuild = Instant.now();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Discards the counters; they are reloaded from the database on the next read.
+     * Used when a change cannot be applied as a delta (e.g. a stage was created, renamed or deleted).
+     */
+    public void markStale() {
+        lock.lock();
+        try {
+            model = null;
+            snapshot = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current statistics. Served from the cache while no event has changed.
+     *
+     * @return an {@code EventStatisticsDTO} object containing event statistics
+     */
+    public EventStatisticsDTO snapshot() {
+        EventStatisticsDTO current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (model == null) {
+                model = load();
+                lastRebuild = Instant.now();
+            }
+            if (snapshot == null) {
+                snapshot = model.toDTO();
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a newly created event.
+     *
+     * @param date the start date and time of the event
+     * @param stageId the unique identifier of the stage the event is held on
+     * @param capacity the capacity of the event
+     */
+    public void eventAdded(LocalDateTime date, Long stageId, Integer capacity) {
+        apply(date, stageId, capacity, 1);
+    }
+
+    /**
+     * Records a deleted event.
+     *
+     * @param date the start date and time of the event
+     * @param stageId the unique identifier of the stage the event was held on
+     * @param capacity the capacity of the event
+     */
+    public void eventRemoved(LocalDateTime date, Long stageId, Integer capacity) {
+        apply(date, stageId, capacity, -1);
+    }
+
+    /**
+     * @return {@code true} if the counters are currently loaded
+     */
+    public boolean isLoaded() {
+        lock.lock();
+        try {
+            return model != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the moment the counters were last loaded from the database, or {@code null} if never
+     */
+    public Instant getLastRebuild() {
+        return lastRebuild;
+    }
+
+    private void apply(LocalDateTime date, Long stageId, Integer capacity, int sign) {
+        lock.lock();
+        try {
+            if (model == null) {
+                return;
+            }
+            if (!model.apply(date, stageId, capacity, sign)) {
+                // Unknown stage: the stage list changed since the last load.
+                model = null;
+            }
+            snapshot = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Model load() {
+        Model fresh = new Model();
+        for (EventStatisticsBucket<LocalDate> day : eventRepository.aggregateByDay()) {
+            fresh.perDay.put(day.getBucket(), new Counts(day.getEvents(), valueOrZero(day.getParticipants())));
+        }
+        for (EventStatisticsBucket<Integer> hour : eventRepository.aggregateByHour()) {
+            fresh.perHour.put(hour.getBucket(), new Counts(hour.getEvents(), valueOrZero(hour.getParticipants())));
+        }
+        for (StageStatisticsDTO stage : eventRepository.aggregateByStage()) {
+            fresh.stageNames.put(stage.getStageId(), stage.getStageName());
+            fresh.perStage.put(stage.getStageId(), new Counts(stage.getEvents(), valueOrZero(stage.getParticipants())));
+        }
+        return fresh;
+    }
+
+    private static long valueOrZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    /**
+     * Number of events and summed capacity of one group.
+     */
+    private static final class Counts {
+        private long events;
+        private long participants;
+
+        private Counts(long events, long participants) {
+            this.events = events;
+            this.participants = participants;
+        }
+    }
+
+    /**
+     * The mutable counters; only accessed while holding the lock.
+     */
+    private static final class Model {
+        private final SortedMap<LocalDate, Counts> perDay = new TreeMap<>();
+        private final SortedMap<Integer, Counts> perHour = new TreeMap<>();
+        private final SortedMap<Long, Counts> perStage = new TreeMap<>();
+        private final Map<Long, String> stageNames = new HashMap<>();
+
+        private boolean apply(LocalDateTime date, Long stageId, Integer capacity, int sign) {
+            Counts stage = perStage.get(stageId);
+            if (stage == null) {
+                return false;
+            }
+            long participants = (long) sign * capacity;
+            stage.events += sign;
+            stage.participants += participants;
+            adjust(perDay, date.toLocalDate(), sign, participants);
+            adjust(perHour, date.getHour(), sign, participants);
+            return true;
+        }
+
+        private <K> void adjust(Map<K, Counts> groups, K key, int events, long participants) {
+            Counts counts = groups.computeIfAbsent(key, k -> new Counts(0, 0));
+            counts.events += events;
+            counts.participants += participants;
+            if (counts.events <= 0) {
+                groups.remove(key);
+            }
+        }
+
+        private EventStatisticsDTO toDTO() {
+            Map<LocalDate, Long> eventsPerDay = new LinkedHashMap<>();
+            Map<LocalDate, Long> participantsPerDay = new LinkedHashMap<>();
+            long totalEvents = 0;
+            long totalParticipants = 0;
+            for (Map.Entry<LocalDate, Counts> day : perDay.entrySet()) {
+                eventsPerDay.put(day.getKey(), day.getValue().events);
+                participantsPerDay.put(day.getKey(), day.getValue().participants);
+                totalEvents += day.getValue().events;
+                totalParticipants += day.getValue().participants;
+            }
+
+            Map<Integer, Long> eventsPerHour = new LinkedHashMap<>();
+            Map<Integer, Long> participantsPerHour = new LinkedHashMap<>();
+            for (Map.Entry<Integer, Counts> hour : perHour.entrySet()) {
+                eventsPerHour.put(hour.getKey(), hour.getValue().events);
+                participantsPerHour.put(hour.getKey(), hour.getValue().participants);
+            }
+
+            List<StageStatisticsDTO> stages = new ArrayList<>(perStage.size());
+            for (Map.Entry<Long, Counts> stage : perStage.entrySet()) {
+                stages.add(new StageStatisticsDTO(stage.getKey(), stageNames.get(stage.getKey()),
+                        stage.getValue().events, stage.getValue().participants));
+            }
+
+            return new EventStatisticsDTO(totalEvents, totalParticipants,
+                    Collections.unmodifiableMap(eventsPerDay), Collections.unmodifiableMap(participantsPerDay),
+                    Collections.unmodifiableMap(eventsPerHour), Collections.unmodifiableMap(participantsPerHour),
+                    Collections.unmodifiableList(stages));
+        }
+    }
+}
@@ -19,6 +19,16 @@ public interface IEventService {
      */
     List<EventResponseDTO> getAllEvents();
     
+    /**
+     * Retrieves one page of events sorted by date, using keyset (cursor) pagination.
+     *
+     * @param cursor the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param size the maximum number of events in the page
+     * @return a {@code CursorPageDTO} with the events of the page and the cursor of the next page
+     * @throws RuntimeException if the cursor or the page size is invalid
+     */
+    CursorPageDTO<EventResponseDTO> getEventsPage(String cursor, Integer size);
+    
     /**
      * Retrieves an event by its unique identifier.
      *
@@ -34,10 +44,24 @@ public interface IEventService {
      *
      * @param eventCreateDTO the DTO containing the data for the new event
      * @return the {@code EventResponseDTO} object representing the newly created event
-     * @throws RuntimeException if the stage does not exist or is not available at the specified time
+     * @throws RuntimeException if the stage does not exist
+     * @throws org.example.exception.StageBookingConflictException if the stage is not available at the specified time
      */
     EventResponseDTO createEvent(EventCreateDTO eventCreateDTO);
     
+    /**
+     * Creates many events at once, e.g. a whole festival lineup.
+     * The batch is validated in memory against itself and against the existing events of the affected stages,
+     * and the accepted events are inserted together in a single transaction.
+     * Invalid or conflicting items are rejected individually without affecting the others.
+     *
+     * @param events the DTOs of the events to create
+     * @return a {@code BulkEventResultDTO} with one result per item, in request order
+     * @throws RuntimeException if the batch is empty or larger than the allowed maximum
+     * @throws org.example.exception.StageBookingConflictException if another instance booked an overlapping slot concurrently
+     */
+    BulkEventResultDTO createEvents(List<EventCreateDTO> events);
+    
     /**
      * Updates an existing event with new information.
      * Validates stage availability if the date or stage is changed.
@@ -45,7 +69,8 @@ public interface IEventService {
      * @param id the unique identifier of the event to update
      * @param eventDTO the DTO containing the updated event information
      * @return the {@code EventResponseDTO} object representing the updated event
-     * @throws RuntimeException if the event or stage does not exist, or if the stage is not available
+     * @throws RuntimeException if the event or stage does not exist
+     * @throws org.example.exception.StageBookingConflictException if the stage is not available at the specified time
      */
     EventResponseDTO updateEvent(Long id, EventDTO eventDTO);
     
@@ -66,6 +91,18 @@ public interface IEventService {
      */
     List<EventResponseDTO> searchByName(String name);
     
+    /**
+     * Searches for events whose names contain the specified search string, ordered by relevance.
+     * Exact matches come first, then names starting with the string, then names with a word starting with it,
+     * then any other substring match; ties are broken by the shorter name and then by date.
+     *
+     * @param name the search string to match against event names
+     * @param limit the maximum number of results
+     * @return at most {@code limit} {@code EventResponseDTO} objects, most relevant first
+     * @throws RuntimeException if the limit is invalid
+     */
+    List<EventResponseDTO> searchByNameRanked(String name, Integer limit);
+    
     /**
      * Filters events by the stage on which they are held.
      *
@@ -107,6 +144,17 @@ public interface IEventService {
      */
     List<EventResponseDTO> sortByDate(String order);
     
+    /**
+     * Retrieves one page of events sorted by date, using keyset (cursor) pagination.
+     *
+     * @param order the sort order, either "asc" for ascending or "desc" for descending (defaults to ascending)
+     * @param cursor the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param size the maximum number of events in the page
+     * @return a {@code CursorPageDTO} with the events of the page and the cursor of the next page
+     * @throws RuntimeException if the cursor or the page size is invalid
+     */
+    CursorPageDTO<EventResponseDTO> sortByDatePage(String order, String cursor, Integer size);
+    
     /**
      * Retrieves all events sorted by capacity.
      *
@@ -115,6 +163,17 @@ public interface IEventService {
      */
     List<EventResponseDTO> sortByCapacity(String order);
     
+    /**
+     * Retrieves one page of events sorted by capacity, using keyset (cursor) pagination.
+     *
+     * @param order the sort order, either "asc" for ascending or "desc" for descending (defaults to ascending)
+     * @param cursor the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param size the maximum number of events in the page
+     * @return a {@code CursorPageDTO} with the events of the page and the cursor of the next page
+     * @throws RuntimeException if the cursor or the page size is invalid
+     */
+    CursorPageDTO<EventResponseDTO> sortByCapacityPage(String order, String cursor, Integer size);
+    
     /**
      * Checks the availability of all stages at a specific date and time.
      * Returns available time slots for each stage.
@@ -124,6 +183,26 @@ public interface IEventService {
      */
     List<StageAvailabilityDTO> checkStageAvailability(LocalDateTime date);
     
+    /**
+     * Builds the availability grid of every stage for every day of a date range.
+     * All events in the range are loaded with a single query and the grid is computed in memory.
+     *
+     * @param startDate the first day of the range (inclusive)
+     * @param endDate the last day of the range (inclusive)
+     * @param slotMinutes the length of a time slot in minutes; slots are laid out between 9:00 AM and 11:00 PM
+     * @return a {@code StageAvailabilityMatrixDTO} with one row per stage and one availability string per day
+     * @throws RuntimeException if the date range or the slot length is invalid
+     */
+    StageAvailabilityMatrixDTO getAvailabilityMatrix(LocalDate startDate, LocalDate endDate, Integer slotMinutes);
+    
+    /**
+     * Retrieves the events that are running at a given moment, on any stage.
+     *
+     * @param at the moment to check; events starting at that moment are included, events ending at it are not
+     * @return a list of {@code EventResponseDTO} objects for the running events, sorted by start time
+     */
+    List<EventResponseDTO> getEventsRunningAt(LocalDateTime at);
+    
     /**
      * Retrieves the complete schedule of events for a specific stage.
      *
@@ -134,7 +213,7 @@ public interface IEventService {
     
     /**
      * Generates statistics about all events in the system.
-     * Includes total events, total participants, and daily breakdowns.
+     * Includes total events, total participants, and daily, hourly and per-stage breakdowns.
      *
      * @return an {@code EventStatisticsDTO} object containing event statistics
      */
@@ -149,6 +228,24 @@ public interface IEventService {
      */
     List<EventResponseDTO> filterByArtist(String artist);
     
+    /**
+     * Filters events by the associated artist name, ordered by relevance like {@link #searchByNameRanked}.
+     *
+     * @param artist the artist name to filter by
+     * @param limit the maximum number of results
+     * @return at most {@code limit} {@code EventResponseDTO} objects, most relevant first
+     * @throws RuntimeException if the limit is invalid
+     */
+    List<EventResponseDTO> filterByArtistRanked(String artist, Integer limit);
+    
+    /**
+     * Retrieves the events an artist performs at, using the event-artist link table.
+     *
+     * @param artistId the unique identifier of the artist (owned by the Artist Service)
+     * @return a list of {@code EventResponseDTO} objects for the artist, sorted by date
+     */
+    List<EventResponseDTO> getEventsByArtistId(Long artistId);
+    
     /**
      * Retrieves an event along with ticket information including available seats and revenue.
      *
@@ -159,6 +256,17 @@ public interface IEventService {
      */
     EventWithTicketInfoDTO getEventWithTicketInfo(Long id, String region);
     
+    /**
+     * Retrieves several events along with their ticket information, with a single call to the Ticket Service.
+     * Events are returned in request order; duplicate and unknown IDs are skipped.
+     *
+     * @param ids the unique identifiers of the events
+     * @param region the region code for localization and pricing (e.g., "EU-RO", "US")
+     * @return a list of {@code EventWithTicketInfoDTO} objects containing event and ticket information
+     * @throws RuntimeException if more than the maximum number of events is requested
+     */
+    List<EventWithTicketInfoDTO> getEventsWithTicketInfo(List<Long> ids, String region);
+    
     /**
      * Reserves tickets for a specific event.
      * Validates ticket availability before reservation.
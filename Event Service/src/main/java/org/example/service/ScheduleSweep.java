@@ -0,0 +1,101 @@
+package org.example.service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Sweep-line overlap detection for the intervals booked on a single stage.
+ * Both operations sort the intervals by start once and scan them in order,
+ * so a batch of {@code n} candidates against {@code m} existing bookings costs {@code O((n + m) log(n + m))}.
+ *
+ * @author EscobarTeam
+ */
+final class ScheduleSweep {
+
+    private static final Comparator<Slot> BY_START =
+            Comparator.comparing(Slot::start).thenComparingLong(Slot::key);
+
+    private ScheduleSweep() {
+    }
+
+    /**
+     * Finds the candidates that overlap an existing booking.
+     *
+     * @param candidates the new intervals, keyed by their position in the batch
+     * @param existing the intervals already booked on the stage, keyed by event identifier
+     * @return for every conflicting candidate key, the key of one existing booking it overlaps
+     */
+    static Map<Long, Long> conflictsWithExisting(List<Slot> candidates, List<Slot> existing) {
+        List<Slot> sortedExisting = new ArrayList<>(existing);
+        sortedExisting.sort(BY_START);
+        List<Slot> sortedCandidates = new ArrayList<>(candidates);
+        sortedCandidates.sort(BY_START);
+
+        Map<Long, Long> conflicts = new HashMap<>();
+        // Candidates that started before the current existing booking and have not ended yet.
+        PriorityQueue<Slot> open = new PriorityQueue<>(Comparator.comparing(Slot::end));
+        Slot latestExisting = null;
+        int next = 0;
+
+        for (Slot candidate : sortedCandidates) {
+            while (next < sortedExisting.size() && sortedExisting.get(next).start().isBefore(candidate.start())) {
+                Slot booking = sortedExisting.get(next++);
+                closeBefore(open, booking.start());
+                for (Slot overlapping : open) {
+                    conflicts.putIfAbsent(overlapping.key(), booking.key());
+                }
+                if (latestExisting == null || booking.end().isAfter(latestExisting.end())) {
+                    latestExisting = booking;
+                }
+            }
+            if (latestExisting != null && latestExisting.end().isAfter(candidate.start())) {
+                conflicts.putIfAbsent(candidate.key(), latestExisting.key());
+            }
+            open.add(candidate);
+        }
+        while (next < sortedExisting.size()) {
+            Slot booking = sortedExisting.get(next++);
+            closeBefore(open, booking.start());
+            for (Slot overlapping : open) {
+                conflicts.putIfAbsent(overlapping.key(), booking.key());
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Resolves overlaps between the candidates themselves.
+     * Candidates are accepted greedily in order of start time (ties broken by key);
+     * a candidate overlapping an already accepted one is rejected.
+     *
+     * @param candidates the new intervals, keyed by their position in the batch
+     * @return for every rejected candidate key, the key of the accepted candidate it overlaps
+     */
+    static Map<Long, Long> conflictsWithinBatch(List<Slot> candidates) {
+        List<Slot> sorted = new ArrayList<>(candidates);
+        sorted.sort(BY_START);
+
+        Map<Long, Long> conflicts = new HashMap<>();
+        Slot latestAccepted = null;
+        for (Slot candidate : sorted) {
+            if (latestAccepted != null && latestAccepted.end().isAfter(candidate.start())) {
+                conflicts.put(candidate.key(), latestAccepted.key());
+            } else {
+                latestAccepted = candidate;
+            }
+        }
+        return conflicts;
+    }
+
+    private static void closeBefore(PriorityQueue<Slot> open, LocalDateTime time) {
+        while (!open.isEmpty() && !open.peek().end().isAfter(time)) {
+            open.poll();
+        }
+    }
+
+    /**
+     * An interval {@code [start, end)} on a stage, identified by {@code key}.
+     */
+    record Slot(long key, LocalDateTime start, LocalDateTime end) {
+    }
+}
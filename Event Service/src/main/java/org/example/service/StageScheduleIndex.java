@@ -0,0 +1,235 @@
+package org.example.service;
+
+import org.example.entity.Event;
+import org.example.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory interval index of the events booked on every stage.
+ * Keeps one time-ordered set of bookings per stage, so conflict checks and free-slot searches
+ * are answered with a range scan in memory instead of a query per slot.
+ * The index is loaded from the database at startup and kept in sync by the event service
+ * after every committed create, update or delete.
+ *
+ * @author EscobarTeam
+ */
+@Component
+public class StageScheduleIndex {
+
+    /**
+     * Default length of an event, used when neither an end time nor a duration is given.
+     */
+    public static final Duration DEFAULT_EVENT_DURATION = Duration.ofHours(2);
+
+    private static final Comparator<Booking> BY_START =
+            Comparator.comparing(Booking::start).thenComparing(Booking::eventId);
+
+    private final EventRepository eventRepository;
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private volatile State state = new State();
+    private volatile boolean loaded;
+
+    /**
+     * Constructs a new {@code StageScheduleIndex} backed by the given repository.
+     *
+     * @param eventRepository the repository used to load the bookings at startup
+     */
+    @Autowired
+    public StageScheduleIndex(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Reloads every booking from the database and atomically replaces the current index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        loadLock.lock();
+        try {
+            List<Booking> bookings = new ArrayList<>();
+            for (Event event : eventRepository.findAll()) {
+                bookings.add(new Booking(event.getId(), event.getStage().getId(), event.getDate(), event.getEndDate()));
+            }
+            state = State.of(bookings);
+            loaded = true;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Adds a booking to the index or moves an existing one to its new stage and time.
+     *
+     * @param eventId the unique identifier of the event
+     * @param stageId the unique identifier of the stage the event is held on
+     * @param start the start date and time of the event (inclusive)
+     * @param end the end date and time of the event (exclusive)
+     */
+    public void put(Long eventId, Long stageId, LocalDateTime start, LocalDateTime end) {
+        state.add(new Booking(eventId, stageId, start, end));
+    }
+
+    /**
+     * Removes the booking of an event from the index, if present.
+     *
+     * @param eventId the unique identifier of the event
+     */
+    public void remove(Long eventId) {
+        state.remove(eventId);
+    }
+
+    /**
+     * Checks whether a stage is free for the whole interval {@code [start, end)}.
+     *
+     * @param stageId the unique identifier of the stage
+     * @param start the start of the interval (inclusive)
+     * @param end the end of the interval (exclusive)
+     * @param ignoredEventId an event whose own booking is ignored (e.g. the event being updated), may be {@code null}
+     * @return {@code true} if no other booking on the stage overlaps the interval
+     */
+    public boolean isAvailable(Long stageId, LocalDateTime start, LocalDateTime end, Long ignoredEventId) {
+        return findConflicts(stageId, start, end, ignoredEventId).isEmpty();
+    }
+
+    /**
+     * Returns the identifiers of the events on a stage that overlap the interval {@code [start, end)}.
+     *
+     * @param stageId the unique identifier of the stage
+     * @param start the start of the interval (inclusive)
+     * @param end the end of the interval (exclusive)
+     * @param ignoredEventId an event whose own booking is ignored, may be {@code null}
+     * @return the identifiers of the conflicting events, ordered by start time
+     */
+    public List<Long> findConflicts(Long stageId, LocalDateTime start, LocalDateTime end, Long ignoredEventId) {
+        ensureLoaded();
+        State current = state;
+        NavigableSet<Booking> bookings = current.byStage.get(stageId);
+        if (bookings == null || bookings.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // A booking can only overlap if it starts less than the longest booking before the interval.
+        Duration longest = current.longestByStage.getOrDefault(stageId, DEFAULT_EVENT_DURATION);
+        Booking from = new Booking(Long.MIN_VALUE, stageId, start.minus(longest), start.minus(longest));
+        Booking to = new Booking(Long.MIN_VALUE, stageId, end, end);
+
+        List<Long> conflicts = new ArrayList<>();
+        for (Booking booking : bookings.subSet(from, false, to, false)) {
+            if (booking.end().isAfter(start) && !booking.eventId().equals(ignoredEventId)) {
+                conflicts.add(booking.eventId());
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Returns the start times of the slots of the given length that are free on a stage.
+     * Slots are laid out back to back from {@code from} and must end no later than {@code until}.
+     *
+     * @param stageId the unique identifier of the stage
+     * @param from the start of the first slot
+     * @param until the latest allowed end of a slot
+     * @param slotLength the length of every slot
+     * @return the start times of the free slots, in chronological order
+     */
+    public List<LocalDateTime> findFreeSlots(Long stageId, LocalDateTime from, LocalDateTime until, Duration slotLength) {
+        List<LocalDateTime> slots = new ArrayList<>();
+        LocalDateTime current = from;
+        while (!current.plus(slotLength).isAfter(until)) {
+            if (isAvailable(stageId, current, current.plus(slotLength), null)) {
+                slots.add(current);
+            }
+            current = current.plus(slotLength);
+        }
+        return slots;
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            loadLock.lock();
+            try {
+                if (!loaded) {
+                    rebuild();
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * A single event occupying a stage for the interval {@code [start, end)}.
+     */
+    private record Booking(Long eventId, Long stageId, LocalDateTime start, LocalDateTime end) {
+    }
+
+    /**
+     * The bookings grouped by stage and by event; replaced as a whole on rebuild.
+     * The bookings of a stage are an immutable set that writers replace in one step (copy-on-write),
+     * so a reader always sees a booking either at its old or at its new time, never missing.
+     * Writers are serialized; readers never lock.
+     */
+    private static final class State {
+        private final Map<Long, NavigableSet<Booking>> byStage = new ConcurrentHashMap<>();
+        private final Map<Long, Booking> byEvent = new ConcurrentHashMap<>();
+        private final Map<Long, Duration> longestByStage = new ConcurrentHashMap<>();
+
+        private static State of(List<Booking> bookings) {
+            State state = new State();
+            Map<Long, NavigableSet<Booking>> byStage = new HashMap<>();
+            for (Booking booking : bookings) {
+                byStage.computeIfAbsent(booking.stageId(), id -> new TreeSet<>(BY_START)).add(booking);
+                state.byEvent.put(booking.eventId(), booking);
+                state.longestByStage.merge(booking.stageId(), Duration.between(booking.start(), booking.end()),
+                        (a, b) -> a.compareTo(b) >= 0 ? a : b);
+            }
+            byStage.forEach((id, set) -> state.byStage.put(id, Collections.unmodifiableNavigableSet(set)));
+            return state;
+        }
+
+        /**
+         * Adds a booking, replacing the previous booking of the same event.
+         * A booking moved to another stage is added to the new stage before it is removed from the old one.
+         */
+        private synchronized void add(Booking booking) {
+            Booking previous = byEvent.put(booking.eventId(), booking);
+            byStage.compute(booking.stageId(), (id, bookings) -> {
+                NavigableSet<Booking> copy = bookings != null ? new TreeSet<>(bookings) : new TreeSet<>(BY_START);
+                if (previous != null) {
+                    copy.remove(previous);
+                }
+                copy.add(booking);
+                return Collections.unmodifiableNavigableSet(copy);
+            });
+            if (previous != null && !previous.stageId().equals(booking.stageId())) {
+                removeFromStage(previous);
+            }
+            longestByStage.merge(booking.stageId(), Duration.between(booking.start(), booking.end()),
+                    (a, b) -> a.compareTo(b) >= 0 ? a : b);
+        }
+
+        private synchronized void remove(Long eventId) {
+            Booking previous = byEvent.remove(eventId);
+            if (previous != null) {
+                removeFromStage(previous);
+            }
+        }
+
+        private void removeFromStage(Booking booking) {
+            byStage.computeIfPresent(booking.stageId(), (id, bookings) -> {
+                NavigableSet<Booking> copy = new TreeSet<>(bookings);
+                copy.remove(booking);
+                return Collections.unmodifiableNavigableSet(copy);
+            });
+        }
+    }
+}
@@ -1,20 +1,26 @@
 package org.example.service;
 
+import org.example.common.cache.CacheInvalidationBus;
+import org.example.dto.ChangeEventDTO;
 import org.example.dto.StageDTO;
 import org.example.entity.Stage;
 import org.example.mapper.StageMapper;
+import org.example.repository.EventRepository;
 import org.example.repository.StageRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * Service implementation for managing stages in the festival management system.
  * Provides business logic for CRUD operations, searching, and filtering stages.
+ * Reads are served from the {@link EventCatalog} snapshot; writes refresh it once they commit.
  *
  * @author EscobarTeam
  */
@@ -23,30 +29,45 @@ import java.util.stream.Collectors;
 public class StageServiceImpl implements IStageService {
 
     private final StageRepository stageRepository;
+    private final EventRepository eventRepository;
     private final StageMapper stageMapper;
+    private final EventStatisticsCounters eventStatisticsCounters;
+    private final EventCatalog eventCatalog;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ChangeFeed changeFeed;
 
     /**
      * Constructs a new {@code StageServiceImpl} with the required dependencies.
      *
      * @param stageRepository the repository for stage data access
+     * @param eventRepository the repository used to find the events deleted with a stage
      * @param stageMapper the mapper for converting between entities and DTOs
+     * @param eventStatisticsCounters the live statistics counters, reloaded when the stages change
+     * @param eventCatalog the in-memory snapshot of all stages and events that serves the read endpoints
+     * @param cacheInvalidationBus the bus announcing stage changes to the other service instances
+     * @param changeFeed the feed recording every stage change for the streaming consumers
      */
     @Autowired
-    public StageServiceImpl(StageRepository stageRepository, StageMapper stageMapper) {
+    public StageServiceImpl(StageRepository stageRepository, EventRepository eventRepository, StageMapper stageMapper,
+                            EventStatisticsCounters eventStatisticsCounters, EventCatalog eventCatalog,
+                            CacheInvalidationBus cacheInvalidationBus, ChangeFeed changeFeed) {
         this.stageRepository = stageRepository;
+        this.eventRepository = eventRepository;
         this.stageMapper = stageMapper;
+        this.eventStatisticsCounters = eventStatisticsCounters;
+        this.eventCatalog = eventCatalog;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.changeFeed = changeFeed;
     }
 
     /**
-     * Retrieves all stages from the database.
+     * Retrieves all stages from the catalog snapshot, ordered by ID.
      *
      * @return a list of all {@code StageDTO} objects representing all stages
      */
     @Override
     public List<StageDTO> getAllStages() {
-        return stageRepository.findAll().stream()
-                .map(stageMapper::toDTO)
-                .collect(Collectors.toList());
+        return eventCatalog.current().stages();
     }
 
     /**
@@ -58,9 +79,9 @@ public class StageServiceImpl implements IStageService {
      */
     @Override
     public StageDTO getStageById(Long id) {
-        Stage stage = stageRepository.findById(id)
+        return eventCatalog.current().stage(id)
+                .or(() -> stageRepository.findById(id).map(stageMapper::toDTO))
                 .orElseThrow(() -> new RuntimeException("Scena cu ID " + id + " nu a fost gasita"));
-        return stageMapper.toDTO(stage);
     }
 
     /**
@@ -73,7 +94,12 @@ public class StageServiceImpl implements IStageService {
     public StageDTO createStage(StageDTO stageDTO) {
         Stage stage = stageMapper.toEntity(stageDTO);
         Stage savedStage = stageRepository.save(stage);
-        return stageMapper.toDTO(savedStage);
+        TransactionCallbacks.afterCommit(eventStatisticsCounters::markStale);
+        eventCatalog.refreshAfterCommit();
+        cacheInvalidationBus.publish(CatalogInvalidationSubscriber.STAGES, savedStage.getId());
+        StageDTO response = stageMapper.toDTO(savedStage);
+        changeFeed.record(ChangeEventDTO.STAGE, ChangeEventDTO.CREATED, savedStage.getId(), response);
+        return response;
     }
 
     /**
@@ -91,21 +117,36 @@ public class StageServiceImpl implements IStageService {
         
         stageMapper.updateEntityFromDTO(stageDTO, existingStage);
         Stage updatedStage = stageRepository.save(existingStage);
-        return stageMapper.toDTO(updatedStage);
+        TransactionCallbacks.afterCommit(eventStatisticsCounters::markStale);
+        eventCatalog.refreshAfterCommit();
+        cacheInvalidationBus.publish(CatalogInvalidationSubscriber.STAGES, id);
+        StageDTO response = stageMapper.toDTO(updatedStage);
+        changeFeed.record(ChangeEventDTO.STAGE, ChangeEventDTO.UPDATED, id, response);
+        return response;
     }
 
     /**
      * Deletes a stage from the system by its unique identifier.
+     * The events held on the stage are deleted with it and reported as deleted on the change feed.
+     * The stage row is locked before its events are read, so no event added concurrently is deleted unreported.
      *
      * @param id the unique identifier of the stage to delete
      * @throws RuntimeException if no stage exists with the given ID
      */
     @Override
     public void deleteStage(Long id) {
-        if (!stageRepository.existsById(id)) {
+        if (stageRepository.findWithLockById(id).isEmpty()) {
             throw new RuntimeException("Scena cu ID " + id + " nu a fost gasita");
         }
+        List<Long> eventIds = eventRepository.findIdsByStageId(id);
         stageRepository.deleteById(id);
+        TransactionCallbacks.afterCommit(eventStatisticsCounters::markStale);
+        eventCatalog.refreshAfterCommit();
+        cacheInvalidationBus.publish(CatalogInvalidationSubscriber.STAGES, id);
+        Map<Long, Object> deletedEvents = new LinkedHashMap<>();
+        eventIds.forEach(eventId -> deletedEvents.put(eventId, null));
+        changeFeed.recordAll(ChangeEventDTO.EVENT, ChangeEventDTO.DELETED, deletedEvents);
+        changeFeed.record(ChangeEventDTO.STAGE, ChangeEventDTO.DELETED, id, null);
     }
 
     /**
@@ -117,8 +158,9 @@ public class StageServiceImpl implements IStageService {
      */
     @Override
     public List<StageDTO> searchByName(String name) {
-        return stageRepository.findByNameContainingIgnoreCase(name).stream()
-                .map(stageMapper::toDTO)
+        String needle = name.toLowerCase(Locale.ROOT);
+        return eventCatalog.current().stages().stream()
+                .filter(stage -> stage.getName() != null && stage.getName().toLowerCase(Locale.ROOT).contains(needle))
                 .collect(Collectors.toList());
     }
 
@@ -130,8 +172,8 @@ public class StageServiceImpl implements IStageService {
      */
     @Override
     public List<StageDTO> filterByLocation(String location) {
-        return stageRepository.findByLocation(location).stream()
-                .map(stageMapper::toDTO)
+        return eventCatalog.current().stages().stream()
+                .filter(stage -> location.equals(stage.getLocation()))
                 .collect(Collectors.toList());
     }
 
@@ -144,8 +186,8 @@ public class StageServiceImpl implements IStageService {
      */
     @Override
     public List<StageDTO> filterByMinCapacity(Integer minCapacity) {
-        return stageRepository.findByMaxCapacityGreaterThanEqual(minCapacity).stream()
-                .map(stageMapper::toDTO)
+        return eventCatalog.current().stages().stream()
+                .filter(stage -> stage.getMaxCapacity() != null && stage.getMaxCapacity() >= minCapacity)
                 .sorted((s1, s2) -> s2.getMaxCapacity().compareTo(s1.getMaxCapacity()))
                 .collect(Collectors.toList());
     }
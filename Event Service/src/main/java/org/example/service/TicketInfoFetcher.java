@@ -0,0 +1,241 @@
+package org.example.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshot;
+import jakarta.annotation.PreDestroy;
+import org.example.client.TicketServiceClient;
+import org.example.common.cache.LastKnownGoodCache;
+import org.example.common.client.LastKnownGoodCall;
+import org.example.dto.EventTicketSummaryDTO;
+import org.example.exception.TicketServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Fetches ticket information from the Ticket Service on a dedicated thread pool, with a per-request deadline.
+ * Callers start a fetch as soon as they know which events they need and join it once they need the result,
+ * so the remote call overlaps with their own work; a slow Ticket Service costs a request at most the deadline
+ * and never ties up more than the pool's threads. The tracing context of the caller is carried over to the pool.
+ * When {@code spring.threads.virtual.enabled} is set on Java 21, every fetch runs on its own virtual thread instead;
+ * the bulkhead alone then bounds the concurrent calls.
+ * <p>
+ * Every call goes through the {@value #TICKET_SERVICE} bulkhead and circuit breaker, configured under
+ * {@code resilience4j.*.instances.ticketService}. While the Ticket Service is unavailable (breaker open,
+ * bulkhead full, deadline missed or server error), the last summaries received are served instead,
+ * marked as stale and stamped with the time they were received.
+ *
+ * @author EscobarTeam
+ */
+@Component
+public class TicketInfoFetcher {
+
+    /**
+     * The name of the circuit breaker and bulkhead guarding the Ticket Service.
+     */
+    public static final String TICKET_SERVICE = "ticketService";
+
+    private static final Logger logger = LoggerFactory.getLogger(TicketInfoFetcher.class);
+    private static final String GATEWAY_HEADER = "Gateway-Service";
+    private static final int MAX_CACHED_EVENTS = 10_000;
+
+    private final TicketServiceClient ticketServiceClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Executor executor;
+    private final Duration timeout;
+    private final LastKnownGoodCache<String, EventTicketSummaryDTO> lastKnownGood =
+            new LastKnownGoodCache<>(MAX_CACHED_EVENTS);
+
+    /**
+     * Constructs a new {@code TicketInfoFetcher} running its fetches on a thread pool or on virtual threads.
+     *
+     * @param ticketServiceClient the Feign client for the Ticket Service
+     * @param circuitBreakerRegistry the registry providing the Ticket Service circuit breaker
+     * @param bulkheadRegistry the registry providing the Ticket Service bulkhead
+     * @param poolSize the number of platform threads of the pool; unused on virtual threads
+     * @param timeout the deadline of a single fetch
+     * @param virtualThreads whether to run the fetches on virtual threads; ignored before Java 21
+     */
+    @Autowired
+    public TicketInfoFetcher(TicketServiceClient ticketServiceClient,
+                             CircuitBreakerRegistry circuitBreakerRegistry,
+                             BulkheadRegistry bulkheadRegistry,
+                             @Value("${festival.ticket-info.pool-size:16}") int poolSize,
+                             @Value("${festival.ticket-info.timeout:2s}") Duration timeout,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.ticketServiceClient = ticketServiceClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(TICKET_SERVICE);
+        this.bulkhead = bulkheadRegistry.bulkhead(TICKET_SERVICE);
+        this.timeout = timeout;
+        if (virtualThreads && JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("ticket-info-");
+            virtual.setVirtualThreads(true);
+            virtual.setTaskDecorator(new ContextPropagatingTaskDecorator());
+            this.executor = virtual;
+            return;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(poolSize * 4), runnable -> {
+                    Thread thread = new Thread(runnable, "ticket-info-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        this.executor = ContextExecutorService.wrap(pool, ContextSnapshot::captureAll);
+    }
+
+    /**
+     * Starts fetching the ticket summaries of the given events with a single call to the Ticket Service.
+     * If the Ticket Service is unavailable and the summaries of all the events are cached, the future completes
+     * with the cached summaries, marked as stale; otherwise it fails, with a {@link TimeoutException} once
+     * the deadline has passed.
+     *
+     * @param eventNames the names of the events, duplicates allowed
+     * @return a future completing with the summaries, keyed by event name; events without tickets may be missing
+     */
+    public CompletableFuture<Map<String, EventTicketSummaryDTO>> fetchSummaries(Collection<String> eventNames) {
+        List<String> names = eventNames.stream().distinct().collect(Collectors.toList());
+        if (names.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        CompletableFuture<Map<String, EventTicketSummaryDTO>> remote;
+        try {
+            remote = CompletableFuture.supplyAsync(() -> callTicketService(names), executor);
+        } catch (RejectedExecutionException e) {
+            remote = CompletableFuture.failedFuture(e);
+        }
+        return remote
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((summaries, error) -> error == null ? summaries : lastKnownGood(names, error));
+    }
+
+    /**
+     * Fetches the ticket summaries of the given events and waits for them, at most until the deadline.
+     *
+     * @param eventNames the names of the events, duplicates allowed
+     * @return the summaries, keyed by event name; events without tickets may be missing
+     * @throws TicketServiceUnavailableException if the Ticket Service is unavailable and nothing is cached
+     */
+    public Map<String, EventTicketSummaryDTO> getSummaries(Collection<String> eventNames) {
+        return await(fetchSummaries(eventNames));
+    }
+
+    /**
+     * Waits for a fetch started earlier, rethrowing its failure as it was raised by the remote call.
+     *
+     * @param future the fetch to wait for
+     * @param <T> the type of the result
+     * @return the result of the fetch
+     * @throws TicketServiceUnavailableException if the Ticket Service is unavailable
+     */
+    public <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof TimeoutException) {
+                throw new TicketServiceUnavailableException(
+                        "Serviciul de bilete nu a raspuns in " + timeout.toMillis() + " ms", cause);
+            }
+            if (cause instanceof RejectedExecutionException || cause instanceof BulkheadFullException) {
+                throw new TicketServiceUnavailableException("Serviciul de bilete este suprasolicitat", cause);
+            }
+            if (isUnavailable(cause)) {
+                throw new TicketServiceUnavailableException("Serviciul de bilete este temporar indisponibil", cause);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new TicketServiceUnavailableException("Serviciul de bilete nu este disponibil", cause);
+        }
+    }
+
+    private Map<String, EventTicketSummaryDTO> callTicketService(List<String> names) {
+        List<EventTicketSummaryDTO> summaries = CircuitBreaker.decorateSupplier(circuitBreaker,
+                Bulkhead.decorateSupplier(bulkhead,
+                        () -> ticketServiceClient.getTicketSummaries(names, GATEWAY_HEADER))).get();
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, EventTicketSummaryDTO> byName = new HashMap<>();
+        for (EventTicketSummaryDTO summary : summaries) {
+            summary.setAsOf(now);
+            summary.setStale(false);
+            if (byName.putIfAbsent(summary.getEventName(), summary) == null) {
+                lastKnownGood.put(summary.getEventName(), summary, now);
+            }
+        }
+        return byName;
+    }
+
+    /**
+     * Serves a failed fetch from the last summaries received, if the failure means the Ticket Service is unavailable
+     * and the summaries of all the requested events are cached.
+     *
+     * @param names the names of the requested events
+     * @param error the failure of the fetch
+     * @return the cached summaries, marked as stale
+     * @throws CompletionException wrapping the original failure if it cannot be served from the cache
+     */
+    private Map<String, EventTicketSummaryDTO> lastKnownGood(List<String> names, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (!isUnavailable(cause)) {
+            throw new CompletionException(cause);
+        }
+        Map<String, EventTicketSummaryDTO> cached = new HashMap<>();
+        for (String name : names) {
+            Optional<LastKnownGoodCache.Entry<EventTicketSummaryDTO>> entry = lastKnownGood.get(name);
+            if (entry.isEmpty()) {
+                throw new CompletionException(cause);
+            }
+            EventTicketSummaryDTO summary = entry.get().value();
+            cached.put(name, new EventTicketSummaryDTO(name, summary.getAvailableSeats(), summary.getTotalRevenue(),
+                    entry.get().storedAt(), true));
+        }
+        logger.warn("Ticket Service unavailable ({}), serving {} cached ticket summaries", cause.toString(), cached.size());
+        return cached;
+    }
+
+    /**
+     * Checks whether a failure means the Ticket Service cannot answer right now, as opposed to rejecting the request.
+     *
+     * @param cause the failure of a call
+     * @return {@code true} for open breakers, full bulkheads, missed deadlines and server or network errors
+     */
+    private static boolean isUnavailable(Throwable cause) {
+        return LastKnownGoodCall.isUnavailable(cause)
+                || cause instanceof TimeoutException
+                || cause instanceof RejectedExecutionException;
+    }
+
+    /**
+     * Stops the thread pool; fetches still running are abandoned. Virtual threads need no shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService pool) {
+            pool.shutdownNow();
+        }
+    }
+}
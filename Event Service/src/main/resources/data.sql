@@ -13,8 +13,9 @@ ON CONFLICT (name) DO NOTHING;
 
 -- Insert Events (doar dacă nu există deja)
 -- Folosim stage_id = 1 pentru Main Stage (trebuie să existe)
-INSERT INTO event (name, date, stage_id, associated_artist, capacity, created_at)
-SELECT * FROM (VALUES
+INSERT INTO event (name, date, end_date, stage_id, associated_artist, capacity, created_at)
+SELECT v.name, v.date, v.date + INTERVAL '2 hours', v.stage_id, v.associated_artist, v.capacity, v.created_at
+FROM (VALUES
 ('Travis Scott Live Concert', '2024-07-15 20:00:00'::TIMESTAMP, 1, 'Travis Scott', 50000, NOW()),
 ('The Weeknd Performance', '2024-07-16 21:00:00'::TIMESTAMP, 1, 'The Weeknd', 50000, NOW()),
 ('Hip-Hop Night - Romanian Artists', '2024-07-17 19:00:00'::TIMESTAMP, 4, 'Oscar, Ian, Rava', 25000, NOW()),
@@ -27,3 +28,13 @@ SELECT * FROM (VALUES
 ('Kendrick Lamar Exclusive', '2024-07-24 21:00:00'::TIMESTAMP, 1, 'Kendrick Lamar', 50000, NOW())
 ) AS v(name, date, stage_id, associated_artist, capacity, created_at)
 WHERE NOT EXISTS (SELECT 1 FROM event WHERE event.name = v.name AND event.date = v.date);
+
+-- Populeaza legaturile eveniment - artist din lista separata prin virgula din associated_artist
+-- (doar pentru evenimentele care nu au inca legaturi)
+INSERT INTO event_artists (event_id, artist_name, artist_key)
+SELECT DISTINCT ON (e.id, LOWER(TRIM(a.name))) e.id, TRIM(a.name), LOWER(TRIM(a.name))
+FROM event e
+CROSS JOIN LATERAL unnest(string_to_array(e.associated_artist, ',')) AS a(name)
+WHERE TRIM(a.name) <> ''
+  AND NOT EXISTS (SELECT 1 FROM event_artists ea WHERE ea.event_id = e.id)
+ON CONFLICT (event_id, artist_key) DO NOTHING;
@@ -17,6 +17,7 @@ CREATE TABLE IF NOT EXISTS event (
     id BIGSERIAL PRIMARY KEY,
     name VARCHAR(200) NOT NULL,
     date TIMESTAMP NOT NULL,
+    end_date TIMESTAMP NOT NULL,
     stage_id BIGINT NOT NULL,
     associated_artist VARCHAR(100) NOT NULL,
     capacity INTEGER NOT NULL CHECK (capacity > 0),
@@ -28,6 +29,60 @@ CREATE INDEX IF NOT EXISTS idx_event_name ON event(name);
 CREATE INDEX IF NOT EXISTS idx_event_date ON event(date);
 CREATE INDEX IF NOT EXISTS idx_event_stage_id ON event(stage_id);
 CREATE INDEX IF NOT EXISTS idx_event_artist ON event(associated_artist);
+-- Indecsi compusi pentru paginarea cu cursor (keyset) dupa data si capacitate
+CREATE INDEX IF NOT EXISTS idx_event_date_id ON event(date, id);
+CREATE INDEX IF NOT EXISTS idx_event_capacity_id ON event(capacity, id);
+-- Indecsi trigram (pg_trgm) pentru cautarea dupa subsir in numele evenimentelor si ale artistilor
+-- (LOWER(coloana) LIKE '%text%'); crearea extensiei necesita drepturi de superuser sau owner pe baza de date
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_event_name_trgm ON event USING GIN (LOWER(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_event_artist_trgm ON event USING GIN (LOWER(associated_artist) gin_trgm_ops);
+-- Ora de sfarsit a evenimentelor; evenimentele existente primesc durata implicita de 2 ore
+ALTER TABLE event ADD COLUMN IF NOT EXISTS end_date TIMESTAMP;
+UPDATE event SET end_date = date + INTERVAL '2 hours' WHERE end_date IS NULL;
+ALTER TABLE event ALTER COLUMN end_date SET NOT NULL;
+-- Constrangere de excludere: doua evenimente de pe aceeasi scena nu se pot suprapune.
+-- Protejeaza rezervarile facute in paralel de mai multe instante event-service; necesita extensia btree_gist.
+-- Indexul GiST al constrangerii serveste si cautarea conflictelor pe o scena (stage_id = ? AND perioada && ?)
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+ALTER TABLE event DROP CONSTRAINT IF EXISTS ex_event_stage_time;
+DO 'BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = ''ex_event_stage_period'') THEN
+        ALTER TABLE event ADD CONSTRAINT ex_event_stage_period
+            EXCLUDE USING gist (stage_id WITH =, tsrange(date, end_date) WITH &&);
+    END IF;
+END';
+-- Index GiST pe perioada evenimentelor, pentru interogarile pe toate scenele (ce ruleaza la ora T, intervale)
+CREATE INDEX IF NOT EXISTS idx_event_period ON event USING GIST (tsrange(date, end_date));
+
+-- Tabela de legatura eveniment - artist (normalizarea coloanei associated_artist)
+-- artist_id este rezolvat prin Artist Service la scrierea legaturii; legaturile ramase nelegate sunt reluate periodic
+CREATE TABLE IF NOT EXISTS event_artists (
+    id BIGSERIAL PRIMARY KEY,
+    event_id BIGINT NOT NULL,
+    artist_name VARCHAR(100) NOT NULL,
+    artist_key VARCHAR(100) NOT NULL,
+    artist_id BIGINT,
+    CONSTRAINT fk_event_artist_event FOREIGN KEY (event_id) REFERENCES event(id) ON DELETE CASCADE,
+    CONSTRAINT uk_event_artist UNIQUE (event_id, artist_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_event_artist_artist_id ON event_artists(artist_id);
+CREATE INDEX IF NOT EXISTS idx_event_artist_unresolved ON event_artists(artist_key) WHERE artist_id IS NULL;
+
+-- Jurnalul de modificari (evenimente si scene) servit consumatorilor prin fluxul SSE /api/events/changes.
+-- id este numarul de secventa global; txid retine tranzactia care a scris intrarea, astfel incat fluxul
+-- citeste doar intrarile tranzactiilor mai vechi decat orice tranzactie inca in curs (ordinea nu are goluri)
+CREATE TABLE IF NOT EXISTS change_log (
+    id BIGSERIAL PRIMARY KEY,
+    entity_type VARCHAR(16) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    operation VARCHAR(16) NOT NULL,
+    payload TEXT,
+    created_at TIMESTAMP NOT NULL
+);
+ALTER TABLE change_log ADD COLUMN IF NOT EXISTS txid xid8 NOT NULL DEFAULT pg_current_xact_id();
+CREATE INDEX IF NOT EXISTS idx_change_log_created_at ON change_log(created_at);
 
 -- Insert Stages (doar dacă nu există deja)
 INSERT INTO stages (name, location, max_capacity) VALUES
@@ -40,8 +95,9 @@ ON CONFLICT (name) DO NOTHING;
 
 -- Insert Events (doar dacă nu există deja)
 -- Folosim stage_id = 1 pentru Main Stage (trebuie să existe)
-INSERT INTO event (name, date, stage_id, associated_artist, capacity, created_at)
-SELECT * FROM (VALUES
+INSERT INTO event (name, date, end_date, stage_id, associated_artist, capacity, created_at)
+SELECT v.name, v.date, v.date + INTERVAL '2 hours', v.stage_id, v.associated_artist, v.capacity, v.created_at
+FROM (VALUES
 ('Travis Scott Live Concert', '2024-07-15 20:00:00'::TIMESTAMP, 1, 'Travis Scott', 50000, NOW()),
 ('The Weeknd Performance', '2024-07-16 21:00:00'::TIMESTAMP, 1, 'The Weeknd', 50000, NOW()),
 ('Hip-Hop Night - Romanian Artists', '2024-07-17 19:00:00'::TIMESTAMP, 4, 'Oscar, Ian, Rava', 25000, NOW()),
@@ -0,0 +1,197 @@
+package org.example.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.hc5.ApacheHttp5Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.example.dto.EventResponseDTO;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the latency and throughput of a Feign call over the default {@code HttpURLConnection} client
+ * with the pooled Apache HttpClient 5 client used by the services, against a local server returning
+ * a large JSON list the way {@code /api/events/search} does. Responses are gzip-compressed when the client
+ * accepts it, as with {@code server.compression.enabled}; {@code -Dbenchmark.bandwidthMbps} throttles
+ * the server to emulate a network link (default: unthrottled loopback).
+ * <p>
+ * Not part of the regular test run; start it with {@code mvn test -Pbenchmark}.
+ *
+ * @author EscobarTeam
+ */
+class FeignClientBenchmark {
+
+    private static final int EVENTS = 500;
+    private static final int WARMUP_CALLS = 500;
+    private static final int CALLS = 2000;
+
+    private static HttpServer server;
+    private static byte[] plainBody;
+    private static byte[] gzipBody;
+    private static long bytesPerSecond;
+    private static final AtomicLong bytesSent = new AtomicLong();
+
+    interface SearchClient {
+        @GetMapping("/api/events/search")
+        List<EventResponseDTO> search(@RequestParam("name") String name);
+    }
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        List<EventResponseDTO> events = new ArrayList<>();
+        for (long id = 1; id <= EVENTS; id++) {
+            EventResponseDTO event = new EventResponseDTO();
+            event.setId(id);
+            event.setName("Festival Night " + id);
+            event.setDate(LocalDateTime.of(2026, 7, 1, 20, 0).plusHours(id));
+            event.setEndDate(event.getDate().plusHours(3));
+            event.setStageId(id % 10 + 1);
+            event.setStageName("Stage " + (id % 10 + 1));
+            event.setAssociatedArtist("Headliner " + id + ", Support Act " + id);
+            event.setCapacity(1000 + (int) id);
+            event.setCreatedAt(LocalDateTime.of(2026, 1, 1, 12, 0));
+            events.add(event);
+        }
+        plainBody = mapper.writeValueAsBytes(events);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(plainBody);
+        }
+        gzipBody = compressed.toByteArray();
+        bytesPerSecond = Long.getLong("benchmark.bandwidthMbps", 0L) * 1_000_000 / 8;
+
+        // Tomcat disables Nagle's algorithm on its connections; without this the JDK server stalls small writes
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+        server.createContext("/api/events/search", FeignClientBenchmark::handle);
+        server.setExecutor(Executors.newFixedThreadPool(64));
+        server.start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+        ((ExecutorService) server.getExecutor()).shutdownNow();
+    }
+
+    @Test
+    void compareClients() throws Exception {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort();
+        System.out.printf("Response: %d events, %d bytes plain, %d bytes gzip, bandwidth %s%n", EVENTS,
+                plainBody.length, gzipBody.length, bytesPerSecond == 0 ? "unthrottled" : bytesPerSecond * 8 / 1_000_000 + " Mbit/s");
+
+        Client urlConnection = new Client.Default(null, null);
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(200)
+                        .setMaxConnPerRoute(50)
+                        .build())
+                .build();
+        Client pooled = new ApacheHttp5Client(httpClient);
+        try {
+            for (int concurrency : new int[] {1, 32}) {
+                run("HttpURLConnection", client(urlConnection, url), concurrency);
+                run("HttpClient 5 pooled + gzip", client(pooled, url), concurrency);
+            }
+        } finally {
+            httpClient.close();
+        }
+    }
+
+    private static SearchClient client(Client transport, String url) {
+        MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter(
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+        ObjectFactory<HttpMessageConverters> converters = () -> new HttpMessageConverters(converter);
+        return Feign.builder()
+                .client(transport)
+                .contract(new SpringMvcContract())
+                .decoder(new SpringDecoder(converters))
+                .target(SearchClient.class, url);
+    }
+
+    private static void run(String name, SearchClient client, int concurrency) throws Exception {
+        measure(client, concurrency, WARMUP_CALLS);
+        bytesSent.set(0);
+        long start = System.nanoTime();
+        long[] latencies = measure(client, concurrency, CALLS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Arrays.sort(latencies);
+        System.out.printf("%-28s concurrency %2d: p50 %6.2f ms, p99 %6.2f ms, %7.0f calls/s, %6d bytes/call on the wire%n",
+                name, concurrency, latencies[CALLS / 2] / 1e6, latencies[CALLS * 99 / 100] / 1e6,
+                CALLS / seconds, bytesSent.get() / CALLS);
+    }
+
+    private static long[] measure(SearchClient client, int concurrency, int calls) throws Exception {
+        long[] latencies = new long[calls];
+        ExecutorService callers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < calls; i++) {
+                int call = i;
+                futures.add(callers.submit(() -> {
+                    long start = System.nanoTime();
+                    List<EventResponseDTO> events = client.search("Festival");
+                    latencies[call] = System.nanoTime() - start;
+                    assertEquals(EVENTS, events.size());
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            callers.shutdown();
+        }
+        return latencies;
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        byte[] body = gzip ? gzipBody : plainBody;
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        if (gzip) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        if (bytesPerSecond > 0) {
+            try {
+                Thread.sleep(body.length * 1000L / bytesPerSecond);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+        bytesSent.addAndGet(body.length);
+    }
+}
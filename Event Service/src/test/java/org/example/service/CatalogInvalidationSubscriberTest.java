@@ -0,0 +1,107 @@
+package org.example.service;
+
+import org.example.common.cache.CacheInvalidationBus;
+import org.example.dto.EventResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogInvalidationSubscriberTest {
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private EventCatalog eventCatalog;
+
+    @Mock
+    private StageScheduleIndex stageScheduleIndex;
+
+    @Mock
+    private EventStatisticsCounters eventStatisticsCounters;
+
+    private CatalogInvalidationSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        subscriber = new CatalogInvalidationSubscriber(cacheInvalidationBus, eventCatalog,
+                stageScheduleIndex, eventStatisticsCounters);
+    }
+
+    @Test
+    void testConstructor_SubscribesToEventsAndStages() {
+        // Then
+        verify(cacheInvalidationBus).subscribe(eq(CatalogInvalidationSubscriber.EVENTS), any());
+        verify(cacheInvalidationBus).subscribe(eq(CatalogInvalidationSubscriber.STAGES), any());
+    }
+
+    @Test
+    void testEventsChanged_ReloadsChangedKeysOnly() {
+        // Given
+        EventResponseDTO updated = new EventResponseDTO();
+        updated.setId(1L);
+        updated.setStageId(3L);
+        updated.setDate(LocalDateTime.of(2026, 7, 15, 20, 0));
+        updated.setEndDate(LocalDateTime.of(2026, 7, 15, 23, 0));
+        when(eventCatalog.refreshEvents(argThat(ids -> ids.containsAll(List.of(1L, 2L)) && ids.size() == 2)))
+                .thenReturn(List.of(updated));
+
+        // When
+        subscriber.eventsChanged(Set.of("1", "2"));
+
+        // Then
+        verify(stageScheduleIndex).remove(2L);
+        verify(stageScheduleIndex, never()).remove(1L);
+        verify(stageScheduleIndex).put(1L, 3L, updated.getDate(), updated.getEndDate());
+        verify(eventStatisticsCounters).markStale();
+        verify(eventCatalog, never()).rebuild();
+    }
+
+    @Test
+    void testEventsChanged_AllKeysRebuildsEverything() {
+        // When
+        subscriber.eventsChanged(Set.of(CacheInvalidationBus.ALL_KEYS));
+
+        // Then
+        verify(eventCatalog).rebuild();
+        verify(stageScheduleIndex).rebuild();
+        verify(eventCatalog, never()).refreshEvents(any());
+    }
+
+    @Test
+    void testEventsChanged_BurstRebuildsEverything() {
+        // Given
+        Set<String> keys = IntStream.rangeClosed(1, 100).mapToObj(String::valueOf).collect(Collectors.toSet());
+
+        // When
+        subscriber.eventsChanged(keys);
+
+        // Then
+        verify(eventCatalog).rebuild();
+        verify(stageScheduleIndex).rebuild();
+        verify(eventCatalog, never()).refreshEvents(any());
+    }
+
+    @Test
+    void testStagesChanged_RebuildsCatalog() {
+        // When
+        subscriber.stagesChanged(Set.of("4"));
+
+        // Then
+        verify(eventCatalog).rebuild();
+        verify(eventStatisticsCounters).markStale();
+        verifyNoInteractions(stageScheduleIndex);
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.service;
+
+import org.example.dto.EventResponseDTO;
+import org.example.dto.StageDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotTest {
+
+    private EventResponseDTO opening;
+    private EventResponseDTO headliner;
+    private EventResponseDTO sideShow;
+    private EventResponseDTO closing;
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        opening = event(1L, 1L, 2000, LocalDateTime.of(2026, 7, 15, 18, 0));
+        headliner = event(2L, 1L, 5000, LocalDateTime.of(2026, 7, 15, 21, 0));
+        sideShow = event(3L, 2L, 2000, LocalDateTime.of(2026, 7, 15, 21, 0));
+        closing = event(4L, 2L, 800, LocalDateTime.of(2026, 7, 16, 22, 0));
+
+        StageDTO main = new StageDTO();
+        main.setId(1L);
+        StageDTO side = new StageDTO();
+        side.setId(2L);
+
+        snapshot = CatalogSnapshot.of(List.of(side, main), List.of(closing, sideShow, opening, headliner));
+    }
+
+    @Test
+    void testOrders_TiesBrokenById() {
+        // Then
+        assertEquals(List.of(opening, headliner, sideShow, closing), snapshot.eventsByDate(true));
+        assertEquals(List.of(closing, sideShow, headliner, opening), snapshot.eventsByDate(false));
+        assertEquals(List.of(closing, opening, sideShow, headliner), snapshot.eventsByCapacity(true));
+        assertEquals(List.of(headliner, sideShow, opening, closing), snapshot.eventsByCapacity(false));
+        assertEquals(List.of(1L, 2L), snapshot.stages().stream().map(StageDTO::getId).toList());
+    }
+
+    @Test
+    void testEventsBetween_InclusiveBounds() {
+        // When
+        List<EventResponseDTO> result = snapshot.eventsBetween(
+                LocalDateTime.of(2026, 7, 15, 21, 0), LocalDateTime.of(2026, 7, 16, 22, 0));
+
+        // Then
+        assertEquals(List.of(headliner, sideShow, closing), result);
+        assertTrue(snapshot.eventsBetween(LocalDateTime.of(2026, 7, 17, 0, 0),
+                LocalDateTime.of(2026, 7, 16, 0, 0)).isEmpty());
+    }
+
+    @Test
+    void testEventsWithMinCapacity() {
+        // Then
+        assertEquals(List.of(headliner, sideShow, opening), snapshot.eventsWithMinCapacity(2000));
+        assertTrue(snapshot.eventsWithMinCapacity(6000).isEmpty());
+        assertEquals(4, snapshot.eventsWithMinCapacity(0).size());
+    }
+
+    @Test
+    void testLookups() {
+        // Then
+        assertEquals(List.of(sideShow, closing), snapshot.eventsOnStage(2L));
+        assertTrue(snapshot.eventsOnStage(99L).isEmpty());
+        assertEquals(headliner, snapshot.event(2L).orElseThrow());
+        assertTrue(snapshot.stage(99L).isEmpty());
+    }
+
+    @Test
+    void testSnapshot_IsIsolatedFromSource() {
+        // Given
+        List<EventResponseDTO> source = new ArrayList<>(List.of(opening));
+        CatalogSnapshot copy = CatalogSnapshot.of(List.of(), source);
+
+        // When
+        source.add(closing);
+        opening.setName("Renamed");
+
+        // Then
+        assertEquals(1, copy.eventCount());
+        assertEquals("Event 1", copy.event(1L).orElseThrow().getName());
+    }
+
+    @Test
+    void testSnapshot_ReturnsCopiesCallersCanChange() {
+        // When
+        snapshot.event(2L).orElseThrow().setCapacity(1);
+        snapshot.eventsByDate(true).get(0).setName("Renamed");
+        snapshot.eventsOnStage(1L).clear();
+        snapshot.stage(1L).orElseThrow().setName("Renamed");
+
+        // Then
+        assertEquals(5000, snapshot.event(2L).orElseThrow().getCapacity());
+        assertEquals("Event 1", snapshot.eventsByDate(true).get(0).getName());
+        assertEquals(List.of(opening, headliner), snapshot.eventsOnStage(1L));
+        assertNull(snapshot.stage(1L).orElseThrow().getName());
+        assertNotSame(snapshot.event(1L).orElseThrow(), snapshot.event(1L).orElseThrow());
+    }
+
+    private EventResponseDTO event(Long id, Long stageId, Integer capacity, LocalDateTime date) {
+        EventResponseDTO dto = new EventResponseDTO();
+        dto.setId(id);
+        dto.setName("Event " + id);
+        dto.setDate(date);
+        dto.setEndDate(date.plusHours(2));
+        dto.setStageId(stageId);
+        dto.setCapacity(capacity);
+        return dto;
+    }
+}
@@ -0,0 +1,389 @@
+package org.example.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.common.cache.CacheInvalidationBus;
+import org.example.dto.ChangeEventDTO;
+import org.example.dto.StageDTO;
+import org.example.entity.ChangeLogEntry;
+import org.example.repository.ChangeLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedTest {
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private ChangeFeed changeFeed;
+
+    private final List<ChangeLogEntry> log = new CopyOnWriteArrayList<>();
+    private final List<ExecutorService> executors = new ArrayList<>();
+    private Consumer<Set<String>> changesAnnounced;
+
+    @BeforeEach
+    void setUp() {
+        changeFeed = new ChangeFeed(changeLogRepository, jdbcTemplate, new ObjectMapper().registerModule(new JavaTimeModule()),
+                cacheInvalidationBus);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executors.forEach(ExecutorService::shutdownNow);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRecordAll_AppendsOneBatchAndAnnouncesIt() {
+        // Given
+        StageDTO stage = new StageDTO();
+        stage.setId(4L);
+        stage.setName("Pop Stage");
+        Map<Long, Object> changes = new LinkedHashMap<>();
+        changes.put(4L, stage);
+        changes.put(5L, null);
+
+        // When
+        changeFeed.recordAll(ChangeEventDTO.STAGE, ChangeEventDTO.UPDATED, changes);
+
+        // Then
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture(), any(int[].class));
+        assertEquals(2, rows.getValue().size());
+        assertEquals(ChangeEventDTO.STAGE, rows.getValue().get(0)[0]);
+        assertEquals(4L, rows.getValue().get(0)[1]);
+        assertTrue(((String) rows.getValue().get(0)[3]).contains("\"name\":\"Pop Stage\""));
+        assertNull(rows.getValue().get(1)[3]);
+        verify(cacheInvalidationBus).publish(ChangeFeed.CHANGES, CacheInvalidationBus.ALL_KEYS);
+    }
+
+    @Test
+    void testRecordAll_NothingToRecord() {
+        // When
+        changeFeed.recordAll(ChangeEventDTO.EVENT, ChangeEventDTO.DELETED, Collections.emptyMap());
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+        verify(cacheInvalidationBus, never()).publish(anyString(), any(Object.class));
+    }
+
+    @Test
+    void testConstructor_ListensForChangesOfOtherInstances() {
+        // Then
+        verify(cacheInvalidationBus).subscribe(eq(ChangeFeed.CHANGES), any());
+        assertEquals(0, changeFeed.getSubscriberCount());
+    }
+
+    @Test
+    void testSubscribe_WithoutSequence_StartsWithReadyThenSendsNewChanges() {
+        // Given
+        append(5);
+        RecordingEmitter emitter = new RecordingEmitter();
+        ChangeFeed feed = feed(Duration.ofMinutes(1), emitter);
+
+        // When
+        feed.subscribe(null);
+        awaitUntil(() -> feed.getSubscriberCount() == 1);
+        append(7);
+        changesAnnounced.accept(Set.of(CacheInvalidationBus.ALL_KEYS));
+
+        // Then
+        awaitUntil(() -> emitter.ids(ChangeFeed.CHANGE_EVENT).equals(List.of(6L, 7L)));
+        assertEquals(List.of(5L), emitter.ids(ChangeFeed.READY_EVENT));
+        assertTrue(emitter.events.get(0).contains("event:" + ChangeFeed.READY_EVENT));
+    }
+
+    @Test
+    void testSubscribe_WithLastEventId_ReplaysLaterChangesThenFollows() {
+        // Given
+        append(5);
+        RecordingEmitter emitter = new RecordingEmitter();
+        ChangeFeed feed = feed(Duration.ofMinutes(1), emitter);
+
+        // When
+        feed.subscribe(2L);
+        awaitUntil(() -> feed.getSubscriberCount() == 1);
+        append(6);
+        changesAnnounced.accept(Set.of(CacheInvalidationBus.ALL_KEYS));
+
+        // Then
+        awaitUntil(() -> emitter.ids(ChangeFeed.CHANGE_EVENT).equals(List.of(3L, 4L, 5L, 6L)));
+        assertTrue(emitter.ids(ChangeFeed.READY_EVENT).isEmpty());
+        assertTrue(emitter.ids(ChangeFeed.RESET_EVENT).isEmpty());
+    }
+
+    @Test
+    void testSubscribe_LongBackfill_IsDeliveredCompletelyAndInOrder() {
+        // Given
+        append(2600);
+        RecordingEmitter emitter = new RecordingEmitter();
+        ChangeFeed feed = feed(Duration.ofMinutes(1), emitter);
+
+        // When
+        feed.subscribe(0L);
+
+        // Then
+        List<Long> expected = LongStream.rangeClosed(1, 2600).boxed().toList();
+        awaitUntil(() -> emitter.ids(ChangeFeed.CHANGE_EVENT).size() >= expected.size());
+        assertEquals(expected, emitter.ids(ChangeFeed.CHANGE_EVENT));
+    }
+
+    @Test
+    void testSubscribe_SequenceAheadOfTheLog_Resets() {
+        // Given
+        append(5);
+        RecordingEmitter emitter = new RecordingEmitter();
+        ChangeFeed feed = feed(Duration.ofMinutes(1), emitter);
+
+        // When
+        feed.subscribe(9L);
+
+        // Then
+        awaitUntil(() -> emitter.ids(ChangeFeed.RESET_EVENT).equals(List.of(5L)));
+        awaitUntil(() -> feed.getSubscriberCount() == 1);
+        assertTrue(emitter.ids(ChangeFeed.CHANGE_EVENT).isEmpty());
+    }
+
+    @Test
+    void testSubscribe_SequenceAlreadyPruned_Resets() {
+        // Given
+        append(6);
+        log.removeIf(entry -> entry.getId() < 4);
+        RecordingEmitter emitter = new RecordingEmitter();
+        ChangeFeed feed = feed(Duration.ofMinutes(1), emitter);
+
+        // When
+        feed.subscribe(1L);
+
+        // Then
+        awaitUntil(() -> emitter.ids(ChangeFeed.RESET_EVENT).equals(List.of(6L)));
+        awaitUntil(() -> feed.getSubscriberCount() == 1);
+        assertTrue(emitter.ids(ChangeFeed.CHANGE_EVENT).isEmpty());
+    }
+
+    @Test
+    void testSubscribe_OldestRetainedSequence_IsNotReset() {
+        // Given
+        append(6);
+        log.removeIf(entry -> entry.getId() < 4);
+        RecordingEmitter emitter = new RecordingEmitter();
+        ChangeFeed feed = feed(Duration.ofMinutes(1), emitter);
+
+        // When
+        feed.subscribe(3L);
+
+        // Then
+        awaitUntil(() -> emitter.ids(ChangeFeed.CHANGE_EVENT).equals(List.of(4L, 5L, 6L)));
+        assertTrue(emitter.ids(ChangeFeed.RESET_EVENT).isEmpty());
+    }
+
+    @Test
+    void testPoll_WithoutSubscribers_OnlyTracksTheHead() throws Exception {
+        // Given
+        append(5);
+        ChangeFeed feed = feed(Duration.ofMinutes(1));
+
+        // When
+        changesAnnounced.accept(Set.of(CacheInvalidationBus.ALL_KEYS));
+        executors.get(0).submit(() -> { }).get(5, TimeUnit.SECONDS);
+
+        // Then
+        verify(changeLogRepository).findSettledHead();
+        verify(changeLogRepository, never()).findSettledAfter(anyLong(), anyInt());
+        assertEquals(0, feed.getSubscriberCount());
+    }
+
+    @Test
+    void testSlowSubscriber_DoesNotDelayTheOthers() {
+        // Given
+        append(10);
+        CountDownLatch unblock = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(unblock);
+        RecordingEmitter fast = new RecordingEmitter();
+        ChangeFeed feed = feed(Duration.ofMinutes(1), slow, fast);
+        feed.subscribe(null);
+        feed.subscribe(null);
+        awaitUntil(() -> feed.getSubscriberCount() == 2);
+
+        try {
+            // When
+            append(12);
+            changesAnnounced.accept(Set.of(CacheInvalidationBus.ALL_KEYS));
+
+            // Then
+            awaitUntil(() -> fast.ids(ChangeFeed.CHANGE_EVENT).equals(List.of(11L, 12L)));
+            assertTrue(slow.ids(ChangeFeed.CHANGE_EVENT).isEmpty());
+            unblock.countDown();
+            awaitUntil(() -> slow.ids(ChangeFeed.CHANGE_EVENT).equals(List.of(11L, 12L)));
+        } finally {
+            unblock.countDown();
+        }
+    }
+
+    @Test
+    void testStalledSubscriber_IsDisconnected() throws InterruptedException {
+        // Given
+        append(10);
+        CountDownLatch unblock = new CountDownLatch(1);
+        RecordingEmitter stalled = new RecordingEmitter(unblock);
+        RecordingEmitter fast = new RecordingEmitter();
+        ChangeFeed feed = feed(Duration.ofMillis(50), stalled, fast);
+        feed.subscribe(null);
+        feed.subscribe(null);
+        awaitUntil(() -> feed.getSubscriberCount() == 2);
+
+        try {
+            // When
+            append(11);
+            changesAnnounced.accept(Set.of(CacheInvalidationBus.ALL_KEYS));
+            awaitUntil(() -> fast.ids(ChangeFeed.CHANGE_EVENT).equals(List.of(11L)));
+            Thread.sleep(100);
+            append(12);
+            changesAnnounced.accept(Set.of(CacheInvalidationBus.ALL_KEYS));
+
+            // Then
+            awaitUntil(() -> stalled.completed);
+            awaitUntil(() -> fast.ids(ChangeFeed.CHANGE_EVENT).equals(List.of(11L, 12L)));
+            assertEquals(1, feed.getSubscriberCount());
+        } finally {
+            unblock.countDown();
+        }
+    }
+
+    /**
+     * Builds a feed on its own threads, backed by {@link #log}, that hands out the given emitters in order.
+     */
+    private ChangeFeed feed(Duration stallTimeout, RecordingEmitter... emitters) {
+        lenient().when(changeLogRepository.findSettledHead())
+                .thenAnswer(invocation -> log.isEmpty() ? 0L : log.get(log.size() - 1).getId());
+        lenient().when(changeLogRepository.findOldestId())
+                .thenAnswer(invocation -> log.isEmpty() ? null : log.get(0).getId());
+        lenient().when(changeLogRepository.findSettledAfter(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long after = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return log.stream().filter(entry -> entry.getId() > after).limit(limit).collect(Collectors.toList());
+        });
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService senders = Executors.newCachedThreadPool();
+        executors.add(executor);
+        executors.add(senders);
+        Deque<RecordingEmitter> handedOut = new ArrayDeque<>(List.of(emitters));
+        ChangeFeed feed = new ChangeFeed(changeLogRepository, jdbcTemplate,
+                new ObjectMapper().registerModule(new JavaTimeModule()), cacheInvalidationBus, executor, senders,
+                stallTimeout) {
+            @Override
+            SseEmitter newEmitter() {
+                return handedOut.poll();
+            }
+        };
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<Set<String>>> handler = ArgumentCaptor.forClass(Consumer.class);
+        verify(cacheInvalidationBus, atLeastOnce()).subscribe(eq(ChangeFeed.CHANGES), handler.capture());
+        changesAnnounced = handler.getValue();
+        return feed;
+    }
+
+    /**
+     * Appends entries to the log up to the given sequence number.
+     */
+    private void append(long upTo) {
+        long next = log.isEmpty() ? 1 : log.get(log.size() - 1).getId() + 1;
+        LongStream.rangeClosed(next, upTo).forEach(id -> log.add(new ChangeLogEntry(id, ChangeEventDTO.EVENT, id,
+                ChangeEventDTO.UPDATED, null, LocalDateTime.of(2026, 7, 1, 12, 0))));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    /**
+     * An emitter that records the events sent to it; change events can be held back until a latch opens.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private static final Pattern EVENT = Pattern.compile("(?:^|\\n)id:(\\d+)\\nevent:(\\w+)");
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch changesAllowed;
+        private volatile boolean completed;
+
+        RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingEmitter(CountDownLatch changesAllowed) {
+            this.changesAllowed = changesAllowed;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            String event = builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining());
+            if (event.contains("event:" + ChangeFeed.CHANGE_EVENT + "\n")) {
+                try {
+                    changesAllowed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            events.add(event);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        /**
+         * Returns the sequence numbers of the events with the given name, in the order they were sent.
+         */
+        List<Long> ids(String name) {
+            List<Long> ids = new ArrayList<>();
+            for (String event : events) {
+                Matcher matcher = EVENT.matcher(event);
+                if (matcher.find() && matcher.group(2).equals(name)) {
+                    ids.add(Long.valueOf(matcher.group(1)));
+                }
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.service;
+
+import org.example.dto.EventResponseDTO;
+import org.example.mapper.StageMapper;
+import org.example.repository.EventRepository;
+import org.example.repository.StageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventCatalogTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private StageRepository stageRepository;
+
+    @Mock
+    private StageMapper stageMapper;
+
+    private EventCatalog eventCatalog;
+
+    @BeforeEach
+    void setUp() {
+        eventCatalog = new EventCatalog(eventRepository, stageRepository, stageMapper);
+    }
+
+    @Test
+    void testRefreshEvents_ReplacesChangedEventsOnly() {
+        // Given
+        when(eventRepository.findAllResponses(any())).thenReturn(List.of(event(1L, "Opening"), event(2L, "Closing")));
+        eventCatalog.rebuild();
+        when(eventRepository.findResponsesByIds(List.of(1L, 3L))).thenReturn(List.of(event(1L, "Renamed")));
+
+        // When
+        List<EventResponseDTO> current = eventCatalog.refreshEvents(List.of(1L, 3L));
+
+        // Then
+        assertEquals(List.of(event(1L, "Renamed")), current);
+        assertEquals("Renamed", eventCatalog.current().event(1L).orElseThrow().getName());
+        assertEquals("Closing", eventCatalog.current().event(2L).orElseThrow().getName());
+        assertEquals(2, eventCatalog.current().eventCount());
+    }
+
+    @Test
+    void testRefreshEvents_ReadsAfterARunningRebuild() throws Exception {
+        // Given
+        CountDownLatch rebuilding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(eventRepository.findAllResponses(any())).thenAnswer(invocation -> {
+            rebuilding.countDown();
+            release.await();
+            return List.of(event(1L, "Rebuilt"));
+        });
+        when(eventRepository.findResponsesByIds(List.of(1L))).thenReturn(List.of(event(1L, "Refreshed")));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<?> rebuild = executor.submit(eventCatalog::rebuild);
+            assertTrue(rebuilding.await(5, TimeUnit.SECONDS));
+            Future<List<EventResponseDTO>> refresh = executor.submit(() -> eventCatalog.refreshEvents(List.of(1L)));
+
+            // Then
+            assertThrows(TimeoutException.class, () -> refresh.get(200, TimeUnit.MILLISECONDS));
+            verify(eventRepository, never()).findResponsesByIds(any());
+            release.countDown();
+            rebuild.get(5, TimeUnit.SECONDS);
+            refresh.get(5, TimeUnit.SECONDS);
+            assertEquals("Refreshed", eventCatalog.current().event(1L).orElseThrow().getName());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private EventResponseDTO event(Long id, String name) {
+        EventResponseDTO dto = new EventResponseDTO();
+        dto.setId(id);
+        dto.setName(name);
+        dto.setDate(LocalDateTime.of(2026, 7, 15, 20, 0).plusHours(id));
+        dto.setStageId(1L);
+        dto.setCapacity(1000);
+        return dto;
+    }
+}
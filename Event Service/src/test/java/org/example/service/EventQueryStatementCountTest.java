@@ -0,0 +1,374 @@
+package org.example.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.client.ArtistServiceClient;
+import org.example.common.cache.CacheInvalidationAutoConfiguration;
+import org.example.dto.BulkEventResultDTO;
+import org.example.dto.ChangeEventDTO;
+import org.example.dto.CursorPageDTO;
+import org.example.dto.EventCreateDTO;
+import org.example.dto.EventResponseDTO;
+import org.example.entity.ChangeLogEntry;
+import org.example.entity.Event;
+import org.example.entity.Stage;
+import org.example.mapper.EventMapper;
+import org.example.mapper.StageMapper;
+import org.example.repository.ChangeLogRepository;
+import org.example.repository.EventRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that the event list endpoints are served from the catalog snapshot without any SQL statement,
+ * and that the endpoints still backed by the database use a single statement,
+ * independent of the number of events and stages returned.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ImportAutoConfiguration(CacheInvalidationAutoConfiguration.class)
+@Import({EventServiceImpl.class, EventMapper.class, StageScheduleIndex.class, EventStatisticsCounters.class,
+        StageBookingLocks.class, EventCatalog.class, StageMapper.class,
+        ChangeFeed.class, EventExporter.class, ArtistLinkResolver.class, JacksonAutoConfiguration.class,
+        ValidationAutoConfiguration.class})
+class EventQueryStatementCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventMapper eventMapper;
+
+    @Autowired
+    private IEventService eventService;
+
+    @Autowired
+    private EventCatalog eventCatalog;
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private EventExporter eventExporter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ArtistLinkResolver artistLinkResolver;
+
+    @MockBean
+    private TicketInfoFetcher ticketInfoFetcher;
+
+    @MockBean
+    private ArtistServiceClient artistServiceClient;
+
+    private Statistics statistics;
+    private Long mainStageId;
+
+    @BeforeEach
+    void setUp() {
+        Stage mainStage = persistStage("Main Stage");
+        Stage popStage = persistStage("Pop Stage");
+        persistEvent("Summer Festival", LocalDateTime.of(2026, 7, 15, 20, 0), mainStage, "Famous Artist", 3000);
+        persistEvent("Summer Night", LocalDateTime.of(2026, 7, 15, 22, 0), popStage, "Famous Artist", 1000);
+        persistEvent("Winter Festival", LocalDateTime.of(2026, 7, 16, 18, 0), mainStage, "Other Artist", 5000);
+        persistEvent("Pop Showcase", LocalDateTime.of(2026, 7, 17, 20, 0), popStage, "Pop Star", 1500);
+        entityManager.flush();
+        entityManager.clear();
+        mainStageId = mainStage.getId();
+        eventCatalog.rebuild();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testListEndpoints_ServedFromSnapshot() {
+        assertNoStatement(() -> eventService.getAllEvents(), 4);
+        assertNoStatement(() -> eventService.filterByStage(mainStageId), 2);
+        assertNoStatement(() -> eventService.filterByDate(
+                LocalDateTime.of(2026, 7, 15, 0, 0), LocalDateTime.of(2026, 7, 16, 23, 59)), 3);
+        assertNoStatement(() -> eventService.filterBySpecificDate(LocalDate.of(2026, 7, 15)), 2);
+        assertNoStatement(() -> eventService.filterByCapacity(1500), 3);
+        assertNoStatement(() -> eventService.sortByDate("desc"), 4);
+        assertNoStatement(() -> eventService.sortByCapacity("asc"), 4);
+        assertNoStatement(() -> eventService.getStageSchedule(mainStageId), 2);
+    }
+
+    @Test
+    void testSearchEndpoints_UseSingleStatement() {
+        assertSingleStatement(() -> eventService.searchByName("summer"), 2);
+        assertSingleStatement(() -> eventService.filterByArtist("famous"), 2);
+        assertSingleStatement(() -> eventService.sortByDatePage("asc", null, 3).getItems(), 3);
+    }
+
+    @Test
+    void testKeysetPages_WalkAllEventsInOrder() {
+        persistEvent("Same Time", LocalDateTime.of(2026, 7, 15, 20, 0),
+                entityManager.find(Stage.class, mainStageId), "New Artist", 1000);
+        entityManager.flush();
+
+        assertEquals(List.of("Summer Festival", "Same Time", "Summer Night", "Winter Festival", "Pop Showcase"),
+                walkPages(cursor -> eventService.sortByDatePage("asc", cursor, 2)));
+        assertEquals(List.of("Pop Showcase", "Winter Festival", "Summer Night", "Same Time", "Summer Festival"),
+                walkPages(cursor -> eventService.sortByDatePage("desc", cursor, 2)));
+        assertEquals(List.of("Summer Night", "Same Time", "Pop Showcase", "Summer Festival", "Winter Festival"),
+                walkPages(cursor -> eventService.sortByCapacityPage("asc", cursor, 2)));
+        assertEquals(List.of("Winter Festival", "Summer Festival", "Pop Showcase", "Same Time", "Summer Night"),
+                walkPages(cursor -> eventService.sortByCapacityPage("desc", cursor, 2)));
+    }
+
+    @Test
+    void testSnapshot_RebuildPublishesCommittedChanges() {
+        CatalogSnapshot before = eventCatalog.current();
+        persistEvent("Late Addition", LocalDateTime.of(2026, 7, 20, 20, 0),
+                entityManager.find(Stage.class, mainStageId), "New Artist", 800);
+        entityManager.flush();
+
+        assertEquals(4, eventService.getAllEvents().size());
+        eventCatalog.rebuild();
+
+        assertEquals(5, eventService.getAllEvents().size());
+        assertEquals(4, before.eventCount());
+        assertEquals(3, eventService.filterByStage(mainStageId).size());
+    }
+
+    @Test
+    void testListEndpoints_ReturnStageNames() {
+        List<EventResponseDTO> events = eventService.sortByCapacity("desc");
+
+        assertEquals("Winter Festival", events.get(0).getName());
+        assertEquals("Main Stage", events.get(0).getStageName());
+        assertEquals("Pop Stage", events.get(3).getStageName());
+    }
+
+    @Test
+    void testRankedSearch_OrdersByRelevance() {
+        assertSingleStatement(() -> eventService.searchByNameRanked("festival", 10), 2);
+
+        List<EventResponseDTO> byName = eventService.searchByNameRanked("summer", 10);
+        assertEquals(List.of("Summer Night", "Summer Festival"), byName.stream().map(EventResponseDTO::getName).toList());
+
+        List<EventResponseDTO> byArtist = eventService.filterByArtistRanked("artist", 1);
+        assertEquals(1, byArtist.size());
+
+        assertTrue(eventService.searchByName("%").isEmpty());
+    }
+
+    @Test
+    void testEventsByArtistId_UseLinkTable() {
+        when(artistServiceClient.resolveArtistIds(any(), anyString())).thenReturn(Map.of("oscar", 7L, "rava", 8L));
+        eventService.createEvent(EventCreateDTO.builder()
+                .name("Hip-Hop Night")
+                .date(LocalDateTime.of(2026, 7, 18, 20, 0))
+                .stageId(mainStageId)
+                .associatedArtist("Oscar, Ian, Rava")
+                .capacity(2000)
+                .build());
+        entityManager.flush();
+
+        assertEquals(1, eventService.getEventsByArtistId(8L).size());
+        assertTrue(eventService.getEventsByArtistId(9L).isEmpty());
+        assertSingleStatement(() -> eventService.getEventsByArtistId(7L), 1);
+    }
+
+    @Test
+    void testBindUnresolved_BindsLinksOnceTheArtistIsKnown() {
+        when(artistServiceClient.resolveArtistIds(any(), anyString())).thenThrow(new IllegalStateException("down"));
+        eventService.createEvent(EventCreateDTO.builder()
+                .name("Late Night")
+                .date(LocalDateTime.of(2026, 7, 18, 23, 0))
+                .stageId(mainStageId)
+                .associatedArtist("Inna")
+                .capacity(1000)
+                .build());
+        entityManager.flush();
+        assertTrue(eventService.getEventsByArtistId(6L).isEmpty());
+
+        reset(artistServiceClient);
+        when(artistServiceClient.resolveArtistIds(List.of("inna"), "Gateway-Service")).thenReturn(Map.of("inna", 6L));
+        artistLinkResolver.bindUnresolved();
+        entityManager.clear();
+
+        assertEquals(List.of("Late Night"),
+                eventService.getEventsByArtistId(6L).stream().map(EventResponseDTO::getName).toList());
+    }
+
+    @Test
+    void testCreateEvents_BatchInsertsAcceptedItems() {
+        when(artistServiceClient.resolveArtistIds(any(), anyString())).thenReturn(Map.of("lineup artist", 9L));
+        statistics.clear();
+
+        BulkEventResultDTO result = eventService.createEvents(List.of(
+                bulkItem("Opening Set", LocalDateTime.of(2026, 7, 15, 18, 30)),
+                bulkItem("Closing Set", LocalDateTime.of(2026, 7, 19, 22, 0)),
+                bulkItem("After Party", LocalDateTime.of(2026, 7, 19, 23, 0))));
+
+        assertEquals(1, result.getCreated());
+        assertEquals("Closing Set", result.getResults().get(1).getEvent().getName());
+        assertNotNull(result.getResults().get(1).getEvent().getId());
+        // Stages and existing events are read once each, links resolve their artist ids once; inserts go through JDBC.
+        assertEquals(3, statistics.getPrepareStatementCount());
+
+        entityManager.clear();
+        assertEquals(5, eventRepository.count());
+        assertEquals(1, eventService.getEventsByArtistId(9L).size());
+    }
+
+    @Test
+    void testWrites_AppendToChangeLog() {
+        EventResponseDTO created = eventService.createEvent(EventCreateDTO.builder()
+                .name("Change Feed Night")
+                .date(LocalDateTime.of(2026, 7, 21, 20, 0))
+                .stageId(mainStageId)
+                .associatedArtist("Feed Artist")
+                .capacity(1200)
+                .build());
+        eventService.deleteEvent(created.getId());
+        entityManager.flush();
+
+        List<ChangeLogEntry> entries = changeLogRepository.findAll(Sort.by("id"));
+        assertEquals(List.of(ChangeEventDTO.CREATED, ChangeEventDTO.DELETED),
+                entries.stream().map(ChangeLogEntry::getOperation).toList());
+        assertEquals(created.getId(), entries.get(0).getEntityId());
+        assertTrue(entries.get(0).getPayload().contains("Change Feed Night"));
+        assertNull(entries.get(1).getPayload());
+    }
+
+    @Test
+    void testExport_StreamsOneJsonLinePerEvent() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entityManager.clear();
+        statistics.clear();
+
+        long exported = eventExporter.export(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, exported);
+        assertEquals(4, lines.length);
+        assertEquals("Summer Festival", objectMapper.readTree(lines[0]).get("name").asText());
+        assertEquals("Main Stage", objectMapper.readTree(lines[0]).get("stageName").asText());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testExportPages_WalkAllEventsInIdOrder() {
+        List<Long> ids = new ArrayList<>();
+        List<EventResponseDTO> page = eventRepository.findResponsesAfterId(0, PageRequest.of(0, 3));
+        assertEquals(3, page.size());
+        page.forEach(event -> ids.add(event.getId()));
+        page = eventRepository.findResponsesAfterId(ids.get(2), PageRequest.of(0, 3));
+        page.forEach(event -> ids.add(event.getId()));
+
+        assertEquals(eventRepository.findAll().stream().map(Event::getId).sorted().toList(), ids);
+    }
+
+    @Test
+    void testEntityMapping_LoadsStagesLazily() {
+        // Control: mapping entities one by one issues one extra query per distinct stage.
+        statistics.clear();
+
+        eventRepository.findAll().forEach(eventMapper::toResponseDTO);
+
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    private void assertNoStatement(Supplier<List<EventResponseDTO>> request, int expectedSize) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<EventResponseDTO> result = request.get();
+
+        assertEquals(expectedSize, result.size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    private void assertSingleStatement(Supplier<List<EventResponseDTO>> request, int expectedSize) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<EventResponseDTO> result = request.get();
+
+        assertEquals(expectedSize, result.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private List<String> walkPages(Function<String, CursorPageDTO<EventResponseDTO>> request) {
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        do {
+            entityManager.clear();
+            CursorPageDTO<EventResponseDTO> page = request.apply(cursor);
+            page.getItems().forEach(event -> names.add(event.getName()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return names;
+    }
+
+    private EventCreateDTO bulkItem(String name, LocalDateTime date) {
+        return EventCreateDTO.builder()
+                .name(name)
+                .date(date)
+                .stageId(mainStageId)
+                .associatedArtist("Lineup Artist")
+                .capacity(1000)
+                .build();
+    }
+
+    private Stage persistStage(String name) {
+        Stage stage = new Stage();
+        stage.setName(name);
+        stage.setLocation("Central Park");
+        stage.setMaxCapacity(50000);
+        return entityManager.persist(stage);
+    }
+
+    private void persistEvent(String name, LocalDateTime date, Stage stage, String artist, int capacity) {
+        Event event = new Event();
+        event.setName(name);
+        event.setDate(date);
+        event.setEndDate(date.plusHours(2));
+        event.setStage(stage);
+        event.setAssociatedArtist(artist);
+        event.setCapacity(capacity);
+        entityManager.persist(event);
+    }
+}
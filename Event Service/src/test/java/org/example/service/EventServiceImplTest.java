@@ -1,22 +1,37 @@
 package org.example.service;
 
-import org.example.client.TicketServiceClient;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.example.common.cache.CacheInvalidationBus;
 import org.example.dto.*;
 import org.example.entity.Event;
+import org.example.entity.EventArtist;
 import org.example.entity.Stage;
+import org.example.exception.StageBookingConflictException;
 import org.example.mapper.EventMapper;
+import org.example.repository.EventArtistRepository;
 import org.example.repository.EventRepository;
 import org.example.repository.StageRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -35,7 +50,37 @@ class EventServiceImplTest {
     private EventMapper eventMapper;
 
     @Mock
-    private TicketServiceClient ticketServiceClient;
+    private TicketInfoFetcher ticketInfoFetcher;
+
+    @Mock
+    private StageScheduleIndex stageScheduleIndex;
+
+    @Mock
+    private EventStatisticsCounters eventStatisticsCounters;
+
+    @Mock
+    private EventArtistRepository eventArtistRepository;
+
+    @Mock
+    private ArtistLinkResolver artistLinkResolver;
+
+    @Mock
+    private StageBookingLocks stageBookingLocks;
+
+    @Mock
+    private EventCatalog eventCatalog;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private ChangeFeed changeFeed;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
     @InjectMocks
     private EventServiceImpl eventService;
@@ -58,6 +103,7 @@ class EventServiceImplTest {
         event.setId(1L);
         event.setName("Summer Festival");
         event.setDate(LocalDateTime.of(2026, 7, 15, 20, 0));
+        event.setEndDate(LocalDateTime.of(2026, 7, 15, 22, 0));
         event.setStage(stage);
         event.setAssociatedArtist("Famous Artist");
         event.setCapacity(3000);
@@ -92,8 +138,7 @@ class EventServiceImplTest {
     @Test
     void testGetAllEvents_Success() {
         // Given
-        when(eventRepository.findAll()).thenReturn(Arrays.asList(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
+        when(eventCatalog.current()).thenReturn(snapshot(eventResponseDTO));
 
         // When
         List<EventResponseDTO> result = eventService.getAllEvents();
@@ -101,13 +146,13 @@ class EventServiceImplTest {
         // Then
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(eventRepository).findAll();
+        verifyNoInteractions(eventRepository);
     }
 
     @Test
     void testGetAllEvents_Empty() {
         // Given
-        when(eventRepository.findAll()).thenReturn(Collections.emptyList());
+        when(eventCatalog.current()).thenReturn(snapshot());
 
         // When
         List<EventResponseDTO> result = eventService.getAllEvents();
@@ -119,8 +164,7 @@ class EventServiceImplTest {
     @Test
     void testGetEventById_Success() {
         // Given
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
+        when(eventCatalog.current()).thenReturn(snapshot(eventResponseDTO));
 
         // When
         EventResponseDTO result = eventService.getEventById(1L);
@@ -128,13 +172,28 @@ class EventServiceImplTest {
         // Then
         assertNotNull(result);
         assertEquals(1L, result.getId());
-        verify(eventRepository).findById(1L);
+        verifyNoInteractions(eventRepository, eventMapper);
+    }
+
+    @Test
+    void testGetEventById_NotYetInSnapshot() {
+        // Given
+        when(eventCatalog.current()).thenReturn(snapshot());
+        when(eventRepository.findResponseById(1L)).thenReturn(Optional.of(eventResponseDTO));
+
+        // When
+        EventResponseDTO result = eventService.getEventById(1L);
+
+        // Then
+        assertEquals(1L, result.getId());
+        verify(eventRepository).findResponseById(1L);
     }
 
     @Test
     void testGetEventById_NotFound() {
         // Given
-        when(eventRepository.findById(99L)).thenReturn(Optional.empty());
+        when(eventCatalog.current()).thenReturn(snapshot());
+        when(eventRepository.findResponseById(99L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(RuntimeException.class, () -> eventService.getEventById(99L));
@@ -144,9 +203,9 @@ class EventServiceImplTest {
     void testCreateEvent_Success() {
         // Given
         when(stageRepository.findById(1L)).thenReturn(Optional.of(stage));
-        when(eventRepository.findConflictingEvents(anyLong(), any(), any())).thenReturn(Collections.emptyList());
+        when(stageScheduleIndex.isAvailable(eq(1L), any(), any(), isNull())).thenReturn(true);
         when(eventMapper.toEntity(eventCreateDTO, stage)).thenReturn(event);
-        when(eventRepository.save(event)).thenReturn(event);
+        when(eventRepository.saveAndFlush(event)).thenReturn(event);
         when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
 
         // When
@@ -155,7 +214,12 @@ class EventServiceImplTest {
         // Then
         assertNotNull(result);
         assertEquals("Summer Festival", result.getName());
-        verify(eventRepository).save(any(Event.class));
+        verify(eventRepository).saveAndFlush(any(Event.class));
+        verify(stageScheduleIndex).put(1L, 1L, event.getDate(), event.getDate().plusHours(2));
+        verify(eventStatisticsCounters).eventAdded(event.getDate(), 1L, 3000);
+        verify(eventCatalog).refreshAfterCommit();
+        verify(changeFeed).record(ChangeEventDTO.EVENT, ChangeEventDTO.CREATED, 1L, eventResponseDTO);
+        verify(eventRepository, never()).findConflictingEvents(anyLong(), any(), any());
     }
 
     @Test
@@ -167,15 +231,203 @@ class EventServiceImplTest {
         assertThrows(RuntimeException.class, () -> eventService.createEvent(eventCreateDTO));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCreateEvent_LinksEachListedArtist() {
+        // Given
+        event.setAssociatedArtist("Oscar, Ian ,oscar,  ");
+        eventCreateDTO.setAssociatedArtist(event.getAssociatedArtist());
+        when(stageRepository.findById(1L)).thenReturn(Optional.of(stage));
+        when(stageScheduleIndex.isAvailable(eq(1L), any(), any(), isNull())).thenReturn(true);
+        when(eventMapper.toEntity(eventCreateDTO, stage)).thenReturn(event);
+        when(eventRepository.saveAndFlush(event)).thenReturn(event);
+        when(artistLinkResolver.artistIds(Set.of("oscar", "ian"))).thenReturn(Map.of("oscar", 7L));
+
+        // When
+        eventService.createEvent(eventCreateDTO);
+
+        // Then
+        ArgumentCaptor<List<EventArtist>> links = ArgumentCaptor.forClass(List.class);
+        verify(eventArtistRepository).saveAll(links.capture());
+        assertEquals(2, links.getValue().size());
+        assertEquals("Oscar", links.getValue().get(0).getArtistName());
+        assertEquals(7L, links.getValue().get(0).getArtistId());
+        assertEquals("ian", links.getValue().get(1).getArtistKey());
+        assertNull(links.getValue().get(1).getArtistId());
+        verify(eventArtistRepository, never()).findByEventId(anyLong());
+    }
+
+    @Test
+    void testCreateEvent_ResolvesArtistsBeforeTransactionAndLock() {
+        // Given
+        when(stageRepository.findById(1L)).thenReturn(Optional.of(stage));
+        when(stageScheduleIndex.isAvailable(eq(1L), any(), any(), isNull())).thenReturn(true);
+        when(eventMapper.toEntity(eventCreateDTO, stage)).thenReturn(event);
+        when(eventRepository.saveAndFlush(event)).thenReturn(event);
+
+        // When
+        eventService.createEvent(eventCreateDTO);
+
+        // Then
+        InOrder inOrder = inOrder(artistLinkResolver, transactionManager, stageBookingLocks);
+        inOrder.verify(artistLinkResolver).artistIds(Set.of("famous artist"));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(stageBookingLocks).lockUntilCompletion(List.of(1L));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testCreateEvents_RejectsInvalidAndConflictingItems() {
+        // Given
+        List<EventCreateDTO> batch = Arrays.asList(
+                bulkItem("Late Show", LocalDateTime.of(2026, 7, 15, 21, 0), 1L),
+                bulkItem("Morning Set", LocalDateTime.of(2026, 7, 15, 10, 0), 1L),
+                bulkItem("Overlapping Set", LocalDateTime.of(2026, 7, 15, 11, 0), 1L),
+                bulkItem("Unknown Stage", LocalDateTime.of(2026, 7, 15, 12, 0), 99L),
+                bulkItem("Afternoon Set", LocalDateTime.of(2026, 7, 15, 14, 0), 1L),
+                EventCreateDTO.builder().name(" ").date(LocalDateTime.of(2026, 7, 15, 16, 0)).stageId(1L)
+                        .associatedArtist("Famous Artist").capacity(0).build());
+        when(stageRepository.findAllById(anyCollection())).thenReturn(List.of(stage));
+        when(eventRepository.findScheduledOnStages(eq(Set.of(1L)), any(), any())).thenReturn(List.of(event));
+        when(eventMapper.toEntity(any(EventCreateDTO.class), eq(stage))).thenAnswer(invocation -> {
+            EventCreateDTO item = invocation.getArgument(0);
+            Event created = new Event();
+            created.setName(item.getName());
+            created.setDate(item.getDate());
+            created.setStage(stage);
+            created.setAssociatedArtist(item.getAssociatedArtist());
+            created.setCapacity(item.getCapacity());
+            return created;
+        });
+        doAnswer(invocation -> {
+            List<Event> events = invocation.getArgument(0);
+            long id = 10L;
+            for (Event created : events) {
+                created.setId(id++);
+            }
+            return null;
+        }).when(eventRepository).insertEvents(anyList());
+        when(eventMapper.toResponseDTO(any(Event.class))).thenReturn(eventResponseDTO);
+
+        // When
+        BulkEventResultDTO result = eventService.createEvents(batch);
+
+        // Then
+        assertEquals(2, result.getCreated());
+        assertEquals(4, result.getRejected());
+        List<BulkEventItemResultDTO> results = result.getResults();
+        assertEquals(BulkEventItemResultDTO.REJECTED, results.get(0).getStatus());
+        assertTrue(results.get(0).getError().contains("evenimentul 1"));
+        assertEquals(BulkEventItemResultDTO.CREATED, results.get(1).getStatus());
+        assertEquals(BulkEventItemResultDTO.REJECTED, results.get(2).getStatus());
+        assertTrue(results.get(2).getError().contains("elementul 1"));
+        assertEquals(BulkEventItemResultDTO.REJECTED, results.get(3).getStatus());
+        assertTrue(results.get(3).getError().contains("99"));
+        assertEquals(BulkEventItemResultDTO.CREATED, results.get(4).getStatus());
+        assertEquals("Capacitatea trebuie sa fie pozitiva; Numele concertului este obligatoriu", results.get(5).getError());
+
+        ArgumentCaptor<List<Event>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(eventRepository).insertEvents(inserted.capture());
+        assertEquals(List.of("Morning Set", "Afternoon Set"),
+                inserted.getValue().stream().map(Event::getName).toList());
+        verify(eventRepository).insertArtistLinks(argThat(links -> links.size() == 2));
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+
+    @Test
+    void testCreateEvents_TooManyItems() {
+        // Given
+        List<EventCreateDTO> batch = Collections.nCopies(501, eventCreateDTO);
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> eventService.createEvents(batch));
+        verify(eventRepository, never()).insertEvents(anyList());
+    }
+
     @Test
     void testCreateEvent_ConflictingEvent() {
         // Given
         when(stageRepository.findById(1L)).thenReturn(Optional.of(stage));
-        when(eventRepository.findConflictingEvents(anyLong(), any(), any()))
-                .thenReturn(Collections.singletonList(event));
+        when(stageScheduleIndex.isAvailable(eq(1L), any(), any(), isNull())).thenReturn(false);
+
+        // When & Then
+        assertThrows(StageBookingConflictException.class, () -> eventService.createEvent(eventCreateDTO));
+        verify(stageBookingLocks).lockUntilCompletion(List.of(1L));
+        verify(eventRepository, never()).saveAndFlush(any(Event.class));
+    }
+
+    @Test
+    void testCreateEvent_WithDuration() {
+        // Given
+        eventCreateDTO.setDurationMinutes(90);
+        LocalDateTime start = eventCreateDTO.getDate();
+        when(stageRepository.findById(1L)).thenReturn(Optional.of(stage));
+        when(stageScheduleIndex.isAvailable(1L, start, start.plusMinutes(90), null)).thenReturn(true);
+        when(eventMapper.toEntity(eventCreateDTO, stage)).thenReturn(event);
+        when(eventRepository.saveAndFlush(event)).thenReturn(event);
+
+        // When
+        eventService.createEvent(eventCreateDTO);
+
+        // Then
+        assertEquals(start.plusMinutes(90), event.getEndDate());
+        verify(stageScheduleIndex).put(1L, 1L, start, start.plusMinutes(90));
+    }
+
+    @Test
+    void testCreateEvent_EndDateDisagreesWithDuration() {
+        // Given
+        eventCreateDTO.setEndDate(eventCreateDTO.getDate().plusHours(3));
+        eventCreateDTO.setDurationMinutes(90);
+        when(stageRepository.findById(1L)).thenReturn(Optional.of(stage));
+
+        // When & Then
+        assertFalse(validator.validate(eventCreateDTO).isEmpty());
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> eventService.createEvent(eventCreateDTO));
+        assertTrue(exception.getMessage().contains("nu corespunde duratei"));
+        verifyNoInteractions(stageScheduleIndex);
+
+        // When & Then
+        eventCreateDTO.setDurationMinutes(180);
+        assertTrue(validator.validate(eventCreateDTO).isEmpty());
+    }
+
+    @Test
+    void testCreateEvent_EndBeforeStart() {
+        // Given
+        eventCreateDTO.setEndDate(eventCreateDTO.getDate().minusHours(1));
+        when(stageRepository.findById(1L)).thenReturn(Optional.of(stage));
 
         // When & Then
         assertThrows(RuntimeException.class, () -> eventService.createEvent(eventCreateDTO));
+        verifyNoInteractions(stageScheduleIndex);
+    }
+
+    @Test
+    void testCreateEvent_ExclusionConstraintViolation() {
+        // Given
+        when(stageRepository.findById(1L)).thenReturn(Optional.of(stage));
+        when(stageScheduleIndex.isAvailable(eq(1L), any(), any(), isNull())).thenReturn(true);
+        when(eventMapper.toEntity(eventCreateDTO, stage)).thenReturn(event);
+        when(eventRepository.saveAndFlush(event)).thenThrow(new DataIntegrityViolationException("conflict",
+                new SQLException("conflicting key value violates exclusion constraint", "23P01")));
+
+        // When & Then
+        assertThrows(StageBookingConflictException.class, () -> eventService.createEvent(eventCreateDTO));
+        verify(eventArtistRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testCreateEvent_OtherIntegrityViolationIsRethrown() {
+        // Given
+        when(stageRepository.findById(1L)).thenReturn(Optional.of(stage));
+        when(stageScheduleIndex.isAvailable(eq(1L), any(), any(), isNull())).thenReturn(true);
+        when(eventMapper.toEntity(eventCreateDTO, stage)).thenReturn(event);
+        when(eventRepository.saveAndFlush(event)).thenThrow(new DataIntegrityViolationException("not null",
+                new SQLException("null value in column", "23502")));
+
+        // When & Then
+        assertThrows(DataIntegrityViolationException.class, () -> eventService.createEvent(eventCreateDTO));
     }
 
     @Test
@@ -183,7 +435,8 @@ class EventServiceImplTest {
         // Given
         when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
         when(stageRepository.findById(1L)).thenReturn(Optional.of(stage));
-        when(eventRepository.save(event)).thenReturn(event);
+        when(stageScheduleIndex.isAvailable(eq(1L), any(), any(), eq(1L))).thenReturn(true);
+        when(eventRepository.saveAndFlush(event)).thenReturn(event);
         when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
 
         // When
@@ -192,6 +445,23 @@ class EventServiceImplTest {
         // Then
         assertNotNull(result);
         verify(eventMapper).updateEntityFromDTO(eq(eventDTO), eq(event), eq(stage));
+        assertEquals(LocalDateTime.of(2026, 7, 16, 23, 0), event.getEndDate());
+        verify(eventStatisticsCounters).eventRemoved(event.getDate(), 1L, 3000);
+        verify(eventStatisticsCounters).eventAdded(event.getDate(), 1L, 3000);
+        verify(eventCatalog).refreshAfterCommit();
+    }
+
+    @Test
+    void testUpdateEvent_ConflictingEvent() {
+        // Given
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(stageRepository.findById(1L)).thenReturn(Optional.of(stage));
+        when(stageScheduleIndex.isAvailable(eq(1L), any(), any(), eq(1L))).thenReturn(false);
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> eventService.updateEvent(1L, eventDTO));
+        verify(eventRepository, never()).save(any(Event.class));
+        verifyNoInteractions(eventCatalog);
     }
 
     @Test
@@ -206,31 +476,36 @@ class EventServiceImplTest {
     @Test
     void testDeleteEvent_Success() {
         // Given
-        when(eventRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(eventRepository).deleteById(1L);
+        LocalDateTime date = event.getDate();
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
 
         // When
         assertDoesNotThrow(() -> eventService.deleteEvent(1L));
 
         // Then
-        verify(eventRepository).deleteById(1L);
+        verify(eventRepository).delete(event);
+        verify(stageScheduleIndex).remove(1L);
+        verify(eventStatisticsCounters).eventRemoved(date, 1L, 3000);
+        verify(eventCatalog).refreshAfterCommit();
+        verify(cacheInvalidationBus).publish(CatalogInvalidationSubscriber.EVENTS, 1L);
+        verify(changeFeed).record(ChangeEventDTO.EVENT, ChangeEventDTO.DELETED, 1L, null);
     }
 
     @Test
     void testDeleteEvent_NotFound() {
         // Given
-        when(eventRepository.existsById(99L)).thenReturn(false);
+        when(eventRepository.findById(99L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(RuntimeException.class, () -> eventService.deleteEvent(99L));
+        verify(eventRepository, never()).delete(any(Event.class));
     }
 
     @Test
     void testSearchByName_Success() {
         // Given
-        when(eventRepository.findByNameContainingIgnoreCase("Summer"))
-                .thenReturn(Collections.singletonList(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
+        when(eventRepository.findResponsesByNameContaining("Summer"))
+                .thenReturn(Collections.singletonList(eventResponseDTO));
 
         // When
         List<EventResponseDTO> result = eventService.searchByName("Summer");
@@ -239,17 +514,50 @@ class EventServiceImplTest {
         assertEquals(1, result.size());
     }
 
+    @Test
+    void testSearchByName_EscapesLikeWildcards() {
+        // Given
+        when(eventRepository.findResponsesByNameContaining("100\\%\\_x")).thenReturn(Collections.emptyList());
+
+        // When
+        List<EventResponseDTO> result = eventService.searchByName("100%_x");
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testSearchByNameRanked_Success() {
+        // Given
+        when(eventRepository.searchResponsesByNameRanked("Summer", "Summer", PageRequest.of(0, 5)))
+                .thenReturn(Collections.singletonList(eventResponseDTO));
+
+        // When
+        List<EventResponseDTO> result = eventService.searchByNameRanked("Summer", 5);
+
+        // Then
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void testSearchByNameRanked_InvalidLimit() {
+        // When & Then
+        assertThrows(RuntimeException.class, () -> eventService.searchByNameRanked("Summer", 0));
+        assertThrows(RuntimeException.class, () -> eventService.filterByArtistRanked("Famous", 1000));
+        verifyNoInteractions(eventRepository);
+    }
+
     @Test
     void testFilterByStage_Success() {
         // Given
-        when(eventRepository.findByStageId(1L)).thenReturn(Collections.singletonList(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
+        when(eventCatalog.current()).thenReturn(snapshot(eventResponseDTO, response(2L, 2L, 1000,
+                LocalDateTime.of(2026, 7, 15, 18, 0))));
 
         // When
         List<EventResponseDTO> result = eventService.filterByStage(1L);
 
         // Then
-        assertEquals(1, result.size());
+        assertEquals(List.of(eventResponseDTO), result);
     }
 
     @Test
@@ -257,9 +565,8 @@ class EventServiceImplTest {
         // Given
         LocalDateTime start = LocalDateTime.of(2026, 1, 1, 0, 0);
         LocalDateTime end = LocalDateTime.of(2026, 12, 31, 23, 59);
-        when(eventRepository.findByDateBetween(start, end))
-                .thenReturn(Collections.singletonList(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
+        when(eventCatalog.current()).thenReturn(snapshot(eventResponseDTO, response(2L, 1L, 1000,
+                LocalDateTime.of(2027, 1, 1, 0, 0))));
 
         // When
         List<EventResponseDTO> result = eventService.filterByDate(start, end);
@@ -272,77 +579,145 @@ class EventServiceImplTest {
     void testFilterBySpecificDate_Success() {
         // Given
         LocalDate date = LocalDate.of(2026, 7, 15);
-        when(eventRepository.findByDateBetween(any(), any()))
-                .thenReturn(Collections.singletonList(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
+        EventResponseDTO midnight = response(2L, 1L, 1000, LocalDateTime.of(2026, 7, 15, 0, 0));
+        when(eventCatalog.current()).thenReturn(snapshot(eventResponseDTO, midnight,
+                response(3L, 1L, 1000, LocalDateTime.of(2026, 7, 16, 0, 0))));
 
         // When
         List<EventResponseDTO> result = eventService.filterBySpecificDate(date);
 
         // Then
-        assertEquals(1, result.size());
+        assertEquals(List.of(midnight, eventResponseDTO), result);
     }
 
     @Test
     void testFilterByCapacity_Success() {
         // Given
-        when(eventRepository.findByCapacityGreaterThanEqual(1000))
-                .thenReturn(Collections.singletonList(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
+        EventResponseDTO exact = response(2L, 1L, 1000, LocalDateTime.of(2026, 7, 16, 20, 0));
+        when(eventCatalog.current()).thenReturn(snapshot(exact, eventResponseDTO,
+                response(3L, 1L, 999, LocalDateTime.of(2026, 7, 17, 20, 0))));
 
         // When
         List<EventResponseDTO> result = eventService.filterByCapacity(1000);
 
         // Then
-        assertEquals(1, result.size());
+        assertEquals(List.of(eventResponseDTO, exact), result);
     }
 
     @Test
     void testSortByDate_Ascending() {
         // Given
-        when(eventRepository.findAll()).thenReturn(Collections.singletonList(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
+        EventResponseDTO earlier = response(2L, 1L, 1000, LocalDateTime.of(2026, 7, 14, 20, 0));
+        when(eventCatalog.current()).thenReturn(snapshot(eventResponseDTO, earlier));
 
         // When
         List<EventResponseDTO> result = eventService.sortByDate("asc");
 
         // Then
-        assertFalse(result.isEmpty());
+        assertEquals(List.of(earlier, eventResponseDTO), result);
     }
 
     @Test
     void testSortByDate_Descending() {
         // Given
-        when(eventRepository.findAll()).thenReturn(Collections.singletonList(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
+        EventResponseDTO earlier = response(2L, 1L, 1000, LocalDateTime.of(2026, 7, 14, 20, 0));
+        when(eventCatalog.current()).thenReturn(snapshot(earlier, eventResponseDTO));
 
         // When
         List<EventResponseDTO> result = eventService.sortByDate("desc");
 
         // Then
-        assertFalse(result.isEmpty());
+        assertEquals(List.of(eventResponseDTO, earlier), result);
     }
 
     @Test
     void testSortByCapacity_Ascending() {
         // Given
-        when(eventRepository.findAll()).thenReturn(Collections.singletonList(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
+        EventResponseDTO smaller = response(2L, 1L, 1000, LocalDateTime.of(2026, 7, 16, 20, 0));
+        when(eventCatalog.current()).thenReturn(snapshot(eventResponseDTO, smaller));
 
         // When
         List<EventResponseDTO> result = eventService.sortByCapacity("asc");
 
         // Then
-        assertFalse(result.isEmpty());
+        assertEquals(List.of(smaller, eventResponseDTO), result);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void testSortByDatePage_FirstPageHasMore() {
+        // Given
+        Event second = new Event();
+        second.setId(2L);
+        second.setDate(LocalDateTime.of(2026, 7, 16, 20, 0));
+        second.setStage(stage);
+        second.setCapacity(1000);
+        when(eventRepository.findFirstPage(PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "date", "id"))))
+                .thenReturn(Arrays.asList(event, second));
+        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
+
+        // When
+        CursorPageDTO<EventResponseDTO> result = eventService.sortByDatePage("asc", null, 1);
+
+        // Then
+        assertEquals(1, result.getItems().size());
+        assertTrue(result.isHasMore());
+        assertNotNull(result.getNextCursor());
+        verify(eventMapper, never()).toResponseDTO(second);
+    }
+
+    @Test
+    void testSortByDatePage_NextPageUsesCursor() {
+        // Given
+        when(eventRepository.findFirstPage(any(Pageable.class))).thenReturn(Arrays.asList(event, event));
+        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
+        String cursor = eventService.sortByDatePage("desc", null, 1).getNextCursor();
+        when(eventRepository.findPageBeforeDate(event.getDate(), 1L, PageRequest.of(0, 2)))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        CursorPageDTO<EventResponseDTO> result = eventService.sortByDatePage("desc", cursor, 1);
+
+        // Then
+        assertTrue(result.getItems().isEmpty());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void testSortByCapacityPage_NextPageUsesCursor() {
+        // Given
+        when(eventRepository.findFirstPage(any(Pageable.class))).thenReturn(Arrays.asList(event, event));
+        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
+        String cursor = eventService.sortByCapacityPage("asc", null, 1).getNextCursor();
+        when(eventRepository.findPageAfterCapacity(3000, 1L, PageRequest.of(0, 2)))
+                .thenReturn(Collections.singletonList(event));
+
+        // When
+        CursorPageDTO<EventResponseDTO> result = eventService.sortByCapacityPage("asc", cursor, 1);
+
+        // Then
+        assertEquals(1, result.getItems().size());
+        assertFalse(result.isHasMore());
+    }
+
+    @Test
+    void testSortByDatePage_InvalidCursorOrSize() {
+        // When & Then
+        assertThrows(RuntimeException.class, () -> eventService.sortByDatePage("asc", "not-a-cursor", 10));
+        assertThrows(RuntimeException.class, () -> eventService.sortByDatePage("asc", null, 0));
+        assertThrows(RuntimeException.class, () -> eventService.getEventsPage(null, 1000));
+        verifyNoInteractions(eventRepository);
     }
 
     @Test
     void testCheckStageAvailability_Available() {
         // Given
         LocalDateTime date = LocalDateTime.of(2026, 7, 15, 14, 0);
+        List<LocalDateTime> freeSlots = List.of(LocalDateTime.of(2026, 7, 15, 9, 0));
         when(stageRepository.findAll()).thenReturn(Collections.singletonList(stage));
-        when(eventRepository.findConflictingEvents(eq(1L), any(), any()))
-                .thenReturn(Collections.emptyList());
+        when(stageScheduleIndex.isAvailable(eq(1L), eq(date), eq(date.plusHours(2)), isNull())).thenReturn(true);
+        when(stageScheduleIndex.findFreeSlots(eq(1L), any(), any(), any())).thenReturn(freeSlots);
 
         // When
         List<StageAvailabilityDTO> result = eventService.checkStageAvailability(date);
@@ -350,6 +725,8 @@ class EventServiceImplTest {
         // Then
         assertEquals(1, result.size());
         assertTrue(result.get(0).isAvailable());
+        assertEquals(freeSlots, result.get(0).getAvailableTimeSlots());
+        verify(eventRepository, never()).findConflictingEvents(anyLong(), any(), any());
     }
 
     @Test
@@ -357,8 +734,7 @@ class EventServiceImplTest {
         // Given
         LocalDateTime date = LocalDateTime.of(2026, 7, 15, 20, 0);
         when(stageRepository.findAll()).thenReturn(Collections.singletonList(stage));
-        when(eventRepository.findConflictingEvents(eq(1L), any(), any()))
-                .thenReturn(Collections.singletonList(event));
+        when(stageScheduleIndex.isAvailable(eq(1L), any(), any(), isNull())).thenReturn(false);
 
         // When
         List<StageAvailabilityDTO> result = eventService.checkStageAvailability(date);
@@ -369,51 +745,109 @@ class EventServiceImplTest {
     }
 
     @Test
-    void testGetStageSchedule_Success() {
+    void testGetAvailabilityMatrix_Success() {
         // Given
-        when(eventRepository.findAllByStageIdOrderByDate(1L))
+        LocalDate startDate = LocalDate.of(2026, 7, 15);
+        LocalDate endDate = LocalDate.of(2026, 7, 16);
+        when(eventRepository.findOverlapping(LocalDateTime.of(2026, 7, 15, 9, 0), LocalDateTime.of(2026, 7, 16, 23, 0)))
                 .thenReturn(Collections.singletonList(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
+        when(stageRepository.findAll()).thenReturn(Collections.singletonList(stage));
 
         // When
-        List<EventResponseDTO> result = eventService.getStageSchedule(1L);
+        StageAvailabilityMatrixDTO result = eventService.getAvailabilityMatrix(startDate, endDate, 120);
 
         // Then
-        assertEquals(1, result.size());
+        assertEquals(7, result.getSlotStartTimes().size());
+        assertEquals(1, result.getStages().size());
+        assertEquals(List.of("1111100", "1111111"), result.getStages().get(0).getDays());
+        verify(eventRepository, times(1)).findOverlapping(any(), any());
+        verify(eventRepository, never()).findConflictingEvents(anyLong(), any(), any());
     }
 
     @Test
-    void testGenerateStatistics_Success() {
+    void testGetAvailabilityMatrix_UsesEventEndTime() {
         // Given
-        when(eventRepository.findAll()).thenReturn(Collections.singletonList(event));
+        event.setDate(LocalDateTime.of(2026, 7, 15, 9, 0));
+        event.setEndDate(LocalDateTime.of(2026, 7, 15, 9, 30));
+        when(eventRepository.findOverlapping(any(), any())).thenReturn(Collections.singletonList(event));
+        when(stageRepository.findAll()).thenReturn(Collections.singletonList(stage));
 
         // When
-        EventStatisticsDTO result = eventService.generateStatistics();
+        StageAvailabilityMatrixDTO result = eventService.getAvailabilityMatrix(
+                LocalDate.of(2026, 7, 15), LocalDate.of(2026, 7, 15), 60);
+
+        // Then
+        assertEquals(List.of("01111111111111"), result.getStages().get(0).getDays());
+    }
+
+    @Test
+    void testGetEventsRunningAt_LoadsRunningEvents() {
+        // Given
+        LocalDateTime at = LocalDateTime.of(2026, 7, 15, 21, 0);
+        when(eventRepository.findIdsRunningAt(at)).thenReturn(List.of(1L));
+        when(eventRepository.findResponsesByIds(List.of(1L))).thenReturn(List.of(eventResponseDTO));
+
+        // When
+        List<EventResponseDTO> result = eventService.getEventsRunningAt(at);
 
         // Then
-        assertEquals(1L, result.getTotalEvents());
-        assertEquals(3000L, result.getTotalParticipants());
+        assertEquals(List.of(eventResponseDTO), result);
     }
 
     @Test
-    void testGenerateStatistics_Empty() {
+    void testGetEventsRunningAt_NothingRunning() {
         // Given
-        when(eventRepository.findAll()).thenReturn(Collections.emptyList());
+        when(eventRepository.findIdsRunningAt(any())).thenReturn(Collections.emptyList());
+
+        // When
+        List<EventResponseDTO> result = eventService.getEventsRunningAt(LocalDateTime.of(2026, 7, 15, 5, 0));
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(eventRepository, never()).findResponsesByIds(any());
+    }
+
+    @Test
+    void testGetAvailabilityMatrix_InvalidRange() {
+        // When & Then
+        assertThrows(RuntimeException.class, () -> eventService.getAvailabilityMatrix(
+                LocalDate.of(2026, 7, 16), LocalDate.of(2026, 7, 15), 120));
+        assertThrows(RuntimeException.class, () -> eventService.getAvailabilityMatrix(
+                LocalDate.of(2026, 7, 15), LocalDate.of(2026, 7, 16), 0));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void testGetStageSchedule_Success() {
+        // Given
+        when(eventCatalog.current()).thenReturn(snapshot(eventResponseDTO));
+
+        // When
+        List<EventResponseDTO> result = eventService.getStageSchedule(1L);
+
+        // Then
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void testGenerateStatistics_ServedFromCounters() {
+        // Given
+        EventStatisticsDTO statistics = new EventStatisticsDTO(1L, 3000L, Map.of(), Map.of(), Map.of(), Map.of(), List.of());
+        when(eventStatisticsCounters.snapshot()).thenReturn(statistics);
 
         // When
         EventStatisticsDTO result = eventService.generateStatistics();
 
         // Then
-        assertEquals(0L, result.getTotalEvents());
-        assertEquals(0L, result.getTotalParticipants());
+        assertSame(statistics, result);
+        verifyNoInteractions(eventRepository);
     }
 
     @Test
     void testFilterByArtist_Success() {
         // Given
-        when(eventRepository.findByAssociatedArtistContainingIgnoreCase("Famous"))
-                .thenReturn(Collections.singletonList(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
+        when(eventRepository.findResponsesByArtistContaining("Famous"))
+                .thenReturn(Collections.singletonList(eventResponseDTO));
 
         // When
         List<EventResponseDTO> result = eventService.filterByArtist("Famous");
@@ -422,13 +856,27 @@ class EventServiceImplTest {
         assertEquals(1, result.size());
     }
 
+    @Test
+    void testGetEventsByArtistId_OnlyLooksUpLinks() {
+        // Given
+        when(eventArtistRepository.findEventsByArtistId(7L)).thenReturn(Collections.singletonList(eventResponseDTO));
+
+        // When
+        List<EventResponseDTO> result = eventService.getEventsByArtistId(7L);
+
+        // Then
+        assertEquals(1, result.size());
+        verify(eventArtistRepository, never()).bindArtist(anyLong(), anyString());
+        verifyNoInteractions(artistLinkResolver);
+        verify(eventRepository, never()).findResponsesByArtistContaining(anyString());
+    }
+
     @Test
     void testGetEventWithTicketInfo_Available() {
         // Given
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
-        when(ticketServiceClient.getAvailableSeats(anyString(), anyString())).thenReturn(1000);
-        when(ticketServiceClient.getRevenueByFestival(anyString())).thenReturn(Map.of("Summer Festival", 50000.0));
+        when(eventCatalog.current()).thenReturn(snapshot(eventResponseDTO));
+        when(ticketInfoFetcher.getSummaries(List.of("Summer Festival")))
+                .thenReturn(summaries(new EventTicketSummaryDTO("Summer Festival", 1000L, 50000.0)));
 
         // When
         EventWithTicketInfoDTO result = eventService.getEventWithTicketInfo(1L, "EU");
@@ -441,10 +889,9 @@ class EventServiceImplTest {
     @Test
     void testGetEventWithTicketInfo_SoldOut() {
         // Given
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
-        when(ticketServiceClient.getAvailableSeats(anyString(), anyString())).thenReturn(0);
-        when(ticketServiceClient.getRevenueByFestival(anyString())).thenReturn(Map.of());
+        when(eventCatalog.current()).thenReturn(snapshot(eventResponseDTO));
+        when(ticketInfoFetcher.getSummaries(List.of("Summer Festival")))
+                .thenReturn(summaries(new EventTicketSummaryDTO("Summer Festival", 0L, 0.0)));
 
         // When
         EventWithTicketInfoDTO result = eventService.getEventWithTicketInfo(1L, "EU");
@@ -456,10 +903,9 @@ class EventServiceImplTest {
     @Test
     void testGetEventWithTicketInfo_Limited() {
         // Given
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
-        when(ticketServiceClient.getAvailableSeats(anyString(), anyString())).thenReturn(50);
-        when(ticketServiceClient.getRevenueByFestival(anyString())).thenReturn(Map.of());
+        when(eventCatalog.current()).thenReturn(snapshot(eventResponseDTO));
+        when(ticketInfoFetcher.getSummaries(List.of("Summer Festival")))
+                .thenReturn(summaries(new EventTicketSummaryDTO("Summer Festival", 50L, 0.0)));
 
         // When
         EventWithTicketInfoDTO result = eventService.getEventWithTicketInfo(1L, "EU");
@@ -471,10 +917,9 @@ class EventServiceImplTest {
     @Test
     void testGetEventWithTicketInfo_USRegion() {
         // Given
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
-        when(ticketServiceClient.getAvailableSeats(anyString(), anyString())).thenReturn(500);
-        when(ticketServiceClient.getRevenueByFestival(anyString())).thenReturn(Map.of("Summer Festival", 50000.0));
+        when(eventCatalog.current()).thenReturn(snapshot(eventResponseDTO));
+        when(ticketInfoFetcher.getSummaries(List.of("Summer Festival")))
+                .thenReturn(summaries(new EventTicketSummaryDTO("Summer Festival", 500L, 50000.0)));
 
         // When
         EventWithTicketInfoDTO result = eventService.getEventWithTicketInfo(1L, "US");
@@ -486,10 +931,9 @@ class EventServiceImplTest {
     @Test
     void testGetEventWithTicketInfo_RORegion() {
         // Given
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(eventResponseDTO);
-        when(ticketServiceClient.getAvailableSeats(anyString(), anyString())).thenReturn(500);
-        when(ticketServiceClient.getRevenueByFestival(anyString())).thenReturn(Map.of("Summer Festival", 50000.0));
+        when(eventCatalog.current()).thenReturn(snapshot(eventResponseDTO));
+        when(ticketInfoFetcher.getSummaries(List.of("Summer Festival")))
+                .thenReturn(summaries(new EventTicketSummaryDTO("Summer Festival", 500L, 50000.0)));
 
         // When
         EventWithTicketInfoDTO result = eventService.getEventWithTicketInfo(1L, "EU-RO");
@@ -497,4 +941,101 @@ class EventServiceImplTest {
         // Then
         assertTrue(result.getMessage().contains("RON"));
     }
+
+    @Test
+    void testGetEventsWithTicketInfo_SingleTicketServiceCall() {
+        // Given
+        EventResponseDTO other = response(2L, 1L, 500, LocalDateTime.of(2026, 6, 20, 20, 0));
+        when(eventCatalog.current()).thenReturn(snapshot(eventResponseDTO, other));
+        when(eventRepository.findResponsesByIds(List.of(3L))).thenReturn(List.of());
+        when(ticketInfoFetcher.fetchSummaries(Set.of("Event 2", "Summer Festival")))
+                .thenReturn(CompletableFuture.completedFuture(summaries(
+                        new EventTicketSummaryDTO("Summer Festival", 1000L, 50000.0),
+                        new EventTicketSummaryDTO("Event 2", 0L, 0.0))));
+        when(ticketInfoFetcher.fetchSummaries(List.of())).thenReturn(CompletableFuture.completedFuture(Map.of()));
+        when(ticketInfoFetcher.await(any())).thenAnswer(invocation -> invocation.<CompletableFuture<?>>getArgument(0).join());
+
+        // When
+        List<EventWithTicketInfoDTO> result = eventService.getEventsWithTicketInfo(List.of(2L, 1L, 3L, 2L), "EU");
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals("Event 2", result.get(0).getName());
+        assertEquals("SOLD_OUT", result.get(0).getTicketStatus());
+        assertEquals("AVAILABLE", result.get(1).getTicketStatus());
+        assertEquals(50000.0, result.get(1).getTotalRevenue());
+        verify(ticketInfoFetcher, never()).getSummaries(anyCollection());
+    }
+
+    @Test
+    void testGetEventsWithTicketInfo_TooManyIds() {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 101; id++) {
+            ids.add(id);
+        }
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> eventService.getEventsWithTicketInfo(ids, "EU"));
+        verifyNoInteractions(ticketInfoFetcher);
+    }
+
+    @Test
+    void testReserveTicketsForEvent_FetchesTicketInfoOnce() {
+        // Given
+        when(eventCatalog.current()).thenReturn(snapshot(eventResponseDTO));
+        when(ticketInfoFetcher.getSummaries(List.of("Summer Festival")))
+                .thenReturn(summaries(new EventTicketSummaryDTO("Summer Festival", 1000L, 50000.0)));
+
+        // When
+        EventWithTicketInfoDTO result = eventService.reserveTicketsForEvent(1L, 2, "VIP", "EU");
+
+        // Then
+        assertEquals(1000, result.getAvailableSeats());
+        verify(ticketInfoFetcher, times(1)).getSummaries(anyCollection());
+    }
+
+    @Test
+    void testReserveTicketsForEvent_NotEnoughSeats() {
+        // Given
+        when(eventCatalog.current()).thenReturn(snapshot(eventResponseDTO));
+        when(ticketInfoFetcher.getSummaries(List.of("Summer Festival")))
+                .thenReturn(summaries(new EventTicketSummaryDTO("Summer Festival", 1L, 100.0)));
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> eventService.reserveTicketsForEvent(1L, 2, "VIP", "EU"));
+    }
+
+    private EventCreateDTO bulkItem(String name, LocalDateTime date, Long stageId) {
+        return EventCreateDTO.builder()
+                .name(name)
+                .date(date)
+                .stageId(stageId)
+                .associatedArtist("Lineup Artist")
+                .capacity(1000)
+                .build();
+    }
+
+    private CatalogSnapshot snapshot(EventResponseDTO... events) {
+        return CatalogSnapshot.of(Collections.emptyList(), Arrays.asList(events));
+    }
+
+    private Map<String, EventTicketSummaryDTO> summaries(EventTicketSummaryDTO... summaries) {
+        Map<String, EventTicketSummaryDTO> byName = new HashMap<>();
+        for (EventTicketSummaryDTO summary : summaries) {
+            byName.put(summary.getEventName(), summary);
+        }
+        return byName;
+    }
+
+    private EventResponseDTO response(Long id, Long stageId, Integer capacity, LocalDateTime date) {
+        EventResponseDTO dto = new EventResponseDTO();
+        dto.setId(id);
+        dto.setName("Event " + id);
+        dto.setDate(date);
+        dto.setEndDate(date.plusHours(2));
+        dto.setStageId(stageId);
+        dto.setCapacity(capacity);
+        return dto;
+    }
 }
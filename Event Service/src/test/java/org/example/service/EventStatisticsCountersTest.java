@@ -0,0 +1,134 @@
+package org.example.service;
+
+import org.example.dto.EventStatisticsDTO;
+import org.example.dto.StageStatisticsDTO;
+import org.example.repository.EventRepository;
+import org.example.repository.EventStatisticsBucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventStatisticsCountersTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 7, 15);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventStatisticsCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        when(eventRepository.aggregateByDay()).thenReturn(List.of(bucket(DAY, 2L, 3000L),
+                bucket(DAY.plusDays(1), 1L, 500L)));
+        when(eventRepository.aggregateByHour()).thenReturn(List.of(bucket(20, 3L, 3500L)));
+        when(eventRepository.aggregateByStage()).thenReturn(List.of(
+                new StageStatisticsDTO(1L, "Main Stage", 3L, 3500L),
+                new StageStatisticsDTO(2L, "Pop Stage", 0L, 0L)));
+        counters = new EventStatisticsCounters(eventRepository);
+    }
+
+    @Test
+    void testSnapshot_LoadedFromAggregates() {
+        // When
+        EventStatisticsDTO result = counters.snapshot();
+
+        // Then
+        assertEquals(3L, result.getTotalEvents());
+        assertEquals(3500L, result.getTotalParticipants());
+        assertEquals(2L, result.getEventsPerDay().get(DAY));
+        assertEquals(500L, result.getParticipantsPerDay().get(DAY.plusDays(1)));
+        assertEquals(3L, result.getEventsPerHour().get(20));
+        assertEquals(2, result.getPerStage().size());
+        assertTrue(counters.isLoaded());
+    }
+
+    @Test
+    void testSnapshot_CachedUntilChanged() {
+        // When
+        EventStatisticsDTO first = counters.snapshot();
+        EventStatisticsDTO second = counters.snapshot();
+
+        // Then
+        assertSame(first, second);
+        verify(eventRepository, times(1)).aggregateByDay();
+    }
+
+    @Test
+    void testEventAddedAndRemoved_AdjustCountersWithoutReload() {
+        // Given
+        counters.rebuild();
+
+        // When
+        counters.eventAdded(DAY.plusDays(2).atTime(18, 0), 2L, 1000);
+        counters.eventRemoved(DAY.plusDays(1).atTime(20, 0), 1L, 500);
+        EventStatisticsDTO result = counters.snapshot();
+
+        // Then
+        assertEquals(3L, result.getTotalEvents());
+        assertEquals(4000L, result.getTotalParticipants());
+        assertFalse(result.getEventsPerDay().containsKey(DAY.plusDays(1)));
+        assertEquals(1L, result.getEventsPerDay().get(DAY.plusDays(2)));
+        assertEquals(1L, result.getEventsPerHour().get(18));
+        assertEquals(2L, result.getEventsPerHour().get(20));
+        assertEquals(1L, result.getPerStage().get(1).getEvents());
+        assertEquals(2L, result.getPerStage().get(0).getEvents());
+        verify(eventRepository, times(1)).aggregateByDay();
+    }
+
+    @Test
+    void testEventAdded_UnknownStageTriggersReload() {
+        // Given
+        counters.rebuild();
+
+        // When
+        counters.eventAdded(LocalDateTime.of(2026, 7, 18, 18, 0), 99L, 1000);
+        counters.snapshot();
+
+        // Then
+        verify(eventRepository, times(2)).aggregateByDay();
+    }
+
+    @Test
+    void testMarkStale_ReloadsOnNextRead() {
+        // Given
+        counters.rebuild();
+
+        // When
+        counters.markStale();
+
+        // Then
+        assertFalse(counters.isLoaded());
+        counters.snapshot();
+        verify(eventRepository, times(2)).aggregateByStage();
+    }
+
+    private static <K> EventStatisticsBucket<K> bucket(K key, Long events, Long participants) {
+        return new EventStatisticsBucket<>() {
+            @Override
+            public K getBucket() {
+                return key;
+            }
+
+            @Override
+            public Long getEvents() {
+                return events;
+            }
+
+            @Override
+            public Long getParticipants() {
+                return participants;
+            }
+        };
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.service;
+
+import org.example.exception.StageBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StageBookingLocksTest {
+
+    private StageBookingLocks stageBookingLocks;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        stageBookingLocks = new StageBookingLocks(Duration.ofSeconds(10));
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testLock_HeldUntilTransactionCompletes() throws Exception {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        stageBookingLocks.lockUntilCompletion(List.of(1L));
+
+        // When
+        Future<?> sameStage = executor.submit(() -> lockInOwnTransaction(1L));
+
+        // Then
+        assertThrows(TimeoutException.class, () -> sameStage.get(200, TimeUnit.MILLISECONDS));
+        completeTransaction();
+        sameStage.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testLock_DifferentStagesProceedInParallel() throws Exception {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        stageBookingLocks.lockUntilCompletion(List.of(1L, 2L));
+
+        // When
+        Future<?> otherStage = executor.submit(() -> lockInOwnTransaction(3L));
+
+        // Then
+        otherStage.get(5, TimeUnit.SECONDS);
+        completeTransaction();
+    }
+
+    @Test
+    void testLock_ReentrantWithinSameTransaction() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When & Then
+        assertDoesNotThrow(() -> stageBookingLocks.lockUntilCompletion(List.of(1L, 1L)));
+        assertDoesNotThrow(() -> stageBookingLocks.lockUntilCompletion(List.of(1L)));
+        completeTransaction();
+    }
+
+    @Test
+    void testLock_WithoutTransactionIsReleasedImmediately() throws Exception {
+        // When
+        stageBookingLocks.lockUntilCompletion(List.of(1L));
+
+        // Then
+        Future<Boolean> sameStage = executor.submit(() -> {
+            long start = System.nanoTime();
+            lockInOwnTransaction(1L);
+            return System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1);
+        });
+        assertTrue(sameStage.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testLock_TimeoutIsReportedAsBusy() throws Exception {
+        // Given
+        StageBookingLocks shortTimeout = new StageBookingLocks(Duration.ofMillis(50));
+        TransactionSynchronizationManager.initSynchronization();
+        shortTimeout.lockUntilCompletion(List.of(1L));
+
+        // When
+        Future<?> sameStage = executor.submit(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                shortTimeout.lockUntilCompletion(List.of(2L, 1L));
+            } finally {
+                completeTransaction();
+            }
+        });
+
+        // Then
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> sameStage.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(StageBusyException.class, failure.getCause());
+        completeTransaction();
+        TransactionSynchronizationManager.initSynchronization();
+        assertDoesNotThrow(() -> shortTimeout.lockUntilCompletion(List.of(2L)));
+        completeTransaction();
+    }
+
+    private void lockInOwnTransaction(Long stageId) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            stageBookingLocks.lockUntilCompletion(List.of(stageId));
+        } finally {
+            completeTransaction();
+        }
+    }
+
+    private void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.service;
+
+import org.example.entity.Event;
+import org.example.entity.Stage;
+import org.example.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StageScheduleIndexTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 7, 15, 0, 0);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private StageScheduleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Stage stage = new Stage();
+        stage.setId(1L);
+
+        Event event = new Event();
+        event.setId(10L);
+        event.setStage(stage);
+        event.setDate(DAY.withHour(14));
+        event.setEndDate(DAY.withHour(16));
+
+        when(eventRepository.findAll()).thenReturn(List.of(event));
+        index = new StageScheduleIndex(eventRepository);
+    }
+
+    @Test
+    void testIsAvailable_OverlappingInterval() {
+        // When & Then
+        assertFalse(index.isAvailable(1L, DAY.withHour(13), DAY.withHour(15), null));
+        assertFalse(index.isAvailable(1L, DAY.withHour(15), DAY.withHour(17), null));
+        assertEquals(List.of(10L), index.findConflicts(1L, DAY.withHour(15), DAY.withHour(17), null));
+    }
+
+    @Test
+    void testIsAvailable_AdjacentIntervalsDoNotConflict() {
+        // When & Then
+        assertTrue(index.isAvailable(1L, DAY.withHour(12), DAY.withHour(14), null));
+        assertTrue(index.isAvailable(1L, DAY.withHour(16), DAY.withHour(18), null));
+        assertTrue(index.isAvailable(2L, DAY.withHour(14), DAY.withHour(16), null));
+    }
+
+    @Test
+    void testFindConflicts_LongerEventBlocksWholeRange() {
+        // Given
+        index.rebuild();
+        index.put(11L, 1L, DAY.withHour(18), DAY.withHour(23));
+
+        // When & Then
+        assertEquals(List.of(11L), index.findConflicts(1L, DAY.withHour(22), DAY.withHour(23), null));
+        assertTrue(index.isAvailable(1L, DAY.withHour(16), DAY.withHour(18), null));
+    }
+
+    @Test
+    void testIsAvailable_IgnoresOwnBooking() {
+        // When & Then
+        assertTrue(index.isAvailable(1L, DAY.withHour(15), DAY.withHour(17), 10L));
+    }
+
+    @Test
+    void testPutAndRemove_UpdateIndexWithoutReload() {
+        // Given
+        index.rebuild();
+
+        // When
+        index.put(10L, 1L, DAY.withHour(20), DAY.withHour(22));
+
+        // Then
+        assertTrue(index.isAvailable(1L, DAY.withHour(14), DAY.withHour(16), null));
+        assertFalse(index.isAvailable(1L, DAY.withHour(21), DAY.withHour(23), null));
+
+        // When
+        index.remove(10L);
+
+        // Then
+        assertTrue(index.isAvailable(1L, DAY.withHour(21), DAY.withHour(23), null));
+        verify(eventRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testPut_MovedBookingIsNeverMissingForConcurrentReaders() throws InterruptedException {
+        // Given
+        index.rebuild();
+        AtomicBoolean missed = new AtomicBoolean();
+        AtomicBoolean done = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                if (index.isAvailable(1L, DAY.withHour(12), DAY.withHour(18), null)) {
+                    missed.set(true);
+                }
+            }
+        });
+        reader.start();
+
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            int hour = 14 + i % 2;
+            index.put(10L, 1L, DAY.withHour(hour), DAY.withHour(hour + 2));
+        }
+        done.set(true);
+        reader.join();
+
+        // Then
+        assertFalse(missed.get());
+    }
+
+    @Test
+    void testFindFreeSlots() {
+        // When
+        List<LocalDateTime> slots = index.findFreeSlots(1L, DAY.withHour(9), DAY.withHour(23), Duration.ofHours(2));
+
+        // Then
+        assertEquals(5, slots.size());
+        assertFalse(slots.contains(DAY.withHour(13)));
+        assertFalse(slots.contains(DAY.withHour(15)));
+        assertTrue(slots.contains(DAY.withHour(9)));
+        assertTrue(slots.contains(DAY.withHour(21)));
+    }
+}
@@ -1,12 +1,16 @@
 package org.example.service;
 
+import org.example.common.cache.CacheInvalidationBus;
+import org.example.dto.ChangeEventDTO;
 import org.example.dto.StageDTO;
 import org.example.entity.Stage;
 import org.example.mapper.StageMapper;
+import org.example.repository.EventRepository;
 import org.example.repository.StageRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -26,9 +30,24 @@ class StageServiceImplTest {
     @Mock
     private StageRepository stageRepository;
 
+    @Mock
+    private EventRepository eventRepository;
+
     @Mock
     private StageMapper stageMapper;
 
+    @Mock
+    private EventStatisticsCounters eventStatisticsCounters;
+
+    @Mock
+    private EventCatalog eventCatalog;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private ChangeFeed changeFeed;
+
     @InjectMocks
     private StageServiceImpl stageService;
 
@@ -53,21 +72,20 @@ class StageServiceImplTest {
     @Test
     void testGetAllStages_Success() {
         // Given
-        when(stageRepository.findAll()).thenReturn(Arrays.asList(stage));
-        when(stageMapper.toDTO(stage)).thenReturn(stageDTO);
+        when(eventCatalog.current()).thenReturn(snapshot(stageDTO));
 
         // When
         List<StageDTO> result = stageService.getAllStages();
 
         // Then
         assertEquals(1, result.size());
-        verify(stageRepository).findAll();
+        verifyNoInteractions(stageRepository);
     }
 
     @Test
     void testGetAllStages_Empty() {
         // Given
-        when(stageRepository.findAll()).thenReturn(Collections.emptyList());
+        when(eventCatalog.current()).thenReturn(snapshot());
 
         // When
         List<StageDTO> result = stageService.getAllStages();
@@ -79,6 +97,21 @@ class StageServiceImplTest {
     @Test
     void testGetStageById_Success() {
         // Given
+        when(eventCatalog.current()).thenReturn(snapshot(stageDTO));
+
+        // When
+        StageDTO result = stageService.getStageById(1L);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(1L, result.getId());
+        verifyNoInteractions(stageRepository);
+    }
+
+    @Test
+    void testGetStageById_NotYetInSnapshot() {
+        // Given
+        when(eventCatalog.current()).thenReturn(snapshot());
         when(stageRepository.findById(1L)).thenReturn(Optional.of(stage));
         when(stageMapper.toDTO(stage)).thenReturn(stageDTO);
 
@@ -86,13 +119,13 @@ class StageServiceImplTest {
         StageDTO result = stageService.getStageById(1L);
 
         // Then
-        assertNotNull(result);
         assertEquals(1L, result.getId());
     }
 
     @Test
     void testGetStageById_NotFound() {
         // Given
+        when(eventCatalog.current()).thenReturn(snapshot(stageDTO));
         when(stageRepository.findById(99L)).thenReturn(Optional.empty());
 
         // When & Then
@@ -112,6 +145,7 @@ class StageServiceImplTest {
         // Then
         assertNotNull(result);
         verify(stageRepository).save(any(Stage.class));
+        verify(eventCatalog).refreshAfterCommit();
     }
 
     @Test
@@ -141,20 +175,30 @@ class StageServiceImplTest {
     @Test
     void testDeleteStage_Success() {
         // Given
-        when(stageRepository.existsById(1L)).thenReturn(true);
+        when(stageRepository.findWithLockById(1L)).thenReturn(Optional.of(stage));
+        when(eventRepository.findIdsByStageId(1L)).thenReturn(List.of(2L));
         doNothing().when(stageRepository).deleteById(1L);
 
         // When
         assertDoesNotThrow(() -> stageService.deleteStage(1L));
 
         // Then
-        verify(stageRepository).deleteById(1L);
+        InOrder inOrder = inOrder(stageRepository, eventRepository);
+        inOrder.verify(stageRepository).findWithLockById(1L);
+        inOrder.verify(eventRepository).findIdsByStageId(1L);
+        inOrder.verify(stageRepository).deleteById(1L);
+        verify(eventStatisticsCounters).markStale();
+        verify(eventCatalog).refreshAfterCommit();
+        verify(eventCatalog, never()).current();
+        verify(cacheInvalidationBus).publish(CatalogInvalidationSubscriber.STAGES, 1L);
+        verify(changeFeed).recordAll(ChangeEventDTO.EVENT, ChangeEventDTO.DELETED, Collections.singletonMap(2L, null));
+        verify(changeFeed).record(ChangeEventDTO.STAGE, ChangeEventDTO.DELETED, 1L, null);
     }
 
     @Test
     void testDeleteStage_NotFound() {
         // Given
-        when(stageRepository.existsById(99L)).thenReturn(false);
+        when(stageRepository.findWithLockById(99L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(RuntimeException.class, () -> stageService.deleteStage(99L));
@@ -163,12 +207,13 @@ class StageServiceImplTest {
     @Test
     void testSearchByName_Success() {
         // Given
-        when(stageRepository.findByNameContainingIgnoreCase("Main"))
-                .thenReturn(Collections.singletonList(stage));
-        when(stageMapper.toDTO(stage)).thenReturn(stageDTO);
+        StageDTO other = new StageDTO();
+        other.setId(2L);
+        other.setName("Side Stage");
+        when(eventCatalog.current()).thenReturn(snapshot(stageDTO, other));
 
         // When
-        List<StageDTO> result = stageService.searchByName("Main");
+        List<StageDTO> result = stageService.searchByName("main");
 
         // Then
         assertEquals(1, result.size());
@@ -177,9 +222,10 @@ class StageServiceImplTest {
     @Test
     void testFilterByLocation_Success() {
         // Given
-        when(stageRepository.findByLocation("Arena A"))
-                .thenReturn(Collections.singletonList(stage));
-        when(stageMapper.toDTO(stage)).thenReturn(stageDTO);
+        StageDTO other = new StageDTO();
+        other.setId(2L);
+        other.setLocation("Arena B");
+        when(eventCatalog.current()).thenReturn(snapshot(stageDTO, other));
 
         // When
         List<StageDTO> result = stageService.filterByLocation("Arena A");
@@ -191,18 +237,15 @@ class StageServiceImplTest {
     @Test
     void testFilterByMinCapacity_Success() {
         // Given
-        Stage stage2 = new Stage();
-        stage2.setId(2L);
-        stage2.setMaxCapacity(3000);
-
         StageDTO dto2 = new StageDTO();
         dto2.setId(2L);
         dto2.setMaxCapacity(3000);
 
-        when(stageRepository.findByMaxCapacityGreaterThanEqual(2000))
-                .thenReturn(Arrays.asList(stage2, stage));
-        when(stageMapper.toDTO(stage)).thenReturn(stageDTO);
-        when(stageMapper.toDTO(stage2)).thenReturn(dto2);
+        StageDTO dto3 = new StageDTO();
+        dto3.setId(3L);
+        dto3.setMaxCapacity(500);
+
+        when(eventCatalog.current()).thenReturn(snapshot(dto2, stageDTO, dto3));
 
         // When
         List<StageDTO> result = stageService.filterByMinCapacity(2000);
@@ -212,4 +255,8 @@ class StageServiceImplTest {
         // Should be sorted descending by capacity
         assertTrue(result.get(0).getMaxCapacity() >= result.get(1).getMaxCapacity());
     }
+
+    private CatalogSnapshot snapshot(StageDTO... stages) {
+        return CatalogSnapshot.of(Arrays.asList(stages), Collections.emptyList());
+    }
 }
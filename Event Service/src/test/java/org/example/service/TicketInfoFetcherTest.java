@@ -0,0 +1,177 @@
+package org.example.service;
+
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.example.client.TicketServiceClient;
+import org.example.dto.EventTicketSummaryDTO;
+import org.example.exception.TicketServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketInfoFetcherTest {
+
+    @Mock
+    private TicketServiceClient ticketServiceClient;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private TicketInfoFetcher fetcher;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        fetcher = new TicketInfoFetcher(ticketServiceClient, circuitBreakerRegistry, BulkheadRegistry.ofDefaults(),
+                2, Duration.ofMillis(200), false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fetcher.shutdown();
+    }
+
+    @Test
+    void testGetSummaries_SingleCallForDistinctNames() {
+        // Given
+        when(ticketServiceClient.getTicketSummaries(List.of("Summer Festival", "Winter Concert"), "Gateway-Service"))
+                .thenReturn(List.of(
+                        new EventTicketSummaryDTO("Summer Festival", 10L, 100.0),
+                        new EventTicketSummaryDTO("Winter Concert", 0L, 0.0)));
+
+        // When
+        Map<String, EventTicketSummaryDTO> result =
+                fetcher.getSummaries(List.of("Summer Festival", "Winter Concert", "Summer Festival"));
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(10L, result.get("Summer Festival").getAvailableSeats());
+        verify(ticketServiceClient, times(1)).getTicketSummaries(anyList(), anyString());
+    }
+
+    @Test
+    void testGetSummaries_VirtualThreadMode() {
+        // Given
+        TicketInfoFetcher virtualFetcher = new TicketInfoFetcher(ticketServiceClient, circuitBreakerRegistry,
+                BulkheadRegistry.ofDefaults(), 2, Duration.ofMillis(200), true);
+        Map<String, String> threads = new HashMap<>();
+        when(ticketServiceClient.getTicketSummaries(List.of("Summer Festival"), "Gateway-Service"))
+                .thenAnswer(invocation -> {
+                    threads.put("fetch", Thread.currentThread().getName());
+                    return List.of(new EventTicketSummaryDTO("Summer Festival", 10L, 100.0));
+                });
+
+        // When
+        Map<String, EventTicketSummaryDTO> result = virtualFetcher.getSummaries(List.of("Summer Festival"));
+        virtualFetcher.shutdown();
+
+        // Then
+        assertEquals(10L, result.get("Summer Festival").getAvailableSeats());
+        assertTrue(threads.get("fetch").startsWith("ticket-info-"));
+    }
+
+    @Test
+    void testGetSummaries_NoNamesNoCall() {
+        // When
+        Map<String, EventTicketSummaryDTO> result = fetcher.getSummaries(List.of());
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(ticketServiceClient);
+    }
+
+    @Test
+    void testGetSummaries_DeadlineExceeded() {
+        // Given
+        when(ticketServiceClient.getTicketSummaries(anyList(), anyString())).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return List.of();
+        });
+
+        // When & Then
+        long start = System.nanoTime();
+        assertThrows(TicketServiceUnavailableException.class, () -> fetcher.getSummaries(List.of("Summer Festival")));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1500);
+    }
+
+    @Test
+    void testGetSummaries_RemoteFailureRethrown() {
+        // Given
+        when(ticketServiceClient.getTicketSummaries(anyList(), anyString()))
+                .thenThrow(new IllegalStateException("Ticket Service error"));
+
+        // When & Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> fetcher.getSummaries(List.of("Summer Festival")));
+        assertEquals("Ticket Service error", exception.getMessage());
+    }
+
+    @Test
+    void testGetSummaries_BreakerOpenServesLastKnownGood() {
+        // Given
+        when(ticketServiceClient.getTicketSummaries(List.of("Summer Festival"), "Gateway-Service"))
+                .thenReturn(List.of(new EventTicketSummaryDTO("Summer Festival", 10L, 100.0)));
+        EventTicketSummaryDTO fresh = fetcher.getSummaries(List.of("Summer Festival")).get("Summer Festival");
+        circuitBreakerRegistry.circuitBreaker(TicketInfoFetcher.TICKET_SERVICE).transitionToOpenState();
+
+        // When
+        EventTicketSummaryDTO result = fetcher.getSummaries(List.of("Summer Festival")).get("Summer Festival");
+
+        // Then
+        assertFalse(fresh.getStale());
+        assertTrue(result.getStale());
+        assertEquals(10L, result.getAvailableSeats());
+        assertEquals(fresh.getAsOf(), result.getAsOf());
+        verify(ticketServiceClient, times(1)).getTicketSummaries(anyList(), anyString());
+    }
+
+    @Test
+    void testGetSummaries_ServerErrorServesLastKnownGood() {
+        // Given
+        when(ticketServiceClient.getTicketSummaries(anyList(), anyString()))
+                .thenReturn(List.of(new EventTicketSummaryDTO("Summer Festival", 10L, 100.0)))
+                .thenThrow(serverError());
+        fetcher.getSummaries(List.of("Summer Festival"));
+
+        // When
+        EventTicketSummaryDTO result = fetcher.getSummaries(List.of("Summer Festival")).get("Summer Festival");
+
+        // Then
+        assertTrue(result.getStale());
+    }
+
+    @Test
+    void testGetSummaries_BreakerOpenWithoutCacheFails() {
+        // Given
+        circuitBreakerRegistry.circuitBreaker(TicketInfoFetcher.TICKET_SERVICE).transitionToOpenState();
+
+        // When & Then
+        assertThrows(TicketServiceUnavailableException.class, () -> fetcher.getSummaries(List.of("Summer Festival")));
+        verifyNoInteractions(ticketServiceClient);
+    }
+
+    private FeignException serverError() {
+        Request request = Request.create(Request.HttpMethod.POST, "/api/tickets/summary", new HashMap<>(),
+                null, StandardCharsets.UTF_8, null);
+        return FeignException.errorStatus("getTicketSummaries", feign.Response.builder()
+                .status(503)
+                .reason("Service Unavailable")
+                .request(request)
+                .headers(new HashMap<>())
+                .build());
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.common.cache;
+
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Gives every service on the shared PostgreSQL database a {@link CacheInvalidationBus}, so their instances can
+ * invalidate each other's caches. Turned off with {@code festival.cache.invalidation.enabled=false}.
+ *
+ * @author EscobarTeam
+ */
+@AutoConfiguration(after = JdbcTemplateAutoConfiguration.class)
+@ConditionalOnClass({JdbcTemplate.class, PGConnection.class})
+@ConditionalOnSingleCandidate(JdbcTemplate.class)
+public class CacheInvalidationAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheInvalidationBus cacheInvalidationBus(DataSource dataSource, JdbcTemplate jdbcTemplate,
+                                                     @Value("${festival.cache.invalidation.enabled:true}") boolean enabled) {
+        return new CacheInvalidationBus(dataSource, jdbcTemplate, enabled);
+    }
+}
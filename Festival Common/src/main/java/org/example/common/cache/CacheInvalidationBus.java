@@ -0,0 +1,245 @@
+package org.example.common.cache;
+
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts key-level cache invalidations between service instances through PostgreSQL {@code LISTEN/NOTIFY},
+ * so every instance can cache aggressively without a separate message broker.
+ * <p>
+ * A writer calls {@link #publish(String, Object)} inside its transaction; PostgreSQL delivers the notification
+ * to the other instances only if that transaction commits, and only after it has committed.
+ * Every instance keeps one dedicated connection listening on {@value #CHANNEL} and hands the received keys,
+ * grouped by cache name, to the handlers registered with {@link #subscribe(String, Consumer)}.
+ * Notifications sent by the instance itself are skipped, since the writer updates its own caches directly.
+ * After the listening connection is lost and re-established, every handler receives {@link #ALL_KEYS},
+ * because notifications sent in the meantime are gone.
+ * <p>
+ * The wire format is {@code <instance id>|<cache name>|<key>} on channel {@value #CHANNEL}; every service
+ * sharing the database gets a bus from {@link CacheInvalidationAutoConfiguration} and joins the same channel
+ * with its own cache names. A service that never subscribes only sends, without holding a listening connection.
+ * On databases other than PostgreSQL (such as the H2 test database) the bus stays inactive.
+ *
+ * @author EscobarTeam
+ */
+public class CacheInvalidationBus {
+
+    /**
+     * The PostgreSQL channel the invalidations are sent on.
+     */
+    public static final String CHANNEL = "festival_cache_invalidation";
+
+    /**
+     * The key delivered when the whole cache must be considered stale.
+     */
+    public static final String ALL_KEYS = "*";
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+    private static final String SEPARATOR = "|";
+    private static final int POLL_TIMEOUT_MILLIS = 5000;
+    private static final long RECONNECT_DELAY_MILLIS = 2000;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<Set<String>>>> handlers = new ConcurrentHashMap<>();
+
+    private volatile boolean active;
+    private volatile Thread listener;
+
+    /**
+     * Constructs a new {@code CacheInvalidationBus} on the given data source.
+     *
+     * @param dataSource the data source of the shared database
+     * @param jdbcTemplate the template used to send notifications in the current transaction
+     * @param enabled whether invalidations are sent and received at all
+     */
+    public CacheInvalidationBus(DataSource dataSource, JdbcTemplate jdbcTemplate, boolean enabled) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Registers a handler for the invalidations of a cache.
+     * The handler runs on the listener thread and receives the invalidated keys of one poll at once,
+     * so a burst of notifications (e.g. from a bulk insert) can be applied as a single reload.
+     *
+     * @param cache the name of the cache
+     * @param handler the handler receiving the invalidated keys, possibly {@link #ALL_KEYS}
+     */
+    public void subscribe(String cache, Consumer<Set<String>> handler) {
+        handlers.computeIfAbsent(cache, name -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    /**
+     * Announces that an entry of a cache has changed.
+     * Within a transaction the notification is delivered to the other instances once the transaction commits;
+     * it is dropped if the transaction rolls back.
+     *
+     * @param cache the name of the cache
+     * @param key the key of the changed entry, or {@link #ALL_KEYS}
+     */
+    public void publish(String cache, Object key) {
+        publish(cache, List.of(key));
+    }
+
+    /**
+     * Announces that several entries of a cache have changed, with a single statement.
+     *
+     * @param cache the name of the cache
+     * @param keys the keys of the changed entries
+     */
+    public void publish(String cache, Collection<?> keys) {
+        if (!active || keys.isEmpty()) {
+            return;
+        }
+        Object[] payloads = keys.stream()
+                .map(key -> instanceId + SEPARATOR + cache + SEPARATOR + key)
+                .toArray();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            Array array = connection.createArrayOf("text", payloads);
+            try (PreparedStatement statement =
+                         connection.prepareStatement("SELECT pg_notify(?, payload) FROM unnest(?) AS payload")) {
+                statement.setString(1, CHANNEL);
+                statement.setArray(2, array);
+                statement.executeQuery().close();
+            } finally {
+                array.free();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Starts sending invalidations once the application is ready, if the database is PostgreSQL,
+     * and listening for them if any handler has been registered by then.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || active) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                logger.info("Cache invalidation disabled: {} does not support LISTEN/NOTIFY",
+                        connection.getMetaData().getDatabaseProductName());
+                return;
+            }
+        } catch (SQLException e) {
+            logger.warn("Cache invalidation disabled: database not reachable", e);
+            return;
+        }
+        active = true;
+        if (handlers.isEmpty()) {
+            return;
+        }
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    /**
+     * Stops listening and closes the listening connection.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        active = false;
+        if (listener != null) {
+            listener.interrupt();
+            listener = null;
+        }
+    }
+
+    /**
+     * Checks whether invalidations are currently being sent and received.
+     *
+     * @return {@code true} if the bus is listening on the database
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    private void listen() {
+        boolean reconnected = false;
+        while (active) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (reconnected) {
+                    handlers.keySet().forEach(cache -> dispatch(cache, Set.of(ALL_KEYS)));
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (active) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null && notifications.length > 0) {
+                        dispatch(notifications);
+                    }
+                }
+                // The connection goes back to the pool; it must not keep receiving notifications there.
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("UNLISTEN " + CHANNEL);
+                }
+            } catch (SQLException e) {
+                if (!active) {
+                    return;
+                }
+                logger.warn("Cache invalidation connection lost, reconnecting", e);
+                reconnected = true;
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Groups received notifications by cache and hands them to the handlers, skipping the ones sent by this instance.
+     *
+     * @param notifications the notifications received in one poll
+     */
+    void dispatch(PGNotification[] notifications) {
+        Map<String, Set<String>> keysByCache = new LinkedHashMap<>();
+        for (PGNotification notification : notifications) {
+            String[] parts = notification.getParameter().split("\\|", 3);
+            if (parts.length != 3 || parts[0].equals(instanceId)) {
+                continue;
+            }
+            keysByCache.computeIfAbsent(parts[1], cache -> new LinkedHashSet<>()).add(parts[2]);
+        }
+        keysByCache.forEach(this::dispatch);
+    }
+
+    private void dispatch(String cache, Set<String> keys) {
+        for (Consumer<Set<String>> handler : handlers.getOrDefault(cache, List.of())) {
+            try {
+                handler.accept(keys);
+            } catch (RuntimeException e) {
+                logger.warn("Cache invalidation handler for '{}' failed", cache, e);
+            }
+        }
+    }
+}
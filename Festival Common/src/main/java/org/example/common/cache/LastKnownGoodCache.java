@@ -0,0 +1,104 @@
+package org.example.common.cache;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Remembers the last successful response of a remote call per key, so the caller can still answer
+ * while the remote service is unavailable or its circuit breaker is open.
+ * Entries are stamped with the time they were stored; responses served from here must be reported as stale,
+ * together with that time. The cache holds at most a fixed number of keys and evicts the least recently used one.
+ * Access is guarded by a {@link ReentrantLock} rather than {@code synchronized}, so a contended lookup parks
+ * a virtual thread instead of pinning its carrier.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached responses
+ * @author EscobarTeam
+ */
+public class LastKnownGoodCache<K, V> {
+
+    private final Map<K, Entry<V>> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Constructs a new, empty {@code LastKnownGoodCache}.
+     *
+     * @param maxEntries the maximum number of keys kept
+     */
+    public LastKnownGoodCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Stores the latest successful response for a key.
+     *
+     * @param key the key
+     * @param value the response
+     */
+    public void put(K key, V value) {
+        put(key, value, LocalDateTime.now());
+    }
+
+    /**
+     * Stores the latest successful response for a key, received at the given time.
+     *
+     * @param key the key
+     * @param value the response
+     * @param receivedAt the time the response was received
+     */
+    public void put(K key, V value, LocalDateTime receivedAt) {
+        lock.lock();
+        try {
+            entries.put(key, new Entry<>(value, receivedAt));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the last successful response for a key.
+     *
+     * @param key the key
+     * @return the response and the time it was stored, or an empty {@code Optional} if none is known
+     */
+    public Optional<Entry<V>> get(K key) {
+        lock.lock();
+        try {
+            return Optional.ofNullable(entries.get(key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of keys currently cached.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A cached response and the time it was received.
+     *
+     * @param value the response
+     * @param storedAt the time the response was received
+     * @param <V> the type of the response
+     */
+    public record Entry<V>(V value, LocalDateTime storedAt) {
+    }
+}
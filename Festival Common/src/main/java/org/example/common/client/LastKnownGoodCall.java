@@ -0,0 +1,102 @@
+package org.example.common.client;
+
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.example.common.cache.LastKnownGoodCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Calls another service through a bulkhead and a circuit breaker, and remembers the last successful response
+ * per key. The bulkhead caps the threads that can wait on the other service at once and the Feign read timeout
+ * caps how long each of them waits, so a slow service cannot exhaust the threads of its callers.
+ * While the other service is unavailable (breaker open, bulkhead full or server error), the last response received
+ * for the same key is returned instead, marked as stale and stamped with the time it was received.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the responses
+ * @author EscobarTeam
+ */
+public class LastKnownGoodCall<K, V> {
+
+    private static final Logger logger = LoggerFactory.getLogger(LastKnownGoodCall.class);
+
+    private final String serviceName;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final LastKnownGoodCache<K, V> lastKnownGood;
+    private final Function<RuntimeException, ? extends RuntimeException> unavailable;
+
+    /**
+     * Constructs a new {@code LastKnownGoodCall} with an empty cache.
+     *
+     * @param serviceName the name of the other service, used in the logs
+     * @param circuitBreaker the circuit breaker guarding the other service
+     * @param bulkhead the bulkhead guarding the other service
+     * @param maxEntries the maximum number of keys whose last response is kept
+     * @param unavailable creates the exception thrown when the service is unavailable and nothing is cached
+     */
+    public LastKnownGoodCall(String serviceName, CircuitBreaker circuitBreaker, Bulkhead bulkhead, int maxEntries,
+                             Function<RuntimeException, ? extends RuntimeException> unavailable) {
+        this.serviceName = serviceName;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.lastKnownGood = new LastKnownGoodCache<>(maxEntries);
+        this.unavailable = unavailable;
+    }
+
+    /**
+     * Calls the other service, or returns the last response for the same key while it is unavailable.
+     *
+     * @param key the key the response is cached under
+     * @param call the call to the other service
+     * @return the response, with the time it was received and whether it comes from the cache
+     * @throws RuntimeException the failure of the call if the other service rejected the request,
+     *                          or the exception created by {@code unavailable} if nothing is cached for the key
+     */
+    public Response<V> call(K key, Supplier<V> call) {
+        try {
+            V value = CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, call)).get();
+            LocalDateTime now = LocalDateTime.now();
+            lastKnownGood.put(key, value, now);
+            return new Response<>(value, now, false);
+        } catch (RuntimeException e) {
+            if (!isUnavailable(e)) {
+                throw e;
+            }
+            LastKnownGoodCache.Entry<V> entry = lastKnownGood.get(key).orElseThrow(() -> unavailable.apply(e));
+            logger.warn("{} unavailable ({}), serving the cached response for {}", serviceName, e.toString(), key);
+            return new Response<>(entry.value(), entry.storedAt(), true);
+        }
+    }
+
+    /**
+     * Checks whether a failure means the other service cannot answer right now, as opposed to rejecting the request.
+     *
+     * @param e the failure of a call
+     * @return {@code true} for open breakers, full bulkheads and server or network errors
+     */
+    public static boolean isUnavailable(Throwable e) {
+        return e instanceof CallNotPermittedException
+                || e instanceof BulkheadFullException
+                || (e instanceof FeignException && !(e instanceof FeignException.FeignClientException));
+    }
+
+    /**
+     * A response of the other service.
+     *
+     * @param value the response
+     * @param asOf the time the response was received from the other service
+     * @param stale {@code true} if the other service is unavailable and the response comes from the cache
+     * @param <V> the type of the response
+     */
+    public record Response<V>(V value, LocalDateTime asOf, boolean stale) {
+    }
+}
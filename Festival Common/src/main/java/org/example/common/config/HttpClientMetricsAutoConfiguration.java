@@ -0,0 +1,34 @@
+package org.example.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Publishes the state of the connection pool shared by the Feign clients as
+ * {@code httpcomponents.httpclient.pool.*} metrics, tagged with {@code httpclient=feign}.
+ * The pool itself is created by Spring Cloud OpenFeign from the {@code spring.cloud.openfeign.httpclient.*} properties.
+ *
+ * @author EscobarTeam
+ */
+@AutoConfiguration
+@ConditionalOnClass({MeterRegistry.class, PoolingHttpClientConnectionManager.class})
+public class HttpClientMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(name = "feignConnectionPoolMetrics")
+    public MeterBinder feignConnectionPoolMetrics(ObjectProvider<HttpClientConnectionManager> connectionManager) {
+        return registry -> {
+            if (connectionManager.getIfAvailable() instanceof PoolingHttpClientConnectionManager pool) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(pool, "feign").bindTo(registry);
+            }
+        };
+    }
+}
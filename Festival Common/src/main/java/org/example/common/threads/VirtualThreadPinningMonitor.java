@@ -0,0 +1,116 @@
+package org.example.common.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread, which happens when they block
+ * inside a {@code synchronized} block or method (or in native code) and defeats the point of virtual threads.
+ * Only registered when the service runs on virtual threads ({@code spring.threads.virtual.enabled} on Java 21),
+ * see {@link VirtualThreadsAutoConfiguration}.
+ * <p>
+ * The JDK's {@code jdk.VirtualThreadPinned} flight recorder events longer than
+ * {@code festival.virtual-threads.pinned-threshold} are streamed in-process: every pin is recorded in the
+ * {@value #METRIC} timer, and each distinct call site is logged once with its stack trace.
+ *
+ * @author EscobarTeam
+ */
+public class VirtualThreadPinningMonitor {
+
+    /**
+     * The name of the timer recording the pinned intervals.
+     */
+    public static final String METRIC = "jvm.threads.virtual.pinned";
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 12;
+    private static final int MAX_REPORTED_SITES = 100;
+    private static final String VIRTUAL_THREAD_FRAMES = "java.lang.VirtualThread";
+
+    private final Timer pinned;
+    private final Duration threshold;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream stream;
+
+    /**
+     * Constructs a new {@code VirtualThreadPinningMonitor}.
+     *
+     * @param meterRegistry the registry the pinning timer is published to
+     * @param threshold the shortest pin that is reported
+     */
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.pinned = Timer.builder(METRIC)
+                .description("Time virtual threads spent blocked while pinned to their carrier thread")
+                .register(meterRegistry);
+        this.threshold = threshold;
+    }
+
+    /**
+     * Starts streaming the pinning events once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::pinned);
+        recording.startAsync();
+        stream = recording;
+        logger.info("Running on virtual threads; reporting pins longer than {} ms", threshold.toMillis());
+    }
+
+    /**
+     * Stops streaming the pinning events.
+     */
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * Records a pin and logs its call site the first time it is seen.
+     *
+     * @param event the {@code jdk.VirtualThreadPinned} event
+     */
+    void pinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        String site = callSite(event.getStackTrace());
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+            logger.warn("Virtual thread pinned for {} ms at:\n{}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    private static String callSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t<no stack trace>";
+        }
+        // The innermost frames are the JDK parking the virtual thread; the call site starts below them
+        return stackTrace.getFrames().stream()
+                .dropWhile(frame -> frame.getMethod().getType().getName().startsWith(VIRTUAL_THREAD_FRAMES))
+                .limit(MAX_FRAMES)
+                .map(VirtualThreadPinningMonitor::describe)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "");
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.common.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.AbstractProtocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Settings that only apply when the service runs on virtual threads ({@code spring.threads.virtual.enabled}
+ * on Java 21). On platform threads none of these beans is created.
+ *
+ * @author EscobarTeam
+ */
+@AutoConfiguration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class PinningMonitorConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+                MeterRegistry meterRegistry,
+                @Value("${festival.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+            return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+        }
+    }
+
+    /**
+     * Raises the number of connections Tomcat accepts. With one virtual thread per request the platform
+     * thread pool no longer caps the concurrent requests, so the connection limit becomes the effective
+     * limit. On platform threads Tomcat keeps {@code server.tomcat.max-connections}.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({Tomcat.class, TomcatServletWebServerFactory.class})
+    static class TomcatConnectionsConfiguration {
+
+        @Bean
+        WebServerFactoryCustomizer<TomcatServletWebServerFactory> virtualThreadsMaxConnectionsCustomizer(
+                @Value("${festival.virtual-threads.max-connections:10000}") int maxConnections) {
+            return new MaxConnectionsCustomizer(maxConnections);
+        }
+    }
+
+    /**
+     * Sets the maximum number of connections of every Tomcat connector. Runs after the customizer of
+     * {@code server.tomcat.*}, so it overrides {@code server.tomcat.max-connections}.
+     */
+    static class MaxConnectionsCustomizer implements WebServerFactoryCustomizer<TomcatServletWebServerFactory> {
+
+        private final int maxConnections;
+
+        MaxConnectionsCustomizer(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        @Override
+        public void customize(TomcatServletWebServerFactory factory) {
+            factory.addConnectorCustomizers(connector -> {
+                if (connector.getProtocolHandler() instanceof AbstractProtocol<?> protocol) {
+                    protocol.setMaxConnections(maxConnections);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.common.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class CacheInvalidationAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(CacheInvalidationAutoConfiguration.class));
+
+    @Test
+    void testBus_RegisteredWithDatabase() {
+        // Given
+        DataSource dataSource = mock(DataSource.class);
+
+        contextRunner.withBean(DataSource.class, () -> dataSource)
+                .withBean(JdbcTemplate.class, () -> new JdbcTemplate(dataSource))
+                .run(context -> {
+                    // Then
+                    assertNotNull(context.getBean(CacheInvalidationBus.class));
+                });
+    }
+
+    @Test
+    void testBus_NothingRegisteredWithoutDatabase() {
+        contextRunner.run(context -> assertTrue(context.getBeansOfType(CacheInvalidationBus.class).isEmpty()));
+    }
+}
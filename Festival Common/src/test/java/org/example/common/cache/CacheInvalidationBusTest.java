@@ -0,0 +1,108 @@
+package org.example.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBusTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new CacheInvalidationBus(dataSource, jdbcTemplate, true);
+    }
+
+    @Test
+    void testDispatch_GroupsKeysByCache() {
+        // Given
+        List<Set<String>> events = new ArrayList<>();
+        List<Set<String>> stages = new ArrayList<>();
+        bus.subscribe("events", events::add);
+        bus.subscribe("stages", stages::add);
+
+        // When
+        bus.dispatch(new PGNotification[]{
+                notification("other|events|1"),
+                notification("other|stages|4"),
+                notification("other|events|2"),
+                notification("other|events|1"),
+                notification("malformed"),
+                notification("other|artists|9")});
+
+        // Then
+        assertEquals(List.of(Set.of("1", "2")), events);
+        assertEquals(List.of(Set.of("4")), stages);
+    }
+
+    @Test
+    void testDispatch_FailingHandlerDoesNotStopOthers() {
+        // Given
+        List<Set<String>> received = new ArrayList<>();
+        bus.subscribe("events", keys -> {
+            throw new IllegalStateException("boom");
+        });
+        bus.subscribe("events", received::add);
+
+        // When
+        bus.dispatch(new PGNotification[]{notification("other|events|7")});
+
+        // Then
+        assertEquals(List.of(Set.of("7")), received);
+    }
+
+    @Test
+    void testPublish_InactiveBusSendsNothing() {
+        // When
+        bus.publish("events", 1L);
+        bus.publish("events", List.of(1L, 2L));
+
+        // Then
+        assertFalse(bus.isActive());
+        verifyNoInteractions(jdbcTemplate, dataSource);
+    }
+
+    @Test
+    void testStart_WithoutHandlersOnlySends() throws SQLException {
+        // Given
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isWrapperFor(PGConnection.class)).thenReturn(true);
+
+        // When
+        bus.start();
+
+        // Then
+        assertTrue(bus.isActive());
+        verify(dataSource, times(1)).getConnection();
+        bus.stop();
+    }
+
+    private PGNotification notification(String parameter) {
+        PGNotification notification = mock(PGNotification.class);
+        when(notification.getParameter()).thenReturn(parameter);
+        return notification;
+    }
+}
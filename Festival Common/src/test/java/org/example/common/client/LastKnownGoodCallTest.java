@@ -0,0 +1,172 @@
+package org.example.common.client;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LastKnownGoodCallTest {
+
+    private CircuitBreaker circuitBreaker;
+    private LastKnownGoodCall<String, String> call;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.ofDefaults("remote");
+        call = new LastKnownGoodCall<>("Remote Service", circuitBreaker, Bulkhead.ofDefaults("remote"), 2,
+                Unavailable::new);
+    }
+
+    @Test
+    void testCall_FreshResponse() {
+        // When
+        LastKnownGoodCall.Response<String> response = call.call("a", () -> "fresh");
+
+        // Then
+        assertEquals("fresh", response.value());
+        assertFalse(response.stale());
+        assertNotNull(response.asOf());
+    }
+
+    @Test
+    void testCall_ServerErrorServesLastKnownGood() {
+        // Given
+        LastKnownGoodCall.Response<String> first = call.call("a", () -> "first");
+
+        // When
+        LastKnownGoodCall.Response<String> response = call.call("a", () -> {
+            throw error(503);
+        });
+
+        // Then
+        assertEquals("first", response.value());
+        assertTrue(response.stale());
+        assertEquals(first.asOf(), response.asOf());
+    }
+
+    @Test
+    void testCall_BreakerOpenServesLastKnownGoodWithoutCalling() {
+        // Given
+        call.call("a", () -> "first");
+        circuitBreaker.transitionToOpenState();
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        LastKnownGoodCall.Response<String> response = call.call("a", () -> "second-" + calls.incrementAndGet());
+
+        // Then
+        assertEquals("first", response.value());
+        assertTrue(response.stale());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void testCall_BulkheadFullServesLastKnownGood() throws Exception {
+        // Given
+        Bulkhead bulkhead = Bulkhead.of("single", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        LastKnownGoodCall<String, String> guarded = new LastKnownGoodCall<>("Remote Service",
+                CircuitBreaker.ofDefaults("single"), bulkhead, 2, Unavailable::new);
+        guarded.call("a", () -> "first");
+        CountDownLatch inCall = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> guarded.call("b", () -> {
+                inCall.countDown();
+                awaitQuietly(release);
+                return "slow";
+            }));
+            assertTrue(inCall.await(5, TimeUnit.SECONDS));
+
+            // When
+            LastKnownGoodCall.Response<String> response = guarded.call("a", () -> "second");
+
+            // Then
+            assertEquals("first", response.value());
+            assertTrue(response.stale());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCall_UnavailableWithoutCache() {
+        // When & Then
+        Unavailable thrown = assertThrows(Unavailable.class, () -> call.call("a", () -> {
+            throw error(500);
+        }));
+        assertInstanceOf(FeignException.class, thrown.getCause());
+    }
+
+    @Test
+    void testCall_ClientErrorIsRethrownEvenWithCache() {
+        // Given
+        call.call("a", () -> "first");
+
+        // When & Then
+        assertThrows(FeignException.NotFound.class, () -> call.call("a", () -> {
+            throw error(404);
+        }));
+    }
+
+    @Test
+    void testCall_EvictsLeastRecentlyUsedKeys() {
+        // Given
+        call.call("a", () -> "a");
+        call.call("b", () -> "b");
+        call.call("c", () -> "c");
+
+        // When & Then
+        assertThrows(Unavailable.class, () -> call.call("a", () -> {
+            throw error(503);
+        }));
+        assertEquals("c", call.call("c", () -> {
+            throw error(503);
+        }).value());
+    }
+
+    private static FeignException error(int status) {
+        Request request = Request.create(Request.HttpMethod.GET, "/remote", new HashMap<>(), null,
+                StandardCharsets.UTF_8, null);
+        return FeignException.errorStatus("remote", Response.builder()
+                .status(status)
+                .reason("Error")
+                .request(request)
+                .headers(new HashMap<>())
+                .build());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Unavailable extends RuntimeException {
+        Unavailable(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.common.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpClientMetricsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(HttpClientMetricsAutoConfiguration.class));
+
+    @Test
+    void testPoolMetrics_BoundForFeignPool() {
+        // Given
+        contextRunner.withBean(HttpClientConnectionManager.class, PoolingHttpClientConnectionManager::new)
+                .run(context -> {
+                    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+                    // When
+                    context.getBean("feignConnectionPoolMetrics", MeterBinder.class).bindTo(registry);
+
+                    // Then
+                    assertNotNull(registry.find("httpcomponents.httpclient.pool.total.max")
+                            .tag("httpclient", "feign")
+                            .gauge());
+                });
+    }
+
+    @Test
+    void testPoolMetrics_NothingBoundWithoutPool() {
+        contextRunner.run(context -> {
+            // Given
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+            // When
+            context.getBean("feignConnectionPoolMetrics", MeterBinder.class).bindTo(registry);
+
+            // Then
+            assertTrue(registry.getMeters().isEmpty());
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.common.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.AbstractProtocol;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(VirtualThreadsAutoConfiguration.class))
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    @Test
+    void testPlatformThreads_NothingRegistered() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=false")
+                .run(context -> {
+                    assertTrue(context.getBeansOfType(VirtualThreadPinningMonitor.class).isEmpty());
+                    assertTrue(context.getBeansOfType(WebServerFactoryCustomizer.class).isEmpty());
+                });
+    }
+
+    @Test
+    void testMaxConnectionsCustomizer_OverridesServerSetting() {
+        // Given
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory();
+        factory.addConnectorCustomizers(connector ->
+                ((AbstractProtocol<?>) connector.getProtocolHandler()).setMaxConnections(8192));
+        Connector connector = new Connector(TomcatServletWebServerFactory.DEFAULT_PROTOCOL);
+
+        // When
+        new VirtualThreadsAutoConfiguration.MaxConnectionsCustomizer(10000).customize(factory);
+        factory.getTomcatConnectorCustomizers().forEach(customizer -> customizer.customize(connector));
+
+        // Then
+        assertEquals(10000, ((AbstractProtocol<?>) connector.getProtocolHandler()).getMaxConnections());
+    }
+}
@@ -0,0 +1,307 @@
+package org.example.ticketservice.cache;
+
+import org.example.ticketservice.dto.EventSalesDTO;
+import org.example.ticketservice.model.Ticket;
+import org.example.ticketservice.repository.TicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Live sales counters per event: revenue in minor units, number of tickets and quantity per ticket type,
+ * kept in {@link LongAdder}s so that concurrent purchases update them without contending and a read is O(1).
+ * They count every ticket, like the revenue queries of {@code TicketRepository}.
+ * <p>
+ * Ticket changes are applied once their transaction commits, so a rolled-back purchase is never counted.
+ * The counters are seeded from the database at startup and periodically reconciled with it, which also picks up
+ * the sales of other instances. An event is only reconciled if none of its tickets committed while the
+ * database was being read; otherwise it is left for the next round, since the counters and the query result
+ * could disagree about that commit.
+ *
+ * @author EscobarTeam
+ */
+@Component
+public class SalesCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalesCounters.class);
+
+    private final TicketRepository ticketRepository;
+    private final Map<String, EventCounters> events = new ConcurrentHashMap<>();
+
+    /**
+     * What a ticket contributes to the counters of its event.
+     *
+     * @param eventName the name of the event
+     * @param ticketType the ticket type, in upper case
+     * @param quantity the number of seats
+     * @param revenueMinor the price of all the seats, in minor units
+     */
+    public record Sale(String eventName, String ticketType, int quantity, long revenueMinor) {
+
+        /**
+         * Takes what a ticket contributes to the counters; call before the ticket is changed.
+         *
+         * @param ticket the ticket
+         * @return the ticket's contribution
+         */
+        public static Sale of(Ticket ticket) {
+            return new Sale(ticket.getEventName(), normalize(ticket.getTicketType()), ticket.getQuantity(),
+                    Math.round(ticket.getPrice() * 100) * ticket.getQuantity());
+        }
+    }
+
+    /**
+     * The counters of one event. {@code version} and {@code inFlight} are only used by the reconciliation.
+     */
+    private static final class EventCounters {
+        private final LongAdder revenueMinor = new LongAdder();
+        private final LongAdder tickets = new LongAdder();
+        private final Map<String, LongAdder> quantityByType = new ConcurrentHashMap<>();
+        private final LongAdder version = new LongAdder();
+        private final LongAdder inFlight = new LongAdder();
+
+        private void add(Sale sale, int sign) {
+            revenueMinor.add(sign * sale.revenueMinor());
+            tickets.add(sign);
+            quantityByType.computeIfAbsent(sale.ticketType(), type -> new LongAdder()).add((long) sign * sale.quantity());
+        }
+    }
+
+    /**
+     * Constructs new, empty {@code SalesCounters}.
+     *
+     * @param ticketRepository the repository the counters are seeded from and reconciled with
+     */
+    @Autowired
+    public SalesCounters(TicketRepository ticketRepository) {
+        this.ticketRepository = ticketRepository;
+    }
+
+    /**
+     * Counts a new ticket, once the current transaction commits.
+     *
+     * @param sale the ticket's contribution
+     */
+    public void recordSale(Sale sale) {
+        record(null, sale);
+    }
+
+    /**
+     * Stops counting a deleted ticket, once the current transaction commits.
+     *
+     * @param sale the ticket's contribution before it was deleted
+     */
+    public void recordRemoval(Sale sale) {
+        record(sale, null);
+    }
+
+    /**
+     * Counts a changed ticket, once the current transaction commits.
+     *
+     * @param before the ticket's contribution before the change
+     * @param after the ticket's contribution after the change
+     */
+    public void recordChange(Sale before, Sale after) {
+        if (!before.equals(after)) {
+            record(before, after);
+        }
+    }
+
+    /**
+     * Reads the live counters of an event.
+     *
+     * @param eventName the name of the event
+     * @return the {@code EventSalesDTO} object with the event's counters; all zero for an event without tickets
+     */
+    public EventSalesDTO getSales(String eventName) {
+        EventCounters counters = events.get(eventName);
+        return counters != null ? toDTO(eventName, counters) : new EventSalesDTO(eventName, 0.0, 0L, Map.of());
+    }
+
+    /**
+     * Reads the live counters of every event with tickets.
+     *
+     * @return a list of {@code EventSalesDTO} objects, ordered by event name
+     */
+    public List<EventSalesDTO> getAllSales() {
+        return events.entrySet().stream()
+                .filter(entry -> entry.getValue().tickets.sum() != 0)
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> toDTO(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Seeds the counters from the database once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    /**
+     * Brings the counters in line with the database, with one aggregate query.
+     * Corrections are added to the counters rather than written over them, so sales committing
+     * during the correction are not lost.
+     */
+    @Scheduled(fixedDelayString = "${festival.sales.reconcile-interval-ms:60000}",
+            initialDelayString = "${festival.sales.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        Map<String, Long> versions = new HashMap<>();
+        Set<String> busy = new HashSet<>();
+        events.forEach((name, counters) -> {
+            versions.put(name, counters.version.sum());
+            if (counters.inFlight.sum() != 0) {
+                busy.add(name);
+            }
+        });
+
+        Map<String, EventCounters> expected = new HashMap<>();
+        for (TicketRepository.EventTypeSales row : ticketRepository.sumSalesGroupedByEventAndType()) {
+            EventCounters counters = expected.computeIfAbsent(row.getEventName(), name -> new EventCounters());
+            counters.revenueMinor.add(Math.round(row.getRevenueMinor().doubleValue()));
+            counters.tickets.add(row.getTickets());
+            counters.quantityByType.computeIfAbsent(normalize(row.getTicketType()), type -> new LongAdder())
+                    .add(row.getQuantity());
+        }
+
+        Set<String> names = new HashSet<>(events.keySet());
+        names.addAll(expected.keySet());
+        int corrected = 0;
+        int skipped = 0;
+        for (String name : names) {
+            if (busy.contains(name)) {
+                skipped++;
+                continue;
+            }
+            EventCounters counters = events.computeIfAbsent(name, key -> new EventCounters());
+            EventCounters target = expected.getOrDefault(name, new EventCounters());
+            Map<String, Long> current = snapshot(counters);
+            if (counters.version.sum() != versions.getOrDefault(name, 0L) || counters.inFlight.sum() != 0) {
+                skipped++;
+                continue;
+            }
+            if (correct(counters, current, snapshot(target))) {
+                corrected++;
+            }
+        }
+        if (corrected > 0 || skipped > 0) {
+            logger.info("Reconciled live sales: {} events corrected, {} left for the next round", corrected, skipped);
+        }
+    }
+
+    private void record(Sale removed, Sale added) {
+        List<EventCounters> touched = new ArrayList<>(2);
+        if (removed != null) {
+            touched.add(counters(removed.eventName()));
+        }
+        if (added != null && (removed == null || !added.eventName().equals(removed.eventName()))) {
+            touched.add(counters(added.eventName()));
+        }
+        Runnable apply = () -> {
+            if (removed != null) {
+                counters(removed.eventName()).add(removed, -1);
+            }
+            if (added != null) {
+                counters(added.eventName()).add(added, 1);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            touched.forEach(counters -> counters.version.increment());
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean committing;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // Marks the events before the commit is visible in the database, so a concurrent reconciliation skips them
+                touched.forEach(counters -> {
+                    counters.inFlight.increment();
+                    counters.version.increment();
+                });
+                committing = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (committing) {
+                    touched.forEach(counters -> counters.inFlight.decrement());
+                }
+            }
+        });
+    }
+
+    private EventCounters counters(String eventName) {
+        return events.computeIfAbsent(eventName, name -> new EventCounters());
+    }
+
+    /**
+     * Reads all the counters of an event into a map: revenue, tickets and one entry per ticket type.
+     */
+    private static Map<String, Long> snapshot(EventCounters counters) {
+        Map<String, Long> values = new HashMap<>();
+        values.put("revenue", counters.revenueMinor.sum());
+        values.put("tickets", counters.tickets.sum());
+        counters.quantityByType.forEach((type, quantity) -> values.put("type:" + type, quantity.sum()));
+        return values;
+    }
+
+    private static boolean correct(EventCounters counters, Map<String, Long> current, Map<String, Long> target) {
+        Set<String> keys = new HashSet<>(current.keySet());
+        keys.addAll(target.keySet());
+        boolean drifted = false;
+        for (String key : keys) {
+            long diff = target.getOrDefault(key, 0L) - current.getOrDefault(key, 0L);
+            if (diff == 0) {
+                continue;
+            }
+            drifted = true;
+            if (key.equals("revenue")) {
+                counters.revenueMinor.add(diff);
+            } else if (key.equals("tickets")) {
+                counters.tickets.add(diff);
+            } else {
+                counters.quantityByType.computeIfAbsent(key.substring("type:".length()), type -> new LongAdder()).add(diff);
+            }
+        }
+        return drifted;
+    }
+
+    private static EventSalesDTO toDTO(String eventName, EventCounters counters) {
+        Map<String, Long> quantityByType = new TreeMap<>();
+        counters.quantityByType.forEach((type, quantity) -> {
+            long sum = quantity.sum();
+            if (sum != 0) {
+                quantityByType.put(type, sum);
+            }
+        });
+        return EventSalesDTO.builder()
+                .eventName(eventName)
+                .revenue(counters.revenueMinor.sum() / 100.0)
+                .tickets(counters.tickets.sum())
+                .quantityByType(quantityByType)
+                .build();
+    }
+
+    private static String normalize(String ticketType) {
+        return ticketType.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.ticketservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} methods, such as the periodic reconciliation of the live sales counters.
+ *
+ * @author EscobarTeam
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
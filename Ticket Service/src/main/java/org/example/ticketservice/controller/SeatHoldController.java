@@ -0,0 +1,54 @@
+package org.example.ticketservice.controller;
+
+import jakarta.validation.Valid;
+import org.example.ticketservice.dto.SeatHoldCreateDTO;
+import org.example.ticketservice.dto.SeatHoldDTO;
+import org.example.ticketservice.dto.SeatHoldPurchaseDTO;
+import org.example.ticketservice.dto.TicketDTO;
+import org.example.ticketservice.service.ISeatHoldService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/tickets/holds")
+@CrossOrigin(origins = "*")
+public class SeatHoldController {
+
+    private final ISeatHoldService seatHoldService;
+
+    @Autowired
+    public SeatHoldController(ISeatHoldService seatHoldService) {
+        this.seatHoldService = seatHoldService;
+    }
+
+    // POST - rezerva temporar locuri pentru un eveniment si un tip de bilet
+    @PostMapping
+    public ResponseEntity<SeatHoldDTO> holdSeats(@Valid @RequestBody SeatHoldCreateDTO seatHoldCreateDTO) {
+        SeatHoldDTO hold = seatHoldService.holdSeats(seatHoldCreateDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(hold);
+    }
+
+    // GET - rezervare dupa ID, cat timp nu a expirat
+    @GetMapping("/{id}")
+    public ResponseEntity<SeatHoldDTO> getHold(@PathVariable String id) {
+        SeatHoldDTO hold = seatHoldService.getHold(id);
+        return ResponseEntity.ok(hold);
+    }
+
+    // DELETE - renunta la rezervare si elibereaza locurile
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> releaseHold(@PathVariable String id) {
+        seatHoldService.releaseHold(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    // POST - cumpara biletul pentru locurile rezervate
+    @PostMapping("/{id}/purchase")
+    public ResponseEntity<TicketDTO> purchaseHold(@PathVariable String id,
+                                                  @Valid @RequestBody SeatHoldPurchaseDTO seatHoldPurchaseDTO) {
+        TicketDTO ticket = seatHoldService.purchaseHold(id, seatHoldPurchaseDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ticket);
+    }
+}
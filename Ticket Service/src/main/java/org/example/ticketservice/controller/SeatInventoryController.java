@@ -0,0 +1,39 @@
+package org.example.ticketservice.controller;
+
+import jakarta.validation.Valid;
+import org.example.ticketservice.dto.SeatInventoryDTO;
+import org.example.ticketservice.service.ISeatInventoryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tickets/inventory")
+@CrossOrigin(origins = "*")
+public class SeatInventoryController {
+
+    private final ISeatInventoryService seatInventoryService;
+
+    @Autowired
+    public SeatInventoryController(ISeatInventoryService seatInventoryService) {
+        this.seatInventoryService = seatInventoryService;
+    }
+
+    // GET - inventarul de locuri al unui eveniment, pe tipuri de bilete
+    @GetMapping("/{eventName}")
+    public ResponseEntity<List<SeatInventoryDTO>> getInventory(@PathVariable String eventName) {
+        List<SeatInventoryDTO> inventory = seatInventoryService.getInventory(eventName);
+        return ResponseEntity.ok(inventory);
+    }
+
+    // PUT - pune in vanzare un tip de bilet sau ii schimba capacitatea
+    @PutMapping("/{eventName}/{ticketType}")
+    public ResponseEntity<SeatInventoryDTO> setCapacity(@PathVariable String eventName,
+                                                        @PathVariable String ticketType,
+                                                        @Valid @RequestBody SeatInventoryDTO seatInventoryDTO) {
+        SeatInventoryDTO inventory = seatInventoryService.setCapacity(eventName, ticketType, seatInventoryDTO.getCapacity());
+        return ResponseEntity.ok(inventory);
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.ticketservice.controller;
+
+import jakarta.validation.Valid;
+import org.example.ticketservice.dto.SeatSectionDTO;
+import org.example.ticketservice.dto.TicketCreateDTO;
+import org.example.ticketservice.dto.TicketDTO;
+import org.example.ticketservice.service.ISeatingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tickets/seating")
+@CrossOrigin(origins = "*")
+public class SeatingController {
+
+    private final ISeatingService seatingService;
+
+    @Autowired
+    public SeatingController(ISeatingService seatingService) {
+        this.seatingService = seatingService;
+    }
+
+    // GET - harta locurilor unui eveniment, pe sectiuni si randuri
+    @GetMapping("/{eventName}")
+    public ResponseEntity<List<SeatSectionDTO>> getSeatMap(@PathVariable String eventName) {
+        List<SeatSectionDTO> seatMap = seatingService.getSeatMap(eventName);
+        return ResponseEntity.ok(seatMap);
+    }
+
+    // POST - adauga o sectiune cu locuri numerotate la un eveniment
+    @PostMapping("/{eventName}/sections")
+    public ResponseEntity<SeatSectionDTO> addSection(@PathVariable String eventName,
+                                                     @Valid @RequestBody SeatSectionDTO seatSectionDTO) {
+        SeatSectionDTO section = seatingService.addSection(eventName, seatSectionDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(section);
+    }
+
+    // POST - cumpara bilete cu cele mai bune locuri alaturate disponibile
+    @PostMapping("/purchase")
+    public ResponseEntity<TicketDTO> purchaseSeatedTicket(@Valid @RequestBody TicketCreateDTO ticketCreateDTO,
+                                                          @RequestParam(required = false) String section) {
+        TicketDTO ticket = seatingService.purchaseSeatedTicket(ticketCreateDTO, section);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ticket);
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.ticketservice.controller;
 
 import jakarta.validation.Valid;
+import org.example.ticketservice.dto.EventSalesDTO;
+import org.example.ticketservice.dto.EventTicketSummaryDTO;
 import org.example.ticketservice.dto.TicketCreateDTO;
 import org.example.ticketservice.dto.TicketDTO;
 import org.example.ticketservice.dto.TicketWithEventDetailsDTO;
@@ -81,6 +83,34 @@ public class TicketController {
         return ResponseEntity.ok(revenue);
     }
     
+    // GET - venit total pentru un singur festival
+    @GetMapping("/revenue/by-festival/{eventName}")
+    public ResponseEntity<Double> getRevenueForFestival(@PathVariable String eventName) {
+        Double revenue = ticketService.getRevenueForFestival(eventName);
+        return ResponseEntity.ok(revenue);
+    }
+    
+    // GET - vanzari live (venit, bilete, cantitate pe tip) pentru toate festivalurile
+    @GetMapping("/sales/live")
+    public ResponseEntity<List<EventSalesDTO>> getLiveSales() {
+        List<EventSalesDTO> sales = ticketService.getLiveSales();
+        return ResponseEntity.ok(sales);
+    }
+    
+    // GET - vanzari live pentru un singur festival
+    @GetMapping("/sales/live/{eventName}")
+    public ResponseEntity<EventSalesDTO> getLiveSalesForFestival(@PathVariable String eventName) {
+        EventSalesDTO sales = ticketService.getLiveSalesForFestival(eventName);
+        return ResponseEntity.ok(sales);
+    }
+    
+    // POST - rezumat bilete (locuri si venit) pentru mai multe festivaluri deodata
+    @PostMapping("/summary")
+    public ResponseEntity<List<EventTicketSummaryDTO>> getTicketSummaries(@RequestBody List<String> eventNames) {
+        List<EventTicketSummaryDTO> summaries = ticketService.getTicketSummaries(eventNames);
+        return ResponseEntity.ok(summaries);
+    }
+    
     // GET - filtrare bilete dupa tip
     @GetMapping("/type/{ticketType}")
     public ResponseEntity<List<TicketDTO>> getTicketsByType(@PathVariable String ticketType) {
@@ -18,4 +18,6 @@ public class EventDetailsDTO {
     private String associatedArtist;
     private Integer capacity;
     private LocalDateTime createdAt;
+    private LocalDateTime asOf;
+    private Boolean stale;
 }
@@ -0,0 +1,17 @@
+package org.example.ticketservice.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventSalesDTO {
+
+    private String eventName;
+    private Double revenue;
+    private Long tickets;
+    private Map<String, Long> quantityByType;
+}
@@ -0,0 +1,14 @@
+package org.example.ticketservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventTicketSummaryDTO {
+    private String eventName;
+    private Long availableSeats;
+    private Double totalRevenue;
+}
@@ -0,0 +1,25 @@
+package org.example.ticketservice.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatHoldCreateDTO {
+
+    @NotBlank(message = "Event name cannot be empty")
+    private String eventName;
+
+    @NotBlank(message = "Ticket type cannot be empty")
+    private String ticketType;
+
+    @NotNull(message = "Quantity cannot be null")
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private Integer quantity;
+
+    // Optional; the configured default applies when missing
+    @Min(value = 1, message = "Hold duration must be at least 1 minute")
+    private Integer holdMinutes;
+}
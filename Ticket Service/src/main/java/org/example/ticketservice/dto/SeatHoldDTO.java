@@ -0,0 +1,18 @@
+package org.example.ticketservice.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatHoldDTO {
+    private String id;
+    private String eventName;
+    private String ticketType;
+    private Integer quantity;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,20 @@
+package org.example.ticketservice.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatHoldPurchaseDTO {
+
+    @NotNull(message = "Price cannot be null")
+    @DecimalMin(value = "0.0", message = "Price must be positive")
+    private Double price;
+
+    private String buyerName;
+
+    @Email(message = "Email must be valid")
+    private String buyerEmail;
+}
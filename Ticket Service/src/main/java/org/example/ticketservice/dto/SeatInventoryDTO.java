@@ -0,0 +1,27 @@
+package org.example.ticketservice.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatInventoryDTO {
+
+    private String eventName;
+
+    private String ticketType;
+
+    @NotNull(message = "Capacity cannot be null")
+    @Min(value = 0, message = "Capacity cannot be negative")
+    private Integer capacity;
+
+    private Integer sold;
+    private Integer held;
+    private Integer available;
+    private LocalDateTime updatedAt;
+}
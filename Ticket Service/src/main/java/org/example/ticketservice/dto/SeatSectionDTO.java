@@ -0,0 +1,37 @@
+package org.example.ticketservice.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatSectionDTO {
+
+    private String eventName;
+
+    @NotBlank(message = "Section name cannot be empty")
+    private String name;
+
+    @NotBlank(message = "Ticket type cannot be empty")
+    private String ticketType;
+
+    @NotNull(message = "Rows cannot be null")
+    @Min(value = 1, message = "A section needs at least one row")
+    @Max(value = 500, message = "A section can have at most 500 rows")
+    private Integer rows;
+
+    @NotNull(message = "Seats per row cannot be null")
+    @Min(value = 1, message = "A row needs at least one seat")
+    @Max(value = 1000, message = "A row can have at most 1000 seats")
+    private Integer seatsPerRow;
+
+    private Integer priority;
+
+    // Read-only: the free seats and one string per row, 'X' for a taken seat and '.' for a free one
+    private Integer available;
+    private List<String> seatRows;
+}
@@ -32,6 +32,11 @@ public class TicketDTO {
     @Email(message = "Email must be valid")
     private String buyerEmail;
     
+    // Assigned seating only; not changed by updates
+    private String section;
+    private Integer seatRow;
+    private Integer firstSeat;
+    
     private LocalDateTime purchaseDate;
     private Boolean isActive;
     private LocalDateTime createdAt;
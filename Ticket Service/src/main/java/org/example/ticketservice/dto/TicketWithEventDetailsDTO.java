@@ -26,4 +26,6 @@ public class TicketWithEventDetailsDTO {
     private String associatedArtist;
     private Integer eventCapacity;
     private String validationMessage; 
+    private LocalDateTime eventInfoAsOf;
+    private Boolean eventInfoStale;
 }
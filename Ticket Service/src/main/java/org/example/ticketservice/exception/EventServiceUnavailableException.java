@@ -0,0 +1,7 @@
+package org.example.ticketservice.exception;
+
+public class EventServiceUnavailableException extends RuntimeException {
+    public EventServiceUnavailableException(Throwable cause) {
+        super("Serviciul de evenimente este temporar indisponibil", cause);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.ticketservice.exception;
+
+public class SeatHoldNotFoundException extends RuntimeException {
+    public SeatHoldNotFoundException(String id) {
+        super("Rezervarea " + id + " nu exista sau a expirat");
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.ticketservice.exception;
+
+public class SeatInventoryNotFoundException extends RuntimeException {
+    public SeatInventoryNotFoundException(String eventName, String ticketType) {
+        super("Nu exista locuri " + ticketType + " puse in vanzare pentru evenimentul '" + eventName + "'");
+    }
+}
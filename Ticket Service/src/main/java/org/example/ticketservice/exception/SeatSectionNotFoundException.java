@@ -0,0 +1,7 @@
+package org.example.ticketservice.exception;
+
+public class SeatSectionNotFoundException extends RuntimeException {
+    public SeatSectionNotFoundException(String eventName, String ticketType) {
+        super("Evenimentul '" + eventName + "' nu are locuri numerotate " + ticketType);
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.ticketservice.exception;
+
+public class SeatsUnavailableException extends RuntimeException {
+    public SeatsUnavailableException(String message) {
+        super(message);
+    }
+
+    public SeatsUnavailableException(String eventName, String ticketType, int available, int requested) {
+        super("Nu sunt suficiente locuri " + ticketType + " pentru evenimentul '" + eventName
+                + "'. Disponibile: " + available + ", Solicitate: " + requested);
+    }
+}
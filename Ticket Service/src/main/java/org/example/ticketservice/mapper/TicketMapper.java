@@ -20,6 +20,9 @@ public class TicketMapper {
                 .quantity(ticket.getQuantity())
                 .buyerName(ticket.getBuyerName())
                 .buyerEmail(ticket.getBuyerEmail())
+                .section(ticket.getSection())
+                .seatRow(ticket.getSeatRow())
+                .firstSeat(ticket.getFirstSeat())
                 .purchaseDate(ticket.getPurchaseDate())
                 .isActive(ticket.getIsActive())
                 .createdAt(ticket.getCreatedAt())
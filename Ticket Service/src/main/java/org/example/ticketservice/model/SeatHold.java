@@ -0,0 +1,36 @@
+package org.example.ticketservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "seat_holds")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatHold {
+
+    // Random UUID: holds are looked up and purchased by ID without authentication, so IDs must not be guessable
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "event_name", nullable = false)
+    private String eventName;
+
+    @Column(name = "ticket_type", nullable = false)
+    private String ticketType;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
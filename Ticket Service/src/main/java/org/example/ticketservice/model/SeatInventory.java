@@ -0,0 +1,59 @@
+package org.example.ticketservice.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.annotations.Check;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "seat_inventory",
+        uniqueConstraints = @UniqueConstraint(name = "uk_seat_inventory_event_type",
+                columnNames = {"event_name", "ticket_type"}))
+@Check(constraints = "sold >= 0 AND held >= 0 AND sold + held <= capacity")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatInventory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotBlank(message = "Event name cannot be empty")
+    @Column(name = "event_name", nullable = false)
+    private String eventName;
+
+    @NotBlank(message = "Ticket type cannot be empty")
+    @Column(name = "ticket_type", nullable = false)
+    private String ticketType;
+
+    @NotNull(message = "Capacity cannot be null")
+    @Min(value = 0, message = "Capacity cannot be negative")
+    @Column(name = "capacity", nullable = false)
+    private Integer capacity;
+
+    // Seats of purchased, active tickets
+    @Builder.Default
+    @Column(name = "sold", nullable = false)
+    private Integer sold = 0;
+
+    // Seats set aside for buyers who have not completed their purchase yet
+    @Builder.Default
+    @Column(name = "held", nullable = false)
+    private Integer held = 0;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
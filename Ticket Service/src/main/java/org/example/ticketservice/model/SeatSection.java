@@ -0,0 +1,40 @@
+package org.example.ticketservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "seat_sections",
+        uniqueConstraints = @UniqueConstraint(name = "uk_seat_sections_event_name",
+                columnNames = {"event_name", "name"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatSection {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_name", nullable = false)
+    private String eventName;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "ticket_type", nullable = false)
+    private String ticketType;
+
+    @Column(name = "row_count", nullable = false)
+    private Integer rowCount;
+
+    @Column(name = "seats_per_row", nullable = false)
+    private Integer seatsPerRow;
+
+    // Sections with a lower priority are offered first when the buyer does not pick one
+    @Column(name = "priority", nullable = false)
+    @Builder.Default
+    private Integer priority = 0;
+}
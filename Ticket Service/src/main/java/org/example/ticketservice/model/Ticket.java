@@ -44,6 +44,16 @@ public class Ticket {
     @Column(name = "buyer_email")
     private String buyerEmail;
     
+    // Assigned seating only: the ticket's seats are seats firstSeat .. firstSeat + quantity - 1 of seatRow
+    @Column(name = "seat_section")
+    private String section;
+    
+    @Column(name = "seat_row")
+    private Integer seatRow;
+    
+    @Column(name = "first_seat")
+    private Integer firstSeat;
+    
     @Column(name = "purchase_date")
     private LocalDateTime purchaseDate;
     
@@ -0,0 +1,37 @@
+package org.example.ticketservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * One seat sold with a ticket. The unique constraint is what keeps two instances of the service
+ * from selling the same seat; the in-memory seat maps only pick the seats.
+ */
+@Entity
+@Table(name = "ticket_seats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ticket_seats_seat",
+                columnNames = {"section_id", "seat_row", "seat_number"}),
+        indexes = @Index(name = "idx_ticket_seats_ticket_id", columnList = "ticket_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketSeat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "section_id", nullable = false)
+    private Long sectionId;
+
+    @Column(name = "seat_row", nullable = false)
+    private Integer seatRow;
+
+    @Column(name = "seat_number", nullable = false)
+    private Integer seatNumber;
+
+    @Column(name = "ticket_id", nullable = false)
+    private Long ticketId;
+}
@@ -0,0 +1,36 @@
+package org.example.ticketservice.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.ticketservice.model.SeatHold;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SeatHoldRepository extends JpaRepository<SeatHold, String> {
+
+    // The number of deleted rows decides who owns a hold when release, purchase and expiry race for it
+    @Modifying
+    @Query("DELETE FROM SeatHold h WHERE h.id = :id")
+    int deleteHold(@Param("id") String id);
+
+    @Modifying
+    @Query("DELETE FROM SeatHold h WHERE h.id = :id AND h.expiresAt > :now")
+    int consumeHold(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    // Locked in id order, so the timing wheel and the sweeps of several instances never deadlock on the same holds
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM SeatHold h WHERE h.id IN :ids ORDER BY h.id")
+    List<SeatHold> lockByIds(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT h.id FROM SeatHold h WHERE h.expiresAt < :now AND h.id > :after ORDER BY h.id")
+    List<String> findExpiredIds(@Param("now") LocalDateTime now, @Param("after") String after, Pageable pageable);
+}
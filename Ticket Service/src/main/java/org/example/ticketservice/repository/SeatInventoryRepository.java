@@ -0,0 +1,86 @@
+package org.example.ticketservice.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.ticketservice.model.SeatInventory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SeatInventoryRepository extends JpaRepository<SeatInventory, Long> {
+
+    Optional<SeatInventory> findByEventNameAndTicketType(String eventName, String ticketType);
+
+    List<SeatInventory> findByEventNameOrderByTicketType(String eventName);
+
+    boolean existsByEventName(String eventName);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SeatInventory s WHERE s.eventName = :eventName AND s.ticketType = :ticketType")
+    Optional<SeatInventory> lockByEventNameAndTicketType(@Param("eventName") String eventName,
+                                                         @Param("ticketType") String ticketType);
+
+    // Takes the seats only if enough are left, as a single statement: the check and the decrement cannot interleave
+    // with another buyer. Only the row of this event and ticket type is locked, until the transaction commits.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SeatInventory s SET s.sold = s.sold + :quantity, s.updatedAt = LOCAL DATETIME " +
+           "WHERE s.eventName = :eventName AND s.ticketType = :ticketType " +
+           "AND s.capacity - s.sold - s.held >= :quantity")
+    int reserveSeats(@Param("eventName") String eventName,
+                     @Param("ticketType") String ticketType,
+                     @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SeatInventory s SET s.sold = s.sold - :quantity, s.updatedAt = LOCAL DATETIME " +
+           "WHERE s.eventName = :eventName AND s.ticketType = :ticketType AND s.sold >= :quantity")
+    int releaseSeats(@Param("eventName") String eventName,
+                     @Param("ticketType") String ticketType,
+                     @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SeatInventory s SET s.held = s.held + :quantity, s.updatedAt = LOCAL DATETIME " +
+           "WHERE s.eventName = :eventName AND s.ticketType = :ticketType " +
+           "AND s.capacity - s.sold - s.held >= :quantity")
+    int holdSeats(@Param("eventName") String eventName,
+                  @Param("ticketType") String ticketType,
+                  @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SeatInventory s SET s.held = s.held - :quantity, s.updatedAt = LOCAL DATETIME " +
+           "WHERE s.eventName = :eventName AND s.ticketType = :ticketType AND s.held >= :quantity")
+    int releaseHeldSeats(@Param("eventName") String eventName,
+                         @Param("ticketType") String ticketType,
+                         @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SeatInventory s SET s.held = s.held - :quantity, s.sold = s.sold + :quantity, " +
+           "s.updatedAt = LOCAL DATETIME " +
+           "WHERE s.eventName = :eventName AND s.ticketType = :ticketType AND s.held >= :quantity")
+    int sellHeldSeats(@Param("eventName") String eventName,
+                      @Param("ticketType") String ticketType,
+                      @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SeatInventory s SET s.capacity = :capacity, s.updatedAt = LOCAL DATETIME " +
+           "WHERE s.eventName = :eventName AND s.ticketType = :ticketType AND s.sold + s.held <= :capacity")
+    int updateCapacity(@Param("eventName") String eventName,
+                       @Param("ticketType") String ticketType,
+                       @Param("capacity") int capacity);
+
+    @Query("SELECT s.eventName AS eventName, SUM(s.capacity - s.sold - s.held) AS availableSeats " +
+           "FROM SeatInventory s WHERE s.eventName IN :eventNames GROUP BY s.eventName")
+    List<EventSeats> countAvailableSeats(@Param("eventNames") Collection<String> eventNames);
+
+    interface EventSeats {
+        String getEventName();
+
+        Long getAvailableSeats();
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.ticketservice.repository;
+
+import org.example.ticketservice.model.SeatSection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SeatSectionRepository extends JpaRepository<SeatSection, Long> {
+
+    List<SeatSection> findByEventNameOrderByPriorityAscNameAsc(String eventName);
+
+    List<SeatSection> findByEventNameAndTicketTypeOrderByPriorityAscNameAsc(String eventName, String ticketType);
+
+    Optional<SeatSection> findByEventNameAndName(String eventName, String name);
+
+    @Query("SELECT COALESCE(SUM(s.rowCount * s.seatsPerRow), 0) FROM SeatSection s " +
+           "WHERE s.eventName = :eventName AND s.ticketType = :ticketType")
+    long sumSeats(@Param("eventName") String eventName, @Param("ticketType") String ticketType);
+}
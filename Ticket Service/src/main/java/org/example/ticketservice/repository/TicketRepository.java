@@ -1,8 +1,13 @@
 package org.example.ticketservice.repository;
 
+import org.example.ticketservice.dto.EventTicketSummaryDTO;
 import org.example.ticketservice.model.Ticket;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -10,9 +15,47 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
 
     List<Ticket> findByEventName(String eventName);
 
-    int countByEventName(String eventName);
-    
     List<Ticket> findByTicketType(String ticketType);
     
     List<Ticket> findByIsActiveTrue();
+
+    // Revenue only; the available seats are filled in from the seat inventory
+    @Query("SELECT new org.example.ticketservice.dto.EventTicketSummaryDTO(" +
+           "t.eventName, 0L, COALESCE(SUM(t.price * t.quantity), 0.0)) " +
+           "FROM Ticket t WHERE t.eventName IN :eventNames GROUP BY t.eventName")
+    List<EventTicketSummaryDTO> summarizeByEventNames(@Param("eventNames") Collection<String> eventNames);
+
+    @Query("SELECT t.eventName AS eventName, SUM(t.price * t.quantity) AS revenue FROM Ticket t GROUP BY t.eventName")
+    List<EventRevenue> sumRevenueGroupedByEventName();
+
+    // Served by the event_name index
+    @Query("SELECT COALESCE(SUM(t.price * t.quantity), 0.0) FROM Ticket t WHERE t.eventName = :eventName")
+    Double sumRevenueOfEvent(@Param("eventName") String eventName);
+
+    @Query("SELECT COALESCE(SUM(t.price * t.quantity), 0.0) FROM Ticket t")
+    Double sumRevenue();
+
+    // Revenue in minor units, rounded per ticket exactly like the live sales counters
+    @Query("SELECT t.eventName AS eventName, t.ticketType AS ticketType, COUNT(t) AS tickets, " +
+           "SUM(t.quantity) AS quantity, SUM(ROUND(t.price * 100, 0) * t.quantity) AS revenueMinor " +
+           "FROM Ticket t GROUP BY t.eventName, t.ticketType")
+    List<EventTypeSales> sumSalesGroupedByEventAndType();
+
+    interface EventRevenue {
+        String getEventName();
+
+        Double getRevenue();
+    }
+
+    interface EventTypeSales {
+        String getEventName();
+
+        String getTicketType();
+
+        Long getTickets();
+
+        Long getQuantity();
+
+        Number getRevenueMinor();
+    }
 }
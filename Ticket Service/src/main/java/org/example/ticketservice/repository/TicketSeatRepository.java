@@ -0,0 +1,22 @@
+package org.example.ticketservice.repository;
+
+import org.example.ticketservice.model.TicketSeat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TicketSeatRepository extends JpaRepository<TicketSeat, Long> {
+
+    List<TicketSeat> findBySectionId(Long sectionId);
+
+    List<TicketSeat> findBySectionIdAndSeatRow(Long sectionId, Integer seatRow);
+
+    @Modifying
+    @Query("DELETE FROM TicketSeat s WHERE s.ticketId = :ticketId")
+    int deleteByTicketId(@Param("ticketId") Long ticketId);
+}
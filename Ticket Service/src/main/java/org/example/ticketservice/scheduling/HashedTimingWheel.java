@@ -0,0 +1,332 @@
+package org.example.ticketservice.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * A hashed timing wheel: schedules large numbers of timeouts with O(1) cost per schedule and cancel,
+ * at the price of firing them up to one tick late.
+ * <p>
+ * Time is divided into ticks; the wheel has a fixed number of buckets and a timeout goes into the bucket of
+ * its deadline's tick, counting how many full revolutions remain. A single worker thread advances one bucket
+ * per tick and collects every timeout of that bucket that is due. All the timeouts due in the same tick are
+ * handed to the expiry handler together, so the handler can act on them in bulk.
+ * <p>
+ * {@link #schedule(Object, Duration)} only enqueues the timeout on a lock-free queue; the worker moves it into
+ * its bucket on the next tick, so callers never contend on the buckets. {@link Timeout#cancel()} just flips the
+ * state of the timeout; the worker drops cancelled timeouts the next time it visits their bucket.
+ *
+ * @param <T> the type of the payload handed to the expiry handler
+ * @author EscobarTeam
+ */
+public class HashedTimingWheel<T> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedTimingWheel.class);
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final String name;
+    private final long tickNanos;
+    private final Bucket<T>[] wheel;
+    private final int mask;
+    private final Consumer<List<T>> expiryHandler;
+    private final Queue<Timeout<T>> scheduled = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final long startNanos = System.nanoTime();
+
+    private volatile boolean running;
+    private Thread worker;
+    private long tick;
+
+    /**
+     * Constructs a new, stopped {@code HashedTimingWheel}.
+     *
+     * @param name the name of the worker thread
+     * @param tickDuration the duration of one tick, i.e. the precision of the timeouts
+     * @param wheelSize the number of buckets, rounded up to a power of two
+     * @param expiryHandler the handler receiving the payloads of all the timeouts due in one tick
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, Duration tickDuration, int wheelSize, Consumer<List<T>> expiryHandler) {
+        if (tickDuration.toMillis() < 1) {
+            throw new IllegalArgumentException("The tick duration must be at least 1 ms");
+        }
+        if (wheelSize < 1 || wheelSize > 1 << 20) {
+            throw new IllegalArgumentException("The wheel size must be between 1 and 2^20");
+        }
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        size = Math.max(size, 1);
+        this.name = name;
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket<>();
+        }
+        this.mask = size - 1;
+        this.expiryHandler = expiryHandler;
+    }
+
+    /**
+     * Starts the worker thread. Timeouts scheduled before start are not lost; they fire once the wheel runs.
+     */
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Schedules a timeout. Safe to call from any number of threads; costs one lock-free enqueue.
+     *
+     * @param payload the payload handed to the expiry handler when the timeout fires
+     * @param delay the delay after which the timeout fires; zero or negative fires on the next tick
+     * @return the scheduled timeout, which can be cancelled
+     */
+    public Timeout<T> schedule(T payload, Duration delay) {
+        long delayNanos = Math.max(0, delay.toNanos());
+        Timeout<T> timeout = new Timeout<>(this, payload, System.nanoTime() - startNanos + delayNanos);
+        pending.incrementAndGet();
+        scheduled.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Returns the number of timeouts that have been scheduled and have neither fired nor been cancelled.
+     *
+     * @return the number of pending timeouts
+     */
+    public long pending() {
+        return pending.get();
+    }
+
+    /**
+     * Stops the worker thread; pending timeouts never fire.
+     */
+    @Override
+    public void close() {
+        Thread current;
+        synchronized (this) {
+            running = false;
+            current = worker;
+        }
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        while (running) {
+            long now = waitForNextTick();
+            if (now < 0) {
+                return;
+            }
+            transferScheduled();
+            List<T> expired = wheel[(int) (tick & mask)].expire(now);
+            tick++;
+            if (!expired.isEmpty()) {
+                try {
+                    expiryHandler.accept(expired);
+                } catch (RuntimeException e) {
+                    logger.error("Expiry handler of '{}' failed for {} timeouts", name, expired.size(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sleeps until the start of the next tick. Ticks are computed from the start time of the wheel,
+     * so a slow expiry handler delays the following ticks but never shifts them.
+     *
+     * @return the current time relative to the start of the wheel, or -1 if the wheel was stopped
+     */
+    private long waitForNextTick() {
+        long target = tickNanos * (tick + 1);
+        while (true) {
+            long now = System.nanoTime() - startNanos;
+            long sleepMillis = (target - now + 999_999) / 1_000_000;
+            if (sleepMillis <= 0) {
+                return now;
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferScheduled() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout<T> timeout = scheduled.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long deadlineTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (deadlineTick - tick) / wheel.length;
+            // A timeout already overdue goes into the current bucket instead of a past one
+            long bucketTick = Math.max(deadlineTick, tick);
+            wheel[(int) (bucketTick & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * A scheduled timeout.
+     *
+     * @param <T> the type of the payload
+     */
+    public static final class Timeout<T> {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final HashedTimingWheel<T> timingWheel;
+        private final T payload;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        // Owned by the worker thread
+        private long remainingRounds;
+        private Timeout<T> next;
+        private Timeout<T> prev;
+
+        private Timeout(HashedTimingWheel<T> timingWheel, T payload, long deadline) {
+            this.timingWheel = timingWheel;
+            this.payload = payload;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timeout, unless it has already fired.
+         *
+         * @return {@code true} if the timeout was pending and will now never fire
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            timingWheel.pending.decrementAndGet();
+            return true;
+        }
+
+        /**
+         * Returns the payload of the timeout.
+         *
+         * @return the payload
+         */
+        public T payload() {
+            return payload;
+        }
+
+        /**
+         * Checks whether the timeout was cancelled.
+         *
+         * @return {@code true} if the timeout was cancelled before it fired
+         */
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        /**
+         * Checks whether the timeout has fired.
+         *
+         * @return {@code true} if the timeout has fired
+         */
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private boolean expire() {
+            if (!state.compareAndSet(PENDING, EXPIRED)) {
+                return false;
+            }
+            timingWheel.pending.decrementAndGet();
+            return true;
+        }
+    }
+
+    /**
+     * The timeouts of one slot of the wheel, as an intrusive doubly linked list; only used by the worker thread.
+     *
+     * @param <T> the type of the payloads
+     */
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        /**
+         * Removes the cancelled timeouts and the ones due, and counts down a revolution on the others.
+         *
+         * @param now the current time relative to the start of the wheel
+         * @return the payloads of the timeouts that fired
+         */
+        List<T> expire(long now) {
+            List<T> expired = new ArrayList<>();
+            Timeout<T> timeout = head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0 && timeout.deadline <= now) {
+                    remove(timeout);
+                    if (timeout.expire()) {
+                        expired.add(timeout.payload);
+                    }
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+            return expired;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.next = null;
+            timeout.prev = null;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package org.example.ticketservice.seating;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The seats of one section as a bitmap, one bit per seat, set when the seat is taken.
+ * <p>
+ * Every row starts on a fresh 64-bit word, so a row of up to 64 seats is a single word and a block of seats
+ * never spans two rows. Seats are taken with compare-and-set on the words they fall in: concurrent buyers
+ * never lock, and only retry when another buyer took seats in the same word between their read and their write.
+ * A block spanning several words is taken word by word and the words already taken are given back
+ * if a later one conflicts, so a block is always taken entirely or not at all.
+ * <p>
+ * Rows and seats are numbered from 0.
+ *
+ * @author EscobarTeam
+ */
+public class SeatBitmap {
+
+    private final int rows;
+    private final int seatsPerRow;
+    private final int wordsPerRow;
+    private final AtomicLongArray words;
+
+    /**
+     * A block of contiguous seats in a row.
+     *
+     * @param row the row
+     * @param firstSeat the first seat of the block
+     * @param count the number of seats
+     */
+    public record Block(int row, int firstSeat, int count) {
+    }
+
+    /**
+     * Constructs a new {@code SeatBitmap} with every seat free.
+     *
+     * @param rows the number of rows
+     * @param seatsPerRow the number of seats in every row
+     */
+    public SeatBitmap(int rows, int seatsPerRow) {
+        if (rows < 1 || seatsPerRow < 1) {
+            throw new IllegalArgumentException("A section needs at least one row and one seat per row");
+        }
+        this.rows = rows;
+        this.seatsPerRow = seatsPerRow;
+        this.wordsPerRow = (seatsPerRow + 63) >>> 6;
+        this.words = new AtomicLongArray(rows * wordsPerRow);
+    }
+
+    /**
+     * Takes the best available block of contiguous seats: in the row closest to the stage that has one,
+     * as close to the middle of the row as possible.
+     *
+     * @param count the number of seats
+     * @return the block taken, or {@code null} if no row has that many contiguous free seats
+     */
+    public Block allocate(int count) {
+        if (count < 1 || count > seatsPerRow) {
+            return null;
+        }
+        while (true) {
+            Block best = findBest(count);
+            if (best == null || claim(best.row(), best.firstSeat(), count)) {
+                return best;
+            }
+            // Another buyer took some of these seats after we read them; look again
+        }
+    }
+
+    /**
+     * Finds the best available block of contiguous seats without taking it.
+     *
+     * @param count the number of seats
+     * @return the best block, or {@code null} if no row has that many contiguous free seats
+     */
+    public Block findBest(int count) {
+        int middle = (seatsPerRow - count) / 2;
+        long[] row = new long[wordsPerRow];
+        for (int r = 0; r < rows; r++) {
+            for (int w = 0; w < wordsPerRow; w++) {
+                row[w] = words.get(r * wordsPerRow + w);
+            }
+            int bestSeat = -1;
+            int seat = nextFree(row, 0);
+            while (seat < seatsPerRow) {
+                int end = nextTaken(row, seat);
+                if (end - seat >= count) {
+                    // The placement in this run closest to the middle of the row
+                    int placed = Math.min(Math.max(middle, seat), end - count);
+                    if (bestSeat < 0 || Math.abs(placed - middle) < Math.abs(bestSeat - middle)) {
+                        bestSeat = placed;
+                    }
+                }
+                seat = nextFree(row, end);
+            }
+            if (bestSeat >= 0) {
+                return new Block(r, bestSeat, count);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Takes a given block of seats, if all of them are free.
+     *
+     * @param row the row
+     * @param firstSeat the first seat of the block
+     * @param count the number of seats
+     * @return {@code true} if the block was taken, {@code false} if any of its seats was already taken
+     */
+    public boolean claim(int row, int firstSeat, int count) {
+        checkBlock(row, firstSeat, count);
+        int end = firstSeat + count;
+        for (int seat = firstSeat; seat < end; seat = (seat | 63) + 1) {
+            int index = index(row, seat);
+            long mask = mask(seat, end);
+            while (true) {
+                long word = words.get(index);
+                if ((word & mask) != 0) {
+                    if (seat > firstSeat) {
+                        release(row, firstSeat, seat - firstSeat);
+                    }
+                    return false;
+                }
+                if (words.compareAndSet(index, word, word | mask)) {
+                    break;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Frees a block of seats.
+     *
+     * @param row the row
+     * @param firstSeat the first seat of the block
+     * @param count the number of seats
+     */
+    public void release(int row, int firstSeat, int count) {
+        update(row, firstSeat, count, false);
+    }
+
+    /**
+     * Marks a block of seats as taken whatever their state, e.g. when loading the seats sold before.
+     *
+     * @param row the row
+     * @param firstSeat the first seat of the block
+     * @param count the number of seats
+     */
+    public void occupy(int row, int firstSeat, int count) {
+        update(row, firstSeat, count, true);
+    }
+
+    /**
+     * Checks whether a seat is taken.
+     *
+     * @param row the row
+     * @param seat the seat
+     * @return {@code true} if the seat is taken
+     */
+    public boolean isTaken(int row, int seat) {
+        checkBlock(row, seat, 1);
+        return (words.get(index(row, seat)) & (1L << (seat & 63))) != 0;
+    }
+
+    /**
+     * Counts the free seats of the section.
+     *
+     * @return the number of free seats
+     */
+    public int available() {
+        int taken = 0;
+        for (int i = 0; i < words.length(); i++) {
+            taken += Long.bitCount(words.get(i));
+        }
+        return rows * seatsPerRow - taken;
+    }
+
+    /**
+     * Renders a row with one character per seat: {@code X} for taken, {@code .} for free.
+     *
+     * @param row the row
+     * @return the seats of the row
+     */
+    public String render(int row) {
+        StringBuilder seats = new StringBuilder(seatsPerRow);
+        for (int seat = 0; seat < seatsPerRow; seat++) {
+            seats.append(isTaken(row, seat) ? 'X' : '.');
+        }
+        return seats.toString();
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getSeatsPerRow() {
+        return seatsPerRow;
+    }
+
+    private void update(int row, int firstSeat, int count, boolean taken) {
+        checkBlock(row, firstSeat, count);
+        int end = firstSeat + count;
+        for (int seat = firstSeat; seat < end; seat = (seat | 63) + 1) {
+            int index = index(row, seat);
+            long mask = mask(seat, end);
+            while (true) {
+                long word = words.get(index);
+                long updated = taken ? word | mask : word & ~mask;
+                if (word == updated || words.compareAndSet(index, word, updated)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private int index(int row, int seat) {
+        return row * wordsPerRow + (seat >>> 6);
+    }
+
+    /**
+     * The bits of the seats from {@code seat} up to {@code end} (exclusive) that fall in the word of {@code seat}.
+     */
+    private static long mask(int seat, int end) {
+        int from = seat & 63;
+        int to = Math.min(end - (seat & ~63), 64);
+        long upTo = to == 64 ? -1L : (1L << to) - 1;
+        return upTo & (-1L << from);
+    }
+
+    private int nextFree(long[] row, int from) {
+        if (from >= seatsPerRow) {
+            return seatsPerRow;
+        }
+        int w = from >>> 6;
+        long free = ~row[w] & (-1L << (from & 63));
+        while (free == 0) {
+            if (++w == wordsPerRow) {
+                return seatsPerRow;
+            }
+            free = ~row[w];
+        }
+        return Math.min((w << 6) + Long.numberOfTrailingZeros(free), seatsPerRow);
+    }
+
+    private int nextTaken(long[] row, int from) {
+        int w = from >>> 6;
+        long taken = row[w] & (-1L << (from & 63));
+        while (taken == 0) {
+            if (++w == wordsPerRow) {
+                return seatsPerRow;
+            }
+            taken = row[w];
+        }
+        return Math.min((w << 6) + Long.numberOfTrailingZeros(taken), seatsPerRow);
+    }
+
+    private void checkBlock(int row, int firstSeat, int count) {
+        if (row < 0 || row >= rows || firstSeat < 0 || count < 1 || firstSeat + count > seatsPerRow) {
+            throw new IllegalArgumentException("Locurile " + (firstSeat + 1) + "-" + (firstSeat + count)
+                    + " din randul " + (row + 1) + " nu exista");
+        }
+    }
+}
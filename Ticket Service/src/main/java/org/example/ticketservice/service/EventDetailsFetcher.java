@@ -0,0 +1,76 @@
+package org.example.ticketservice.service;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.example.common.client.LastKnownGoodCall;
+import org.example.ticketservice.client.EventServiceClient;
+import org.example.ticketservice.dto.EventDetailsDTO;
+import org.example.ticketservice.exception.EventServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Looks up events in the Event Service through the {@value #EVENT_SERVICE} bulkhead and circuit breaker,
+ * configured under {@code resilience4j.*.instances.eventService}.
+ * While the Event Service is unavailable, the last result received for the same name is served instead,
+ * with every event marked as stale; see {@link LastKnownGoodCall}.
+ *
+ * @author EscobarTeam
+ */
+@Component
+public class EventDetailsFetcher {
+
+    /**
+     * The name of the circuit breaker and bulkhead guarding the Event Service.
+     */
+    public static final String EVENT_SERVICE = "eventService";
+
+    private static final String GATEWAY_HEADER = "Gateway-Service";
+    private static final int MAX_CACHED_SEARCHES = 10_000;
+
+    private final EventServiceClient eventServiceClient;
+    private final LastKnownGoodCall<String, List<EventDetailsDTO>> searchCall;
+
+    /**
+     * Constructs a new {@code EventDetailsFetcher}.
+     *
+     * @param eventServiceClient the Feign client for the Event Service
+     * @param circuitBreakerRegistry the registry providing the Event Service circuit breaker
+     * @param bulkheadRegistry the registry providing the Event Service bulkhead
+     */
+    @Autowired
+    public EventDetailsFetcher(EventServiceClient eventServiceClient,
+                               CircuitBreakerRegistry circuitBreakerRegistry,
+                               BulkheadRegistry bulkheadRegistry) {
+        this.eventServiceClient = eventServiceClient;
+        this.searchCall = new LastKnownGoodCall<>("Event Service", circuitBreakerRegistry.circuitBreaker(EVENT_SERVICE),
+                bulkheadRegistry.bulkhead(EVENT_SERVICE), MAX_CACHED_SEARCHES, EventServiceUnavailableException::new);
+    }
+
+    /**
+     * Searches the events whose name contains the given text.
+     *
+     * @param eventName the text to search for
+     * @return the matching events, each stamped with the time it was received and whether it is stale
+     * @throws EventServiceUnavailableException if the Event Service is unavailable and no earlier result is cached
+     */
+    public List<EventDetailsDTO> searchEventsByName(String eventName) {
+        String key = eventName.trim().toLowerCase(Locale.ROOT);
+        LastKnownGoodCall.Response<List<EventDetailsDTO>> response = searchCall.call(key,
+                () -> eventServiceClient.searchEventsByName(eventName, GATEWAY_HEADER));
+        return response.value().stream()
+                .map(event -> withFreshness(event, response.asOf(), response.stale()))
+                .collect(Collectors.toList());
+    }
+
+    private static EventDetailsDTO withFreshness(EventDetailsDTO event, LocalDateTime asOf, boolean stale) {
+        return new EventDetailsDTO(event.getId(), event.getName(), event.getDate(), event.getStageId(),
+                event.getStageName(), event.getAssociatedArtist(), event.getCapacity(), event.getCreatedAt(),
+                asOf, stale);
+    }
+}
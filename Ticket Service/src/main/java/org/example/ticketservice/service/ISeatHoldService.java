@@ -0,0 +1,51 @@
+package org.example.ticketservice.service;
+
+import org.example.ticketservice.dto.SeatHoldCreateDTO;
+import org.example.ticketservice.dto.SeatHoldDTO;
+import org.example.ticketservice.dto.SeatHoldPurchaseDTO;
+import org.example.ticketservice.dto.TicketDTO;
+
+/**
+ * Service interface for seat holds: seats set aside for a buyer for a limited time while they check out.
+ * A hold is either purchased, released by the buyer, or expires and gives its seats back.
+ *
+ * @author EscobarTeam
+ */
+public interface ISeatHoldService {
+    /**
+     * Holds seats of an event and ticket type for a limited time.
+     *
+     * @param seatHoldCreateDTO the event, ticket type, number of seats and optional hold duration
+     * @return the {@code SeatHoldDTO} object representing the new hold, with its expiry time
+     * @throws org.example.ticketservice.exception.SeatInventoryNotFoundException if the ticket type is not on sale
+     * @throws org.example.ticketservice.exception.SeatsUnavailableException if not enough seats are left
+     */
+    SeatHoldDTO holdSeats(SeatHoldCreateDTO seatHoldCreateDTO);
+
+    /**
+     * Retrieves a hold that has not expired yet.
+     *
+     * @param id the unique identifier of the hold
+     * @return the {@code SeatHoldDTO} object representing the hold
+     * @throws org.example.ticketservice.exception.SeatHoldNotFoundException if the hold does not exist or has expired
+     */
+    SeatHoldDTO getHold(String id);
+
+    /**
+     * Releases a hold before it expires, putting its seats back on sale.
+     *
+     * @param id the unique identifier of the hold
+     * @throws org.example.ticketservice.exception.SeatHoldNotFoundException if the hold does not exist anymore
+     */
+    void releaseHold(String id);
+
+    /**
+     * Purchases the seats of a hold that has not expired, creating the ticket.
+     *
+     * @param id the unique identifier of the hold
+     * @param seatHoldPurchaseDTO the price and buyer of the ticket
+     * @return the {@code TicketDTO} object representing the purchased ticket
+     * @throws org.example.ticketservice.exception.SeatHoldNotFoundException if the hold does not exist or has expired
+     */
+    TicketDTO purchaseHold(String id, SeatHoldPurchaseDTO seatHoldPurchaseDTO);
+}
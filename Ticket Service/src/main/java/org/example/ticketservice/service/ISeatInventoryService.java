@@ -0,0 +1,122 @@
+package org.example.ticketservice.service;
+
+import org.example.ticketservice.dto.SeatInventoryDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service interface for the seat inventory of the events: the capacity of every event and ticket type,
+ * and how many of those seats are sold or held.
+ *
+ * @author EscobarTeam
+ */
+public interface ISeatInventoryService {
+    /**
+     * Retrieves the inventory of every ticket type of an event.
+     *
+     * @param eventName the name of the event
+     * @return a list of {@code SeatInventoryDTO} objects, ordered by ticket type; empty if the event is not on sale
+     */
+    List<SeatInventoryDTO> getInventory(String eventName);
+
+    /**
+     * Puts a ticket type of an event on sale, or changes its capacity.
+     *
+     * @param eventName the name of the event
+     * @param ticketType the ticket type (e.g., VIP, GENERAL, EARLY_BIRD)
+     * @param capacity the total number of seats of this ticket type
+     * @return the {@code SeatInventoryDTO} object representing the updated inventory
+     * @throws org.example.ticketservice.exception.SeatsUnavailableException if more seats are already sold or held
+     */
+    SeatInventoryDTO setCapacity(String eventName, String ticketType, int capacity);
+
+    /**
+     * Puts an event on sale with the default ticket types, unless it already has inventory:
+     * 10% of its capacity as VIP, 20% as EARLY_BIRD and the rest as GENERAL.
+     *
+     * @param eventName the name of the event
+     * @param capacity the total number of seats of the event
+     * @return {@code true} if the inventory was created, {@code false} if the event already had inventory
+     */
+    boolean provision(String eventName, int capacity);
+
+    /**
+     * Retrieves the capacity of a ticket type of an event and locks its inventory until the transaction ends,
+     * so changes that must stay within the capacity are made one at a time.
+     *
+     * @param eventName the name of the event
+     * @param ticketType the ticket type
+     * @return the total number of seats of this ticket type
+     * @throws org.example.ticketservice.exception.SeatInventoryNotFoundException if the ticket type is not on sale
+     */
+    int lockCapacity(String eventName, String ticketType);
+
+    /**
+     * Takes seats out of the inventory for a purchase, atomically: either all the requested seats are taken
+     * or none, and concurrent purchases can never take more seats than the capacity.
+     *
+     * @param eventName the name of the event
+     * @param ticketType the ticket type
+     * @param quantity the number of seats
+     * @throws org.example.ticketservice.exception.SeatInventoryNotFoundException if the ticket type is not on sale
+     * @throws org.example.ticketservice.exception.SeatsUnavailableException if not enough seats are left
+     */
+    void reserveSeats(String eventName, String ticketType, int quantity);
+
+    /**
+     * Puts the seats of a cancelled or deleted ticket back into the inventory.
+     *
+     * @param eventName the name of the event
+     * @param ticketType the ticket type
+     * @param quantity the number of seats
+     */
+    void releaseSeats(String eventName, String ticketType, int quantity);
+
+    /**
+     * Sets seats aside for a buyer who has not completed the purchase yet, atomically like {@link #reserveSeats}.
+     *
+     * @param eventName the name of the event
+     * @param ticketType the ticket type
+     * @param quantity the number of seats
+     * @throws org.example.ticketservice.exception.SeatInventoryNotFoundException if the ticket type is not on sale
+     * @throws org.example.ticketservice.exception.SeatsUnavailableException if not enough seats are left
+     */
+    void holdSeats(String eventName, String ticketType, int quantity);
+
+    /**
+     * Puts held seats back on sale, for holds that were released or expired.
+     *
+     * @param eventName the name of the event
+     * @param ticketType the ticket type
+     * @param quantity the number of seats
+     */
+    void releaseHeldSeats(String eventName, String ticketType, int quantity);
+
+    /**
+     * Turns held seats into sold seats, for a hold that was purchased.
+     *
+     * @param eventName the name of the event
+     * @param ticketType the ticket type
+     * @param quantity the number of seats
+     * @throws IllegalStateException if fewer seats are held
+     */
+    void sellHeldSeats(String eventName, String ticketType, int quantity);
+
+    /**
+     * Calculates the number of seats still for sale for an event, over all its ticket types.
+     *
+     * @param eventName the name of the event
+     * @return the number of available seats, 0 if the event is not on sale
+     */
+    int getAvailableSeats(String eventName);
+
+    /**
+     * Calculates the number of seats still for sale for several events at once, with a single query.
+     *
+     * @param eventNames the names of the events
+     * @return the available seats keyed by event name; events not on sale are missing
+     */
+    Map<String, Long> getAvailableSeats(Collection<String> eventNames);
+}
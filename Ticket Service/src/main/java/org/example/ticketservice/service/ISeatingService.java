@@ -0,0 +1,58 @@
+package org.example.ticketservice.service;
+
+import org.example.ticketservice.dto.SeatSectionDTO;
+import org.example.ticketservice.dto.TicketCreateDTO;
+import org.example.ticketservice.dto.TicketDTO;
+import org.example.ticketservice.model.Ticket;
+
+import java.util.List;
+
+/**
+ * Service interface for assigned seating: the sections, rows and seats of the seated events,
+ * and the allocation of the best available block of seats to a ticket.
+ *
+ * @author EscobarTeam
+ */
+public interface ISeatingService {
+    /**
+     * Adds a section of numbered seats to an event.
+     * All the sections of a ticket type together may not have more seats than its capacity.
+     *
+     * @param eventName the name of the event
+     * @param seatSectionDTO the name, ticket type, rows and seats per row of the section
+     * @return the {@code SeatSectionDTO} object representing the new section, with all its seats free
+     * @throws IllegalArgumentException if the event already has a section with that name
+     * @throws org.example.ticketservice.exception.SeatInventoryNotFoundException if the ticket type is not on sale
+     * @throws org.example.ticketservice.exception.SeatsUnavailableException if the section has more seats
+     *                                                                       than the capacity left for sections
+     */
+    SeatSectionDTO addSection(String eventName, SeatSectionDTO seatSectionDTO);
+
+    /**
+     * Retrieves the seat map of an event: every section with its free and taken seats.
+     *
+     * @param eventName the name of the event
+     * @return a list of {@code SeatSectionDTO} objects in the order they are offered; empty for unseated events
+     */
+    List<SeatSectionDTO> getSeatMap(String eventName);
+
+    /**
+     * Purchases a ticket with assigned seats: the best available block of contiguous seats of the ticket type,
+     * one seat per ticket of the purchase.
+     *
+     * @param ticketCreateDTO the DTO containing the ticket purchase information
+     * @param section the section to sit in, or {@code null} for the best section of the ticket type
+     * @return the {@code TicketDTO} object representing the purchased ticket, with its seats
+     * @throws org.example.ticketservice.exception.SeatSectionNotFoundException if the event has no such seats
+     * @throws org.example.ticketservice.exception.SeatsUnavailableException if no block of seats is left
+     */
+    TicketDTO purchaseSeatedTicket(TicketCreateDTO ticketCreateDTO, String section);
+
+    /**
+     * Puts the seats of a cancelled or deleted ticket back on sale; does nothing for unseated tickets.
+     * Must be called within the transaction cancelling or deleting the ticket.
+     *
+     * @param ticket the ticket, with its seats still assigned
+     */
+    void releaseSeats(Ticket ticket);
+}
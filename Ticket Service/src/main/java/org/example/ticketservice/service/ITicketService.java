@@ -1,5 +1,7 @@
 package org.example.ticketservice.service;
 
+import org.example.ticketservice.dto.EventSalesDTO;
+import org.example.ticketservice.dto.EventTicketSummaryDTO;
 import org.example.ticketservice.dto.TicketCreateDTO;
 import org.example.ticketservice.dto.TicketDTO;
 import org.example.ticketservice.dto.TicketWithEventDetailsDTO;
@@ -80,6 +82,39 @@ public interface ITicketService {
      */
     Map<String, Double> getRevenueByFestival();
     
+    /**
+     * Calculates the total revenue generated by a single event.
+     *
+     * @param eventName the name of the event
+     * @return the total revenue of the event, 0 if it has no tickets
+     */
+    Double getRevenueForFestival(String eventName);
+    
+    /**
+     * Reads the live sales counters of every event with tickets.
+     * The counters are kept in memory and reconciled with the database periodically.
+     *
+     * @return a list of {@code EventSalesDTO} objects, ordered by event name
+     */
+    List<EventSalesDTO> getLiveSales();
+    
+    /**
+     * Reads the live sales counters of an event.
+     *
+     * @param eventName the name of the event
+     * @return the {@code EventSalesDTO} object with the event's revenue, tickets and quantity per ticket type
+     */
+    EventSalesDTO getLiveSalesForFestival(String eventName);
+    
+    /**
+     * Summarizes the tickets of several events at once, with a single aggregate query.
+     * Every requested event gets an entry, in request order; events without tickets get zero seats and revenue.
+     *
+     * @param eventNames the names of the events to summarize
+     * @return a list of {@code EventTicketSummaryDTO} objects, one per distinct event name
+     */
+    List<EventTicketSummaryDTO> getTicketSummaries(List<String> eventNames);
+    
     /**
      * Filters tickets by their type (e.g., VIP, GENERAL, EARLY_BIRD).
      *
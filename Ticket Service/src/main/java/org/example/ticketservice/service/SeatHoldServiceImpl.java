@@ -0,0 +1,384 @@
+package org.example.ticketservice.service;
+
+import jakarta.annotation.PreDestroy;
+import org.example.ticketservice.cache.SalesCounters;
+import org.example.ticketservice.dto.SeatHoldCreateDTO;
+import org.example.ticketservice.dto.SeatHoldDTO;
+import org.example.ticketservice.dto.SeatHoldPurchaseDTO;
+import org.example.ticketservice.dto.TicketDTO;
+import org.example.ticketservice.exception.SeatHoldNotFoundException;
+import org.example.ticketservice.mapper.TicketMapper;
+import org.example.ticketservice.model.SeatHold;
+import org.example.ticketservice.model.Ticket;
+import org.example.ticketservice.repository.SeatHoldRepository;
+import org.example.ticketservice.repository.TicketRepository;
+import org.example.ticketservice.scheduling.HashedTimingWheel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service implementation for seat holds.
+ * <p>
+ * A hold takes its seats from the inventory's {@code held} count with the same conditional update a purchase uses,
+ * and is stored as a {@code seat_holds} row, so holds survive a restart. Expiry is driven by a
+ * {@link HashedTimingWheel} rather than a scheduled task per hold or a polling query: scheduling and cancelling
+ * a hold's timeout are O(1) in memory, and all the holds due in the same tick are expired together,
+ * in one transaction that gives their seats back with one update per event and ticket type.
+ * <p>
+ * Release, purchase and expiry can race for the same hold; whichever deletes its row first owns it,
+ * so its seats are given back or sold exactly once. At startup the holds found in the database are put
+ * back on the wheel, including those of instances that stopped before their holds expired.
+ * <p>
+ * A batch that fails to expire, e.g. while the database is unreachable, is put back on the wheel and tried again
+ * with an exponential backoff. As a backstop, every instance also sweeps the holds past their expiry time
+ * periodically, which covers holds of instances that crashed and are not coming back.
+ *
+ * @author EscobarTeam
+ */
+@Service
+@Transactional
+public class SeatHoldServiceImpl implements ISeatHoldService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatHoldServiceImpl.class);
+    private static final int EXPIRY_BATCH_SIZE = 500;
+    private static final Duration EXPIRY_RETRY_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAX_EXPIRY_RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final SeatHoldRepository seatHoldRepository;
+    private final ISeatInventoryService seatInventoryService;
+    private final SeatInventoryProvisioner seatInventoryProvisioner;
+    private final TicketRepository ticketRepository;
+    private final TicketMapper ticketMapper;
+    private final SalesCounters salesCounters;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+    private final HashedTimingWheel<String> expiryWheel;
+    private final Map<String, HashedTimingWheel.Timeout<String>> timeouts = new ConcurrentHashMap<>();
+    // Failed expiry attempts of the holds waiting for a retry
+    private final Map<String, Integer> expiryAttempts = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code SeatHoldServiceImpl} with the required dependencies.
+     *
+     * @param seatHoldRepository the repository for hold data access
+     * @param seatInventoryService the service holding the seats of every event and ticket type
+     * @param seatInventoryProvisioner puts events on sale the first time their seats are held
+     * @param ticketRepository the repository the purchased tickets are saved to
+     * @param ticketMapper the mapper for converting tickets to DTOs
+     * @param salesCounters the live sales counters the purchased tickets are counted in
+     * @param transactionManager the transaction manager used to expire holds from the timing wheel thread
+     * @param tick the precision of the hold expiry
+     * @param wheelSize the number of slots of the timing wheel
+     * @param defaultDuration the duration of a hold when the buyer does not ask for one
+     * @param maxDuration the longest hold a buyer can ask for
+     */
+    @Autowired
+    public SeatHoldServiceImpl(SeatHoldRepository seatHoldRepository,
+                               ISeatInventoryService seatInventoryService,
+                               SeatInventoryProvisioner seatInventoryProvisioner,
+                               TicketRepository ticketRepository,
+                               TicketMapper ticketMapper,
+                               SalesCounters salesCounters,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${festival.holds.tick:100ms}") Duration tick,
+                               @Value("${festival.holds.wheel-size:512}") int wheelSize,
+                               @Value("${festival.holds.default-duration:10m}") Duration defaultDuration,
+                               @Value("${festival.holds.max-duration:30m}") Duration maxDuration) {
+        this.seatHoldRepository = seatHoldRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.seatInventoryProvisioner = seatInventoryProvisioner;
+        this.ticketRepository = ticketRepository;
+        this.ticketMapper = ticketMapper;
+        this.salesCounters = salesCounters;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.defaultDuration = defaultDuration;
+        this.maxDuration = maxDuration;
+        this.expiryWheel = new HashedTimingWheel<>("seat-hold-expiry", tick, wheelSize, this::expireHolds);
+    }
+
+    /**
+     * Starts the expiry wheel and puts the holds stored in the database back on it.
+     * Holds that expired while no instance was running are expired on the first tick.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void start() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SeatHold> holds = seatHoldRepository.findAll();
+        for (SeatHold hold : holds) {
+            schedule(hold.getId(), Duration.between(now, hold.getExpiresAt()));
+        }
+        expiryWheel.start();
+        logger.info("Seat hold expiry started with {} stored holds", holds.size());
+    }
+
+    /**
+     * Stops the expiry wheel; the remaining holds are expired by the next instance to start.
+     */
+    @PreDestroy
+    public void stop() {
+        expiryWheel.close();
+    }
+
+    /**
+     * Holds seats of an event and ticket type for a limited time.
+     * The requested duration is capped at the configured maximum. An event without inventory is put on sale first,
+     * with the capacity the Event Service has for it.
+     *
+     * @param seatHoldCreateDTO the event, ticket type, number of seats and optional hold duration
+     * @return the {@code SeatHoldDTO} object representing the new hold, with its expiry time
+     * @throws org.example.ticketservice.exception.SeatInventoryNotFoundException if the ticket type is not on sale
+     * @throws org.example.ticketservice.exception.SeatsUnavailableException if not enough seats are left
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SeatHoldDTO holdSeats(SeatHoldCreateDTO seatHoldCreateDTO) {
+        Duration requested = seatHoldCreateDTO.getHoldMinutes() != null
+                ? Duration.ofMinutes(seatHoldCreateDTO.getHoldMinutes()) : defaultDuration;
+        Duration duration = requested.compareTo(maxDuration) > 0 ? maxDuration : requested;
+        return seatInventoryProvisioner.onSale(seatHoldCreateDTO.getEventName(),
+                () -> transactionTemplate.execute(status -> hold(seatHoldCreateDTO, duration)));
+    }
+
+    private SeatHoldDTO hold(SeatHoldCreateDTO seatHoldCreateDTO, Duration duration) {
+        String ticketType = SeatInventoryServiceImpl.normalize(seatHoldCreateDTO.getTicketType());
+        seatInventoryService.holdSeats(seatHoldCreateDTO.getEventName(), ticketType, seatHoldCreateDTO.getQuantity());
+
+        LocalDateTime now = LocalDateTime.now();
+        SeatHold hold = SeatHold.builder()
+                .id(UUID.randomUUID().toString())
+                .eventName(seatHoldCreateDTO.getEventName())
+                .ticketType(ticketType)
+                .quantity(seatHoldCreateDTO.getQuantity())
+                .createdAt(now)
+                .expiresAt(now.plus(duration))
+                .build();
+        SeatHold savedHold = seatHoldRepository.save(hold);
+        // Safe before commit: if the transaction rolls back, expiry finds no row and does nothing
+        schedule(savedHold.getId(), duration);
+        return toDTO(savedHold);
+    }
+
+    /**
+     * Retrieves a hold that has not expired yet.
+     *
+     * @param id the unique identifier of the hold
+     * @return the {@code SeatHoldDTO} object representing the hold
+     * @throws SeatHoldNotFoundException if the hold does not exist or has expired
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SeatHoldDTO getHold(String id) {
+        return seatHoldRepository.findById(id)
+                .filter(hold -> hold.getExpiresAt().isAfter(LocalDateTime.now()))
+                .map(this::toDTO)
+                .orElseThrow(() -> new SeatHoldNotFoundException(id));
+    }
+
+    /**
+     * Releases a hold before it expires, putting its seats back on sale.
+     *
+     * @param id the unique identifier of the hold
+     * @throws SeatHoldNotFoundException if the hold does not exist anymore
+     */
+    @Override
+    public void releaseHold(String id) {
+        SeatHold hold = seatHoldRepository.findById(id)
+                .orElseThrow(() -> new SeatHoldNotFoundException(id));
+        if (seatHoldRepository.deleteHold(id) == 0) {
+            throw new SeatHoldNotFoundException(id);
+        }
+        seatInventoryService.releaseHeldSeats(hold.getEventName(), hold.getTicketType(), hold.getQuantity());
+        cancelAfterCommit(id);
+    }
+
+    /**
+     * Purchases the seats of a hold that has not expired, creating the ticket.
+     * The held seats become sold seats, so the purchase can no longer fail for lack of seats.
+     *
+     * @param id the unique identifier of the hold
+     * @param seatHoldPurchaseDTO the price and buyer of the ticket
+     * @return the {@code TicketDTO} object representing the purchased ticket
+     * @throws SeatHoldNotFoundException if the hold does not exist or has expired
+     */
+    @Override
+    public TicketDTO purchaseHold(String id, SeatHoldPurchaseDTO seatHoldPurchaseDTO) {
+        SeatHold hold = seatHoldRepository.findById(id)
+                .orElseThrow(() -> new SeatHoldNotFoundException(id));
+        if (seatHoldRepository.consumeHold(id, LocalDateTime.now()) == 0) {
+            throw new SeatHoldNotFoundException(id);
+        }
+        seatInventoryService.sellHeldSeats(hold.getEventName(), hold.getTicketType(), hold.getQuantity());
+
+        Ticket ticket = Ticket.builder()
+                .eventName(hold.getEventName())
+                .ticketType(hold.getTicketType())
+                .price(seatHoldPurchaseDTO.getPrice())
+                .quantity(hold.getQuantity())
+                .buyerName(seatHoldPurchaseDTO.getBuyerName())
+                .buyerEmail(seatHoldPurchaseDTO.getBuyerEmail())
+                .isActive(true)
+                .build();
+        Ticket savedTicket = ticketRepository.save(ticket);
+        salesCounters.recordSale(SalesCounters.Sale.of(savedTicket));
+        cancelAfterCommit(id);
+        return ticketMapper.toDTO(savedTicket);
+    }
+
+    /**
+     * Expires the holds whose timeouts fired in the same tick: deletes their rows and gives their seats back
+     * with one update per event and ticket type. Holds already released or purchased are skipped.
+     * Runs on the timing wheel thread, in batches of {@value #EXPIRY_BATCH_SIZE} holds per transaction.
+     * A batch that fails is scheduled again, after a delay that doubles with every failed attempt.
+     *
+     * @param ids the unique identifiers of the expired holds
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void expireHolds(List<String> ids) {
+        for (int from = 0; from < ids.size(); from += EXPIRY_BATCH_SIZE) {
+            List<String> batch = ids.subList(from, Math.min(from + EXPIRY_BATCH_SIZE, ids.size()));
+            Integer expired;
+            try {
+                expired = transactionTemplate.execute(status -> {
+                    List<SeatHold> holds = seatHoldRepository.lockByIds(batch);
+                    Map<List<String>, Integer> seats = new LinkedHashMap<>();
+                    for (SeatHold hold : holds) {
+                        seats.merge(List.of(hold.getEventName(), hold.getTicketType()), hold.getQuantity(),
+                                Integer::sum);
+                    }
+                    seats.forEach((key, quantity) ->
+                            seatInventoryService.releaseHeldSeats(key.get(0), key.get(1), quantity));
+                    seatHoldRepository.deleteAllInBatch(holds);
+                    return holds.size();
+                });
+            } catch (RuntimeException e) {
+                retryExpiry(batch, e);
+                continue;
+            }
+            for (String id : batch) {
+                expiryAttempts.remove(id);
+                // Expired here by the sweep rather than by its own timeout, which then has nothing left to do
+                HashedTimingWheel.Timeout<String> timeout = timeouts.remove(id);
+                if (timeout != null) {
+                    timeout.cancel();
+                }
+            }
+            if (expired != null && expired > 0) {
+                logger.info("Expired {} seat holds", expired);
+            }
+        }
+    }
+
+    /**
+     * Expires the holds past their expiry time that no timeout expired, in pages of {@value #EXPIRY_BATCH_SIZE}:
+     * holds of instances that crashed, and holds whose expiry keeps failing here.
+     * Holds expired by the timing wheel meanwhile are skipped.
+     */
+    @Scheduled(fixedDelayString = "${festival.holds.sweep-interval-ms:60000}",
+            initialDelayString = "${festival.holds.sweep-interval-ms:60000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void sweepExpiredHolds() {
+        LocalDateTime now = LocalDateTime.now();
+        String after = "";
+        while (true) {
+            List<String> ids = seatHoldRepository.findExpiredIds(now, after, PageRequest.of(0, EXPIRY_BATCH_SIZE));
+            if (ids.isEmpty()) {
+                return;
+            }
+            logger.info("Sweeping {} seat holds past their expiry time", ids.size());
+            expireHolds(ids);
+            if (ids.size() < EXPIRY_BATCH_SIZE) {
+                return;
+            }
+            after = ids.get(ids.size() - 1);
+        }
+    }
+
+    /**
+     * Returns the number of holds waiting for their expiry on this instance.
+     *
+     * @return the number of pending hold timeouts
+     */
+    public long pendingExpiries() {
+        return expiryWheel.pending();
+    }
+
+    private void schedule(String id, Duration delay) {
+        // A hold has one timeout at a time: a retry or a reload at startup replaces the earlier one
+        HashedTimingWheel.Timeout<String> replaced = timeouts.put(id, expiryWheel.schedule(id, delay));
+        if (replaced != null) {
+            replaced.cancel();
+        }
+    }
+
+    private void retryExpiry(List<String> batch, RuntimeException failure) {
+        int attempts = 0;
+        for (String id : batch) {
+            attempts = Math.max(attempts, expiryAttempts.merge(id, 1, Integer::sum));
+        }
+        Duration delay = EXPIRY_RETRY_DELAY.multipliedBy(1L << Math.min(attempts - 1, 16));
+        if (delay.compareTo(MAX_EXPIRY_RETRY_DELAY) > 0) {
+            delay = MAX_EXPIRY_RETRY_DELAY;
+        }
+        logger.warn("Could not expire {} seat holds (attempt {}), trying again in {} ms",
+                batch.size(), attempts, delay.toMillis(), failure);
+        for (String id : batch) {
+            schedule(id, delay);
+        }
+    }
+
+    /**
+     * Cancels the expiry of a hold once the transaction that consumed it commits; if it rolls back,
+     * the hold is still in the database and must still expire.
+     *
+     * @param id the unique identifier of the hold
+     */
+    private void cancelAfterCommit(String id) {
+        Runnable cancel = () -> {
+            HashedTimingWheel.Timeout<String> timeout = timeouts.remove(id);
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cancel.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cancel.run();
+            }
+        });
+    }
+
+    private SeatHoldDTO toDTO(SeatHold hold) {
+        return SeatHoldDTO.builder()
+                .id(hold.getId())
+                .eventName(hold.getEventName())
+                .ticketType(hold.getTicketType())
+                .quantity(hold.getQuantity())
+                .createdAt(hold.getCreatedAt())
+                .expiresAt(hold.getExpiresAt())
+                .build();
+    }
+}
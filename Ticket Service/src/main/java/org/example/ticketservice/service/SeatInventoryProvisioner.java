@@ -0,0 +1,97 @@
+package org.example.ticketservice.service;
+
+import org.example.ticketservice.dto.EventDetailsDTO;
+import org.example.ticketservice.exception.SeatInventoryNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Puts events on sale the first time their seats are sold or held, from the capacity the Event Service
+ * has for them; see {@link ISeatInventoryService#provision}. The Event Service is only asked when a sale finds
+ * no inventory for the event at all, so sales of events already on sale cost nothing more.
+ * <p>
+ * Sales are run outside of any transaction: a sale that finds no inventory has rolled back before the event is
+ * provisioned in a transaction of its own and the sale is tried once more.
+ *
+ * @author EscobarTeam
+ */
+@Component
+public class SeatInventoryProvisioner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatInventoryProvisioner.class);
+
+    private final EventDetailsFetcher eventDetailsFetcher;
+    private final ISeatInventoryService seatInventoryService;
+
+    /**
+     * Constructs a new {@code SeatInventoryProvisioner}.
+     *
+     * @param eventDetailsFetcher the fetcher for event details from the Event Service
+     * @param seatInventoryService the service holding the seats of every event and ticket type
+     */
+    @Autowired
+    public SeatInventoryProvisioner(EventDetailsFetcher eventDetailsFetcher,
+                                    ISeatInventoryService seatInventoryService) {
+        this.eventDetailsFetcher = eventDetailsFetcher;
+        this.seatInventoryService = seatInventoryService;
+    }
+
+    /**
+     * Runs a sale, or anything else that needs the inventory of an event, and if the event has no inventory yet,
+     * puts the event on sale and runs it again.
+     *
+     * @param eventName the name of the event
+     * @param sale the sale, in its own transaction
+     * @param <T> the result of the sale
+     * @return the result of the sale
+     * @throws SeatInventoryNotFoundException if the ticket type is still not on sale, e.g. because the event
+     *                                        already had inventory or the Event Service does not know it
+     * @throws org.example.ticketservice.exception.EventServiceUnavailableException if the Event Service is
+     *                                        unavailable and the event is not cached
+     */
+    public <T> T onSale(String eventName, Supplier<T> sale) {
+        try {
+            return sale.get();
+        } catch (SeatInventoryNotFoundException e) {
+            if (!provision(eventName)) {
+                throw e;
+            }
+            return sale.get();
+        }
+    }
+
+    /**
+     * Puts an event on sale with the capacity the Event Service has for it.
+     *
+     * @param eventName the name of the event
+     * @return {@code true} if the event may be on sale now, {@code false} if nothing was created
+     */
+    boolean provision(String eventName) {
+        if (!seatInventoryService.getInventory(eventName).isEmpty()) {
+            // Already on sale: only the ticket type is missing, and that is up to the organizers
+            return false;
+        }
+        Optional<Integer> capacity = eventDetailsFetcher.searchEventsByName(eventName).stream()
+                .filter(event -> event.getName().equalsIgnoreCase(eventName))
+                .map(EventDetailsDTO::getCapacity)
+                .filter(Objects::nonNull)
+                .findFirst();
+        if (capacity.isEmpty()) {
+            return false;
+        }
+        try {
+            return seatInventoryService.provision(eventName, capacity.get());
+        } catch (DataIntegrityViolationException e) {
+            // Another request put the event on sale at the same time
+            logger.info("'{}' was put on sale concurrently", eventName);
+            return true;
+        }
+    }
+}
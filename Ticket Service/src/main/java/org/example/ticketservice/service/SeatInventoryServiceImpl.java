@@ -0,0 +1,302 @@
+package org.example.ticketservice.service;
+
+import org.example.ticketservice.dto.SeatInventoryDTO;
+import org.example.ticketservice.exception.SeatInventoryNotFoundException;
+import org.example.ticketservice.exception.SeatsUnavailableException;
+import org.example.ticketservice.model.SeatInventory;
+import org.example.ticketservice.repository.SeatInventoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for the seat inventory of the events.
+ * Every event and ticket type has one inventory row holding its capacity and the seats sold and held.
+ * Seats are taken with a single conditional {@code UPDATE} that only succeeds while enough seats are left,
+ * so the database guarantees that concurrent buyers never oversell, without any application-level lock.
+ * Buyers of different events or ticket types touch different rows and never wait on each other.
+ *
+ * @author EscobarTeam
+ */
+@Service
+@Transactional
+public class SeatInventoryServiceImpl implements ISeatInventoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatInventoryServiceImpl.class);
+    // Default split of the capacity of an event, as in data.sql; GENERAL gets the rest
+    private static final int VIP_PERCENT = 10;
+    private static final int EARLY_BIRD_PERCENT = 20;
+
+    private final SeatInventoryRepository seatInventoryRepository;
+
+    /**
+     * Constructs a new {@code SeatInventoryServiceImpl} with the required dependencies.
+     *
+     * @param seatInventoryRepository the repository for seat inventory data access
+     */
+    @Autowired
+    public SeatInventoryServiceImpl(SeatInventoryRepository seatInventoryRepository) {
+        this.seatInventoryRepository = seatInventoryRepository;
+    }
+
+    /**
+     * Retrieves the inventory of every ticket type of an event.
+     *
+     * @param eventName the name of the event
+     * @return a list of {@code SeatInventoryDTO} objects, ordered by ticket type; empty if the event is not on sale
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<SeatInventoryDTO> getInventory(String eventName) {
+        return seatInventoryRepository.findByEventNameOrderByTicketType(eventName).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Puts a ticket type of an event on sale, or changes its capacity.
+     * The capacity is changed with a conditional update, so it can never drop below the seats sold and held,
+     * even while a sale is running.
+     *
+     * @param eventName the name of the event
+     * @param ticketType the ticket type (e.g., VIP, GENERAL, EARLY_BIRD)
+     * @param capacity the total number of seats of this ticket type
+     * @return the {@code SeatInventoryDTO} object representing the updated inventory
+     * @throws SeatsUnavailableException if more seats are already sold or held
+     */
+    @Override
+    public SeatInventoryDTO setCapacity(String eventName, String ticketType, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacitatea nu poate fi negativa");
+        }
+        String type = normalize(ticketType);
+        Optional<SeatInventory> existing = seatInventoryRepository.findByEventNameAndTicketType(eventName, type);
+        if (existing.isEmpty()) {
+            return toDTO(seatInventoryRepository.save(inventory(eventName, type, capacity)));
+        }
+        if (seatInventoryRepository.updateCapacity(eventName, type, capacity) == 0) {
+            SeatInventory inventory = current(eventName, type);
+            throw new SeatsUnavailableException("Capacitatea " + type + " a evenimentului '" + eventName
+                    + "' nu poate fi mai mica decat locurile vandute sau rezervate: "
+                    + (inventory.getSold() + inventory.getHeld()));
+        }
+        return toDTO(current(eventName, type));
+    }
+
+    /**
+     * Puts an event on sale with the default ticket types, unless it already has inventory.
+     * Each type gets its share of the capacity rounded down and GENERAL gets the rest, so the shares
+     * always add up to the capacity. Two concurrent calls for the same event are stopped by the unique
+     * constraint on the event and ticket type: the second one fails and creates nothing.
+     *
+     * @param eventName the name of the event
+     * @param capacity the total number of seats of the event
+     * @return {@code true} if the inventory was created, {@code false} if the event already had inventory
+     */
+    @Override
+    public boolean provision(String eventName, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacitatea nu poate fi negativa");
+        }
+        if (seatInventoryRepository.existsByEventName(eventName)) {
+            return false;
+        }
+        int vip = capacity * VIP_PERCENT / 100;
+        int earlyBird = capacity * EARLY_BIRD_PERCENT / 100;
+        seatInventoryRepository.saveAllAndFlush(List.of(
+                inventory(eventName, "VIP", vip),
+                inventory(eventName, "EARLY_BIRD", earlyBird),
+                inventory(eventName, "GENERAL", capacity - vip - earlyBird)));
+        logger.info("Put '{}' on sale with {} seats", eventName, capacity);
+        return true;
+    }
+
+    /**
+     * Retrieves the capacity of a ticket type of an event and locks its inventory row until the transaction ends.
+     * Capacity changes and purchases of the ticket type wait for the lock meanwhile.
+     *
+     * @param eventName the name of the event
+     * @param ticketType the ticket type
+     * @return the total number of seats of this ticket type
+     * @throws SeatInventoryNotFoundException if the ticket type is not on sale
+     */
+    @Override
+    public int lockCapacity(String eventName, String ticketType) {
+        String type = normalize(ticketType);
+        return seatInventoryRepository.lockByEventNameAndTicketType(eventName, type)
+                .orElseThrow(() -> new SeatInventoryNotFoundException(eventName, type))
+                .getCapacity();
+    }
+
+    /**
+     * Takes seats out of the inventory for a purchase with a single conditional update.
+     * Only when the update finds no seats left is the row read, to tell the buyer why.
+     *
+     * @param eventName the name of the event
+     * @param ticketType the ticket type
+     * @param quantity the number of seats
+     * @throws SeatInventoryNotFoundException if the ticket type is not on sale
+     * @throws SeatsUnavailableException if not enough seats are left
+     */
+    @Override
+    public void reserveSeats(String eventName, String ticketType, int quantity) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException("Cantitatea trebuie sa fie cel putin 1");
+        }
+        String type = normalize(ticketType);
+        if (seatInventoryRepository.reserveSeats(eventName, type, quantity) == 1) {
+            return;
+        }
+        SeatInventory inventory = current(eventName, type);
+        throw new SeatsUnavailableException(eventName, type, available(inventory), quantity);
+    }
+
+    /**
+     * Puts the seats of a cancelled or deleted ticket back into the inventory.
+     * Tickets of events that are not on sale had no seats taken, so there is nothing to put back for them.
+     *
+     * @param eventName the name of the event
+     * @param ticketType the ticket type
+     * @param quantity the number of seats
+     */
+    @Override
+    public void releaseSeats(String eventName, String ticketType, int quantity) {
+        String type = normalize(ticketType);
+        if (seatInventoryRepository.releaseSeats(eventName, type, quantity) == 0) {
+            logger.warn("Could not release {} {} seats of '{}': no inventory or fewer seats sold",
+                    quantity, type, eventName);
+        }
+    }
+
+    /**
+     * Sets seats aside for a buyer with a single conditional update, exactly like a purchase takes them.
+     *
+     * @param eventName the name of the event
+     * @param ticketType the ticket type
+     * @param quantity the number of seats
+     * @throws SeatInventoryNotFoundException if the ticket type is not on sale
+     * @throws SeatsUnavailableException if not enough seats are left
+     */
+    @Override
+    public void holdSeats(String eventName, String ticketType, int quantity) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException("Cantitatea trebuie sa fie cel putin 1");
+        }
+        String type = normalize(ticketType);
+        if (seatInventoryRepository.holdSeats(eventName, type, quantity) == 1) {
+            return;
+        }
+        SeatInventory inventory = current(eventName, type);
+        throw new SeatsUnavailableException(eventName, type, available(inventory), quantity);
+    }
+
+    /**
+     * Puts held seats back on sale.
+     *
+     * @param eventName the name of the event
+     * @param ticketType the ticket type
+     * @param quantity the number of seats
+     */
+    @Override
+    public void releaseHeldSeats(String eventName, String ticketType, int quantity) {
+        String type = normalize(ticketType);
+        if (seatInventoryRepository.releaseHeldSeats(eventName, type, quantity) == 0) {
+            logger.warn("Could not release {} held {} seats of '{}': no inventory or fewer seats held",
+                    quantity, type, eventName);
+        }
+    }
+
+    /**
+     * Turns held seats into sold seats in a single update; the available seats do not change.
+     *
+     * @param eventName the name of the event
+     * @param ticketType the ticket type
+     * @param quantity the number of seats
+     * @throws IllegalStateException if fewer seats are held
+     */
+    @Override
+    public void sellHeldSeats(String eventName, String ticketType, int quantity) {
+        String type = normalize(ticketType);
+        if (seatInventoryRepository.sellHeldSeats(eventName, type, quantity) == 0) {
+            throw new IllegalStateException("Locurile rezervate " + type + " ale evenimentului '" + eventName
+                    + "' nu mai sunt disponibile");
+        }
+    }
+
+    /**
+     * Calculates the number of seats still for sale for an event, over all its ticket types.
+     *
+     * @param eventName the name of the event
+     * @return the number of available seats, 0 if the event is not on sale
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public int getAvailableSeats(String eventName) {
+        return getAvailableSeats(List.of(eventName)).getOrDefault(eventName, 0L).intValue();
+    }
+
+    /**
+     * Calculates the number of seats still for sale for several events at once, with a single aggregate query.
+     *
+     * @param eventNames the names of the events
+     * @return the available seats keyed by event name; events not on sale are missing
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> getAvailableSeats(Collection<String> eventNames) {
+        if (eventNames.isEmpty()) {
+            return Map.of();
+        }
+        return seatInventoryRepository.countAvailableSeats(eventNames).stream()
+                .collect(Collectors.toMap(SeatInventoryRepository.EventSeats::getEventName,
+                        SeatInventoryRepository.EventSeats::getAvailableSeats));
+    }
+
+    private static SeatInventory inventory(String eventName, String ticketType, int capacity) {
+        return SeatInventory.builder()
+                .eventName(eventName)
+                .ticketType(ticketType)
+                .capacity(capacity)
+                .build();
+    }
+
+    private SeatInventory current(String eventName, String ticketType) {
+        return seatInventoryRepository.findByEventNameAndTicketType(eventName, ticketType)
+                .orElseThrow(() -> new SeatInventoryNotFoundException(eventName, ticketType));
+    }
+
+    private SeatInventoryDTO toDTO(SeatInventory inventory) {
+        return SeatInventoryDTO.builder()
+                .eventName(inventory.getEventName())
+                .ticketType(inventory.getTicketType())
+                .capacity(inventory.getCapacity())
+                .sold(inventory.getSold())
+                .held(inventory.getHeld())
+                .available(available(inventory))
+                .updatedAt(inventory.getUpdatedAt())
+                .build();
+    }
+
+    private static int available(SeatInventory inventory) {
+        return inventory.getCapacity() - inventory.getSold() - inventory.getHeld();
+    }
+
+    /**
+     * Ticket types are matched case-insensitively and stored in upper case.
+     *
+     * @param ticketType the ticket type as given by the caller
+     * @return the ticket type as stored in the inventory
+     */
+    static String normalize(String ticketType) {
+        return ticketType.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,323 @@
+package org.example.ticketservice.service;
+
+import org.example.ticketservice.cache.SalesCounters;
+import org.example.ticketservice.dto.SeatSectionDTO;
+import org.example.ticketservice.dto.TicketCreateDTO;
+import org.example.ticketservice.dto.TicketDTO;
+import org.example.ticketservice.exception.SeatSectionNotFoundException;
+import org.example.ticketservice.exception.SeatsUnavailableException;
+import org.example.ticketservice.mapper.TicketMapper;
+import org.example.ticketservice.model.SeatSection;
+import org.example.ticketservice.model.Ticket;
+import org.example.ticketservice.model.TicketSeat;
+import org.example.ticketservice.repository.SeatSectionRepository;
+import org.example.ticketservice.repository.TicketRepository;
+import org.example.ticketservice.repository.TicketSeatRepository;
+import org.example.ticketservice.seating.SeatBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Service implementation for assigned seating.
+ * <p>
+ * Every section keeps its seats in memory as a {@link SeatBitmap}, built from the sold seats the first time
+ * the section is used. The best available block of seats is picked and taken in the bitmap with compare-and-set,
+ * without any lock, and only then is the purchase written: the seats are taken from the inventory like for
+ * any other ticket, and every seat is stored in {@code ticket_seats}. If the purchase fails, the block is
+ * freed again.
+ * <p>
+ * The unique constraint of {@code ticket_seats} is the final arbiter when several instances sell the same section:
+ * a purchase that loses a seat to another instance learns the seats sold in that row and picks another block.
+ * Seats freed by another instance are only seen here once the section is reloaded, i.e. after a restart,
+ * so they may stay hidden for a while but are never sold twice.
+ *
+ * @author EscobarTeam
+ */
+@Service
+@Transactional
+public class SeatingServiceImpl implements ISeatingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatingServiceImpl.class);
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final SeatSectionRepository seatSectionRepository;
+    private final TicketSeatRepository ticketSeatRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketMapper ticketMapper;
+    private final ISeatInventoryService seatInventoryService;
+    private final SeatInventoryProvisioner seatInventoryProvisioner;
+    private final SalesCounters salesCounters;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, SeatBitmap> seatMaps = new ConcurrentHashMap<>();
+
+    private record Allocation(SeatSection section, SeatBitmap.Block block) {
+    }
+
+    /**
+     * Constructs a new {@code SeatingServiceImpl} with the required dependencies.
+     *
+     * @param seatSectionRepository the repository for the sections of the seated events
+     * @param ticketSeatRepository the repository for the seats sold with every ticket
+     * @param ticketRepository the repository the purchased tickets are saved to
+     * @param ticketMapper the mapper for converting between tickets and DTOs
+     * @param seatInventoryService the service holding the seats of every event and ticket type
+     * @param seatInventoryProvisioner puts events on sale the first time a section is added
+     * @param salesCounters the live sales counters the purchased tickets are counted in
+     * @param transactionManager the transaction manager used for the purchase transaction
+     */
+    @Autowired
+    public SeatingServiceImpl(SeatSectionRepository seatSectionRepository,
+                              TicketSeatRepository ticketSeatRepository,
+                              TicketRepository ticketRepository,
+                              TicketMapper ticketMapper,
+                              ISeatInventoryService seatInventoryService,
+                              SeatInventoryProvisioner seatInventoryProvisioner,
+                              SalesCounters salesCounters,
+                              PlatformTransactionManager transactionManager) {
+        this.seatSectionRepository = seatSectionRepository;
+        this.ticketSeatRepository = ticketSeatRepository;
+        this.ticketRepository = ticketRepository;
+        this.ticketMapper = ticketMapper;
+        this.seatInventoryService = seatInventoryService;
+        this.seatInventoryProvisioner = seatInventoryProvisioner;
+        this.salesCounters = salesCounters;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Adds a section of numbered seats to an event.
+     * The seats are sold against the inventory of the section's ticket type, so all the sections of a ticket type
+     * together may not have more seats than its capacity. The inventory stays locked while the section is added,
+     * so concurrent additions cannot overrun it either. An event without inventory is put on sale first,
+     * with the capacity the Event Service has for it.
+     *
+     * @param eventName the name of the event
+     * @param seatSectionDTO the name, ticket type, rows and seats per row of the section
+     * @return the {@code SeatSectionDTO} object representing the new section, with all its seats free
+     * @throws IllegalArgumentException if the event already has a section with that name
+     * @throws org.example.ticketservice.exception.SeatInventoryNotFoundException if the ticket type is not on sale
+     * @throws SeatsUnavailableException if the section has more seats than the capacity left for new sections
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SeatSectionDTO addSection(String eventName, SeatSectionDTO seatSectionDTO) {
+        return seatInventoryProvisioner.onSale(eventName,
+                () -> transactionTemplate.execute(status -> add(eventName, seatSectionDTO)));
+    }
+
+    private SeatSectionDTO add(String eventName, SeatSectionDTO seatSectionDTO) {
+        String ticketType = SeatInventoryServiceImpl.normalize(seatSectionDTO.getTicketType());
+        int capacity = seatInventoryService.lockCapacity(eventName, ticketType);
+        if (seatSectionRepository.findByEventNameAndName(eventName, seatSectionDTO.getName()).isPresent()) {
+            throw new IllegalArgumentException("Evenimentul '" + eventName + "' are deja sectiunea '"
+                    + seatSectionDTO.getName() + "'");
+        }
+        long seats = (long) seatSectionDTO.getRows() * seatSectionDTO.getSeatsPerRow();
+        long remaining = capacity - seatSectionRepository.sumSeats(eventName, ticketType);
+        if (seats > remaining) {
+            throw new SeatsUnavailableException("Sectiunea '" + seatSectionDTO.getName() + "' are " + seats
+                    + " locuri, dar capacitatea " + ticketType + " a evenimentului '" + eventName
+                    + "' mai permite doar " + Math.max(remaining, 0) + " locuri numerotate");
+        }
+        SeatSection section = SeatSection.builder()
+                .eventName(eventName)
+                .name(seatSectionDTO.getName())
+                .ticketType(ticketType)
+                .rowCount(seatSectionDTO.getRows())
+                .seatsPerRow(seatSectionDTO.getSeatsPerRow())
+                .priority(seatSectionDTO.getPriority() != null ? seatSectionDTO.getPriority() : 0)
+                .build();
+        SeatSection savedSection = seatSectionRepository.save(section);
+        return toDTO(savedSection, seatMap(savedSection));
+    }
+
+    /**
+     * Retrieves the seat map of an event: every section with its free and taken seats.
+     *
+     * @param eventName the name of the event
+     * @return a list of {@code SeatSectionDTO} objects in the order they are offered; empty for unseated events
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<SeatSectionDTO> getSeatMap(String eventName) {
+        return seatSectionRepository.findByEventNameOrderByPriorityAscNameAsc(eventName).stream()
+                .map(section -> toDTO(section, seatMap(section)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Purchases a ticket with assigned seats. The sections of the ticket type are tried in order of priority;
+     * within a section, the block is the one in the row closest to the stage, as close to the middle as possible.
+     * The block is taken in memory before the purchase transaction starts, so concurrent buyers get different
+     * blocks without waiting on each other.
+     *
+     * @param ticketCreateDTO the DTO containing the ticket purchase information
+     * @param section the section to sit in, or {@code null} for the best section of the ticket type
+     * @return the {@code TicketDTO} object representing the purchased ticket, with its seats
+     * @throws SeatSectionNotFoundException if the event has no such seats
+     * @throws SeatsUnavailableException if no block of seats is left
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TicketDTO purchaseSeatedTicket(TicketCreateDTO ticketCreateDTO, String section) {
+        String eventName = ticketCreateDTO.getEventName();
+        String ticketType = SeatInventoryServiceImpl.normalize(ticketCreateDTO.getTicketType());
+        List<SeatSection> sections = section == null
+                ? seatSectionRepository.findByEventNameAndTicketTypeOrderByPriorityAscNameAsc(eventName, ticketType)
+                : seatSectionRepository.findByEventNameAndName(eventName, section)
+                        .filter(found -> found.getTicketType().equals(ticketType))
+                        .map(List::of)
+                        .orElse(List.of());
+        if (sections.isEmpty()) {
+            throw new SeatSectionNotFoundException(eventName,
+                    section == null ? ticketType : ticketType + " in sectiunea '" + section + "'");
+        }
+
+        int quantity = ticketCreateDTO.getQuantity();
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            Allocation allocation = allocate(sections, quantity);
+            if (allocation == null) {
+                throw new SeatsUnavailableException("Nu mai exista " + quantity + " locuri alaturate " + ticketType
+                        + " la evenimentul '" + eventName + "'");
+            }
+            try {
+                Ticket savedTicket = transactionTemplate.execute(status -> sell(ticketCreateDTO, allocation));
+                return ticketMapper.toDTO(savedTicket);
+            } catch (DataIntegrityViolationException e) {
+                logger.info("Seats of section '{}' of '{}' were sold by another instance, picking again",
+                        allocation.section().getName(), eventName);
+                resync(allocation);
+            } catch (RuntimeException e) {
+                SeatBitmap.Block block = allocation.block();
+                seatMap(allocation.section()).release(block.row(), block.firstSeat(), block.count());
+                throw e;
+            }
+        }
+        throw new SeatsUnavailableException("Locurile " + ticketType + " ale evenimentului '" + eventName
+                + "' se vand foarte repede, incercati din nou");
+    }
+
+    /**
+     * Puts the seats of a cancelled or deleted ticket back on sale: deletes its seats and,
+     * once the transaction commits, frees them in the seat map.
+     *
+     * @param ticket the ticket, with its seats still assigned
+     */
+    @Override
+    public void releaseSeats(Ticket ticket) {
+        if (ticket.getSection() == null) {
+            return;
+        }
+        seatSectionRepository.findByEventNameAndName(ticket.getEventName(), ticket.getSection()).ifPresent(section -> {
+            ticketSeatRepository.deleteByTicketId(ticket.getId());
+            int row = ticket.getSeatRow() - 1;
+            int firstSeat = ticket.getFirstSeat() - 1;
+            int count = ticket.getQuantity();
+            afterCommit(() -> {
+                // A section not loaded yet reads its seats from the database when it is
+                SeatBitmap seatMap = seatMaps.get(section.getId());
+                if (seatMap != null) {
+                    seatMap.release(row, firstSeat, count);
+                }
+            });
+        });
+    }
+
+    private Allocation allocate(List<SeatSection> sections, int quantity) {
+        for (SeatSection section : sections) {
+            SeatBitmap.Block block = seatMap(section).allocate(quantity);
+            if (block != null) {
+                return new Allocation(section, block);
+            }
+        }
+        return null;
+    }
+
+    private Ticket sell(TicketCreateDTO ticketCreateDTO, Allocation allocation) {
+        SeatSection section = allocation.section();
+        SeatBitmap.Block block = allocation.block();
+        seatInventoryService.reserveSeats(section.getEventName(), section.getTicketType(), block.count());
+
+        Ticket ticket = ticketMapper.toEntity(ticketCreateDTO);
+        ticket.setSection(section.getName());
+        ticket.setSeatRow(block.row() + 1);
+        ticket.setFirstSeat(block.firstSeat() + 1);
+        Ticket savedTicket = ticketRepository.save(ticket);
+
+        List<TicketSeat> seats = IntStream.range(0, block.count())
+                .mapToObj(i -> TicketSeat.builder()
+                        .sectionId(section.getId())
+                        .seatRow(block.row() + 1)
+                        .seatNumber(block.firstSeat() + 1 + i)
+                        .ticketId(savedTicket.getId())
+                        .build())
+                .collect(Collectors.toList());
+        ticketSeatRepository.saveAllAndFlush(seats);
+        salesCounters.recordSale(SalesCounters.Sale.of(savedTicket));
+        return savedTicket;
+    }
+
+    /**
+     * Frees a block that could not be sold because some of its seats were sold by another instance,
+     * and marks the seats sold in its row as taken.
+     */
+    private void resync(Allocation allocation) {
+        SeatBitmap seatMap = seatMap(allocation.section());
+        SeatBitmap.Block block = allocation.block();
+        seatMap.release(block.row(), block.firstSeat(), block.count());
+        ticketSeatRepository.findBySectionIdAndSeatRow(allocation.section().getId(), block.row() + 1)
+                .forEach(seat -> seatMap.occupy(seat.getSeatRow() - 1, seat.getSeatNumber() - 1, 1));
+    }
+
+    private SeatBitmap seatMap(SeatSection section) {
+        return seatMaps.computeIfAbsent(section.getId(), id -> {
+            SeatBitmap seatMap = new SeatBitmap(section.getRowCount(), section.getSeatsPerRow());
+            ticketSeatRepository.findBySectionId(id)
+                    .forEach(seat -> seatMap.occupy(seat.getSeatRow() - 1, seat.getSeatNumber() - 1, 1));
+            return seatMap;
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private SeatSectionDTO toDTO(SeatSection section, SeatBitmap seatMap) {
+        return SeatSectionDTO.builder()
+                .eventName(section.getEventName())
+                .name(section.getName())
+                .ticketType(section.getTicketType())
+                .rows(section.getRowCount())
+                .seatsPerRow(section.getSeatsPerRow())
+                .priority(section.getPriority())
+                .available(seatMap.available())
+                .seatRows(IntStream.range(0, seatMap.getRows())
+                        .mapToObj(seatMap::render)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
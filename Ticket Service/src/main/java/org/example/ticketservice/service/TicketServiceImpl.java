@@ -1,7 +1,9 @@
 package org.example.ticketservice.service;
 
-import org.example.ticketservice.client.EventServiceClient;
+import org.example.ticketservice.cache.SalesCounters;
 import org.example.ticketservice.dto.EventDetailsDTO;
+import org.example.ticketservice.dto.EventSalesDTO;
+import org.example.ticketservice.dto.EventTicketSummaryDTO;
 import org.example.ticketservice.dto.TicketCreateDTO;
 import org.example.ticketservice.dto.TicketDTO;
 import org.example.ticketservice.dto.TicketWithEventDetailsDTO;
@@ -11,16 +13,26 @@ import org.example.ticketservice.model.Ticket;
 import org.example.ticketservice.repository.TicketRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Service implementation for managing tickets in the festival management system.
  * Provides business logic for CRUD operations, ticket purchasing, revenue calculation, and event validation.
+ * Every active ticket holds its seats in the {@link ISeatInventoryService seat inventory}: creating or purchasing
+ * a ticket takes them, cancelling or deleting it gives them back, in the same transaction as the ticket itself.
+ * Every committed change is also counted in the live {@link SalesCounters}.
  *
  * @author EscobarTeam
  */
@@ -30,20 +42,38 @@ public class TicketServiceImpl implements ITicketService {
     
     private final TicketRepository ticketRepository;
     private final TicketMapper ticketMapper;
-    private final EventServiceClient eventServiceClient;
+    private final EventDetailsFetcher eventDetailsFetcher;
+    private final ISeatInventoryService seatInventoryService;
+    private final ISeatingService seatingService;
+    private final SeatInventoryProvisioner seatInventoryProvisioner;
+    private final SalesCounters salesCounters;
+    private final TransactionTemplate transactionTemplate;
     
     /**
      * Constructs a new {@code TicketServiceImpl} with the required dependencies.
      *
      * @param ticketRepository the repository for ticket data access
      * @param ticketMapper the mapper for converting between entities and DTOs
-     * @param eventServiceClient the Feign client for communicating with the Event Service
+     * @param eventDetailsFetcher the fetcher for event details from the Event Service
+     * @param seatInventoryService the service holding the seats of every event and ticket type
+     * @param seatingService the service holding the assigned seats of the seated events
+     * @param seatInventoryProvisioner puts events on sale the first time their seats are sold
+     * @param salesCounters the live sales counters per event
+     * @param transactionManager the transaction manager used for the purchase transaction
      */
     @Autowired
-    public TicketServiceImpl(TicketRepository ticketRepository, TicketMapper ticketMapper, EventServiceClient eventServiceClient) {
+    public TicketServiceImpl(TicketRepository ticketRepository, TicketMapper ticketMapper, EventDetailsFetcher eventDetailsFetcher,
+                             ISeatInventoryService seatInventoryService, ISeatingService seatingService,
+                             SeatInventoryProvisioner seatInventoryProvisioner, SalesCounters salesCounters,
+                             PlatformTransactionManager transactionManager) {
         this.ticketRepository = ticketRepository;
         this.ticketMapper = ticketMapper;
-        this.eventServiceClient = eventServiceClient;
+        this.eventDetailsFetcher = eventDetailsFetcher;
+        this.seatInventoryService = seatInventoryService;
+        this.seatingService = seatingService;
+        this.seatInventoryProvisioner = seatInventoryProvisioner;
+        this.salesCounters = salesCounters;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     
     /**
@@ -73,48 +103,78 @@ public class TicketServiceImpl implements ITicketService {
     }
     
     /**
-     * Creates a new ticket in the system.
+     * Creates a new ticket in the system, taking its seats from the inventory.
+     * An event without inventory is put on sale first, with the capacity the Event Service has for it.
      *
      * @param ticketCreateDTO the DTO containing the data for the new ticket
      * @return the {@code TicketDTO} object representing the newly created ticket
+     * @throws org.example.ticketservice.exception.SeatsUnavailableException if not enough seats are left
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TicketDTO createTicket(TicketCreateDTO ticketCreateDTO) {
-        Ticket ticket = ticketMapper.toEntity(ticketCreateDTO);
-        Ticket savedTicket = ticketRepository.save(ticket);
+        Ticket savedTicket = sell(ticketMapper.toEntity(ticketCreateDTO));
         return ticketMapper.toDTO(savedTicket);
     }
     
     /**
      * Updates an existing ticket with new information.
+     * Changing the event, type, quantity or active flag moves the ticket's seats in the inventory accordingly.
+     * A ticket with assigned seats keeps its event, type and quantity; cancelling it puts its seats back on sale.
      *
      * @param id the unique identifier of the ticket to update
      * @param ticketDTO the DTO containing the updated ticket information
      * @return the {@code TicketDTO} object representing the updated ticket
      * @throws TicketNotFoundException if no ticket exists with the given ID
+     * @throws org.example.ticketservice.exception.SeatsUnavailableException if the new seats are not available
+     * @throws IllegalArgumentException if the event, type or quantity of a ticket with assigned seats changes
      */
     @Override
     public TicketDTO updateTicket(Long id, TicketDTO ticketDTO) {
         Ticket existingTicket = ticketRepository.findById(id)
                 .orElseThrow(() -> new TicketNotFoundException(id));
         
+        String oldEventName = existingTicket.getEventName();
+        String oldTicketType = existingTicket.getTicketType();
+        int oldQuantity = existingTicket.getQuantity();
+        int oldSeats = seatsHeldBy(existingTicket);
+        SalesCounters.Sale oldSale = SalesCounters.Sale.of(existingTicket);
         ticketMapper.updateEntityFromDTO(ticketDTO, existingTicket);
+        if (existingTicket.getSection() != null) {
+            if (!Objects.equals(oldEventName, existingTicket.getEventName())
+                    || !oldTicketType.equalsIgnoreCase(existingTicket.getTicketType())
+                    || oldQuantity != existingTicket.getQuantity()) {
+                throw new IllegalArgumentException("Biletele cu locuri alocate nu pot schimba evenimentul, tipul sau cantitatea");
+            }
+            if (seatsHeldBy(existingTicket) == 0) {
+                seatingService.releaseSeats(existingTicket);
+                existingTicket.setSection(null);
+                existingTicket.setSeatRow(null);
+                existingTicket.setFirstSeat(null);
+            }
+        }
+        moveSeats(oldEventName, oldTicketType, oldSeats, existingTicket);
         Ticket updatedTicket = ticketRepository.save(existingTicket);
+        salesCounters.recordChange(oldSale, SalesCounters.Sale.of(updatedTicket));
         return ticketMapper.toDTO(updatedTicket);
     }
     
     /**
-     * Deletes a ticket from the system by its unique identifier.
+     * Deletes a ticket from the system by its unique identifier, giving its seats back to the inventory.
      *
      * @param id the unique identifier of the ticket to delete
      * @throws TicketNotFoundException if no ticket exists with the given ID
      */
     @Override
     public void deleteTicket(Long id) {
-        if (!ticketRepository.existsById(id)) {
-            throw new TicketNotFoundException(id);
+        Ticket ticket = ticketRepository.findById(id)
+                .orElseThrow(() -> new TicketNotFoundException(id));
+        seatingService.releaseSeats(ticket);
+        ticketRepository.delete(ticket);
+        salesCounters.recordRemoval(SalesCounters.Sale.of(ticket));
+        if (seatsHeldBy(ticket) > 0) {
+            seatInventoryService.releaseSeats(ticket.getEventName(), ticket.getTicketType(), ticket.getQuantity());
         }
-        ticketRepository.deleteById(id);
     }
     
     /**
@@ -132,29 +192,68 @@ public class TicketServiceImpl implements ITicketService {
     
     /**
      * Calculates the number of available seats for a specific event.
-     * This is calculated based on the event capacity minus sold tickets.
+     * This is the capacity of all its ticket types minus the seats sold and held, as kept by the seat inventory.
      *
      * @param eventName the name of the event
-     * @return the number of available seats for the event
+     * @return the number of available seats for the event, 0 if it is not on sale
      */
     @Override
+    @Transactional(readOnly = true)
     public int getAvailableSeats(String eventName) {
-        return ticketRepository.countByEventName(eventName);
+        return seatInventoryService.getAvailableSeats(eventName);
     }
     
     /**
-     * Calculates the total revenue generated by each event.
+     * Calculates the total revenue generated by each event, with a single aggregate query.
      *
      * @return a map where keys are event names and values are the total revenue for each event
      */
     @Override
+    @Transactional(readOnly = true)
     public Map<String, Double> getRevenueByFestival() {
-        List<Ticket> allTickets = ticketRepository.findAll();
-        return allTickets.stream()
-                .collect(Collectors.groupingBy(
-                        Ticket::getEventName,
-                        Collectors.summingDouble(ticket -> ticket.getPrice() * ticket.getQuantity())
-                ));
+        return ticketRepository.sumRevenueGroupedByEventName().stream()
+                .collect(Collectors.toMap(TicketRepository.EventRevenue::getEventName,
+                        TicketRepository.EventRevenue::getRevenue));
+    }
+    
+    /**
+     * Calculates the total revenue generated by a single event, with an aggregate over the event's tickets only.
+     *
+     * @param eventName the name of the event
+     * @return the total revenue of the event, 0 if it has no tickets
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Double getRevenueForFestival(String eventName) {
+        return ticketRepository.sumRevenueOfEvent(eventName);
+    }
+    
+    /**
+     * Summarizes the tickets of several events at once, with one aggregate query for the revenue
+     * and one for the available seats.
+     * Every requested event gets an entry, in request order; events without tickets get zero revenue,
+     * events not on sale get zero seats.
+     *
+     * @param eventNames the names of the events to summarize
+     * @return a list of {@code EventTicketSummaryDTO} objects, one per distinct event name
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventTicketSummaryDTO> getTicketSummaries(List<String> eventNames) {
+        Set<String> names = new LinkedHashSet<>(eventNames);
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        Map<String, EventTicketSummaryDTO> found = ticketRepository.summarizeByEventNames(names).stream()
+                .collect(Collectors.toMap(EventTicketSummaryDTO::getEventName, Function.identity()));
+        Map<String, Long> availableSeats = seatInventoryService.getAvailableSeats(names);
+        return names.stream()
+                .map(name -> {
+                    EventTicketSummaryDTO summary = found.getOrDefault(name, new EventTicketSummaryDTO(name, 0L, 0.0));
+                    summary.setAvailableSeats(availableSeats.getOrDefault(name, 0L));
+                    return summary;
+                })
+                .collect(Collectors.toList());
     }
     
     /**
@@ -171,15 +270,35 @@ public class TicketServiceImpl implements ITicketService {
     }
     
     /**
-     * Calculates the total revenue from all tickets in the system.
+     * Reads the live sales counters of every event with tickets, without querying the database.
+     *
+     * @return a list of {@code EventSalesDTO} objects, ordered by event name
+     */
+    @Override
+    public List<EventSalesDTO> getLiveSales() {
+        return salesCounters.getAllSales();
+    }
+    
+    /**
+     * Reads the live sales counters of an event in O(1), without querying the database.
+     *
+     * @param eventName the name of the event
+     * @return the {@code EventSalesDTO} object with the event's revenue, tickets and quantity per ticket type
+     */
+    @Override
+    public EventSalesDTO getLiveSalesForFestival(String eventName) {
+        return salesCounters.getSales(eventName);
+    }
+    
+    /**
+     * Calculates the total revenue from all tickets in the system, with a single aggregate query.
      *
      * @return the total revenue as a {@code Double} value
      */
     @Override
+    @Transactional(readOnly = true)
     public Double getTotalRevenue() {
-        return ticketRepository.findAll().stream()
-                .mapToDouble(ticket -> ticket.getPrice() * ticket.getQuantity())
-                .sum();
+        return ticketRepository.sumRevenue();
     }
 
     /**
@@ -201,7 +320,7 @@ public class TicketServiceImpl implements ITicketService {
         Ticket ticket = tickets.get(0);
         TicketDTO ticketDTO = ticketMapper.toDTO(ticket);
         
-        List<EventDetailsDTO> events = eventServiceClient.searchEventsByName(eventName, "Gateway-Service");
+        List<EventDetailsDTO> events = eventDetailsFetcher.searchEventsByName(eventName);
         
         if (events == null || events.isEmpty()) {
             throw new RuntimeException("Evenimentul '" + eventName + "' nu a fost gasit in Event Service");
@@ -230,6 +349,8 @@ public class TicketServiceImpl implements ITicketService {
         dto.setAssociatedArtist(eventDetails.getAssociatedArtist());
         dto.setEventCapacity(eventDetails.getCapacity());
         dto.setValidationMessage(validationMessage);
+        dto.setEventInfoAsOf(eventDetails.getAsOf());
+        dto.setEventInfoStale(eventDetails.getStale());
         
         return dto;
     }
@@ -237,19 +358,20 @@ public class TicketServiceImpl implements ITicketService {
     /**
      * Purchases a ticket with validation against the Event Service.
      * Validates that the event exists and adjusts pricing based on region.
+     * The Event Service is called outside any transaction, so no database connection is held while waiting for it;
+     * the seats are then taken and the ticket saved in one short transaction.
      *
      * @param ticketCreateDTO the DTO containing the ticket purchase information
      * @param region the region code for pricing adjustment (e.g., "EU-RO", "US")
      * @param language the language code for message localization (e.g., "ro-RO", "en-US")
      * @return the {@code TicketDTO} object representing the purchased ticket
      * @throws RuntimeException if the event does not exist
+     * @throws org.example.ticketservice.exception.SeatsUnavailableException if not enough seats are left
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TicketDTO purchaseTicketWithValidation(TicketCreateDTO ticketCreateDTO, String region, String language) {
-        List<EventDetailsDTO> events = eventServiceClient.searchEventsByName(
-                ticketCreateDTO.getEventName(), 
-                "Gateway-Service"
-        );
+        List<EventDetailsDTO> events = eventDetailsFetcher.searchEventsByName(ticketCreateDTO.getEventName());
         
         if (events == null || events.isEmpty()) {
             throw new RuntimeException("Evenimentul '" + ticketCreateDTO.getEventName() + "' nu exista");
@@ -263,12 +385,65 @@ public class TicketServiceImpl implements ITicketService {
         Double adjustedPrice = adjustPriceByRegion(ticketCreateDTO.getPrice(), region);
         ticketCreateDTO.setPrice(adjustedPrice);
         
-        Ticket ticket = ticketMapper.toEntity(ticketCreateDTO);
-        Ticket savedTicket = ticketRepository.save(ticket);
+        Ticket savedTicket = sell(ticketMapper.toEntity(ticketCreateDTO));
         
         return ticketMapper.toDTO(savedTicket);
     }
 
+    /**
+     * Takes the seats of a new ticket and saves it in one transaction, putting its event on sale first if needed.
+     *
+     * @param ticket the ticket to sell
+     * @return the saved ticket
+     */
+    private Ticket sell(Ticket ticket) {
+        return seatInventoryProvisioner.onSale(ticket.getEventName(), () -> transactionTemplate.execute(status -> {
+            seatInventoryService.reserveSeats(ticket.getEventName(), ticket.getTicketType(), ticket.getQuantity());
+            Ticket savedTicket = ticketRepository.save(ticket);
+            salesCounters.recordSale(SalesCounters.Sale.of(savedTicket));
+            return savedTicket;
+        }));
+    }
+
+    /**
+     * Moves the seats of an updated ticket in the inventory: the seats it held before are given back
+     * and the seats it holds now are taken. A quantity change within the same event and type only moves the difference.
+     *
+     * @param oldEventName the event of the ticket before the update
+     * @param oldTicketType the type of the ticket before the update
+     * @param oldSeats the seats the ticket held before the update
+     * @param ticket the updated ticket
+     */
+    private void moveSeats(String oldEventName, String oldTicketType, int oldSeats, Ticket ticket) {
+        int newSeats = seatsHeldBy(ticket);
+        boolean sameInventory = Objects.equals(oldEventName, ticket.getEventName())
+                && oldTicketType.equalsIgnoreCase(ticket.getTicketType());
+        if (sameInventory) {
+            if (newSeats > oldSeats) {
+                seatInventoryService.reserveSeats(ticket.getEventName(), ticket.getTicketType(), newSeats - oldSeats);
+            } else if (newSeats < oldSeats) {
+                seatInventoryService.releaseSeats(ticket.getEventName(), ticket.getTicketType(), oldSeats - newSeats);
+            }
+            return;
+        }
+        if (newSeats > 0) {
+            seatInventoryService.reserveSeats(ticket.getEventName(), ticket.getTicketType(), newSeats);
+        }
+        if (oldSeats > 0) {
+            seatInventoryService.releaseSeats(oldEventName, oldTicketType, oldSeats);
+        }
+    }
+
+    /**
+     * Returns the number of seats a ticket holds in the inventory: its quantity while active, none once cancelled.
+     *
+     * @param ticket the ticket
+     * @return the seats held by the ticket
+     */
+    private static int seatsHeldBy(Ticket ticket) {
+        return Boolean.FALSE.equals(ticket.getIsActive()) ? 0 : ticket.getQuantity();
+    }
+
     /**
      * Adjusts ticket price based on the region.
      * US region: 10% markup, EU-RO region: 5x multiplier, others: no adjustment.
@@ -38,3 +38,30 @@ WHERE NOT EXISTS (
     AND tickets.ticket_type = v.ticket_type
     AND tickets.purchase_date = v.purchase_date
 );
+
+-- Insert Seat Inventory (doar dacă nu există deja)
+-- Capacitatea fiecărui eveniment (din Event Service) e împărțită pe tipuri: 10% VIP, 20% EARLY_BIRD, 70% GENERAL;
+-- locurile vândute sunt cele ale biletelor active existente
+INSERT INTO seat_inventory (event_name, ticket_type, capacity, sold, held, updated_at)
+SELECT e.event_name, k.ticket_type, CAST(e.capacity * k.share AS INTEGER),
+       COALESCE((SELECT SUM(t.quantity) FROM tickets t
+                 WHERE t.event_name = e.event_name AND t.ticket_type = k.ticket_type AND t.is_active), 0),
+       0, NOW()
+FROM (VALUES
+('Travis Scott Live Concert', 50000),
+('The Weeknd Performance', 50000),
+('Hip-Hop Night - Romanian Artists', 25000),
+('Electronic Music Festival', 20000),
+('Pop Stars Showcase', 15000),
+('Drake Headline Show', 50000),
+('Post Malone Concert', 30000),
+('Eminem Special Performance', 50000),
+('Ariana Grande Live', 15000),
+('Kendrick Lamar Exclusive', 50000)
+) AS e(event_name, capacity)
+CROSS JOIN (VALUES ('VIP', 0.10), ('EARLY_BIRD', 0.20), ('GENERAL', 0.70)) AS k(ticket_type, share)
+WHERE NOT EXISTS (
+    SELECT 1 FROM seat_inventory s
+    WHERE s.event_name = e.event_name
+    AND s.ticket_type = k.ticket_type
+);
@@ -10,17 +10,68 @@ CREATE TABLE IF NOT EXISTS tickets (
     quantity INTEGER NOT NULL CHECK (quantity >= 1),
     buyer_name VARCHAR(100),
     buyer_email VARCHAR(100),
+    seat_section VARCHAR(255),
+    seat_row INTEGER,
+    first_seat INTEGER,
     purchase_date TIMESTAMP,
     is_active BOOLEAN DEFAULT TRUE,
     created_at TIMESTAMP
 );
 
+-- Folosit si de sumarele pe eveniment (POST /api/tickets/summary, GROUP BY event_name)
 CREATE INDEX IF NOT EXISTS idx_ticket_event_name ON tickets(event_name);
 CREATE INDEX IF NOT EXISTS idx_ticket_type ON tickets(ticket_type);
 CREATE INDEX IF NOT EXISTS idx_ticket_buyer_email ON tickets(buyer_email);
 CREATE INDEX IF NOT EXISTS idx_ticket_purchase_date ON tickets(purchase_date);
 CREATE INDEX IF NOT EXISTS idx_ticket_active ON tickets(is_active);
 
+-- Tabela Seat Inventory: capacitatea si locurile vandute / rezervate pe eveniment si tip de bilet
+CREATE TABLE IF NOT EXISTS seat_inventory (
+    id BIGSERIAL PRIMARY KEY,
+    event_name VARCHAR(255) NOT NULL,
+    ticket_type VARCHAR(255) NOT NULL,
+    capacity INTEGER NOT NULL,
+    sold INTEGER NOT NULL DEFAULT 0,
+    held INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_seat_inventory_event_type UNIQUE (event_name, ticket_type),
+    CHECK (sold >= 0 AND held >= 0 AND sold + held <= capacity)
+);
+
+-- Tabela Seat Sections: sectiunile cu locuri numerotate ale unui eveniment
+CREATE TABLE IF NOT EXISTS seat_sections (
+    id BIGSERIAL PRIMARY KEY,
+    event_name VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    ticket_type VARCHAR(255) NOT NULL,
+    row_count INTEGER NOT NULL,
+    seats_per_row INTEGER NOT NULL,
+    priority INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT uk_seat_sections_event_name UNIQUE (event_name, name)
+);
+
+-- Tabela Ticket Seats: un rand pentru fiecare loc vandut; constrangerea unica impiedica vanzarea dubla
+CREATE TABLE IF NOT EXISTS ticket_seats (
+    id BIGSERIAL PRIMARY KEY,
+    section_id BIGINT NOT NULL,
+    seat_row INTEGER NOT NULL,
+    seat_number INTEGER NOT NULL,
+    ticket_id BIGINT NOT NULL,
+    CONSTRAINT uk_ticket_seats_seat UNIQUE (section_id, seat_row, seat_number)
+);
+
+CREATE INDEX IF NOT EXISTS idx_ticket_seats_ticket_id ON ticket_seats(ticket_id);
+
+-- Tabela Seat Holds: locuri rezervate temporar, pana la cumparare sau expirare
+CREATE TABLE IF NOT EXISTS seat_holds (
+    id VARCHAR(36) PRIMARY KEY,
+    event_name VARCHAR(255) NOT NULL,
+    ticket_type VARCHAR(255) NOT NULL,
+    quantity INTEGER NOT NULL CHECK (quantity >= 1),
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
 -- Insert Tickets (doar dacă nu există deja)
 -- Notă: Folosim o verificare simplă pentru a evita duplicatele
 INSERT INTO tickets (event_name, ticket_type, price, quantity, buyer_name, buyer_email, purchase_date, is_active, created_at)
@@ -58,3 +109,30 @@ WHERE NOT EXISTS (
     AND tickets.ticket_type = v.ticket_type
     AND tickets.purchase_date = v.purchase_date
 );
+
+-- Insert Seat Inventory (doar dacă nu există deja)
+-- Capacitatea fiecărui eveniment (din Event Service) e împărțită pe tipuri: 10% VIP, 20% EARLY_BIRD, 70% GENERAL;
+-- locurile vândute sunt cele ale biletelor active existente
+INSERT INTO seat_inventory (event_name, ticket_type, capacity, sold, held, updated_at)
+SELECT e.event_name, k.ticket_type, CAST(e.capacity * k.share AS INTEGER),
+       COALESCE((SELECT SUM(t.quantity) FROM tickets t
+                 WHERE t.event_name = e.event_name AND t.ticket_type = k.ticket_type AND t.is_active), 0),
+       0, NOW()
+FROM (VALUES
+('Travis Scott Live Concert', 50000),
+('The Weeknd Performance', 50000),
+('Hip-Hop Night - Romanian Artists', 25000),
+('Electronic Music Festival', 20000),
+('Pop Stars Showcase', 15000),
+('Drake Headline Show', 50000),
+('Post Malone Concert', 30000),
+('Eminem Special Performance', 50000),
+('Ariana Grande Live', 15000),
+('Kendrick Lamar Exclusive', 50000)
+) AS e(event_name, capacity)
+CROSS JOIN (VALUES ('VIP', 0.10), ('EARLY_BIRD', 0.20), ('GENERAL', 0.70)) AS k(ticket_type, share)
+WHERE NOT EXISTS (
+    SELECT 1 FROM seat_inventory s
+    WHERE s.event_name = e.event_name
+    AND s.ticket_type = k.ticket_type
+);
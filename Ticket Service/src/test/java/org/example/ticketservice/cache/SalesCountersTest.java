@@ -0,0 +1,181 @@
+package org.example.ticketservice.cache;
+
+import org.example.ticketservice.dto.EventSalesDTO;
+import org.example.ticketservice.model.Ticket;
+import org.example.ticketservice.repository.TicketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the live sales counters against a real database: seeding, commit-only updates and reconciliation.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never"
+})
+@Import(SalesCounters.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SalesCountersTest {
+
+    @Autowired
+    private SalesCounters salesCounters;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        ticketRepository.deleteAll();
+        salesCounters.reconcile();
+    }
+
+    @Test
+    void testReconcile_SeedsTheCountersFromTheDatabase() {
+        // Given
+        ticketRepository.saveAll(List.of(
+                ticket("Summer Festival", "VIP", 100.0, 2),
+                ticket("Summer Festival", "general", 19.99, 3),
+                ticket("Winter Concert", "VIP", 50.0, 1)));
+
+        // When
+        salesCounters.reconcile();
+
+        // Then
+        EventSalesDTO summer = salesCounters.getSales("Summer Festival");
+        assertEquals(259.97, summer.getRevenue());
+        assertEquals(2L, summer.getTickets());
+        assertEquals(Map.of("GENERAL", 3L, "VIP", 2L), summer.getQuantityByType());
+        assertEquals(2, salesCounters.getAllSales().size());
+        assertEquals("Winter Concert", salesCounters.getAllSales().get(1).getEventName());
+    }
+
+    @Test
+    void testRecordSale_CountedOnlyOnceCommitted() {
+        // Given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            salesCounters.recordSale(new SalesCounters.Sale("Summer Festival", "VIP", 2, 20000));
+            assertEquals(0L, salesCounters.getSales("Summer Festival").getTickets());
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            salesCounters.recordSale(new SalesCounters.Sale("Summer Festival", "VIP", 5, 50000));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        EventSalesDTO sales = salesCounters.getSales("Summer Festival");
+        assertEquals(200.0, sales.getRevenue());
+        assertEquals(1L, sales.getTickets());
+        assertEquals(Map.of("VIP", 2L), sales.getQuantityByType());
+    }
+
+    @Test
+    void testRecordChange_MovesTheTicketBetweenEvents() {
+        // Given
+        salesCounters.recordSale(new SalesCounters.Sale("Summer Festival", "VIP", 2, 20000));
+
+        // When
+        salesCounters.recordChange(new SalesCounters.Sale("Summer Festival", "VIP", 2, 20000),
+                new SalesCounters.Sale("Winter Concert", "GENERAL", 3, 9000));
+
+        // Then
+        assertEquals(0L, salesCounters.getSales("Summer Festival").getTickets());
+        assertEquals(Map.of(), salesCounters.getSales("Summer Festival").getQuantityByType());
+        assertEquals(90.0, salesCounters.getSales("Winter Concert").getRevenue());
+        assertEquals(1, salesCounters.getAllSales().size());
+    }
+
+    @Test
+    void testReconcile_CorrectsDrift() {
+        // Given: counters that missed one sale and counted one that was never stored
+        ticketRepository.save(ticket("Summer Festival", "VIP", 100.0, 2));
+        salesCounters.recordSale(new SalesCounters.Sale("Winter Concert", "VIP", 1, 5000));
+
+        // When
+        salesCounters.reconcile();
+
+        // Then
+        assertEquals(200.0, salesCounters.getSales("Summer Festival").getRevenue());
+        assertEquals(0L, salesCounters.getSales("Winter Concert").getTickets());
+        assertEquals(0.0, salesCounters.getSales("Winter Concert").getRevenue());
+    }
+
+    @Test
+    void testReconcile_SkipsEventsCommittingMeanwhile() {
+        // Given: a sale whose transaction is committing while the reconciliation runs
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            ticketRepository.save(ticket("Summer Festival", "VIP", 100.0, 2));
+            salesCounters.recordSale(new SalesCounters.Sale("Summer Festival", "VIP", 2, 20000));
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    // Runs after the counters marked the event, before the sale is visible
+                    salesCounters.reconcile();
+                }
+            });
+        });
+
+        // Then: counted once, by the commit, not again by the reconciliation
+        assertEquals(1L, salesCounters.getSales("Summer Festival").getTickets());
+        salesCounters.reconcile();
+        assertEquals(1L, salesCounters.getSales("Summer Festival").getTickets());
+    }
+
+    @Test
+    void testRecordSale_ConcurrentSalesAreAllCounted() throws Exception {
+        // Given
+        List<Thread> threads = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    salesCounters.recordSale(new SalesCounters.Sale("Summer Festival", "GENERAL", 1, 1999));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        EventSalesDTO sales = salesCounters.getSales("Summer Festival");
+        assertEquals(80_000L, sales.getTickets());
+        assertEquals(80_000L * 1999 / 100.0, sales.getRevenue());
+        assertEquals(Map.of("GENERAL", 80_000L), sales.getQuantityByType());
+    }
+
+    private static Ticket ticket(String eventName, String ticketType, double price, int quantity) {
+        return Ticket.builder()
+                .eventName(eventName)
+                .ticketType(ticketType)
+                .price(price)
+                .quantity(quantity)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.ticketservice.repository;
+
+import org.example.ticketservice.model.Ticket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the revenue aggregate queries against a real database.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never"
+})
+class TicketRepositoryTest {
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.saveAll(List.of(
+                ticket("Summer Festival", 100.0, 2),
+                ticket("Summer Festival", 50.5, 1),
+                ticket("Winter Concert", 50.0, 3)));
+    }
+
+    @Test
+    void testSumRevenueGroupedByEventName() {
+        // When
+        Map<String, Double> revenue = ticketRepository.sumRevenueGroupedByEventName().stream()
+                .collect(Collectors.toMap(TicketRepository.EventRevenue::getEventName,
+                        TicketRepository.EventRevenue::getRevenue));
+
+        // Then
+        assertEquals(Map.of("Summer Festival", 250.5, "Winter Concert", 150.0), revenue);
+    }
+
+    @Test
+    void testSumRevenueOfEvent() {
+        // When & Then
+        assertEquals(250.5, ticketRepository.sumRevenueOfEvent("Summer Festival"));
+        assertEquals(0.0, ticketRepository.sumRevenueOfEvent("Unknown"));
+    }
+
+    @Test
+    void testSumRevenue() {
+        // When & Then
+        assertEquals(400.5, ticketRepository.sumRevenue());
+        ticketRepository.deleteAll();
+        assertEquals(0.0, ticketRepository.sumRevenue());
+    }
+
+    private static Ticket ticket(String eventName, double price, int quantity) {
+        return Ticket.builder()
+                .eventName(eventName)
+                .ticketType("GENERAL")
+                .price(price)
+                .quantity(quantity)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.ticketservice.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures how many hold timeouts per second the timing wheel schedules, cancels and expires, with the
+ * mix of a ticket sale: most holds are released or purchased before they expire. The wheel alone is measured;
+ * in the service every hold also costs a database round trip, which bounds its throughput well below this.
+ * <p>
+ * Not part of the regular test run; start it with {@code mvn test -Pbenchmark}.
+ *
+ * @author EscobarTeam
+ */
+class HashedTimingWheelBenchmark {
+
+    private static final int THREADS = 4;
+    private static final int HOLDS_PER_THREAD = 500_000;
+    private static final double CANCELLED_SHARE = 0.8;
+
+    @Test
+    void scheduleCancelAndExpire() throws Exception {
+        warmUp(100_000);
+        long total = (long) THREADS * HOLDS_PER_THREAD;
+        AtomicLong expired = new AtomicLong();
+        long expectedExpired = total - Math.round(HOLDS_PER_THREAD * CANCELLED_SHARE) * THREADS;
+        CountDownLatch done = new CountDownLatch(1);
+
+        try (HashedTimingWheel<Long> wheel = new HashedTimingWheel<>("benchmark-wheel", Duration.ofMillis(10), 512,
+                batch -> {
+                    if (expired.addAndGet(batch.size()) == expectedExpired) {
+                        done.countDown();
+                    }
+                })) {
+            wheel.start();
+            long start = System.nanoTime();
+            List<Thread> threads = startSchedulers(wheel);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            long scheduledNanos = System.nanoTime() - start;
+            assertTrue(done.await(60, TimeUnit.SECONDS));
+            long totalNanos = System.nanoTime() - start;
+
+            System.out.printf("Scheduled and cancelled %,d holds in %d ms: %,.0f ops/s%n",
+                    total, TimeUnit.NANOSECONDS.toMillis(scheduledNanos), total * 1e9 / scheduledNanos);
+            System.out.printf("Expired %,d holds within %d ms of the first schedule%n",
+                    expired.get(), TimeUnit.NANOSECONDS.toMillis(totalNanos));
+            assertEquals(expectedExpired, expired.get());
+            assertEquals(0, wheel.pending());
+        }
+    }
+
+    private static void warmUp(int holds) throws InterruptedException {
+        try (HashedTimingWheel<Long> wheel = new HashedTimingWheel<>("warmup-wheel", Duration.ofMillis(10), 512,
+                batch -> { })) {
+            wheel.start();
+            for (long i = 0; i < holds; i++) {
+                wheel.schedule(i, Duration.ofMillis(i % 500)).cancel();
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    private static List<Thread> startSchedulers(HashedTimingWheel<Long> wheel) {
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long base = (long) t * HOLDS_PER_THREAD;
+            Thread thread = new Thread(() -> {
+                int cancelEvery = (int) Math.round(1 / (1 - CANCELLED_SHARE));
+                for (int i = 0; i < HOLDS_PER_THREAD; i++) {
+                    HashedTimingWheel.Timeout<Long> timeout = wheel.schedule(base + i, Duration.ofMillis(i % 2000));
+                    if (i % cancelEvery != 0) {
+                        timeout.cancel();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        return threads;
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.ticketservice.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimingWheelTest {
+
+    private final BlockingQueue<List<Integer>> batches = new LinkedBlockingQueue<>();
+    private HashedTimingWheel<Integer> wheel;
+
+    @AfterEach
+    void tearDown() {
+        if (wheel != null) {
+            wheel.close();
+        }
+    }
+
+    @Test
+    void testSchedule_TimeoutsDueInTheSameTickExpireTogether() throws Exception {
+        // Given
+        wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(50), 8, batches::add);
+        for (int i = 0; i < 1000; i++) {
+            wheel.schedule(i, Duration.ZERO);
+        }
+
+        // When
+        wheel.start();
+        List<Integer> batch = batches.poll(5, TimeUnit.SECONDS);
+
+        // Then
+        assertNotNull(batch);
+        assertEquals(1000, batch.size());
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    void testSchedule_FiresNoEarlierThanTheDelay() throws Exception {
+        // Given
+        wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(10), 8, batches::add);
+        wheel.start();
+        long start = System.nanoTime();
+
+        // When
+        wheel.schedule(1, Duration.ofMillis(200));
+        List<Integer> batch = batches.poll(5, TimeUnit.SECONDS);
+
+        // Then
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertEquals(List.of(1), batch);
+        assertTrue(elapsedMillis >= 200, "fired after " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void testSchedule_DelayLongerThanOneRevolution() throws Exception {
+        // Given: 4 buckets of 10 ms, so a 150 ms delay needs several revolutions
+        wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(10), 4, batches::add);
+        wheel.start();
+        long start = System.nanoTime();
+
+        // When
+        wheel.schedule(1, Duration.ofMillis(150));
+        wheel.schedule(2, Duration.ofMillis(20));
+        List<Integer> first = batches.poll(5, TimeUnit.SECONDS);
+        List<Integer> second = batches.poll(5, TimeUnit.SECONDS);
+
+        // Then
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertEquals(List.of(2), first);
+        assertEquals(List.of(1), second);
+        assertTrue(elapsedMillis >= 150, "fired after " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void testCancel_CancelledTimeoutNeverFires() throws Exception {
+        // Given
+        wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(10), 8, batches::add);
+        HashedTimingWheel.Timeout<Integer> cancelled = wheel.schedule(1, Duration.ofMillis(50));
+        wheel.schedule(2, Duration.ofMillis(50));
+
+        // When
+        boolean result = cancelled.cancel();
+        wheel.start();
+        List<Integer> batch = batches.poll(5, TimeUnit.SECONDS);
+
+        // Then
+        assertTrue(result);
+        assertTrue(cancelled.isCancelled());
+        assertEquals(List.of(2), batch);
+        assertNull(batches.poll(200, TimeUnit.MILLISECONDS));
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    void testCancel_AfterExpiryReturnsFalse() throws Exception {
+        // Given
+        wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(10), 8, batches::add);
+        HashedTimingWheel.Timeout<Integer> timeout = wheel.schedule(1, Duration.ZERO);
+        wheel.start();
+        batches.poll(5, TimeUnit.SECONDS);
+
+        // When
+        boolean result = timeout.cancel();
+
+        // Then
+        assertFalse(result);
+        assertTrue(timeout.isExpired());
+    }
+
+    @Test
+    void testSchedule_ConcurrentSchedulersLoseNoTimeout() throws Exception {
+        // Given
+        List<Integer> expired = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(8 * 5000);
+        wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(10), 64, batch -> {
+            expired.addAll(batch);
+            batch.forEach(i -> done.countDown());
+        });
+        wheel.start();
+
+        // When
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int base = t * 5000;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 5000; i++) {
+                    wheel.schedule(base + i, Duration.ofMillis(i % 100));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(8 * 5000, expired.size());
+        assertEquals(8 * 5000, expired.stream().distinct().count());
+    }
+
+    @Test
+    void testClose_StopsTheWorker() throws Exception {
+        // Given
+        wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(10), 8, batches::add);
+        wheel.start();
+
+        // When
+        wheel.close();
+        wheel.schedule(1, Duration.ZERO);
+
+        // Then
+        assertNull(batches.poll(200, TimeUnit.MILLISECONDS));
+        assertEquals(1, wheel.pending());
+    }
+}
@@ -0,0 +1,169 @@
+package org.example.ticketservice.seating;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatBitmapTest {
+
+    @Test
+    void testAllocate_BestBlockIsInTheMiddleOfTheFrontRow() {
+        // Given
+        SeatBitmap seatMap = new SeatBitmap(3, 10);
+
+        // When
+        SeatBitmap.Block block = seatMap.allocate(4);
+
+        // Then
+        assertEquals(new SeatBitmap.Block(0, 3, 4), block);
+        assertEquals("...XXXX...", seatMap.render(0));
+        assertEquals(26, seatMap.available());
+    }
+
+    @Test
+    void testAllocate_NextBlockIsClosestToTheMiddle() {
+        // Given
+        SeatBitmap seatMap = new SeatBitmap(3, 10);
+        seatMap.allocate(4);
+
+        // When
+        SeatBitmap.Block left = seatMap.allocate(3);
+        SeatBitmap.Block right = seatMap.allocate(3);
+
+        // Then
+        assertEquals(new SeatBitmap.Block(0, 0, 3), left);
+        assertEquals(new SeatBitmap.Block(0, 7, 3), right);
+        assertEquals("XXXXXXXXXX", seatMap.render(0));
+    }
+
+    @Test
+    void testAllocate_MovesBackWhenTheRowHasNoContiguousBlock() {
+        // Given
+        SeatBitmap seatMap = new SeatBitmap(2, 10);
+        seatMap.occupy(0, 2, 1);
+        seatMap.occupy(0, 6, 1);
+
+        // When
+        SeatBitmap.Block block = seatMap.allocate(4);
+
+        // Then
+        assertEquals(1, block.row());
+        assertEquals("..X...X...", seatMap.render(0));
+    }
+
+    @Test
+    void testAllocate_BlockSpanningTwoWords() {
+        // Given: 100 seats per row, the middle block crosses seat 64
+        SeatBitmap seatMap = new SeatBitmap(1, 100);
+        seatMap.occupy(0, 0, 60);
+
+        // When
+        SeatBitmap.Block block = seatMap.allocate(10);
+
+        // Then
+        assertEquals(new SeatBitmap.Block(0, 60, 10), block);
+        for (int seat = 60; seat < 70; seat++) {
+            assertTrue(seatMap.isTaken(0, seat));
+        }
+        assertFalse(seatMap.isTaken(0, 70));
+        assertEquals(30, seatMap.available());
+    }
+
+    @Test
+    void testAllocate_NoBlockLeft() {
+        // Given
+        SeatBitmap seatMap = new SeatBitmap(2, 5);
+        seatMap.occupy(0, 2, 1);
+        seatMap.occupy(1, 2, 1);
+
+        // When & Then
+        assertNull(seatMap.allocate(3));
+        assertNull(seatMap.allocate(6));
+        assertNotNull(seatMap.allocate(2));
+    }
+
+    @Test
+    void testClaim_ConflictInALaterWordGivesBackTheEarlierOnes() {
+        // Given
+        SeatBitmap seatMap = new SeatBitmap(1, 200);
+        seatMap.occupy(0, 130, 1);
+
+        // When
+        boolean claimed = seatMap.claim(0, 50, 100);
+
+        // Then
+        assertFalse(claimed);
+        assertEquals(199, seatMap.available());
+        assertFalse(seatMap.isTaken(0, 50));
+        assertFalse(seatMap.isTaken(0, 127));
+    }
+
+    @Test
+    void testRelease_FreesTheSeats() {
+        // Given
+        SeatBitmap seatMap = new SeatBitmap(1, 10);
+        SeatBitmap.Block block = seatMap.allocate(10);
+
+        // When
+        seatMap.release(block.row(), block.firstSeat(), block.count());
+
+        // Then
+        assertEquals(10, seatMap.available());
+        assertEquals("..........", seatMap.render(0));
+    }
+
+    @Test
+    void testClaim_SeatsOutsideTheSection() {
+        // Given
+        SeatBitmap seatMap = new SeatBitmap(2, 10);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> seatMap.claim(2, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> seatMap.claim(0, 8, 3));
+    }
+
+    @Test
+    void testAllocate_ConcurrentBuyersNeverShareASeat() throws Exception {
+        // Given: 50 rows of 70 seats, filled completely by blocks of 1 to 7 seats
+        SeatBitmap seatMap = new SeatBitmap(50, 70);
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<SeatBitmap.Block>>> buyers = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            int size = t % 7 + 1;
+            buyers.add(pool.submit(() -> {
+                start.await();
+                List<SeatBitmap.Block> blocks = new ArrayList<>();
+                SeatBitmap.Block block;
+                while ((block = seatMap.allocate(size)) != null) {
+                    blocks.add(block);
+                }
+                return blocks;
+            }));
+        }
+        start.countDown();
+        boolean[][] owned = new boolean[50][70];
+        int seats = 0;
+        for (Future<List<SeatBitmap.Block>> buyer : buyers) {
+            for (SeatBitmap.Block block : buyer.get(30, TimeUnit.SECONDS)) {
+                for (int seat = block.firstSeat(); seat < block.firstSeat() + block.count(); seat++) {
+                    assertFalse(owned[block.row()][seat], "seat sold twice: " + block);
+                    owned[block.row()][seat] = true;
+                    seats++;
+                }
+            }
+        }
+        pool.shutdown();
+
+        // Then
+        assertEquals(50 * 70 - seatMap.available(), seats);
+        assertEquals(0, seatMap.available());
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.ticketservice.service;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.example.ticketservice.client.EventServiceClient;
+import org.example.ticketservice.dto.EventDetailsDTO;
+import org.example.ticketservice.exception.EventServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventDetailsFetcherTest {
+
+    @Mock
+    private EventServiceClient eventServiceClient;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private EventDetailsFetcher fetcher;
+    private EventDetailsDTO event;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        fetcher = new EventDetailsFetcher(eventServiceClient, circuitBreakerRegistry, BulkheadRegistry.ofDefaults());
+        event = new EventDetailsDTO();
+        event.setId(1L);
+        event.setName("Summer Festival");
+        event.setDate(LocalDateTime.of(2026, 7, 15, 20, 0));
+    }
+
+    @Test
+    void testSearchEventsByName_FreshResult() {
+        // Given
+        when(eventServiceClient.searchEventsByName("Summer Festival", "Gateway-Service"))
+                .thenReturn(Collections.singletonList(event));
+
+        // When
+        List<EventDetailsDTO> result = fetcher.searchEventsByName("Summer Festival");
+
+        // Then
+        assertEquals(1, result.size());
+        assertFalse(result.get(0).getStale());
+        assertNotNull(result.get(0).getAsOf());
+    }
+
+    @Test
+    void testSearchEventsByName_BreakerOpenServesLastKnownGood() {
+        // Given
+        when(eventServiceClient.searchEventsByName(anyString(), anyString()))
+                .thenReturn(Collections.singletonList(event));
+        LocalDateTime receivedAt = fetcher.searchEventsByName("Summer Festival").get(0).getAsOf();
+        circuitBreakerRegistry.circuitBreaker(EventDetailsFetcher.EVENT_SERVICE).transitionToOpenState();
+
+        // When
+        List<EventDetailsDTO> result = fetcher.searchEventsByName("summer festival");
+
+        // Then
+        assertEquals(1, result.size());
+        assertTrue(result.get(0).getStale());
+        assertEquals(receivedAt, result.get(0).getAsOf());
+        verify(eventServiceClient, times(1)).searchEventsByName(anyString(), anyString());
+    }
+
+    @Test
+    void testSearchEventsByName_ServerErrorWithoutCache() {
+        // Given
+        when(eventServiceClient.searchEventsByName(anyString(), anyString())).thenThrow(serverError());
+
+        // When & Then
+        assertThrows(EventServiceUnavailableException.class, () -> fetcher.searchEventsByName("Summer Festival"));
+    }
+
+    private FeignException serverError() {
+        Request request = Request.create(Request.HttpMethod.GET, "/api/events/search", new HashMap<>(),
+                null, StandardCharsets.UTF_8, null);
+        return FeignException.errorStatus("searchEventsByName", Response.builder()
+                .status(503)
+                .reason("Service Unavailable")
+                .request(request)
+                .headers(new HashMap<>())
+                .build());
+    }
+}
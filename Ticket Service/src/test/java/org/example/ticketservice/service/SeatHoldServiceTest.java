@@ -0,0 +1,367 @@
+package org.example.ticketservice.service;
+
+import org.example.ticketservice.cache.SalesCounters;
+import org.example.ticketservice.dto.EventDetailsDTO;
+import org.example.ticketservice.dto.SeatHoldCreateDTO;
+import org.example.ticketservice.dto.SeatHoldDTO;
+import org.example.ticketservice.dto.SeatHoldPurchaseDTO;
+import org.example.ticketservice.dto.SeatInventoryDTO;
+import org.example.ticketservice.dto.TicketDTO;
+import org.example.ticketservice.exception.SeatHoldNotFoundException;
+import org.example.ticketservice.exception.SeatInventoryNotFoundException;
+import org.example.ticketservice.exception.SeatsUnavailableException;
+import org.example.ticketservice.mapper.TicketMapper;
+import org.example.ticketservice.model.SeatHold;
+import org.example.ticketservice.repository.SeatHoldRepository;
+import org.example.ticketservice.repository.SeatInventoryRepository;
+import org.example.ticketservice.repository.TicketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifies seat holds against a real database: holding, releasing, purchasing and expiring them keeps
+ * the inventory's sold and held seats consistent. Every call commits on its own.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "festival.holds.tick=10ms",
+        "festival.holds.wheel-size=64"
+})
+@Import({SeatInventoryServiceImpl.class, SeatInventoryProvisioner.class, SeatHoldServiceImpl.class, TicketMapper.class,
+        SalesCounters.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeatHoldServiceTest {
+
+    private static final String EVENT = "Summer Festival";
+
+    @MockBean
+    private EventDetailsFetcher eventDetailsFetcher;
+
+    @Autowired
+    private SeatHoldServiceImpl seatHoldService;
+
+    @SpyBean
+    private ISeatInventoryService seatInventoryService;
+
+    @Autowired
+    private SeatHoldRepository seatHoldRepository;
+
+    @Autowired
+    private SeatInventoryRepository seatInventoryRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    // The service, and its timing wheel, is shared by all the tests of the class
+    private long pendingBefore;
+
+    @BeforeEach
+    void setUp() {
+        seatInventoryService.setCapacity(EVENT, "GENERAL", 10);
+        pendingBefore = seatHoldService.pendingExpiries();
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatHoldRepository.deleteAll();
+        ticketRepository.deleteAll();
+        seatInventoryRepository.deleteAll();
+    }
+
+    @Test
+    void testHoldSeats_TakesSeatsAsHeld() {
+        // When
+        SeatHoldDTO hold = seatHoldService.holdSeats(createDTO(4, null));
+
+        // Then
+        assertNotNull(hold.getId());
+        assertEquals("GENERAL", hold.getTicketType());
+        assertTrue(hold.getExpiresAt().isAfter(LocalDateTime.now().plusMinutes(9)));
+        SeatInventoryDTO inventory = inventory();
+        assertEquals(4, inventory.getHeld());
+        assertEquals(0, inventory.getSold());
+        assertEquals(6, inventory.getAvailable());
+        assertEquals(pendingBefore + 1, seatHoldService.pendingExpiries());
+    }
+
+    @Test
+    void testHoldSeats_DurationIsCappedAtTheMaximum() {
+        // When
+        SeatHoldDTO hold = seatHoldService.holdSeats(createDTO(1, 600));
+
+        // Then
+        assertFalse(hold.getExpiresAt().isAfter(hold.getCreatedAt().plusMinutes(30)));
+    }
+
+    @Test
+    void testHoldSeats_NotEnoughSeats() {
+        // Given
+        seatHoldService.holdSeats(createDTO(8, null));
+
+        // When & Then
+        assertThrows(SeatsUnavailableException.class, () -> seatHoldService.holdSeats(createDTO(3, null)));
+        assertEquals(8, inventory().getHeld());
+        assertEquals(1, seatHoldRepository.count());
+    }
+
+    @Test
+    void testHoldSeats_PutsEventWithoutInventoryOnSale() {
+        // Given
+        EventDetailsDTO event = new EventDetailsDTO();
+        event.setName("Winter Festival");
+        event.setCapacity(1000);
+        when(eventDetailsFetcher.searchEventsByName("Winter Festival")).thenReturn(List.of(event));
+
+        // When
+        seatHoldService.holdSeats(new SeatHoldCreateDTO("Winter Festival", "VIP", 4, null));
+
+        // Then
+        Map<String, SeatInventoryDTO> inventory = seatInventoryService.getInventory("Winter Festival").stream()
+                .collect(Collectors.toMap(SeatInventoryDTO::getTicketType, Function.identity()));
+        assertEquals(Set.of("VIP", "EARLY_BIRD", "GENERAL"), inventory.keySet());
+        assertEquals(100, inventory.get("VIP").getCapacity());
+        assertEquals(4, inventory.get("VIP").getHeld());
+        assertEquals(200, inventory.get("EARLY_BIRD").getCapacity());
+        assertEquals(700, inventory.get("GENERAL").getCapacity());
+        assertEquals(1, seatHoldRepository.count());
+    }
+
+    @Test
+    void testHoldSeats_UnknownEventIsNotPutOnSale() {
+        // When & Then
+        assertThrows(SeatInventoryNotFoundException.class,
+                () -> seatHoldService.holdSeats(new SeatHoldCreateDTO("Unknown Festival", "VIP", 4, null)));
+        assertTrue(seatInventoryService.getInventory("Unknown Festival").isEmpty());
+        assertEquals(0, seatHoldRepository.count());
+    }
+
+    @Test
+    void testHoldSeats_TypeMissingFromEventOnSaleIsNotProvisioned() {
+        // When & Then
+        assertThrows(SeatInventoryNotFoundException.class,
+                () -> seatHoldService.holdSeats(new SeatHoldCreateDTO(EVENT, "VIP", 1, null)));
+        verifyNoInteractions(eventDetailsFetcher);
+    }
+
+    @Test
+    void testReleaseHold_PutsSeatsBackOnSale() {
+        // Given
+        SeatHoldDTO hold = seatHoldService.holdSeats(createDTO(4, null));
+
+        // When
+        seatHoldService.releaseHold(hold.getId());
+
+        // Then
+        assertEquals(0, inventory().getHeld());
+        assertEquals(10, inventory().getAvailable());
+        assertEquals(pendingBefore, seatHoldService.pendingExpiries());
+        assertThrows(SeatHoldNotFoundException.class, () -> seatHoldService.releaseHold(hold.getId()));
+        assertThrows(SeatHoldNotFoundException.class, () -> seatHoldService.getHold(hold.getId()));
+    }
+
+    @Test
+    void testPurchaseHold_TurnsHeldSeatsIntoSoldSeats() {
+        // Given
+        SeatHoldDTO hold = seatHoldService.holdSeats(createDTO(4, null));
+
+        // When
+        TicketDTO ticket = seatHoldService.purchaseHold(hold.getId(),
+                new SeatHoldPurchaseDTO(100.0, "John Doe", "john.doe@example.com"));
+
+        // Then
+        assertNotNull(ticket.getId());
+        assertEquals(4, ticket.getQuantity());
+        assertEquals(EVENT, ticket.getEventName());
+        SeatInventoryDTO inventory = inventory();
+        assertEquals(0, inventory.getHeld());
+        assertEquals(4, inventory.getSold());
+        assertEquals(pendingBefore, seatHoldService.pendingExpiries());
+        assertThrows(SeatHoldNotFoundException.class, () -> seatHoldService.purchaseHold(hold.getId(),
+                new SeatHoldPurchaseDTO(100.0, "John Doe", "john.doe@example.com")));
+        assertEquals(1, ticketRepository.count());
+    }
+
+    @Test
+    void testPurchaseHold_ExpiredHoldIsRejected() {
+        // Given
+        seatInventoryService.holdSeats(EVENT, "GENERAL", 2);
+        SeatHold hold = seatHoldRepository.save(hold(2, LocalDateTime.now().minusSeconds(1)));
+
+        // When & Then
+        assertThrows(SeatHoldNotFoundException.class, () -> seatHoldService.purchaseHold(hold.getId(),
+                new SeatHoldPurchaseDTO(100.0, "John Doe", "john.doe@example.com")));
+        assertEquals(0, inventory().getSold());
+        assertEquals(0, ticketRepository.count());
+    }
+
+    @Test
+    void testExpireHolds_ReleasesAllSeatsInOneBatch() {
+        // Given
+        seatInventoryService.setCapacity(EVENT, "VIP", 5);
+        List<String> ids = new ArrayList<>();
+        ids.add(seatHoldService.holdSeats(createDTO(2, null)).getId());
+        ids.add(seatHoldService.holdSeats(createDTO(3, null)).getId());
+        SeatHoldCreateDTO vip = createDTO(5, null);
+        vip.setTicketType("VIP");
+        ids.add(seatHoldService.holdSeats(vip).getId());
+        SeatHoldDTO released = seatHoldService.holdSeats(createDTO(1, null));
+        seatHoldService.releaseHold(released.getId());
+        ids.add(released.getId());
+
+        // When
+        seatHoldService.expireHolds(ids);
+
+        // Then
+        assertEquals(0, seatHoldRepository.count());
+        seatInventoryService.getInventory(EVENT).forEach(inventory -> {
+            assertEquals(0, inventory.getHeld());
+            assertEquals(inventory.getCapacity(), inventory.getAvailable());
+        });
+    }
+
+    @Test
+    void testExpireHolds_FailedBatchIsRetried() throws Exception {
+        // Given
+        SeatHoldDTO hold = seatHoldService.holdSeats(createDTO(4, null));
+        seatHoldService.start();
+        doThrow(new DataAccessResourceFailureException("Database unavailable"))
+                .doCallRealMethod()
+                .when(seatInventoryService).releaseHeldSeats(anyString(), anyString(), anyInt());
+
+        // When
+        seatHoldService.expireHolds(List.of(hold.getId()));
+
+        // Then
+        assertEquals(1, seatHoldRepository.count());
+        assertEquals(4, inventory().getHeld());
+        awaitNoHolds();
+        assertEquals(0, inventory().getHeld());
+        assertEquals(pendingBefore, seatHoldService.pendingExpiries());
+    }
+
+    @Test
+    void testSweepExpiredHolds_ExpiresHoldsWithoutTimeouts() {
+        // Given: holds of an instance that crashed, never put on this instance's wheel
+        seatInventoryService.holdSeats(EVENT, "GENERAL", 6);
+        seatHoldRepository.save(hold(2, LocalDateTime.now().minusMinutes(5)));
+        seatHoldRepository.save(hold(3, LocalDateTime.now().minusSeconds(1)));
+        SeatHold active = seatHoldRepository.save(hold(1, LocalDateTime.now().plusMinutes(5)));
+
+        // When
+        seatHoldService.sweepExpiredHolds();
+
+        // Then
+        assertEquals(List.of(active.getId()), seatHoldRepository.findAll().stream().map(SeatHold::getId).toList());
+        assertEquals(1, inventory().getHeld());
+    }
+
+    @Test
+    void testStart_StoredHoldsExpireOnTheWheel() throws Exception {
+        // Given: holds left by an instance that stopped, one already expired and one about to
+        seatInventoryService.holdSeats(EVENT, "GENERAL", 5);
+        seatHoldRepository.save(hold(2, LocalDateTime.now().minusMinutes(1)));
+        seatHoldRepository.save(hold(3, LocalDateTime.now().plusNanos(200_000_000)));
+
+        // When
+        seatHoldService.start();
+
+        // Then
+        awaitNoHolds();
+        assertEquals(0, inventory().getHeld());
+        assertEquals(pendingBefore, seatHoldService.pendingExpiries());
+    }
+
+    @Test
+    void testPurchaseAndRelease_RaceHasExactlyOneWinner() throws Exception {
+        // Given
+        SeatHoldDTO hold = seatHoldService.holdSeats(createDTO(4, null));
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        Future<Boolean> purchase = pool.submit(() -> {
+            start.await();
+            try {
+                seatHoldService.purchaseHold(hold.getId(),
+                        new SeatHoldPurchaseDTO(100.0, "John Doe", "john.doe@example.com"));
+                return true;
+            } catch (SeatHoldNotFoundException e) {
+                return false;
+            }
+        });
+        Future<Boolean> release = pool.submit(() -> {
+            start.await();
+            try {
+                seatHoldService.releaseHold(hold.getId());
+                return true;
+            } catch (SeatHoldNotFoundException e) {
+                return false;
+            }
+        });
+        start.countDown();
+        boolean purchased = purchase.get(30, TimeUnit.SECONDS);
+        boolean releasedSeats = release.get(30, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        // Then
+        assertNotEquals(purchased, releasedSeats);
+        SeatInventoryDTO inventory = inventory();
+        assertEquals(0, inventory.getHeld());
+        assertEquals(purchased ? 4 : 0, inventory.getSold());
+        assertEquals(purchased ? 1 : 0, ticketRepository.count());
+    }
+
+    private void awaitNoHolds() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (seatHoldRepository.count() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, seatHoldRepository.count());
+    }
+
+    private SeatInventoryDTO inventory() {
+        return seatInventoryService.getInventory(EVENT).stream()
+                .filter(inventory -> inventory.getTicketType().equals("GENERAL"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static SeatHoldCreateDTO createDTO(int quantity, Integer holdMinutes) {
+        return new SeatHoldCreateDTO(EVENT, "general", quantity, holdMinutes);
+    }
+
+    private static SeatHold hold(int quantity, LocalDateTime expiresAt) {
+        return SeatHold.builder()
+                .id(UUID.randomUUID().toString())
+                .eventName(EVENT)
+                .ticketType("GENERAL")
+                .quantity(quantity)
+                .createdAt(LocalDateTime.now().minusMinutes(10))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.ticketservice.service;
+
+import org.example.ticketservice.dto.SeatInventoryDTO;
+import org.example.ticketservice.exception.SeatInventoryNotFoundException;
+import org.example.ticketservice.exception.SeatsUnavailableException;
+import org.example.ticketservice.repository.SeatInventoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies against a real database that concurrent purchases never take more seats than the capacity.
+ * Every call commits on its own, as it would for concurrent HTTP requests.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never"
+})
+@Import(SeatInventoryServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeatInventoryConcurrencyTest {
+
+    private static final String EVENT = "Summer Festival";
+
+    @Autowired
+    private ISeatInventoryService seatInventoryService;
+
+    @Autowired
+    private SeatInventoryRepository seatInventoryRepository;
+
+    @AfterEach
+    void tearDown() {
+        seatInventoryRepository.deleteAll();
+    }
+
+    @Test
+    void testReserveSeats_ConcurrentBuyersNeverOversell() throws Exception {
+        // Given
+        seatInventoryService.setCapacity(EVENT, "GENERAL", 100);
+        int buyers = 40;
+        ExecutorService pool = Executors.newFixedThreadPool(buyers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<Boolean>> purchases = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < buyers; i++) {
+            purchases.add(pool.submit(() -> {
+                start.await();
+                try {
+                    seatInventoryService.reserveSeats(EVENT, "GENERAL", 3);
+                    return true;
+                } catch (SeatsUnavailableException e) {
+                    rejected.incrementAndGet();
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+        int successful = 0;
+        for (Future<Boolean> purchase : purchases) {
+            if (purchase.get(30, TimeUnit.SECONDS)) {
+                successful++;
+            }
+        }
+        pool.shutdown();
+
+        // Then
+        SeatInventoryDTO inventory = seatInventoryService.getInventory(EVENT).get(0);
+        assertEquals(33, successful);
+        assertEquals(buyers - 33, rejected.get());
+        assertEquals(99, inventory.getSold());
+        assertEquals(1, inventory.getAvailable());
+    }
+
+    @Test
+    void testReserveSeats_AllOrNothing() {
+        // Given
+        seatInventoryService.setCapacity(EVENT, "VIP", 5);
+        seatInventoryService.reserveSeats(EVENT, "vip", 4);
+
+        // When
+        SeatsUnavailableException ex = assertThrows(SeatsUnavailableException.class,
+                () -> seatInventoryService.reserveSeats(EVENT, "VIP", 2));
+
+        // Then
+        assertTrue(ex.getMessage().contains("Disponibile: 1"));
+        assertEquals(1, seatInventoryService.getAvailableSeats(EVENT));
+    }
+
+    @Test
+    void testReserveSeats_TicketTypeNotOnSale() {
+        // When & Then
+        assertThrows(SeatInventoryNotFoundException.class,
+                () -> seatInventoryService.reserveSeats(EVENT, "VIP", 1));
+    }
+
+    @Test
+    void testReleaseSeats_ReturnsSeatsToSale() {
+        // Given
+        seatInventoryService.setCapacity(EVENT, "GENERAL", 10);
+        seatInventoryService.reserveSeats(EVENT, "GENERAL", 10);
+
+        // When
+        seatInventoryService.releaseSeats(EVENT, "GENERAL", 4);
+
+        // Then
+        assertEquals(4, seatInventoryService.getAvailableSeats(EVENT));
+    }
+
+    @Test
+    void testSetCapacity_CannotDropBelowSoldSeats() {
+        // Given
+        seatInventoryService.setCapacity(EVENT, "GENERAL", 10);
+        seatInventoryService.reserveSeats(EVENT, "GENERAL", 6);
+
+        // When & Then
+        assertThrows(SeatsUnavailableException.class, () -> seatInventoryService.setCapacity(EVENT, "GENERAL", 5));
+        assertEquals(8, seatInventoryService.setCapacity(EVENT, "GENERAL", 8).getCapacity());
+        assertEquals(2, seatInventoryService.getAvailableSeats(EVENT));
+    }
+
+    @Test
+    void testGetAvailableSeats_SumsAllTicketTypes() {
+        // Given
+        seatInventoryService.setCapacity(EVENT, "VIP", 10);
+        seatInventoryService.setCapacity(EVENT, "GENERAL", 90);
+        seatInventoryService.setCapacity("Winter Concert", "GENERAL", 50);
+        seatInventoryService.reserveSeats(EVENT, "GENERAL", 15);
+
+        // When & Then
+        assertEquals(85, seatInventoryService.getAvailableSeats(EVENT));
+        assertEquals(0, seatInventoryService.getAvailableSeats("Unknown Event"));
+        assertEquals(50L, seatInventoryService.getAvailableSeats(List.of(EVENT, "Winter Concert")).get("Winter Concert"));
+    }
+
+    @Test
+    void testProvision_ConcurrentCallsPutTheEventOnSaleOnce() throws Exception {
+        // Given
+        int callers = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> calls = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < callers; i++) {
+            calls.add(pool.submit(() -> {
+                start.await();
+                try {
+                    seatInventoryService.provision(EVENT, 15);
+                } catch (DataIntegrityViolationException e) {
+                    // Lost the race to another caller
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> call : calls) {
+            call.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        // Then
+        List<SeatInventoryDTO> inventory = seatInventoryService.getInventory(EVENT);
+        assertEquals(List.of("EARLY_BIRD", "GENERAL", "VIP"),
+                inventory.stream().map(SeatInventoryDTO::getTicketType).toList());
+        assertEquals(List.of(3, 11, 1), inventory.stream().map(SeatInventoryDTO::getCapacity).toList());
+        assertFalse(seatInventoryService.provision(EVENT, 15));
+    }
+}
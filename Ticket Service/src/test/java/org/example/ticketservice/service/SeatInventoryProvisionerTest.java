@@ -0,0 +1,123 @@
+package org.example.ticketservice.service;
+
+import org.example.ticketservice.dto.EventDetailsDTO;
+import org.example.ticketservice.dto.SeatInventoryDTO;
+import org.example.ticketservice.exception.SeatInventoryNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatInventoryProvisionerTest {
+
+    private static final String EVENT = "Summer Festival";
+
+    @Mock
+    private EventDetailsFetcher eventDetailsFetcher;
+
+    @Mock
+    private ISeatInventoryService seatInventoryService;
+
+    @InjectMocks
+    private SeatInventoryProvisioner provisioner;
+
+    @Test
+    void testOnSale_EventOnSaleIsNotLookedUp() {
+        // When
+        String result = provisioner.onSale(EVENT, () -> "sold");
+
+        // Then
+        assertEquals("sold", result);
+        verifyNoInteractions(eventDetailsFetcher, seatInventoryService);
+    }
+
+    @Test
+    void testOnSale_ProvisionsEventWithoutInventoryAndRetries() {
+        // Given
+        when(seatInventoryService.getInventory(EVENT)).thenReturn(List.of());
+        when(eventDetailsFetcher.searchEventsByName(EVENT)).thenReturn(List.of(event("Summer Festival Afterparty", 50),
+                event("summer festival", 1000)));
+        when(seatInventoryService.provision(EVENT, 1000)).thenReturn(true);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = provisioner.onSale(EVENT, missingOnce(attempts));
+
+        // Then
+        assertEquals("sold", result);
+        assertEquals(2, attempts.get());
+        verify(seatInventoryService).provision(EVENT, 1000);
+    }
+
+    @Test
+    void testOnSale_UnknownEventIsNotProvisioned() {
+        // Given
+        when(seatInventoryService.getInventory(EVENT)).thenReturn(List.of());
+        when(eventDetailsFetcher.searchEventsByName(EVENT)).thenReturn(List.of(event("Summer Festival Afterparty", 50)));
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThrows(SeatInventoryNotFoundException.class, () -> provisioner.onSale(EVENT, missingOnce(attempts)));
+        assertEquals(1, attempts.get());
+        verify(seatInventoryService, never()).provision(anyString(), anyInt());
+    }
+
+    @Test
+    void testOnSale_MissingTypeOfEventOnSaleIsNotProvisioned() {
+        // Given
+        when(seatInventoryService.getInventory(EVENT)).thenReturn(List.of(SeatInventoryDTO.builder()
+                .eventName(EVENT)
+                .ticketType("GENERAL")
+                .build()));
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThrows(SeatInventoryNotFoundException.class, () -> provisioner.onSale(EVENT, missingOnce(attempts)));
+        assertEquals(1, attempts.get());
+        verifyNoInteractions(eventDetailsFetcher);
+    }
+
+    @Test
+    void testOnSale_ConcurrentProvisioningRetries() {
+        // Given
+        when(seatInventoryService.getInventory(EVENT)).thenReturn(List.of());
+        when(eventDetailsFetcher.searchEventsByName(EVENT)).thenReturn(List.of(event(EVENT, 1000)));
+        when(seatInventoryService.provision(EVENT, 1000)).thenThrow(new DataIntegrityViolationException("duplicate"));
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = provisioner.onSale(EVENT, missingOnce(attempts));
+
+        // Then
+        assertEquals("sold", result);
+        assertEquals(2, attempts.get());
+    }
+
+    private static Supplier<String> missingOnce(AtomicInteger attempts) {
+        return () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new SeatInventoryNotFoundException(EVENT, "VIP");
+            }
+            return "sold";
+        };
+    }
+
+    private static EventDetailsDTO event(String name, Integer capacity) {
+        EventDetailsDTO event = new EventDetailsDTO();
+        event.setName(name);
+        event.setCapacity(capacity);
+        return event;
+    }
+}
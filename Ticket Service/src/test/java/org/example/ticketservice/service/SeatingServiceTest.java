@@ -0,0 +1,263 @@
+package org.example.ticketservice.service;
+
+import org.example.ticketservice.cache.SalesCounters;
+import org.example.ticketservice.dto.SeatSectionDTO;
+import org.example.ticketservice.dto.TicketCreateDTO;
+import org.example.ticketservice.dto.TicketDTO;
+import org.example.ticketservice.exception.SeatInventoryNotFoundException;
+import org.example.ticketservice.exception.SeatSectionNotFoundException;
+import org.example.ticketservice.exception.SeatsUnavailableException;
+import org.example.ticketservice.mapper.TicketMapper;
+import org.example.ticketservice.model.TicketSeat;
+import org.example.ticketservice.repository.SeatInventoryRepository;
+import org.example.ticketservice.repository.SeatSectionRepository;
+import org.example.ticketservice.repository.TicketRepository;
+import org.example.ticketservice.repository.TicketSeatRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies assigned seating against a real database: seats are sold in contiguous blocks,
+ * never twice, and go back on sale when their ticket is deleted. Every call commits on its own.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never"
+})
+@Import({SeatingServiceImpl.class, SeatInventoryServiceImpl.class, SeatInventoryProvisioner.class, TicketMapper.class,
+        SalesCounters.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeatingServiceTest {
+
+    private static final String EVENT = "Summer Festival";
+
+    @MockBean
+    private EventDetailsFetcher eventDetailsFetcher;
+
+    @Autowired
+    private ISeatingService seatingService;
+
+    @Autowired
+    private ISeatInventoryService seatInventoryService;
+
+    @Autowired
+    private SeatSectionRepository seatSectionRepository;
+
+    @Autowired
+    private TicketSeatRepository ticketSeatRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private SeatInventoryRepository seatInventoryRepository;
+
+    @Autowired
+    private TicketMapper ticketMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        seatInventoryService.setCapacity(EVENT, "VIP", 100);
+        seatingService.addSection(EVENT, new SeatSectionDTO(null, "Loja", "vip", 2, 10, 1, null, null));
+        seatingService.addSection(EVENT, new SeatSectionDTO(null, "Parter", "vip", 3, 10, 0, null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ticketSeatRepository.deleteAll();
+        ticketRepository.deleteAll();
+        seatSectionRepository.deleteAll();
+        seatInventoryRepository.deleteAll();
+    }
+
+    @Test
+    void testAddSection_DuplicateName() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> seatingService.addSection(EVENT,
+                new SeatSectionDTO(null, "Parter", "VIP", 1, 1, 0, null, null)));
+    }
+
+    @Test
+    void testAddSection_UpToTheRemainingCapacity() {
+        // When: 50 of the 100 VIP seats are already in sections
+        SeatSectionDTO section = seatingService.addSection(EVENT,
+                new SeatSectionDTO(null, "Balcon", "VIP", 5, 10, 2, null, null));
+
+        // Then
+        assertEquals(50, section.getAvailable());
+        assertEquals(3, seatSectionRepository.count());
+    }
+
+    @Test
+    void testAddSection_MoreSeatsThanTheRemainingCapacity() {
+        // When & Then
+        assertThrows(SeatsUnavailableException.class, () -> seatingService.addSection(EVENT,
+                new SeatSectionDTO(null, "Balcon", "VIP", 3, 17, 2, null, null)));
+        assertEquals(2, seatSectionRepository.count());
+    }
+
+    @Test
+    void testAddSection_TicketTypeNotOnSale() {
+        // When & Then
+        assertThrows(SeatInventoryNotFoundException.class, () -> seatingService.addSection(EVENT,
+                new SeatSectionDTO(null, "Gazon", "GENERAL", 1, 10, 0, null, null)));
+        assertEquals(2, seatSectionRepository.count());
+    }
+
+    @Test
+    void testPurchaseSeatedTicket_BestSeatsOfTheFirstSection() {
+        // When
+        TicketDTO ticket = seatingService.purchaseSeatedTicket(createDTO(4), null);
+
+        // Then
+        assertEquals("Parter", ticket.getSection());
+        assertEquals(1, ticket.getSeatRow());
+        assertEquals(4, ticket.getFirstSeat());
+        assertEquals(4, ticketSeatRepository.count());
+        assertEquals(4, seatInventoryService.getInventory(EVENT).get(0).getSold());
+
+        List<SeatSectionDTO> seatMap = seatingService.getSeatMap(EVENT);
+        assertEquals("Parter", seatMap.get(0).getName());
+        assertEquals("...XXXX...", seatMap.get(0).getSeatRows().get(0));
+        assertEquals(26, seatMap.get(0).getAvailable());
+        assertEquals(20, seatMap.get(1).getAvailable());
+    }
+
+    @Test
+    void testPurchaseSeatedTicket_ChosenSection() {
+        // When
+        TicketDTO ticket = seatingService.purchaseSeatedTicket(createDTO(2), "Loja");
+
+        // Then
+        assertEquals("Loja", ticket.getSection());
+        assertEquals(1, ticket.getSeatRow());
+        assertEquals(5, ticket.getFirstSeat());
+    }
+
+    @Test
+    void testPurchaseSeatedTicket_NoSeatsOfThatType() {
+        // Given
+        TicketCreateDTO general = createDTO(2);
+        general.setTicketType("GENERAL");
+
+        // When & Then
+        assertThrows(SeatSectionNotFoundException.class, () -> seatingService.purchaseSeatedTicket(general, null));
+        assertThrows(SeatSectionNotFoundException.class,
+                () -> seatingService.purchaseSeatedTicket(createDTO(2), "Balcon"));
+    }
+
+    @Test
+    void testPurchaseSeatedTicket_NoContiguousBlockLeft() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            seatingService.purchaseSeatedTicket(createDTO(9), null);
+        }
+
+        // When & Then
+        assertThrows(SeatsUnavailableException.class, () -> seatingService.purchaseSeatedTicket(createDTO(2), null));
+        assertEquals(45, seatInventoryService.getInventory(EVENT).get(0).getSold());
+    }
+
+    @Test
+    void testPurchaseSeatedTicket_InventoryExhaustedFreesTheSeats() {
+        // Given
+        seatInventoryService.setCapacity(EVENT, "VIP", 3);
+
+        // When & Then
+        assertThrows(SeatsUnavailableException.class, () -> seatingService.purchaseSeatedTicket(createDTO(4), null));
+        assertEquals(30, seatingService.getSeatMap(EVENT).get(0).getAvailable());
+        assertEquals(0, ticketSeatRepository.count());
+    }
+
+    @Test
+    void testPurchaseSeatedTicket_SeatsSoldByAnotherInstanceArePickedAgain() {
+        // Given: the seat map is loaded, then another instance sells the middle of the front row
+        seatingService.getSeatMap(EVENT);
+        Long parter = seatSectionRepository.findByEventNameAndName(EVENT, "Parter").orElseThrow().getId();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Long ticketId = ticketRepository.save(ticketMapper.toEntity(createDTO(1))).getId();
+            ticketSeatRepository.save(TicketSeat.builder()
+                    .sectionId(parter).seatRow(1).seatNumber(5).ticketId(ticketId).build());
+        });
+
+        // When
+        TicketDTO ticket = seatingService.purchaseSeatedTicket(createDTO(4), null);
+
+        // Then
+        assertEquals(1, ticket.getSeatRow());
+        assertEquals(6, ticket.getFirstSeat());
+        assertEquals(5, ticketSeatRepository.count());
+    }
+
+    @Test
+    void testReleaseSeats_SeatsGoBackOnSale() {
+        // Given
+        TicketDTO ticket = seatingService.purchaseSeatedTicket(createDTO(4), null);
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                seatingService.releaseSeats(ticketRepository.findById(ticket.getId()).orElseThrow()));
+
+        // Then
+        assertEquals(0, ticketSeatRepository.count());
+        assertEquals(30, seatingService.getSeatMap(EVENT).get(0).getAvailable());
+        TicketDTO next = seatingService.purchaseSeatedTicket(createDTO(4), null);
+        assertEquals(1, next.getSeatRow());
+        assertEquals(4, next.getFirstSeat());
+    }
+
+    @Test
+    void testPurchaseSeatedTicket_ConcurrentBuyersGetDistinctSeats() throws Exception {
+        // Given
+        int buyers = 20;
+        ExecutorService pool = Executors.newFixedThreadPool(buyers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<TicketDTO>> purchases = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < buyers; i++) {
+            purchases.add(pool.submit(() -> {
+                start.await();
+                try {
+                    return seatingService.purchaseSeatedTicket(createDTO(3), null);
+                } catch (SeatsUnavailableException e) {
+                    return null;
+                }
+            }));
+        }
+        start.countDown();
+        int sold = 0;
+        for (Future<TicketDTO> purchase : purchases) {
+            if (purchase.get(30, TimeUnit.SECONDS) != null) {
+                sold++;
+            }
+        }
+        pool.shutdown();
+
+        // Then: 3 blocks of 3 fit in a row of 10, in 5 rows
+        assertEquals(15, sold);
+        assertEquals(45, ticketSeatRepository.count());
+        assertEquals(45, seatInventoryService.getInventory(EVENT).get(0).getSold());
+    }
+
+    private static TicketCreateDTO createDTO(int quantity) {
+        return new TicketCreateDTO(EVENT, "VIP", 100.0, quantity, "John Doe", "john.doe@example.com");
+    }
+}
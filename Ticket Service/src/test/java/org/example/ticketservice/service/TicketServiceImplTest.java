@@ -1,10 +1,13 @@
 package org.example.ticketservice.service;
 
-import org.example.ticketservice.client.EventServiceClient;
+import org.example.ticketservice.cache.SalesCounters;
 import org.example.ticketservice.dto.EventDetailsDTO;
+import org.example.ticketservice.dto.EventSalesDTO;
+import org.example.ticketservice.dto.EventTicketSummaryDTO;
 import org.example.ticketservice.dto.TicketCreateDTO;
 import org.example.ticketservice.dto.TicketDTO;
 import org.example.ticketservice.dto.TicketWithEventDetailsDTO;
+import org.example.ticketservice.exception.SeatsUnavailableException;
 import org.example.ticketservice.exception.TicketNotFoundException;
 import org.example.ticketservice.mapper.TicketMapper;
 import org.example.ticketservice.model.Ticket;
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -22,6 +26,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -37,7 +42,22 @@ class TicketServiceImplTest {
     private TicketMapper ticketMapper;
 
     @Mock
-    private EventServiceClient eventServiceClient;
+    private EventDetailsFetcher eventDetailsFetcher;
+
+    @Mock
+    private ISeatInventoryService seatInventoryService;
+
+    @Mock
+    private ISeatingService seatingService;
+
+    @Mock
+    private SeatInventoryProvisioner seatInventoryProvisioner;
+
+    @Mock
+    private SalesCounters salesCounters;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private TicketServiceImpl ticketService;
@@ -48,6 +68,9 @@ class TicketServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(seatInventoryProvisioner.onSale(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
         ticket = Ticket.builder()
                 .id(1L)
                 .eventName("Summer Festival")
@@ -144,7 +167,23 @@ class TicketServiceImplTest {
 
         // Then
         assertNotNull(result);
+        verify(seatInventoryProvisioner).onSale(eq("Summer Festival"), any());
+        verify(seatInventoryService).reserveSeats("Summer Festival", "VIP", 2);
         verify(ticketRepository).save(any(Ticket.class));
+        verify(salesCounters).recordSale(new SalesCounters.Sale("Summer Festival", "VIP", 2, 20000));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testCreateTicket_SoldOut() {
+        // Given
+        when(ticketMapper.toEntity(ticketCreateDTO)).thenReturn(ticket);
+        doThrow(new SeatsUnavailableException("Summer Festival", "VIP", 1, 2))
+                .when(seatInventoryService).reserveSeats("Summer Festival", "VIP", 2);
+
+        // When & Then
+        assertThrows(SeatsUnavailableException.class, () -> ticketService.createTicket(ticketCreateDTO));
+        verify(ticketRepository, never()).save(any(Ticket.class));
     }
 
     @Test
@@ -160,6 +199,90 @@ class TicketServiceImplTest {
         // Then
         assertNotNull(result);
         verify(ticketMapper).updateEntityFromDTO(eq(ticketDTO), eq(ticket));
+        verifyNoInteractions(seatInventoryService);
+    }
+
+    @Test
+    void testUpdateTicket_QuantityIncreaseTakesOnlyTheDifference() {
+        // Given
+        when(ticketRepository.findById(1L)).thenReturn(Optional.of(ticket));
+        doAnswer(invocation -> {
+            ticket.setQuantity(5);
+            return null;
+        }).when(ticketMapper).updateEntityFromDTO(ticketDTO, ticket);
+        when(ticketRepository.save(ticket)).thenReturn(ticket);
+        when(ticketMapper.toDTO(ticket)).thenReturn(ticketDTO);
+
+        // When
+        ticketService.updateTicket(1L, ticketDTO);
+
+        // Then
+        verify(seatInventoryService).reserveSeats("Summer Festival", "VIP", 3);
+        verify(seatInventoryService, never()).releaseSeats(anyString(), anyString(), anyInt());
+        verify(salesCounters).recordChange(new SalesCounters.Sale("Summer Festival", "VIP", 2, 20000),
+                new SalesCounters.Sale("Summer Festival", "VIP", 5, 50000));
+    }
+
+    @Test
+    void testUpdateTicket_CancellationReleasesSeats() {
+        // Given
+        when(ticketRepository.findById(1L)).thenReturn(Optional.of(ticket));
+        doAnswer(invocation -> {
+            ticket.setIsActive(false);
+            return null;
+        }).when(ticketMapper).updateEntityFromDTO(ticketDTO, ticket);
+        when(ticketRepository.save(ticket)).thenReturn(ticket);
+        when(ticketMapper.toDTO(ticket)).thenReturn(ticketDTO);
+
+        // When
+        ticketService.updateTicket(1L, ticketDTO);
+
+        // Then
+        verify(seatInventoryService).releaseSeats("Summer Festival", "VIP", 2);
+        verify(seatInventoryService, never()).reserveSeats(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void testUpdateTicket_CancellingSeatedTicketReleasesItsSeats() {
+        // Given
+        ticket.setSection("Parter");
+        ticket.setSeatRow(3);
+        ticket.setFirstSeat(10);
+        when(ticketRepository.findById(1L)).thenReturn(Optional.of(ticket));
+        doAnswer(invocation -> {
+            ticket.setIsActive(false);
+            return null;
+        }).when(ticketMapper).updateEntityFromDTO(ticketDTO, ticket);
+        when(ticketRepository.save(ticket)).thenReturn(ticket);
+        when(ticketMapper.toDTO(ticket)).thenReturn(ticketDTO);
+
+        // When
+        ticketService.updateTicket(1L, ticketDTO);
+
+        // Then
+        verify(seatingService).releaseSeats(ticket);
+        verify(seatInventoryService).releaseSeats("Summer Festival", "VIP", 2);
+        assertNull(ticket.getSection());
+        assertNull(ticket.getSeatRow());
+        assertNull(ticket.getFirstSeat());
+    }
+
+    @Test
+    void testUpdateTicket_SeatedTicketCannotChangeQuantity() {
+        // Given
+        ticket.setSection("Parter");
+        ticket.setSeatRow(3);
+        ticket.setFirstSeat(10);
+        when(ticketRepository.findById(1L)).thenReturn(Optional.of(ticket));
+        doAnswer(invocation -> {
+            ticket.setQuantity(5);
+            return null;
+        }).when(ticketMapper).updateEntityFromDTO(ticketDTO, ticket);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> ticketService.updateTicket(1L, ticketDTO));
+        verify(seatInventoryService, never()).reserveSeats(anyString(), anyString(), anyInt());
+        verify(ticketRepository, never()).save(any(Ticket.class));
     }
 
     @Test
@@ -174,20 +297,22 @@ class TicketServiceImplTest {
     @Test
     void testDeleteTicket_Success() {
         // Given
-        when(ticketRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(ticketRepository).deleteById(1L);
+        when(ticketRepository.findById(1L)).thenReturn(Optional.of(ticket));
 
         // When
         assertDoesNotThrow(() -> ticketService.deleteTicket(1L));
 
         // Then
-        verify(ticketRepository).deleteById(1L);
+        verify(ticketRepository).delete(ticket);
+        verify(seatInventoryService).releaseSeats("Summer Festival", "VIP", 2);
+        verify(seatingService).releaseSeats(ticket);
+        verify(salesCounters).recordRemoval(new SalesCounters.Sale("Summer Festival", "VIP", 2, 20000));
     }
 
     @Test
     void testDeleteTicket_NotFound() {
         // Given
-        when(ticketRepository.existsById(99L)).thenReturn(false);
+        when(ticketRepository.findById(99L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(TicketNotFoundException.class, () -> ticketService.deleteTicket(99L));
@@ -210,7 +335,7 @@ class TicketServiceImplTest {
     @Test
     void testGetAvailableSeats_Success() {
         // Given
-        when(ticketRepository.countByEventName("Summer Festival")).thenReturn(100);
+        when(seatInventoryService.getAvailableSeats("Summer Festival")).thenReturn(100);
 
         // When
         int result = ticketService.getAvailableSeats("Summer Festival");
@@ -222,12 +347,8 @@ class TicketServiceImplTest {
     @Test
     void testGetRevenueByFestival_Success() {
         // Given
-        Ticket ticket2 = Ticket.builder()
-                .eventName("Winter Concert")
-                .price(50.0)
-                .quantity(3)
-                .build();
-        when(ticketRepository.findAll()).thenReturn(Arrays.asList(ticket, ticket2));
+        when(ticketRepository.sumRevenueGroupedByEventName()).thenReturn(Arrays.asList(
+                eventRevenue("Summer Festival", 200.0), eventRevenue("Winter Concert", 150.0)));
 
         // When
         Map<String, Double> result = ticketService.getRevenueByFestival();
@@ -236,12 +357,13 @@ class TicketServiceImplTest {
         assertEquals(2, result.size());
         assertEquals(200.0, result.get("Summer Festival"));
         assertEquals(150.0, result.get("Winter Concert"));
+        verify(ticketRepository, never()).findAll();
     }
 
     @Test
     void testGetRevenueByFestival_Empty() {
         // Given
-        when(ticketRepository.findAll()).thenReturn(Collections.emptyList());
+        when(ticketRepository.sumRevenueGroupedByEventName()).thenReturn(Collections.emptyList());
 
         // When
         Map<String, Double> result = ticketService.getRevenueByFestival();
@@ -250,6 +372,51 @@ class TicketServiceImplTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void testGetRevenueForFestival_Success() {
+        // Given
+        when(ticketRepository.sumRevenueOfEvent("Summer Festival")).thenReturn(200.0);
+
+        // When
+        Double result = ticketService.getRevenueForFestival("Summer Festival");
+
+        // Then
+        assertEquals(200.0, result);
+        verify(ticketRepository, never()).findAll();
+    }
+
+    @Test
+    void testGetTicketSummaries_OneEntryPerRequestedEvent() {
+        // Given
+        when(ticketRepository.summarizeByEventNames(anyCollection()))
+                .thenReturn(Collections.singletonList(new EventTicketSummaryDTO("Summer Festival", 0L, 200.0)));
+        when(seatInventoryService.getAvailableSeats(anyCollection())).thenReturn(Map.of("Summer Festival", 3L));
+
+        // When
+        List<EventTicketSummaryDTO> result = ticketService.getTicketSummaries(
+                Arrays.asList("Winter Concert", "Summer Festival", "Winter Concert"));
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals("Winter Concert", result.get(0).getEventName());
+        assertEquals(0L, result.get(0).getAvailableSeats());
+        assertEquals(0.0, result.get(0).getTotalRevenue());
+        assertEquals(3L, result.get(1).getAvailableSeats());
+        assertEquals(200.0, result.get(1).getTotalRevenue());
+        verify(ticketRepository, times(1)).summarizeByEventNames(anyCollection());
+        verify(ticketRepository, never()).findAll();
+    }
+
+    @Test
+    void testGetTicketSummaries_Empty() {
+        // When
+        List<EventTicketSummaryDTO> result = ticketService.getTicketSummaries(Collections.emptyList());
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(ticketRepository);
+    }
+
     @Test
     void testGetTicketsByType_Success() {
         // Given
@@ -264,10 +431,24 @@ class TicketServiceImplTest {
         assertEquals(1, result.size());
     }
 
+    @Test
+    void testGetLiveSalesForFestival_ReadsTheCounters() {
+        // Given
+        EventSalesDTO sales = new EventSalesDTO("Summer Festival", 200.0, 1L, Map.of("VIP", 2L));
+        when(salesCounters.getSales("Summer Festival")).thenReturn(sales);
+
+        // When
+        EventSalesDTO result = ticketService.getLiveSalesForFestival("Summer Festival");
+
+        // Then
+        assertSame(sales, result);
+        verifyNoInteractions(ticketRepository);
+    }
+
     @Test
     void testGetTotalRevenue_Success() {
         // Given
-        when(ticketRepository.findAll()).thenReturn(Collections.singletonList(ticket));
+        when(ticketRepository.sumRevenue()).thenReturn(200.0);
 
         // When
         Double result = ticketService.getTotalRevenue();
@@ -279,7 +460,7 @@ class TicketServiceImplTest {
     @Test
     void testGetTotalRevenue_Empty() {
         // Given
-        when(ticketRepository.findAll()).thenReturn(Collections.emptyList());
+        when(ticketRepository.sumRevenue()).thenReturn(0.0);
 
         // When
         Double result = ticketService.getTotalRevenue();
@@ -301,7 +482,7 @@ class TicketServiceImplTest {
         when(ticketRepository.findByEventName("Summer Festival"))
                 .thenReturn(Collections.singletonList(ticket));
         when(ticketMapper.toDTO(ticket)).thenReturn(ticketDTO);
-        when(eventServiceClient.searchEventsByName(anyString(), anyString()))
+        when(eventDetailsFetcher.searchEventsByName(anyString()))
                 .thenReturn(Collections.singletonList(eventDetails));
 
         // When
@@ -334,7 +515,7 @@ class TicketServiceImplTest {
         when(ticketRepository.findByEventName("Summer Festival"))
                 .thenReturn(Collections.singletonList(ticket));
         when(ticketMapper.toDTO(ticket)).thenReturn(ticketDTO);
-        when(eventServiceClient.searchEventsByName(anyString(), anyString()))
+        when(eventDetailsFetcher.searchEventsByName(anyString()))
                 .thenReturn(Collections.singletonList(eventDetails));
 
         // When
@@ -350,7 +531,7 @@ class TicketServiceImplTest {
         EventDetailsDTO eventDetails = new EventDetailsDTO();
         eventDetails.setName("Summer Festival");
 
-        when(eventServiceClient.searchEventsByName(anyString(), anyString()))
+        when(eventDetailsFetcher.searchEventsByName(anyString()))
                 .thenReturn(Collections.singletonList(eventDetails));
         when(ticketMapper.toEntity(any(TicketCreateDTO.class))).thenReturn(ticket);
         when(ticketRepository.save(ticket)).thenReturn(ticket);
@@ -361,7 +542,9 @@ class TicketServiceImplTest {
 
         // Then
         assertNotNull(result);
+        verify(seatInventoryService).reserveSeats("Summer Festival", "VIP", 2);
         verify(ticketRepository).save(any(Ticket.class));
+        verify(transactionManager).commit(any());
     }
 
     @Test
@@ -370,7 +553,7 @@ class TicketServiceImplTest {
         EventDetailsDTO eventDetails = new EventDetailsDTO();
         eventDetails.setName("Summer Festival");
 
-        when(eventServiceClient.searchEventsByName(anyString(), anyString()))
+        when(eventDetailsFetcher.searchEventsByName(anyString()))
                 .thenReturn(Collections.singletonList(eventDetails));
         when(ticketMapper.toEntity(any(TicketCreateDTO.class))).thenReturn(ticket);
         when(ticketRepository.save(ticket)).thenReturn(ticket);
@@ -386,11 +569,25 @@ class TicketServiceImplTest {
     @Test
     void testPurchaseTicketWithValidation_EventNotFound() {
         // Given
-        when(eventServiceClient.searchEventsByName(anyString(), anyString()))
+        when(eventDetailsFetcher.searchEventsByName(anyString()))
                 .thenReturn(Collections.emptyList());
 
         // When & Then
         assertThrows(RuntimeException.class,
                 () -> ticketService.purchaseTicketWithValidation(ticketCreateDTO, "EU", "ro"));
     }
+
+    private static TicketRepository.EventRevenue eventRevenue(String eventName, Double revenue) {
+        return new TicketRepository.EventRevenue() {
+            @Override
+            public String getEventName() {
+                return eventName;
+            }
+
+            @Override
+            public Double getRevenue() {
+                return revenue;
+            }
+        };
+    }
 }
@@ -10,8 +10,9 @@ INSERT INTO stages (name, location, max_capacity) VALUES
 ('Pop Stage', 'Central Park - Sector E', 15000)
 ON CONFLICT (name) DO NOTHING;
 
-INSERT INTO event (name, date, stage_id, associated_artist, capacity, created_at)
-SELECT * FROM (VALUES
+INSERT INTO event (name, date, end_date, stage_id, associated_artist, capacity, created_at)
+SELECT v.name, v.date, v.date + INTERVAL '2 hours', v.stage_id, v.associated_artist, v.capacity, v.created_at
+FROM (VALUES
 ('Travis Scott Live Concert', '2024-07-15 20:00:00'::TIMESTAMP, 1, 'Travis Scott', 50000, NOW()),
 ('The Weeknd Performance', '2024-07-16 21:00:00'::TIMESTAMP, 1, 'The Weeknd', 50000, NOW()),
 ('Hip-Hop Night - Romanian Artists', '2024-07-17 19:00:00'::TIMESTAMP, 4, 'Oscar, Ian, Rava', 25000, NOW()),